@@ -0,0 +1,34 @@
+package io.klbz.curie.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmark jar.
+ * Runs the requested suites (all of them by default) with the GC profiler attached, so that every result carries
+ * allocation rates alongside throughput, and records the results as JSON for comparison against a baseline.
+ */
+public final class BenchmarkMain {
+	private static final String DEFAULT_RESULT_FILE = "curie-benchmarks.json";
+
+	private BenchmarkMain(){}
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException{
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+
+		Options options = new OptionsBuilder()
+				.parent(commandLine)
+				.addProfiler(GCProfiler.class)
+				.resultFormat(commandLine.getResultFormat().orElse(ResultFormatType.JSON))
+				.result(commandLine.getResult().orElse(DEFAULT_RESULT_FILE))
+				.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,55 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.BloomFilterPredicate;
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a deny-list of a million strings held as a hash set with the same list held as a 1% Bloom filter, alone
+ * and backed by the set, probed mostly with values outside the list. The filter holds the list in about 1.2 bytes
+ * per value rather than the set's tens, and answers most probes with a single cache miss.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class BloomFilterBenchmark {
+	private static final int DENIED = 1_000_000;
+	private static final int PROBES = 1 << 16;
+
+	private Predicate<String> hashSet;
+	private Predicate<String> filter;
+	private Predicate<String> filtered;
+	private String[]          probes;
+	private int               next;
+
+	@Setup
+	public void setUp(){
+		Set<String> denied = new HashSet<>();
+		for(int i = 0; i < DENIED; i++) denied.add("denied-" + i);
+
+		hashSet = denied::contains;
+		filter = BloomFilterPredicate.of(denied, 0.01);
+		filtered = filter.and(denied::contains);
+
+		probes = new String[PROBES];
+		for(int i = 0; i < PROBES; i++) probes[i] = i % 20 == 0 ? "denied-" + (i * 13) : "allowed-" + i;
+	}
+
+	private String nextProbe(){ return probes[next++ & (PROBES - 1)]; }
+
+	@Benchmark
+	public boolean hashSet(){ return hashSet.test(nextProbe()); }
+
+	@Benchmark
+	public boolean filter(){ return filter.test(nextProbe()); }
+
+	@Benchmark
+	public boolean filtered(){ return filtered.test(nextProbe()); }
+}
@@ -0,0 +1,109 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Codec;
+import io.klbz.curie.Either;
+import io.klbz.curie.Maybe;
+import io.klbz.curie.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding and decoding ten thousand {@code Pair<Maybe<Integer>, Either<String, Long>>}s with a {@link Codec}
+ * against Java serialization. Curie's values are not {@link Serializable}, so serialization is given a list of
+ * records holding the same fields, which it may encode in whatever way suits it best.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CodecBenchmark {
+	private static final int SIZE = 10_000;
+
+	private static final Codec<Pair<Maybe<Integer>, Either<String, Long>>> codec =
+			Codec.pairs(Codec.maybes(Codec.ints()), Codec.eithers(Codec.strings(), Codec.longs()));
+
+	private List<Pair<Maybe<Integer>, Either<String, Long>>> values;
+	private ArrayList<Record>                                 records;
+	private ByteBuffer                                        buffer;
+	private byte[]                                            serialized;
+
+	/** The fields of one value, for serialization. */
+	static final class Record implements Serializable {
+		private static final long serialVersionUID = 1L;
+
+		final Integer maybe;
+		final String  left;
+		final Long    right;
+
+		Record(Integer maybe, String left, Long right){
+			this.maybe = maybe;
+			this.left = left;
+			this.right = right;
+		}
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		SplittableRandom random = new SplittableRandom(7);
+		values = new ArrayList<>(SIZE);
+		records = new ArrayList<>(SIZE);
+		for(int i = 0; i < SIZE; i++){
+			Integer maybe = random.nextInt(4) == 0 ? null : random.nextInt();
+			boolean failed = random.nextInt(8) == 0;
+			String left = failed ? "error " + random.nextInt(100) : null;
+			Long right = failed ? null : random.nextLong();
+			values.add(Pair.of(maybe == null ? Maybe.none() : Maybe.just(maybe),
+			                   failed ? Either.left(left) : Either.right(right)));
+			records.add(new Record(maybe, left, right));
+		}
+
+		buffer = ByteBuffer.allocateDirect(SIZE * 32);
+		serialized = serialize();
+		encode();
+	}
+
+	@Benchmark
+	public ByteBuffer encode(){
+		buffer.clear();
+		for(Pair<Maybe<Integer>, Either<String, Long>> value : values) codec.encode(value, buffer);
+		return buffer;
+	}
+
+	@Benchmark
+	public Object decode(){
+		ByteBuffer in = buffer.duplicate();
+		in.flip();
+		Object last = null;
+		while(in.hasRemaining()) last = codec.decode(in);
+		return last;
+	}
+
+	@Benchmark
+	public byte[] serialize() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+			out.writeObject(records);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public Object deserialize() throws IOException, ClassNotFoundException {
+		try(ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))){
+			return in.readObject();
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a rule set evaluated through the composite classes with the same rules after {@link Predicate#compile()}.
+ * Each rule nests allOf, anyOf, xor and negation over leaves drawn from a pool of {@code leafShapes} distinct lambda
+ * classes; with more than two shapes the composites' clause call sites turn megamorphic, which compilation avoids by
+ * giving every rule code of its own.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CompiledPredicateBenchmark {
+	private static final int RULES  = 16;
+	private static final int INPUTS = 256;
+
+	@Param({"1", "8"})
+	public int leafShapes;
+
+	private Predicate<Integer>[] interpreted;
+	private Predicate<Integer>[] compiled;
+	private Integer[]            inputs;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(){
+		interpreted = new Predicate[RULES];
+		compiled = new Predicate[RULES];
+		for(int i = 0; i < RULES; i++){
+			Predicate<Integer> rule = Predicate.allOf(leaf(i, 3), Predicate.anyOf(leaf(i + 1, 5), leaf(i + 2, 7)))
+					.or(leaf(i + 3, 11).xor(leaf(i + 4, 13)).negate());
+			interpreted[i] = rule;
+			compiled[i] = rule.compile();
+		}
+
+		inputs = new Integer[INPUTS];
+		for(int i = 0; i < INPUTS; i++) inputs[i] = i * 37;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(RULES * INPUTS)
+	public int interpreted(){ return matches(interpreted); }
+
+	@Benchmark
+	@OperationsPerInvocation(RULES * INPUTS)
+	public int compiled(){ return matches(compiled); }
+
+	private int matches(Predicate<Integer>[] rules){
+		int matches = 0;
+		for(Integer input : inputs){
+			for(Predicate<Integer> rule : rules){
+				if(rule.test(input)) matches++;
+			}
+		}
+		return matches;
+	}
+
+	/** Each case is a separate lambda expression, and so a separate class. */
+	private Predicate<Integer> leaf(int index, int parameter){
+		switch(index % leafShapes){
+			case 0: return x -> x % parameter != 0;
+			case 1: return x -> x > parameter * 10;
+			case 2: return x -> x < parameter * 100;
+			case 3: return x -> (x & parameter) == 0;
+			case 4: return x -> Integer.bitCount(x) > parameter / 3;
+			case 5: return x -> x / parameter % 2 == 0;
+			case 6: return x -> (x ^ parameter) > 512;
+			default: return x -> Integer.numberOfTrailingZeros(x) < parameter / 2;
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.ConcurrentPredicate;
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares a disjunction of blocking clauses, standing in for calls to a local service, tested one after another with
+ * the same clauses tested concurrently. Only the last clause accepts, so the sequential test waits for them all.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ConcurrentPredicateBenchmark {
+	private static final long CLAUSE_LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+	private Predicate<Integer> sequential;
+	private Predicate<Integer> concurrent;
+
+	@Setup
+	public void setUp(){
+		Predicate<Integer> rejects = x -> {
+			LockSupport.parkNanos(CLAUSE_LATENCY_NANOS);
+			return false;
+		};
+		Predicate<Integer> accepts = x -> {
+			LockSupport.parkNanos(CLAUSE_LATENCY_NANOS);
+			return true;
+		};
+
+		sequential = Predicate.anyOf(rejects, rejects, rejects, accepts);
+		concurrent = ConcurrentPredicate.anyOf(rejects, rejects, rejects, accepts);
+	}
+
+	@Benchmark
+	public boolean sequential(){ return sequential.test(1); }
+
+	@Benchmark
+	public boolean concurrent(){ return concurrent.test(1); }
+}
@@ -0,0 +1,73 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Either;
+import io.klbz.curie.EitherArray;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scans of a million validation results, one in eight of them an error, held as a list of Eithers and as an
+ * {@link EitherArray}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EitherArrayBenchmark {
+	private static final int SIZE = 1 << 20;
+
+	private List<Either<String, Integer>> list;
+	private EitherArray<String, Integer>  array;
+
+	@Setup
+	public void setUp(){
+		SplittableRandom random = new SplittableRandom(7);
+		list = new ArrayList<>(SIZE);
+		for(int i = 0; i < SIZE; i++){
+			list.add(random.nextInt(8) == 0 ? Either.left("error " + (i % 16)) : Either.right(random.nextInt()));
+		}
+		array = EitherArray.of(list);
+	}
+
+	@Benchmark
+	public int errorsList(){
+		int count = 0;
+		for(Either<String, Integer> either : list){
+			if(either.satisfiesL(e -> e.endsWith("7"))) count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int errorsArray(){ return array.satisfiesL(e -> e.endsWith("7")).count(); }
+
+	@Benchmark
+	public List<Either<String, Long>> mapRList(){
+		List<Either<String, Long>> mapped = new ArrayList<>(list.size());
+		for(Either<String, Integer> either : list) mapped.add(either.mapR(x -> x * 2L));
+		return mapped;
+	}
+
+	@Benchmark
+	public EitherArray<String, Long> mapRArray(){ return array.mapR(x -> x * 2L); }
+
+	@Benchmark
+	public long sumRightsList(){
+		long sum = 0;
+		for(Either<String, Integer> either : list) sum += either.collapseIntoR(e -> 0);
+		return sum;
+	}
+
+	@Benchmark
+	public long sumRightsArray(){
+		long sum = 0;
+		for(int value : array.rightValues()) sum += value;
+		return sum;
+	}
+}
@@ -0,0 +1,65 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Either;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping over a batch of Eithers whose Left/Right mix is controlled by {@link #leftPercent}, so that both
+ * the pass-through and the transforming paths (and the branch profile between them) show up in the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class EitherBenchmark {
+	private static final int BATCH_SIZE = 1024;
+
+	@Param({"0", "10", "50", "90", "100"})
+	public int leftPercent;
+
+	private Either<String, Integer>[] batch;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(){
+		SplittableRandom random = new SplittableRandom(42);
+		batch = new Either[BATCH_SIZE];
+		for(int i = 0; i < BATCH_SIZE; i++){
+			batch[i] = random.nextInt(100) < leftPercent
+			           ? Either.left("failure-" + i)
+			           : Either.right(i);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void mapR(Blackhole blackhole){
+		for(Either<String, Integer> either : batch){
+			blackhole.consume(either.mapR(x -> x + 1));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void flatMapR(Blackhole blackhole){
+		for(Either<String, Integer> either : batch){
+			blackhole.consume(either.flatMapR(x -> (x & 1) == 0
+			                                       ? Either.<String, Integer>right(x >> 1)
+			                                       : Either.<String, Integer>left("odd")));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void mapRThenCollapse(Blackhole blackhole){
+		for(Either<String, Integer> either : batch){
+			blackhole.consume(either.mapR(x -> x * 2).collapseIntoR(String::length));
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class FocusBenchmark {
+	private Pair<String, Integer> pair;
+
+	@Setup
+	public void setUp(){ pair = Pair.of("curie", 1867); }
+
+	@Benchmark
+	public Pair<Integer, Integer> firstFocusRoundTrip(){ return pair.focusFirst().map(String::length).unfocus(); }
+
+	@Benchmark
+	public Pair<String, String> secondFocusRoundTrip(){ return pair.focusSecond().map(String::valueOf).unfocus(); }
+
+	@Benchmark
+	public Pair<Integer, String> bothFocusRoundTrip(){
+		return pair
+				.focusFirst().map(String::length).unfocus()
+				.focusSecond().map(String::valueOf).unfocus();
+	}
+
+	@Benchmark
+	public String firstFocusIsolate(){ return pair.focusFirst().isolate(); }
+}
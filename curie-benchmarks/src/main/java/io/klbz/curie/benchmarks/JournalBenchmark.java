@@ -0,0 +1,93 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Codec;
+import io.klbz.curie.Either;
+import io.klbz.curie.EitherJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures appending ten thousand validation results, one in eight of them an error, to an {@link EitherJournal}, and
+ * replaying a million of them: all, or only the errors, or only the successes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class JournalBenchmark {
+	private static final int BATCH    = 10_000;
+	private static final int REPLAYED = 1 << 20;
+	private static final int SEGMENT  = 16 << 20;
+
+	private List<Either<String, Long>>  batch;
+	private Path                        replayDirectory;
+	private EitherJournal<String, Long> replayed;
+	private Path                        appendDirectory;
+	private EitherJournal<String, Long> appended;
+
+	@Setup
+	public void setUp() throws IOException {
+		SplittableRandom random = new SplittableRandom(7);
+		batch = new ArrayList<>(BATCH);
+		for(int i = 0; i < BATCH; i++){
+			if(random.nextInt(8) == 0) batch.add(Either.left("error " + random.nextInt(100)));
+			else batch.add(Either.right(random.nextLong()));
+		}
+
+		replayDirectory = Files.createTempDirectory("replayed");
+		replayed = EitherJournal.open(replayDirectory, Codec.strings(), Codec.longs(), SEGMENT);
+		for(int i = 0; i < REPLAYED; i++) replayed.append(batch.get(i % BATCH));
+	}
+
+	@Setup(Level.Iteration)
+	public void openAppended() throws IOException {
+		appendDirectory = Files.createTempDirectory("appended");
+		appended = EitherJournal.open(appendDirectory, Codec.strings(), Codec.longs(), SEGMENT);
+	}
+
+	@TearDown(Level.Iteration)
+	public void deleteAppended() throws IOException {
+		appended.close();
+		delete(appendDirectory);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		replayed.close();
+		delete(replayDirectory);
+	}
+
+	private static void delete(Path directory) throws IOException {
+		try(Stream<Path> paths = Files.walk(directory)){
+			for(Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) Files.delete(path);
+		}
+	}
+
+	@Benchmark
+	public long append() throws IOException {
+		long last = 0;
+		for(Either<String, Long> result : batch) last = appended.append(result);
+		return last;
+	}
+
+	@Benchmark
+	public long replayAll(){ return replayed.stream().mapToLong(e -> e.collapseIntoR(s -> (long) s.length())).sum(); }
+
+	@Benchmark
+	public long replayLefts(){ return replayed.lefts().mapToInt(String::length).sum(); }
+
+	@Benchmark
+	public long replayRights(){ return replayed.rights().mapToLong(Long::longValue).sum(); }
+}
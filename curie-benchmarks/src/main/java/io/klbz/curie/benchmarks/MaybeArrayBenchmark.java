@@ -0,0 +1,72 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Maybe;
+import io.klbz.curie.MaybeArray;
+import io.klbz.curie.Selection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bulk operations over a million optional ints, a quarter of them absent, held as a list of Maybes and as a
+ * {@link MaybeArray}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MaybeArrayBenchmark {
+	private static final int SIZE = 1 << 20;
+
+	private List<Maybe<Integer>> list;
+	private MaybeArray<Integer>  array;
+
+	@Setup
+	public void setUp(){
+		SplittableRandom random = new SplittableRandom(7);
+		list = new ArrayList<>(SIZE);
+		for(int i = 0; i < SIZE; i++) list.add(random.nextInt(4) == 0 ? Maybe.none() : Maybe.just(random.nextInt()));
+		array = MaybeArray.of(list);
+	}
+
+	@Benchmark
+	public int satisfiesList(){
+		int count = 0;
+		for(Maybe<Integer> maybe : list){
+			if(maybe.satisfies(x -> x > 0)) count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public Selection satisfiesArray(){ return array.satisfies(x -> x > 0); }
+
+	@Benchmark
+	public List<Maybe<Integer>> preserveIfList(){
+		List<Maybe<Integer>> preserved = new ArrayList<>(list.size());
+		for(Maybe<Integer> maybe : list) preserved.add(maybe.preserveIf(x -> (x & 1) == 0));
+		return preserved;
+	}
+
+	@Benchmark
+	public MaybeArray<Integer> preserveIfArray(){ return array.preserveIf(x -> (x & 1) == 0); }
+
+	@Benchmark
+	public long sumPresentList(){
+		long sum = 0;
+		for(Maybe<Integer> maybe : list) sum += maybe.collapse(0);
+		return sum;
+	}
+
+	@Benchmark
+	public long sumPresentArray(){
+		long sum = 0;
+		for(int value : array.presentValues()) sum += value;
+		return sum;
+	}
+}
@@ -0,0 +1,61 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Maybe;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MaybeBenchmark {
+	private Maybe<String> just;
+	private Maybe<String> none;
+	private String        fallback;
+
+	@Setup
+	public void setUp(){
+		just = Maybe.just("curie");
+		none = Maybe.none();
+		fallback = "fallback";
+	}
+
+	@Benchmark
+	public Maybe<Integer> mapJust(){ return just.map(String::length); }
+
+	@Benchmark
+	public Maybe<Integer> mapNone(){ return none.map(String::length); }
+
+	@Benchmark
+	public Maybe<Integer> flatMapJust(){ return just.flatMap(s -> Maybe.just(s.length())); }
+
+	@Benchmark
+	public Maybe<Integer> flatMapNone(){ return none.flatMap(s -> Maybe.just(s.length())); }
+
+	@Benchmark
+	public String collapseJust(){ return just.collapse(fallback); }
+
+	@Benchmark
+	public String collapseNone(){ return none.collapse(fallback); }
+
+	@Benchmark
+	public String chainJust(){ return chain(just); }
+
+	@Benchmark
+	public String chainNone(){ return chain(none); }
+
+	@Benchmark
+	public Maybe<String> preserveIfMiss(){ return just.preserveIf(String::isEmpty); }
+
+	private String chain(Maybe<String> start){
+		return start
+				.map(String::trim)
+				.flatMap(s -> s.isEmpty() ? Maybe.<String>none() : Maybe.just(s))
+				.preserveIf(s -> s.length() < 64)
+				.map(String::toUpperCase)
+				.collapse(fallback);
+	}
+}
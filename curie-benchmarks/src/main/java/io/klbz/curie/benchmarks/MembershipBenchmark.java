@@ -0,0 +1,55 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares an allow-list built from {@code anyOf(isEqual(...))}, which is indexed, with the same list of hand-written
+ * equality lambdas, which is scanned clause by clause. Probing a value outside the list forces the scan to its end.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MembershipBenchmark {
+	@Param({"4", "64", "512"})
+	public int listSize;
+
+	private Predicate<String> indexed;
+	private Predicate<String> scanned;
+	private String            member;
+	private String            stranger;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(){
+		java.util.function.Predicate<String>[] equalities = new java.util.function.Predicate[listSize];
+		java.util.function.Predicate<String>[] lambdas = new java.util.function.Predicate[listSize];
+		for(int i = 0; i < listSize; i++){
+			String value = "user-" + i;
+			equalities[i] = Predicate.isEqual(value);
+			lambdas[i] = x -> value.equals(x);
+		}
+
+		indexed = Predicate.anyOf(equalities);
+		scanned = Predicate.anyOf(lambdas);
+		member = "user-" + (listSize / 2);
+		stranger = "user-" + listSize;
+	}
+
+	@Benchmark
+	public boolean indexedHit(){ return indexed.test(member); }
+
+	@Benchmark
+	public boolean indexedMiss(){ return indexed.test(stranger); }
+
+	@Benchmark
+	public boolean scannedHit(){ return scanned.test(member); }
+
+	@Benchmark
+	public boolean scannedMiss(){ return scanned.test(stranger); }
+}
@@ -0,0 +1,57 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.MemoizedPredicate;
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares an expensive pure predicate with its memoized forms over a skewed stream of inputs: most tests draw from
+ * a few hundred popular inputs, the rest from a long tail of one-off inputs that would flush a plain LRU cache.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class MemoizeBenchmark {
+	private static final int INPUTS = 1 << 16;
+
+	private Predicate<String>          expensive;
+	private MemoizedPredicate<String> lru;
+	private MemoizedPredicate<String> tinyLfu;
+	private String[]                   inputs;
+	private int                        next;
+
+	@Setup
+	public void setUp(){
+		expensive = x -> x.toUpperCase().matches(".*[0-9]{2}.*");
+		lru = expensive.memoize(1_000, MemoizedPredicate.Eviction.LRU);
+		tinyLfu = expensive.memoize(1_000, MemoizedPredicate.Eviction.TINY_LFU);
+
+		SplittableRandom random = new SplittableRandom(7);
+		inputs = new String[INPUTS];
+		for(int i = 0; i < INPUTS; i++){
+			inputs[i] = random.nextInt(10) < 7 ? "popular-" + random.nextInt(500) : "rare-" + random.nextInt(1 << 30);
+		}
+	}
+
+	private String nextInput(){ return inputs[next++ & (INPUTS - 1)]; }
+
+	@Benchmark
+	public boolean direct(){ return expensive.test(nextInput()); }
+
+	@Benchmark
+	public boolean lru(){ return lru.test(nextInput()); }
+
+	@Benchmark
+	public boolean tinyLfu(){ return tinyLfu.test(nextInput()); }
+
+	@TearDown
+	public void report(){
+		System.out.println("\nLRU " + lru.stats() + ", TinyLFU " + tinyLfu.stats());
+	}
+}
@@ -0,0 +1,66 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.IntPairArray;
+import io.klbz.curie.IntPairBuffer;
+import io.klbz.curie.MaybeIntBuffer;
+import io.klbz.curie.Selection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares scans of a million int pairs on the heap, in an {@link IntPairArray}, and off it, in an
+ * {@link IntPairBuffer}; and scans of a million optional ints in a {@link MaybeIntBuffer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class OffHeapBenchmark {
+	private static final int SIZE = 1 << 20;
+
+	private IntPairArray   array;
+	private IntPairBuffer  buffer;
+	private MaybeIntBuffer maybes;
+
+	@Setup
+	public void setUp(){
+		SplittableRandom random = new SplittableRandom(7);
+		int[] firsts = new int[SIZE];
+		int[] seconds = new int[SIZE];
+		buffer = IntPairBuffer.allocate(SIZE);
+		maybes = MaybeIntBuffer.allocate(SIZE);
+		for(int i = 0; i < SIZE; i++){
+			firsts[i] = random.nextInt(100_000);
+			seconds[i] = random.nextInt(100_000);
+			buffer.add(firsts[i], seconds[i]);
+			if(random.nextInt(4) == 0) maybes.addNone();
+			else maybes.add(firsts[i]);
+		}
+		array = IntPairArray.of(firsts, seconds);
+	}
+
+	@TearDown
+	public void tearDown(){
+		buffer.close();
+		maybes.close();
+	}
+
+	@Benchmark
+	public Selection satisfiesArray(){ return array.satisfies((f, s) -> f < s); }
+
+	@Benchmark
+	public Selection satisfiesBuffer(){ return buffer.satisfies((f, s) -> f < s); }
+
+	@Benchmark
+	public IntPairArray mapFirstArray(){ return array.mapFirst(f -> f ^ 1); }
+
+	@Benchmark
+	public IntPairBuffer updateFirstBuffer(){ return buffer.updateFirst(f -> f ^ 1); }
+
+	@Benchmark
+	public Selection satisfiesMaybes(){ return maybes.satisfies(x -> x < 50_000); }
+}
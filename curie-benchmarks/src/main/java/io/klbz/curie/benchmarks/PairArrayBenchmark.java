@@ -0,0 +1,86 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.IntPairArray;
+import io.klbz.curie.Pair;
+import io.klbz.curie.PairArray;
+import io.klbz.curie.Selection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bulk operations over a million pairs of ints held as a list of Pairs, as a {@link PairArray}, whose columns
+ * are stored unboxed but passed on boxed, and as an {@link IntPairArray}, whose functions take them unboxed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PairArrayBenchmark {
+	private static final int SIZE = 1 << 20;
+
+	private List<Pair<Integer, Integer>> list;
+	private PairArray<Integer, Integer>  array;
+	private IntPairArray                 ints;
+
+	@Setup
+	public void setUp(){
+		SplittableRandom random = new SplittableRandom(7);
+		int[] firsts = new int[SIZE];
+		int[] seconds = new int[SIZE];
+		list = new ArrayList<>(SIZE);
+		for(int i = 0; i < SIZE; i++){
+			firsts[i] = random.nextInt(100_000);
+			seconds[i] = random.nextInt(100_000);
+			list.add(Pair.of(firsts[i], seconds[i]));
+		}
+		array = PairArray.ofInts(firsts, seconds);
+		ints = IntPairArray.of(firsts, seconds);
+	}
+
+	@Benchmark
+	public int satisfiesList(){
+		int count = 0;
+		for(Pair<Integer, Integer> pair : list){
+			if(pair.satisfies((f, s) -> f < s)) count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public Selection satisfiesArray(){ return array.satisfies((f, s) -> f < s); }
+
+	@Benchmark
+	public Selection satisfiesInts(){ return ints.satisfies((f, s) -> f < s); }
+
+	@Benchmark
+	public List<Pair<Integer, Integer>> mapFirstList(){
+		List<Pair<Integer, Integer>> mapped = new ArrayList<>(list.size());
+		for(Pair<Integer, Integer> pair : list) mapped.add(pair.mapFirst(f -> f + 1));
+		return mapped;
+	}
+
+	@Benchmark
+	public PairArray<Integer, Integer> mapFirstArray(){ return array.mapFirst(f -> f + 1); }
+
+	@Benchmark
+	public IntPairArray mapFirstInts(){ return ints.mapFirst(f -> f + 1); }
+
+	@Benchmark
+	public long parallelSumList(){
+		return list.parallelStream().mapToLong(p -> p.isolateFirst() + p.isolateSecond()).sum();
+	}
+
+	@Benchmark
+	public long parallelSumArray(){
+		return array.parallelStream().mapToLong(p -> p.isolateFirst() + p.isolateSecond()).sum();
+	}
+
+	@Benchmark
+	public long parallelSumInts(){ return ints.parallelStream().mapToLong(p -> p.collapseToInt(Integer::sum)).sum(); }
+}
@@ -0,0 +1,34 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Pair;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PairBenchmark {
+	private Pair<String, Integer> pair;
+
+	@Setup
+	public void setUp(){ pair = Pair.of("curie", 1867); }
+
+	@Benchmark
+	public Pair<Integer, Integer> mapFirst(){ return pair.mapFirst(String::length); }
+
+	@Benchmark
+	public Pair<String, String> mapSecond(){ return pair.mapSecond(String::valueOf); }
+
+	@Benchmark
+	public Pair<Integer, String> mapBoth(){ return pair.mapFirst(String::length).mapSecond(String::valueOf); }
+
+	@Benchmark
+	public int collapse(){ return pair.collapse((f, s) -> f.length() + s); }
+
+	@Benchmark
+	public int hashCodeOfPair(){ return pair.hashCode(); }
+}
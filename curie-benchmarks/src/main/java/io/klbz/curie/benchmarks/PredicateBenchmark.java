@@ -0,0 +1,62 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures aggregate predicates of growing arity.
+ * Every clause is a distinct (but cheap) range check so that neither the JIT nor the aggregate can treat them as
+ * interchangeable; {@code allOf} is fed a value passing every clause and {@code anyOf} one failing every clause, so
+ * both evaluate all of their clauses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class PredicateBenchmark {
+	@Param({"1", "4", "16", "64"})
+	public int arity;
+
+	private Predicate<Integer> allOf;
+	private Predicate<Integer> anyOf;
+	private Predicate<Integer> chainedAnd;
+	private Integer            passesAll;
+	private Integer            failsAll;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(){
+		java.util.function.Predicate<Integer>[] belowBounds = new java.util.function.Predicate[arity];
+		java.util.function.Predicate<Integer>[] aboveBounds = new java.util.function.Predicate[arity];
+		for(int i = 0; i < arity; i++){
+			int bound = 1_000 + i;
+			belowBounds[i] = x -> x < bound;
+			aboveBounds[i] = x -> x > bound;
+		}
+
+		allOf = Predicate.allOf(belowBounds);
+		anyOf = Predicate.anyOf(aboveBounds);
+		chainedAnd = Predicate.is(belowBounds[0]::test);
+		for(int i = 1; i < arity; i++){
+			chainedAnd = chainedAnd.and(belowBounds[i]);
+		}
+		passesAll = 10;
+		failsAll = 10;
+	}
+
+	@Benchmark
+	public boolean allOf(){ return allOf.test(passesAll); }
+
+	@Benchmark
+	public boolean anyOf(){ return anyOf.test(failsAll); }
+
+	@Benchmark
+	public boolean chainedAnd(){ return chainedAnd.test(passesAll); }
+
+	@Benchmark
+	public boolean noneOfViaNegation(){ return anyOf.negate().test(failsAll); }
+}
@@ -0,0 +1,56 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of profiling a rule of five clauses: unprofiled, with every clause counted but none timed, and
+ * with one test in every 1024 timed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ProfilingBenchmark {
+	private static final int INPUTS = 1 << 12;
+
+	private Predicate<String> plain;
+	private Predicate<String> counted;
+	private Predicate<String> sampled;
+	private String[]          inputs;
+	private int               next;
+
+	@Setup
+	public void setUp(){
+		Predicate<String> nonEmpty = s -> !s.isEmpty();
+		Predicate<String> shortish = s -> s.length() < 12;
+		Predicate<String> lower = s -> Character.isLowerCase(s.charAt(0));
+		Predicate<String> digit = s -> Character.isDigit(s.charAt(s.length() - 1));
+		Predicate<String> dashed = s -> s.indexOf('-') >= 0;
+		plain = nonEmpty.and(shortish).and(lower.or(digit).or(dashed));
+		counted = plain.profile("rule");
+		sampled = plain.profile("rule", 1024);
+
+		SplittableRandom random = new SplittableRandom(7);
+		inputs = new String[INPUTS];
+		for(int i = 0; i < INPUTS; i++){
+			inputs[i] = (random.nextBoolean() ? "Key-" : "key") + random.nextInt(1 << random.nextInt(1, 30));
+		}
+	}
+
+	private String nextInput(){ return inputs[next++ & (INPUTS - 1)]; }
+
+	@Benchmark
+	public boolean plain(){ return plain.test(nextInput()); }
+
+	@Benchmark
+	public boolean counted(){ return counted.test(nextInput()); }
+
+	@Benchmark
+	public boolean sampled(){ return sampled.test(nextInput()); }
+}
@@ -0,0 +1,72 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.IntPredicate;
+import io.klbz.curie.Predicate;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a disjunction of range predicates, which is merged into one interval set and binary searched, with the
+ * same disjunction of hand-written comparison lambdas, which is scanned range by range. The ranges are disjoint, so
+ * a value in none of them forces the scan to its end.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RangeBenchmark {
+	@Param({"4", "64", "512"})
+	public int ranges;
+
+	private IntPredicate       indexedInts;
+	private IntPredicate       scannedInts;
+	private Predicate<Integer> indexedBoxed;
+	private Predicate<Integer> scannedBoxed;
+	private int                inside;
+	private int                outside;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(){
+		java.util.function.IntPredicate[] intRanges = new java.util.function.IntPredicate[ranges];
+		java.util.function.IntPredicate[] intLambdas = new java.util.function.IntPredicate[ranges];
+		java.util.function.Predicate<Integer>[] boxedRanges = new java.util.function.Predicate[ranges];
+		java.util.function.Predicate<Integer>[] boxedLambdas = new java.util.function.Predicate[ranges];
+		for(int i = 0; i < ranges; i++){
+			int low = i * 10;
+			int high = low + 4;
+			intRanges[i] = IntPredicate.isBetween(low, high);
+			intLambdas[i] = x -> x >= low && x <= high;
+			boxedRanges[i] = Predicate.isBetween(low, high);
+			boxedLambdas[i] = x -> x >= low && x <= high;
+		}
+
+		indexedInts = IntPredicate.anyOf(intRanges);
+		scannedInts = IntPredicate.anyOf(intLambdas);
+		indexedBoxed = Predicate.anyOf(boxedRanges);
+		scannedBoxed = Predicate.anyOf(boxedLambdas);
+		inside = (ranges / 2) * 10 + 2;
+		outside = (ranges / 2) * 10 + 7;
+	}
+
+	@Benchmark
+	public boolean indexedIntHit(){ return indexedInts.test(inside); }
+
+	@Benchmark
+	public boolean indexedIntMiss(){ return indexedInts.test(outside); }
+
+	@Benchmark
+	public boolean scannedIntHit(){ return scannedInts.test(inside); }
+
+	@Benchmark
+	public boolean scannedIntMiss(){ return scannedInts.test(outside); }
+
+	@Benchmark
+	public boolean indexedBoxedMiss(){ return indexedBoxed.test(outside); }
+
+	@Benchmark
+	public boolean scannedBoxedMiss(){ return scannedBoxed.test(outside); }
+}
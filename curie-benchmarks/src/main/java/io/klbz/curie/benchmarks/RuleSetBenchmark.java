@@ -0,0 +1,71 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Predicate;
+import io.klbz.curie.RuleSet;
+import io.klbz.curie.Selection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares testing a thousand rules, each conjoining three of a small pool of substring checks on an event, one
+ * rule at a time with evaluating them together as a {@link RuleSet}, which runs each distinct check at most once per
+ * event. The more each check costs, the more sharing them saves; checks cheaper than a memo lookup gain nothing.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class RuleSetBenchmark {
+	private static final int RULES  = 1_000;
+	private static final int CHECKS = 32;
+
+	@Param({"16", "256"})
+	public int eventLength;
+
+	private Predicate<String>[] separate;
+	private RuleSet<String>     shared;
+	private String              event;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(){
+		SplittableRandom random = new SplittableRandom(42);
+		StringBuilder text = new StringBuilder();
+		while(text.length() < eventLength) text.append((char) ('a' + random.nextInt(26)));
+		event = text.toString();
+
+		Predicate<String>[] checks = new Predicate[CHECKS];
+		for(int i = 0; i < CHECKS; i++){
+			String token = "" + (char) ('a' + random.nextInt(26)) + (char) ('a' + random.nextInt(26));
+			checks[i] = x -> !x.contains(token);
+		}
+
+		RuleSet.Builder<String> builder = RuleSet.builder();
+		separate = new Predicate[RULES];
+		for(int i = 0; i < RULES; i++){
+			separate[i] = Predicate.allOf(
+					checks[random.nextInt(CHECKS)],
+					checks[random.nextInt(CHECKS)],
+					checks[random.nextInt(CHECKS)]);
+			builder.rule("rule-" + i, separate[i]);
+		}
+
+		shared = builder.build();
+	}
+
+	@Benchmark
+	public int separately(){
+		int matches = 0;
+		for(Predicate<String> rule : separate){
+			if(rule.test(event)) matches++;
+		}
+		return matches;
+	}
+
+	@Benchmark
+	public Selection together(){ return shared.evaluate(event); }
+}
@@ -0,0 +1,49 @@
+package io.klbz.curie.benchmarks;
+
+import io.klbz.curie.Predicate;
+import io.klbz.curie.Selection;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares filtering a batch one {@code test} call at a time with {@link Predicate#testAll} and its parallel
+ * variant, for a composite of four clauses over {@code batchSize} records.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class SelectionBenchmark {
+	@Param({"1024", "65536", "1048576"})
+	public int batchSize;
+
+	private Predicate<Integer> rule;
+	private Integer[]          records;
+
+	@Setup
+	public void setUp(){
+		rule = Predicate.allOf((Integer x) -> x % 3 != 0, x -> x > 100)
+				.and(Predicate.anyOf((Integer x) -> (x & 8) == 0, x -> x % 7 == 0));
+
+		records = new Integer[batchSize];
+		for(int i = 0; i < batchSize; i++) records[i] = i * 31 % 10_007;
+	}
+
+	@Benchmark
+	public int perElement(){
+		int count = 0;
+		for(Integer record : records){
+			if(rule.test(record)) count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public Selection testAll(){ return rule.testAll(records); }
+
+	@Benchmark
+	public Selection testAllParallel(){ return rule.testAllParallel(records); }
+}
@@ -0,0 +1,187 @@
+package io.klbz.curie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An opt-in {@code allOf}/{@code anyOf} composite that learns the cheapest order in which to evaluate its clauses.
+ *
+ * A small random sample of evaluations is timed clause by clause, recording how often each clause decides the
+ * outcome (fails, for allOf; passes, for anyOf). Every so many samples, one thread folds the sampled statistics into
+ * decaying estimates and publishes a new order, ranking clauses by their chance of short-circuiting per nanosecond of
+ * cost. Unsampled evaluations only read the current order, so the steady-state overhead is one random draw.
+ *
+ * Reordering never changes the result for side-effect-free clauses; clauses with side effects may observe a different
+ * subset of evaluations than they would under a fixed order.
+ */
+public final class AdaptivePredicate<T> implements Predicate<T> {
+	private static final int    DEFAULT_SAMPLE_PERIOD  = 64;
+	private static final int    DEFAULT_REORDER_PERIOD = 256;
+	private static final double DECAY                  = 0.5;
+
+	private final java.util.function.Predicate<? super T>[] clauses;
+	private final boolean                                   decidesOn;
+	private final int                                       sampleMask;
+	private final int                                       reorderPeriod;
+
+	private volatile int[] order;
+
+	private final LongAdder[] sampledEvaluations;
+	private final LongAdder[] sampledDecisions;
+	private final LongAdder[] sampledNanos;
+	private final AtomicInteger samplesSinceReorder = new AtomicInteger();
+	private final AtomicBoolean reordering          = new AtomicBoolean();
+
+	// Guarded by reordering
+	private final double[] decisionRates;
+	private final double[] costs;
+
+	private AdaptivePredicate(
+			java.util.function.Predicate<? super T>[] clauses,
+			boolean decidesOn,
+			int samplePeriod,
+			int reorderPeriod){
+
+		if(Integer.bitCount(samplePeriod) != 1){
+			throw new IllegalArgumentException("Sample period must be a power of 2");
+		}
+		if(reorderPeriod < 1) throw new IllegalArgumentException("Reorder period must be positive");
+
+		for(java.util.function.Predicate<? super T> clause : clauses) Objects.requireNonNull(clause);
+
+		this.clauses = clauses;
+		this.decidesOn = decidesOn;
+		this.sampleMask = samplePeriod - 1;
+		this.reorderPeriod = reorderPeriod;
+
+		int n = clauses.length;
+		order = new int[n];
+		sampledEvaluations = new LongAdder[n];
+		sampledDecisions = new LongAdder[n];
+		sampledNanos = new LongAdder[n];
+		decisionRates = new double[n];
+		costs = new double[n];
+		for(int i = 0; i < n; i++){
+			order[i] = i;
+			sampledEvaluations[i] = new LongAdder();
+			sampledDecisions[i] = new LongAdder();
+			sampledNanos[i] = new LongAdder();
+			decisionRates[i] = 0.5;
+			costs[i] = 1.0;
+		}
+	}
+
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> AdaptivePredicate<T> allOf(java.util.function.Predicate<? super T>... predicates){
+		return new AdaptivePredicate<>(predicates.clone(), false, DEFAULT_SAMPLE_PERIOD, DEFAULT_REORDER_PERIOD);
+	}
+
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> AdaptivePredicate<T> anyOf(java.util.function.Predicate<? super T>... predicates){
+		return new AdaptivePredicate<>(predicates.clone(), true, DEFAULT_SAMPLE_PERIOD, DEFAULT_REORDER_PERIOD);
+	}
+
+	/**
+	 * @param samplePeriod  one in this many evaluations is timed; must be a power of 2
+	 * @param reorderPeriod the order is reconsidered after this many sampled evaluations
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> AdaptivePredicate<T> allOf(
+			int samplePeriod,
+			int reorderPeriod,
+			java.util.function.Predicate<? super T>... predicates){
+
+		return new AdaptivePredicate<>(predicates.clone(), false, samplePeriod, reorderPeriod);
+	}
+
+	/**
+	 * @param samplePeriod  one in this many evaluations is timed; must be a power of 2
+	 * @param reorderPeriod the order is reconsidered after this many sampled evaluations
+	 */
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> AdaptivePredicate<T> anyOf(
+			int samplePeriod,
+			int reorderPeriod,
+			java.util.function.Predicate<? super T>... predicates){
+
+		return new AdaptivePredicate<>(predicates.clone(), true, samplePeriod, reorderPeriod);
+	}
+
+	@Override
+	public boolean test(T t){
+		int[] currentOrder = order;
+		if((ThreadLocalRandom.current().nextInt() & sampleMask) == 0) return sampledTest(t, currentOrder);
+
+		for(int index : currentOrder){
+			if(clauses[index].test(t) == decidesOn) return decidesOn;
+		}
+		return !decidesOn;
+	}
+
+	/** The indexes of the clauses, as given at construction, in the order they are currently evaluated. */
+	public List<Integer> evaluationOrder(){
+		int[] currentOrder = order;
+		List<Integer> indexes = new ArrayList<>(currentOrder.length);
+		for(int index : currentOrder) indexes.add(index);
+		return Collections.unmodifiableList(indexes);
+	}
+
+	private boolean sampledTest(T t, int[] currentOrder){
+		boolean result = !decidesOn;
+		for(int index : currentOrder){
+			long start = System.nanoTime();
+			boolean outcome = clauses[index].test(t);
+			sampledNanos[index].add(System.nanoTime() - start);
+			sampledEvaluations[index].increment();
+
+			if(outcome == decidesOn){
+				sampledDecisions[index].increment();
+				result = decidesOn;
+				break;
+			}
+		}
+
+		if(samplesSinceReorder.incrementAndGet() >= reorderPeriod) reorder();
+		return result;
+	}
+
+	private void reorder(){
+		if(!reordering.compareAndSet(false, true)) return;
+		try{
+			samplesSinceReorder.set(0);
+
+			int n = clauses.length;
+			for(int i = 0; i < n; i++){
+				long evaluations = sampledEvaluations[i].sumThenReset();
+				long decisions = sampledDecisions[i].sumThenReset();
+				long nanos = sampledNanos[i].sumThenReset();
+				if(evaluations == 0) continue;
+
+				decisionRates[i] = DECAY * decisionRates[i] + (1 - DECAY) * ((double) decisions / evaluations);
+				costs[i] = DECAY * costs[i] + (1 - DECAY) * Math.max(1.0, (double) nanos / evaluations);
+			}
+
+			Integer[] ranked = new Integer[n];
+			for(int i = 0; i < n; i++) ranked[i] = order[i];
+			Arrays.sort(ranked, (a, b) -> Double.compare(decisionRates[b] / costs[b], decisionRates[a] / costs[a]));
+
+			int[] newOrder = new int[n];
+			for(int i = 0; i < n; i++) newOrder[i] = ranked[i];
+			order = newOrder;
+		}
+		finally{
+			reordering.set(false);
+		}
+	}
+}
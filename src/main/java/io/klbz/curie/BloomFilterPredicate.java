@@ -0,0 +1,291 @@
+package io.klbz.curie;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * A probabilistic membership {@link Predicate}: it accepts every value it was built from, and rejects all but a
+ * configurable fraction of the others, in a few bits per value rather than the objects and table of a hash set.
+ * Meant for large deny-lists where most lookups are negative; chain a precise check behind it with {@link #and},
+ * which only runs for the rare values the filter accepts.
+ *
+ * Values are reduced to a 64-bit hash, which is mixed again so that hashes with few varying bits, such as 32-bit
+ * ones, still spread over the whole filter. The filter is blocked: the mixed hash picks one 512-bit block, the size
+ * of a cache line, and all of a value's bits are set within it, so a test costs one cache miss however many bits it
+ * checks; the bit positions within the block are successive nine-bit slices of a further mix.
+ * Blocking costs a little accuracy, which the sizing makes up for with a few more bits. The default hash is stable
+ * across JVMs for character sequences and integral numbers, and otherwise relies on {@code hashCode}; a filter
+ * written to a file must be read back with the same hash.
+ *
+ * A filter written with {@link #writeTo} can be {@linkplain #map mapped} back from its file, which loads it in
+ * constant time: its bits are read straight from the page cache as they are tested.
+ */
+public final class BloomFilterPredicate<T> implements Predicate<T> {
+	private static final int MAGIC       = 0x43424C4D;
+	private static final int VERSION     = 2;
+	private static final int HEADER_SIZE = 24;
+	private static final int BLOCK_WORDS = 8;
+
+	private final long[]                    words;
+	private final LongBuffer                mapped;
+	private final long                      bitCount;
+	private final int                       blockCount;
+	private final int                       hashCount;
+	private final ToLongFunction<? super T> hasher;
+
+	private BloomFilterPredicate(
+			long[] words,
+			LongBuffer mapped,
+			long bitCount,
+			int hashCount,
+			ToLongFunction<? super T> hasher){
+
+		this.words = words;
+		this.mapped = mapped;
+		this.bitCount = bitCount;
+		this.blockCount = (int) (bitCount >>> 9);
+		this.hashCount = hashCount;
+		this.hasher = Objects.requireNonNull(hasher);
+	}
+
+	//region Construction
+
+	public static <T> BloomFilterPredicate<T> of(Collection<? extends T> values, double falsePositiveRate){
+		return of(values.stream(), values.size(), falsePositiveRate, BloomFilterPredicate::defaultHash);
+	}
+
+	public static <T> BloomFilterPredicate<T> of(
+			Collection<? extends T> values,
+			double falsePositiveRate,
+			ToLongFunction<? super T> hasher){
+
+		return of(values.stream(), values.size(), falsePositiveRate, hasher);
+	}
+
+	/** Builds a filter sized for the given number of values; adding many more raises the false-positive rate. */
+	public static <T> BloomFilterPredicate<T> of(
+			Stream<? extends T> values,
+			long expectedSize,
+			double falsePositiveRate){
+
+		return of(values, expectedSize, falsePositiveRate, BloomFilterPredicate::defaultHash);
+	}
+
+	public static <T> BloomFilterPredicate<T> of(
+			Stream<? extends T> values,
+			long expectedSize,
+			double falsePositiveRate,
+			ToLongFunction<? super T> hasher){
+
+		if(!(falsePositiveRate > 0 && falsePositiveRate < 1)){
+			throw new IllegalArgumentException("False-positive rate " + falsePositiveRate + " outside (0, 1)");
+		}
+		if(expectedSize < 0) throw new IllegalArgumentException("Expected size " + expectedSize + " is negative");
+
+		long n = Math.max(1, expectedSize);
+		double optimalBits = -n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+		int hashCount = (int) Math.max(1, Math.round(optimalBits / n * Math.log(2)));
+		long blocks = blocksFor(n, hashCount, falsePositiveRate, optimalBits);
+		if(blocks * BLOCK_WORDS > (Integer.MAX_VALUE - HEADER_SIZE) / 8){
+			throw new IllegalArgumentException("A filter of " + blocks * 512 + " bits is too large");
+		}
+
+		long[] words = new long[(int) blocks * BLOCK_WORDS];
+		BloomFilterPredicate<T> filter = new BloomFilterPredicate<>(words, null, blocks * 512, hashCount, hasher);
+		values.forEach(filter::add);
+		return filter;
+	}
+
+	/** The fewest blocks that hold the given number of values at the given false-positive rate. */
+	private static long blocksFor(long n, int hashCount, double falsePositiveRate, double optimalBits){
+		long low = Math.max(1, (long) (optimalBits / 512));
+		long high = low * 2;
+		while(blockedFalsePositiveRate(n, high, hashCount) > falsePositiveRate){
+			low = high + 1;
+			high *= 2;
+		}
+		while(low < high){
+			long mid = (low + high) >>> 1;
+			if(blockedFalsePositiveRate(n, mid, hashCount) <= falsePositiveRate) high = mid;
+			else low = mid + 1;
+		}
+		return low;
+	}
+
+	/**
+	 * The false-positive rate of a blocked filter: the rate of an unblocked 512-bit filter holding as many values as
+	 * a block does, averaged over the Poisson-distributed number of values per block.
+	 */
+	private static double blockedFalsePositiveRate(long n, long blocks, int hashCount){
+		double load = (double) n / blocks;
+		double probability = Math.exp(-load);
+		double rate = 0;
+		for(int values = 0; values <= load + 10 * Math.sqrt(load) + 20; values++){
+			if(values > 0) probability *= load / values;
+			rate += probability * Math.pow(1 - Math.pow(1 - 1.0 / 512, (double) values * hashCount), hashCount);
+		}
+		return rate;
+	}
+
+	/**
+	 * A 64-bit hash of a value: of its characters for a {@link CharSequence}, by the specified, and for strings
+	 * cached, {@link String#hashCode}; of its value for an integral {@link Number}; and otherwise of its
+	 * {@code hashCode}.
+	 */
+	public static long defaultHash(Object value){
+		if(value == null) return 0;
+		if(value instanceof String) return mix(value.hashCode());
+		if(value instanceof CharSequence){
+			CharSequence chars = (CharSequence) value;
+			int hash = 0;
+			for(int i = 0; i < chars.length(); i++) hash = 31 * hash + chars.charAt(i);
+			return mix(hash);
+		}
+		if(value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte){
+			return mix(((Number) value).longValue());
+		}
+		return mix(value.hashCode());
+	}
+
+	/** The finalizer of SplitMix64, spreading every bit of the input over every bit of the result. */
+	private static long mix(long x){
+		x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+		x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+		return x ^ (x >>> 31);
+	}
+
+	private void add(T value){
+		long hash = mix(hasher.applyAsLong(value));
+		int block = blockOf(hash);
+		long probe = mix(hash);
+		for(int i = 0, shift = 0; i < hashCount; i++, shift += 9){
+			if(shift > 54){
+				probe = mix(probe);
+				shift = 0;
+			}
+			int bit = (int) (probe >>> shift) & 511;
+			words[block + (bit >>> 6)] |= 1L << bit;
+		}
+	}
+
+	/**
+	 * The first word of the block a mixed hash falls in, chosen from its high bits by multiplying rather than dividing
+	 * by the block count.
+	 */
+	private int blockOf(long mixed){ return (int) (((mixed >>> 32) * blockCount) >>> 32) * BLOCK_WORDS; }
+
+	//endregion
+
+	@Override
+	public boolean test(T t){
+		long hash = mix(hasher.applyAsLong(t));
+		int block = blockOf(hash);
+		long probe = mix(hash);
+		for(int i = 0, shift = 0; i < hashCount; i++, shift += 9){
+			if(shift > 54){
+				probe = mix(probe);
+				shift = 0;
+			}
+			int bit = (int) (probe >>> shift) & 511;
+			if((word(block + (bit >>> 6)) & (1L << bit)) == 0) return false;
+		}
+		return true;
+	}
+
+	public long bitCount(){ return bitCount; }
+
+	public int hashCount(){ return hashCount; }
+
+	/**
+	 * The chance that a value the filter was not built from is accepted, estimated from how many bits are set in
+	 * each block.
+	 */
+	public double expectedFalsePositiveRate(){
+		double sum = 0;
+		for(int block = 0; block < blockCount; block++){
+			int set = 0;
+			for(int i = 0; i < BLOCK_WORDS; i++) set += Long.bitCount(word(block * BLOCK_WORDS + i));
+			sum += Math.pow(set / 512.0, hashCount);
+		}
+		return sum / blockCount;
+	}
+
+	private long word(int index){ return words != null ? words[index] : mapped.get(index); }
+
+	//region Persistence
+
+	/** Writes this filter to the given file, replacing any contents, in the form {@link #map} reads. */
+	public void writeTo(Path path) throws IOException{
+		try(FileChannel channel = FileChannel.open(
+				path,
+				StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING,
+				StandardOpenOption.WRITE)){
+
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.putInt(MAGIC).putInt(VERSION).putInt(hashCount).putInt(0).putLong(bitCount).flip();
+			writeFully(channel, header);
+
+			ByteBuffer chunk = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+			for(int i = 0; i < bitCount >>> 6; i++){
+				if(!chunk.hasRemaining()){
+					chunk.flip();
+					writeFully(channel, chunk);
+					chunk.clear();
+				}
+				chunk.putLong(word(i));
+			}
+			chunk.flip();
+			writeFully(channel, chunk);
+		}
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException{
+		while(buffer.hasRemaining()) channel.write(buffer);
+	}
+
+	/** Maps a filter written by {@link #writeTo} with the default hash. */
+	public static <T> BloomFilterPredicate<T> map(Path path) throws IOException{
+		return map(path, BloomFilterPredicate::defaultHash);
+	}
+
+	/**
+	 * Maps a filter written by {@link #writeTo} with the given hash. The file is mapped read-only and stays mapped
+	 * until the filter is garbage collected; the file must not be modified meanwhile.
+	 */
+	public static <T> BloomFilterPredicate<T> map(Path path, ToLongFunction<? super T> hasher) throws IOException{
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)){
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+			if(buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != VERSION){
+				throw new IOException(path + " does not hold a Bloom filter");
+			}
+			int hashCount = buffer.getInt();
+			buffer.getInt();
+			long bitCount = buffer.getLong();
+			if(hashCount < 1 || bitCount <= 0 || (bitCount & 511) != 0 || buffer.remaining() != bitCount >>> 3){
+				throw new IOException(path + " holds a corrupt Bloom filter");
+			}
+
+			LongBuffer words = buffer.slice().order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+			return new BloomFilterPredicate<>(null, words, bitCount, hashCount, hasher);
+		}
+	}
+
+	//endregion
+
+	@Override
+	public String toString(){
+		String storage = mapped != null ? ", mapped}" : "}";
+		return "BloomFilterPredicate{" + bitCount + " bits, " + hashCount + " hashes" + storage;
+	}
+}
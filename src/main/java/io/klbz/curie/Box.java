@@ -28,7 +28,7 @@ public final class Box<T> {
 	}
 
 	@Override
-	public int hashCode(){ return Objects.hash(value); }
+	public int hashCode(){ return 31 + Objects.hashCode(value); }
 
 	@Override
 	public String toString(){ return "Box{" + value + '}'; }
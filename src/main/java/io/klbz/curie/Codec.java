@@ -0,0 +1,86 @@
+package io.klbz.curie;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * A binary encoding of values of one type, written to and read from a {@link ByteBuffer} at its position, with no
+ * intermediate byte arrays.
+ *
+ * Codecs compose: {@link #maybes} writes a tag byte and then, for a present value, its payload; {@link #eithers} a tag
+ * byte and then the left or right payload; {@link #pairs} the first payload and then the second; and {@link #units}
+ * nothing at all. Payload codecs for the values inside are supplied by the caller, built in for ints, longs, doubles,
+ * booleans and strings, or written by hand. Numbers use the byte order of the buffer, which must be the same for
+ * encoding and decoding.
+ *
+ * Encoding a value into a buffer without room for it throws {@link BufferOverflowException}, and decoding one from a
+ * buffer holding only part of it throws {@link BufferUnderflowException}; either way the buffer's position is left
+ * somewhere within the value. {@link CodecWriter} and {@link CodecReader} rely on this to stream long sequences of
+ * values through a fixed buffer.
+ */
+public interface Codec<T> {
+	/** Writes the given value at the buffer's position, advancing it past the value. */
+	void encode(T value, ByteBuffer out);
+
+	/** Reads a value at the buffer's position, advancing it past the value. */
+	T decode(ByteBuffer in);
+
+	/** A writer encoding values into the given channel, through a direct buffer of the given number of bytes. */
+	default CodecWriter<T> writer(WritableByteChannel channel, int bufferBytes){
+		return new CodecWriter<>(this, channel, bufferBytes);
+	}
+
+	/** A reader decoding values from the given channel, through a direct buffer of the given number of bytes. */
+	default CodecReader<T> reader(ReadableByteChannel channel, int bufferBytes){
+		return new CodecReader<>(this, channel, bufferBytes);
+	}
+
+	//region Payloads
+
+	/** Four bytes; rejects nulls. */
+	static Codec<Integer> ints(){ return Codecs.INTS; }
+
+	/** Eight bytes; rejects nulls. */
+	static Codec<Long> longs(){ return Codecs.LONGS; }
+
+	/** Eight bytes, bit for bit; rejects nulls. */
+	static Codec<Double> doubles(){ return Codecs.DOUBLES; }
+
+	/** One byte; rejects nulls. */
+	static Codec<Boolean> booleans(){ return Codecs.BOOLEANS; }
+
+	/** The length in UTF-8 bytes as a variable-length int, then those bytes; rejects nulls. */
+	static Codec<String> strings(){ return Codecs.STRINGS; }
+
+	//endregion
+
+	//region Curie values
+
+	/** No bytes at all. */
+	static Codec<Unit> units(){ return Codecs.UNITS; }
+
+	/** A tag byte, 0 for none or 1 for just, then the value's payload if present. */
+	static <T> Codec<Maybe<T>> maybes(Codec<T> values){ return new Codecs.MaybeCodec<>(values); }
+
+	/** A tag byte, 0 for left or 1 for right, then the payload of that side. */
+	static <L, R> Codec<Either<L, R>> eithers(Codec<L> lefts, Codec<R> rights){
+		return new Codecs.EitherCodec<>(lefts, rights);
+	}
+
+	/** The first payload, then the second. */
+	static <F, S> Codec<Pair<F, S>> pairs(Codec<F> firsts, Codec<S> seconds){
+		return new Codecs.PairCodec<>(firsts, seconds);
+	}
+
+	//endregion
+
+	/** Thrown when decoding bytes that no value of the codec could have been encoded as. */
+	class InvalidEncodingException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public InvalidEncodingException(String message){ super(message); }
+	}
+}
@@ -0,0 +1,102 @@
+package io.klbz.curie;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decodes a sequence of values, one after another, from a blocking channel. Values are decoded straight out of a
+ * fixed direct buffer, which is refilled from the channel whenever it holds only part of the next value, so a
+ * sequence of any length costs no more memory than the buffer. Each value must fit in the buffer on its own.
+ *
+ * Closing the reader closes the channel. A reader is not thread-safe.
+ */
+public final class CodecReader<T> implements Closeable {
+	private final Codec<T>            codec;
+	private final ReadableByteChannel channel;
+	private final ByteBuffer          buffer;
+	private boolean                   ended;
+	private long                      count;
+
+	CodecReader(Codec<T> codec, ReadableByteChannel channel, int bufferBytes){
+		this.codec = codec;
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+		buffer.flip();
+	}
+
+	/** Whether the channel holds another value, reading from it if need be. */
+	public boolean hasNext() throws IOException {
+		while(!buffer.hasRemaining() && !ended) fill();
+		return buffer.hasRemaining();
+	}
+
+	/**
+	 * The next value.
+	 *
+	 * @throws NoSuchElementException if the channel has ended
+	 * @throws EOFException if the channel ends within a value
+	 */
+	public T read() throws IOException {
+		if(!hasNext()) throw new NoSuchElementException("No value after the " + count + " read");
+		while(true){
+			int start = buffer.position();
+			try{
+				T value = codec.decode(buffer);
+				count++;
+				return value;
+			}
+			catch(BufferUnderflowException e){
+				buffer.position(start);
+				if(ended) throw new EOFException("The channel ends within value " + count);
+				if(start == 0 && buffer.limit() == buffer.capacity()){
+					throw new IllegalStateException("Value " + count + " needs more than the buffer's "
+					                                + buffer.capacity() + " bytes");
+				}
+				fill();
+			}
+		}
+	}
+
+	/** The number of values read so far. */
+	public long count(){ return count; }
+
+	/**
+	 * The values not yet read, as a sequential stream that reads them as it goes and throws
+	 * {@link UncheckedIOException} where {@link #read} would throw {@link IOException}.
+	 */
+	public Stream<T> stream(){
+		return StreamSupport.stream(new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+			@Override
+			public boolean tryAdvance(Consumer<? super T> action){
+				try{
+					if(!hasNext()) return false;
+					action.accept(read());
+					return true;
+				}
+				catch(IOException e){
+					throw new UncheckedIOException(e);
+				}
+			}
+		}, false);
+	}
+
+	@Override
+	public void close() throws IOException { channel.close(); }
+
+	private void fill() throws IOException {
+		buffer.compact();
+		if(channel.read(buffer) < 0) ended = true;
+		buffer.flip();
+	}
+}
@@ -0,0 +1,88 @@
+package io.klbz.curie;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Encodes a sequence of values, one after another, into a channel. Values are encoded straight into a fixed direct
+ * buffer, which is written to the channel whenever the next value does not fit in what is left of it, so a sequence
+ * of any length costs no more memory than the buffer. Each value must fit in the buffer on its own.
+ *
+ * Values written are only sure to have reached the channel once the writer is flushed or closed. Closing the writer
+ * closes the channel. A writer is not thread-safe.
+ */
+public final class CodecWriter<T> implements Closeable, Flushable {
+	private final Codec<T>            codec;
+	private final WritableByteChannel channel;
+	private final ByteBuffer          buffer;
+	private long                      count;
+
+	CodecWriter(Codec<T> codec, WritableByteChannel channel, int bufferBytes){
+		this.codec = codec;
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+	}
+
+	public CodecWriter<T> write(T value) throws IOException {
+		if(!tryEncode(value)){
+			drain();
+			if(!tryEncode(value)){
+				throw new IllegalArgumentException("Value " + value + " needs more than the buffer's "
+				                                   + buffer.capacity() + " bytes");
+			}
+		}
+		count++;
+		return this;
+	}
+
+	/**
+	 * Encodes the given value after those already in the buffer, returning false if it does not fit. A value that
+	 * does not fit, or whose encoding fails, leaves no bytes behind.
+	 */
+	private boolean tryEncode(T value){
+		int start = buffer.position();
+		try{
+			codec.encode(value, buffer);
+			return true;
+		}
+		catch(BufferOverflowException e){
+			buffer.position(start);
+			return false;
+		}
+		catch(RuntimeException e){
+			buffer.position(start);
+			throw e;
+		}
+	}
+
+	public CodecWriter<T> writeAll(Iterable<? extends T> values) throws IOException {
+		for(T value : values) write(value);
+		return this;
+	}
+
+	/** The number of values written so far. */
+	public long count(){ return count; }
+
+	@Override
+	public void flush() throws IOException { drain(); }
+
+	@Override
+	public void close() throws IOException {
+		try{
+			drain();
+		}
+		finally{
+			channel.close();
+		}
+	}
+
+	private void drain() throws IOException {
+		buffer.flip();
+		while(buffer.hasRemaining()) channel.write(buffer);
+		buffer.clear();
+	}
+}
@@ -0,0 +1,259 @@
+package io.klbz.curie;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/** The codecs built into {@link Codec}. */
+final class Codecs {
+	private Codecs(){}
+
+	private static final byte NONE  = 0;
+	private static final byte JUST  = 1;
+	static final byte         LEFT  = 0;
+	static final byte         RIGHT = 1;
+
+	//region Payloads
+
+	static final Codec<Integer> INTS = new Codec<Integer>() {
+		@Override
+		public void encode(Integer value, ByteBuffer out){ out.putInt(value); }
+
+		@Override
+		public Integer decode(ByteBuffer in){ return in.getInt(); }
+	};
+
+	static final Codec<Long> LONGS = new Codec<Long>() {
+		@Override
+		public void encode(Long value, ByteBuffer out){ out.putLong(value); }
+
+		@Override
+		public Long decode(ByteBuffer in){ return in.getLong(); }
+	};
+
+	static final Codec<Double> DOUBLES = new Codec<Double>() {
+		@Override
+		public void encode(Double value, ByteBuffer out){ out.putLong(Double.doubleToRawLongBits(value)); }
+
+		@Override
+		public Double decode(ByteBuffer in){ return Double.longBitsToDouble(in.getLong()); }
+	};
+
+	static final Codec<Boolean> BOOLEANS = new Codec<Boolean>() {
+		@Override
+		public void encode(Boolean value, ByteBuffer out){ out.put(value ? (byte) 1 : (byte) 0); }
+
+		@Override
+		public Boolean decode(ByteBuffer in){
+			byte b = in.get();
+			if(b == 0) return false;
+			if(b == 1) return true;
+			throw new Codec.InvalidEncodingException("Boolean byte " + b + " is neither 0 nor 1");
+		}
+	};
+
+	/**
+	 * Strings in UTF-8, written a char at a time straight into the buffer. A surrogate without its other half is
+	 * written as {@code '?'}, as {@link String#getBytes} does.
+	 */
+	static final Codec<String> STRINGS = new Codec<String>() {
+		@Override
+		public void encode(String value, ByteBuffer out){
+			int length = value.length();
+			int bytes = utf8Length(value);
+			putVarInt(bytes, out);
+			if(out.remaining() < bytes) throw new BufferOverflowException();
+
+			for(int i = 0; i < length; i++){
+				char c = value.charAt(i);
+				if(c < 0x80) out.put((byte) c);
+				else if(c < 0x800){
+					out.put((byte) (0xC0 | c >>> 6));
+					out.put((byte) (0x80 | c & 0x3F));
+				}
+				else if(!Character.isSurrogate(c)){
+					out.put((byte) (0xE0 | c >>> 12));
+					out.put((byte) (0x80 | c >>> 6 & 0x3F));
+					out.put((byte) (0x80 | c & 0x3F));
+				}
+				else if(isPairAt(value, i)){
+					int codePoint = Character.toCodePoint(c, value.charAt(++i));
+					out.put((byte) (0xF0 | codePoint >>> 18));
+					out.put((byte) (0x80 | codePoint >>> 12 & 0x3F));
+					out.put((byte) (0x80 | codePoint >>> 6 & 0x3F));
+					out.put((byte) (0x80 | codePoint & 0x3F));
+				}
+				else out.put((byte) '?');
+			}
+		}
+
+		@Override
+		public String decode(ByteBuffer in){
+			int bytes = getVarInt(in);
+			if(in.remaining() < bytes) throw new BufferUnderflowException();
+
+			char[] chars = new char[bytes];
+			int length = 0;
+			for(int end = in.position() + bytes; in.position() < end; ){
+				int b = in.get() & 0xFF;
+				if(b < 0x80) chars[length++] = (char) b;
+				else if(b >= 0xC0 && b < 0xE0 && end - in.position() >= 1){
+					chars[length++] = (char) ((b & 0x1F) << 6 | continuation(in));
+				}
+				else if(b >= 0xE0 && b < 0xF0 && end - in.position() >= 2){
+					chars[length++] = (char) ((b & 0x0F) << 12 | continuation(in) << 6 | continuation(in));
+				}
+				else if(b >= 0xF0 && b < 0xF8 && end - in.position() >= 3){
+					int codePoint = (b & 0x07) << 18 | continuation(in) << 12;
+					codePoint |= continuation(in) << 6 | continuation(in);
+					if(!Character.isSupplementaryCodePoint(codePoint)) throw invalidUtf8(b);
+					chars[length++] = Character.highSurrogate(codePoint);
+					chars[length++] = Character.lowSurrogate(codePoint);
+				}
+				else throw invalidUtf8(b);
+			}
+			return new String(chars, 0, length);
+		}
+	};
+
+	private static int utf8Length(String value){
+		int length = value.length();
+		int bytes = length;
+		for(int i = 0; i < length; i++){
+			char c = value.charAt(i);
+			if(c < 0x80) continue;
+			if(c < 0x800) bytes += 1;
+			else if(!Character.isSurrogate(c)) bytes += 2;
+			else if(isPairAt(value, i)){
+				bytes += 2;
+				i++;
+			}
+		}
+		return bytes;
+	}
+
+	private static boolean isPairAt(String value, int index){
+		return Character.isHighSurrogate(value.charAt(index))
+		       && index + 1 < value.length()
+		       && Character.isLowSurrogate(value.charAt(index + 1));
+	}
+
+	private static int continuation(ByteBuffer in){
+		int b = in.get() & 0xFF;
+		if((b & 0xC0) != 0x80) throw invalidUtf8(b);
+		return b & 0x3F;
+	}
+
+	private static Codec.InvalidEncodingException invalidUtf8(int b){
+		return new Codec.InvalidEncodingException("Byte " + b + " is out of place in UTF-8");
+	}
+
+	/** Seven bits to a byte, least significant first, with the high bit set on every byte but the last. */
+	static void putVarInt(int value, ByteBuffer out){
+		for(; (value & ~0x7F) != 0; value >>>= 7) out.put((byte) (value & 0x7F | 0x80));
+		out.put((byte) value);
+	}
+
+	/** Reads a non-negative int written by {@link #putVarInt}. */
+	static int getVarInt(ByteBuffer in){
+		int value = 0;
+		for(int shift = 0; shift < 32; shift += 7){
+			byte b = in.get();
+			value |= (b & 0x7F) << shift;
+			if(b >= 0){
+				if(value < 0) throw new Codec.InvalidEncodingException("Length " + value + " is negative");
+				return value;
+			}
+		}
+		throw new Codec.InvalidEncodingException("Variable-length int runs past five bytes");
+	}
+
+	//endregion
+
+	//region Curie values
+
+	static final Codec<Unit> UNITS = new Codec<Unit>() {
+		@Override
+		public void encode(Unit value, ByteBuffer out){}
+
+		@Override
+		public Unit decode(ByteBuffer in){ return Unit.unit(); }
+	};
+
+	static final class MaybeCodec<T> implements Codec<Maybe<T>> {
+		private final Codec<T> values;
+
+		MaybeCodec(Codec<T> values){ this.values = values; }
+
+		@Override
+		public void encode(Maybe<T> value, ByteBuffer out){
+			if(value instanceof Maybe.Just){
+				out.put(JUST);
+				values.encode(value.assume(), out);
+			}
+			else out.put(NONE);
+		}
+
+		@Override
+		public Maybe<T> decode(ByteBuffer in){
+			byte tag = in.get();
+			if(tag == JUST) return Maybe.just(values.decode(in));
+			if(tag == NONE) return Maybe.none();
+			throw new Codec.InvalidEncodingException("Maybe tag " + tag + " is neither " + NONE + " nor " + JUST);
+		}
+	}
+
+	static final class EitherCodec<L, R> implements Codec<Either<L, R>> {
+		private final Codec<L> lefts;
+		private final Codec<R> rights;
+
+		EitherCodec(Codec<L> lefts, Codec<R> rights){
+			this.lefts = lefts;
+			this.rights = rights;
+		}
+
+		@Override
+		public void encode(Either<L, R> value, ByteBuffer out){
+			if(value instanceof Either.Right){
+				out.put(RIGHT);
+				rights.encode(value.assumeR(), out);
+			}
+			else{
+				out.put(LEFT);
+				lefts.encode(value.assumeL(), out);
+			}
+		}
+
+		@Override
+		public Either<L, R> decode(ByteBuffer in){
+			byte tag = in.get();
+			if(tag == RIGHT) return Either.right(rights.decode(in));
+			if(tag == LEFT) return Either.left(lefts.decode(in));
+			throw new Codec.InvalidEncodingException("Either tag " + tag + " is neither " + LEFT + " nor " + RIGHT);
+		}
+	}
+
+	static final class PairCodec<F, S> implements Codec<Pair<F, S>> {
+		private final Codec<F> firsts;
+		private final Codec<S> seconds;
+
+		PairCodec(Codec<F> firsts, Codec<S> seconds){
+			this.firsts = firsts;
+			this.seconds = seconds;
+		}
+
+		@Override
+		public void encode(Pair<F, S> value, ByteBuffer out){
+			firsts.encode(value.isolateFirst(), out);
+			seconds.encode(value.isolateSecond(), out);
+		}
+
+		@Override
+		public Pair<F, S> decode(ByteBuffer in){
+			F first = firsts.decode(in);
+			return Pair.of(first, seconds.decode(in));
+		}
+	}
+
+	//endregion
+}
@@ -0,0 +1,124 @@
+package io.klbz.curie;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable array of values backing one component of a columnar collection such as {@link PairArray}.
+ *
+ * {@link #pack} stores values that are all non-null {@link Integer}s, {@link Long}s or {@link Double}s unboxed in a
+ * primitive array, and anything else as references; unboxed values are boxed again only as they are read. Doubles
+ * are stored bit for bit, so that {@code -0.0} and {@code NaN} read back equal to what was packed.
+ */
+abstract class Column {
+	private Column(){}
+
+	abstract int size();
+
+	abstract Object get(int index);
+
+	/** This column as an unmodifiable list. */
+	<T> List<T> asList(){ return new ColumnList<>(this); }
+
+	/** A column of the first {@code size} of the given values, which it may keep rather than copy. */
+	static Column pack(Object[] values, int size){
+		if(size > 0 && allOf(values, size, Integer.class)){
+			int[] ints = new int[size];
+			for(int i = 0; i < size; i++) ints[i] = (Integer) values[i];
+			return new IntColumn(ints);
+		}
+		if(size > 0 && allOf(values, size, Long.class)){
+			long[] longs = new long[size];
+			for(int i = 0; i < size; i++) longs[i] = (Long) values[i];
+			return new LongColumn(longs);
+		}
+		if(size > 0 && allOf(values, size, Double.class)){
+			double[] doubles = new double[size];
+			for(int i = 0; i < size; i++) doubles[i] = (Double) values[i];
+			return new DoubleColumn(doubles);
+		}
+		return new ObjColumn(values.length == size ? values : Arrays.copyOf(values, size));
+	}
+
+	/** A column of the given values, which it keeps rather than copies. */
+	static Column of(int[] values){ return new IntColumn(values); }
+
+	static Column of(long[] values){ return new LongColumn(values); }
+
+	static Column of(double[] values){ return new DoubleColumn(values); }
+
+	private static boolean allOf(Object[] values, int size, Class<?> type){
+		for(int i = 0; i < size; i++){
+			if(values[i] == null || values[i].getClass() != type) return false;
+		}
+		return true;
+	}
+
+	private static final class ColumnList<T> extends AbstractList<T> implements RandomAccess {
+		private final Column column;
+
+		private ColumnList(Column column){ this.column = column; }
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T get(int index){
+			if(index < 0 || index >= column.size()){
+				throw new IndexOutOfBoundsException("Index " + index + " of " + column.size());
+			}
+			return (T) column.get(index);
+		}
+
+		@Override
+		public int size(){ return column.size(); }
+	}
+
+	private static final class ObjColumn extends Column {
+		private final Object[] values;
+
+		private ObjColumn(Object[] values){ this.values = values; }
+
+		@Override
+		int size(){ return values.length; }
+
+		@Override
+		Object get(int index){ return values[index]; }
+	}
+
+	private static final class IntColumn extends Column {
+		private final int[] values;
+
+		private IntColumn(int[] values){ this.values = values; }
+
+		@Override
+		int size(){ return values.length; }
+
+		@Override
+		Object get(int index){ return values[index]; }
+	}
+
+	private static final class LongColumn extends Column {
+		private final long[] values;
+
+		private LongColumn(long[] values){ this.values = values; }
+
+		@Override
+		int size(){ return values.length; }
+
+		@Override
+		Object get(int index){ return values[index]; }
+	}
+
+	private static final class DoubleColumn extends Column {
+		private final double[] values;
+
+		private DoubleColumn(double[] values){ this.values = values; }
+
+		@Override
+		int size(){ return values.length; }
+
+		@Override
+		Object get(int index){ return values[index]; }
+	}
+}
@@ -0,0 +1,125 @@
+package io.klbz.curie;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+
+/**
+ * A predicate whose combinator tree has been rewritten into a single {@link MethodHandle}, produced by
+ * {@link Predicate#compile()}.
+ *
+ * Composites such as {@link Predicate.AllOf} evaluate every rule through the same few call sites, which turn
+ * megamorphic once enough differently-shaped rules pass through them. Compiling replaces the tree with a chain of
+ * {@code guardWithTest} and {@code filterReturnValue} combinators whose leaves are bound to their clause; once a
+ * compiled predicate is hot, the JVM customizes its handle into bytecode of its own, so each rule gets its own
+ * monomorphic, inlinable code instead of sharing the composites'.
+ *
+ * Composites wider than {@link #MAX_INLINED_CLAUSES} keep their loop, over compiled clauses, to bound the size of
+ * the generated code.
+ */
+final class CompiledPredicate<T> implements Predicate<T> {
+	static final int MAX_INLINED_CLAUSES = 32;
+
+	private static final MethodType   TEST_TYPE = MethodType.methodType(boolean.class, Object.class);
+	private static final MethodHandle TEST;
+	private static final MethodHandle NOT;
+	private static final MethodHandle ALWAYS_TRUE;
+	private static final MethodHandle ALWAYS_FALSE;
+
+	static{
+		try{
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			TEST = lookup.findVirtual(java.util.function.Predicate.class, "test", TEST_TYPE);
+			NOT = lookup.findStatic(
+					CompiledPredicate.class,
+					"not",
+					MethodType.methodType(boolean.class, boolean.class));
+		}
+		catch(NoSuchMethodException | IllegalAccessException e){
+			throw new ExceptionInInitializerError(e);
+		}
+		ALWAYS_TRUE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Object.class);
+		ALWAYS_FALSE = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Object.class);
+	}
+
+	private final MethodHandle handle;
+
+	private CompiledPredicate(MethodHandle handle){ this.handle = handle; }
+
+	@SuppressWarnings("unchecked")
+	static <T> Predicate<T> compile(java.util.function.Predicate<? super T> predicate){
+		Objects.requireNonNull(predicate);
+		if(predicate instanceof CompiledPredicate) return (Predicate<T>) predicate;
+		return new CompiledPredicate<>(handleFor(predicate));
+	}
+
+	@Override
+	public boolean test(T t){
+		try{
+			return (boolean) handle.invokeExact((Object) t);
+		}
+		catch(RuntimeException | Error e){
+			throw e;
+		}
+		catch(Throwable e){
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static MethodHandle handleFor(java.util.function.Predicate<?> predicate){
+		if(predicate instanceof CompiledPredicate) return ((CompiledPredicate<?>) predicate).handle;
+
+		if(predicate instanceof Predicate.Constant){
+			return ((Predicate.Constant<?>) predicate).value() ? ALWAYS_TRUE : ALWAYS_FALSE;
+		}
+
+		if(predicate instanceof Predicate.AllOf) return allOf(((Predicate.AllOf<?>) predicate).clauses());
+
+		if(predicate instanceof Predicate.AnyOf) return anyOf(((Predicate.AnyOf<?>) predicate).clauses());
+
+		if(predicate instanceof Predicate.Not){
+			return MethodHandles.filterReturnValue(handleFor(((Predicate.Not<?>) predicate).negated()), NOT);
+		}
+
+		if(predicate instanceof Predicate.Xor){
+			Predicate.Xor<?> xor = (Predicate.Xor<?>) predicate;
+			MethodHandle right = handleFor(xor.right());
+			return MethodHandles.guardWithTest(
+					handleFor(xor.left()),
+					MethodHandles.filterReturnValue(right, NOT),
+					right);
+		}
+
+		return TEST.bindTo(predicate);
+	}
+
+	private static MethodHandle allOf(java.util.function.Predicate<?>[] clauses){
+		if(clauses.length > MAX_INLINED_CLAUSES) return TEST.bindTo(Predicate.allOf(compileEach(clauses)));
+
+		MethodHandle handle = ALWAYS_TRUE;
+		for(int i = clauses.length - 1; i >= 0; i--){
+			handle = MethodHandles.guardWithTest(handleFor(clauses[i]), handle, ALWAYS_FALSE);
+		}
+		return handle;
+	}
+
+	private static MethodHandle anyOf(java.util.function.Predicate<?>[] clauses){
+		if(clauses.length > MAX_INLINED_CLAUSES) return TEST.bindTo(Predicate.anyOf(compileEach(clauses)));
+
+		MethodHandle handle = ALWAYS_FALSE;
+		for(int i = clauses.length - 1; i >= 0; i--){
+			handle = MethodHandles.guardWithTest(handleFor(clauses[i]), ALWAYS_TRUE, handle);
+		}
+		return handle;
+	}
+
+	private static Predicate<Object>[] compileEach(java.util.function.Predicate<?>[] clauses){
+		@SuppressWarnings("unchecked")
+		Predicate<Object>[] compiled = (Predicate<Object>[]) new Predicate<?>[clauses.length];
+		for(int i = 0; i < clauses.length; i++) compiled[i] = new CompiledPredicate<>(handleFor(clauses[i]));
+		return compiled;
+	}
+
+	private static boolean not(boolean value){ return !value; }
+}
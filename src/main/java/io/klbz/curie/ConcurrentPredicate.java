@@ -0,0 +1,130 @@
+package io.klbz.curie;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A disjunction or conjunction whose clauses are tested concurrently on an executor, for clauses slow enough, such as
+ * calls to a local store or model, that testing them one after another would add their latencies together.
+ *
+ * A disjunction is decided by the first clause to accept, and a conjunction by the first to reject; the clauses still
+ * running are then cancelled, interrupting them, so the latency of a test is that of its fastest deciding clause, or
+ * of its slowest clause if none decides. Should a clause throw first instead, the test throws likewise.
+ *
+ * Unlike {@link Predicate#anyOf} and {@link Predicate#allOf}, every clause is started, so clauses must not rely on
+ * earlier clauses to guard them; and each test costs one task per clause, which only pays off for clauses that block.
+ * The default executor runs each task on a virtual thread where the JVM offers them, and otherwise on a pool of
+ * daemon threads.
+ */
+public final class ConcurrentPredicate<T> implements Predicate<T> {
+	private final java.util.function.Predicate<? super T>[] clauses;
+	private final boolean                                   decidingAnswer;
+	private final ExecutorService                           executor;
+
+	private ConcurrentPredicate(
+			java.util.function.Predicate<? super T>[] clauses,
+			boolean decidingAnswer,
+			ExecutorService executor){
+
+		for(java.util.function.Predicate<? super T> clause : clauses) Objects.requireNonNull(clause);
+		this.clauses = clauses.clone();
+		this.decidingAnswer = decidingAnswer;
+		this.executor = Objects.requireNonNull(executor);
+	}
+
+	//region Construction
+
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> ConcurrentPredicate<T> anyOf(java.util.function.Predicate<? super T>... clauses){
+		return anyOf(DefaultExecutor.INSTANCE, clauses);
+	}
+
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> ConcurrentPredicate<T> anyOf(
+			ExecutorService executor,
+			java.util.function.Predicate<? super T>... clauses){
+
+		return new ConcurrentPredicate<>(clauses, true, executor);
+	}
+
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> ConcurrentPredicate<T> allOf(java.util.function.Predicate<? super T>... clauses){
+		return allOf(DefaultExecutor.INSTANCE, clauses);
+	}
+
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <T> ConcurrentPredicate<T> allOf(
+			ExecutorService executor,
+			java.util.function.Predicate<? super T>... clauses){
+
+		return new ConcurrentPredicate<>(clauses, false, executor);
+	}
+
+	//endregion
+
+	@Override
+	public boolean test(T t){
+		if(clauses.length == 0) return !decidingAnswer;
+
+		CompletableFuture<Boolean> decision = new CompletableFuture<>();
+		AtomicInteger undecided = new AtomicInteger(clauses.length);
+		Future<?>[] tasks = new Future<?>[clauses.length];
+		try{
+			for(int i = 0; i < clauses.length && !decision.isDone(); i++){
+				java.util.function.Predicate<? super T> clause = clauses[i];
+				tasks[i] = executor.submit(() -> {
+					try{
+						if(clause.test(t) == decidingAnswer) decision.complete(decidingAnswer);
+						else if(undecided.decrementAndGet() == 0) decision.complete(!decidingAnswer);
+					}
+					catch(Throwable e){
+						decision.completeExceptionally(e);
+					}
+				});
+			}
+			return decision.get();
+		}
+		catch(InterruptedException e){
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while testing concurrent clauses", e);
+		}
+		catch(ExecutionException e){
+			Throwable cause = e.getCause();
+			if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+			if(cause instanceof Error) throw (Error) cause;
+			throw new IllegalStateException(cause);
+		}
+		finally{
+			for(Future<?> task : tasks){
+				if(task != null) task.cancel(true);
+			}
+		}
+	}
+
+	/** Runs each task on a virtual thread where the JVM offers them, and otherwise on a pool of daemon threads. */
+	private static final class DefaultExecutor {
+		private static final ExecutorService INSTANCE = create();
+
+		private static ExecutorService create(){
+			try{
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			}
+			catch(ReflectiveOperationException e){
+				return Executors.newCachedThreadPool(task -> {
+					Thread thread = new Thread(task, "curie-concurrent-predicate");
+					thread.setDaemon(true);
+					return thread;
+				});
+			}
+		}
+	}
+}
@@ -9,12 +9,10 @@ public final class Conversion {
 	public static <T> Either<T, Unit> maybeToEither(Maybe<T> maybe){
 		return maybe
 				.map(Either::<T, Unit>left)
-				.collapse(right(unit()));
+				.collapse(() -> right(unit()));
 	}
 
 	public static <L, R> Pair<Maybe<L>, Maybe<R>> eitherToPair(Either<L, R> either) {
-		return Pair
-				.of(either.isolateL())
-				.and(either.isolateR());
+		return Pair.of(either.isolateL(), either.isolateR());
 	}
 }
@@ -0,0 +1,152 @@
+package io.klbz.curie;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A double-specialized {@link Pair}: both components are stored unboxed, so a pair costs a single small object.
+ * Hashes agree with those of the equivalent boxed Pair, and components compare as {@link Double#equals} does.
+ */
+public final class DoublePair {
+	private final double first;
+	private final double second;
+
+	private DoublePair(double first, double second){
+		this.first = first;
+		this.second = second;
+	}
+
+	public static DoublePair of(double first, double second){ return new DoublePair(first, second); }
+
+	public DoublePair replaceFirst(double newFirst){ return of(newFirst, second); }
+
+	public DoublePair replaceSecond(double newSecond){ return of(first, newSecond); }
+
+	public FirstFocus focusFirst(){ return new FirstFocus(this); }
+
+	public SecondFocus focusSecond(){ return new SecondFocus(this); }
+
+	public double isolateFirst(){ return first; }
+
+	public double isolateSecond(){ return second; }
+
+	public DoublePair mapFirst(DoubleUnaryOperator f){ return of(f.applyAsDouble(first), second); }
+
+	public DoublePair mapSecond(DoubleUnaryOperator f){ return of(first, f.applyAsDouble(second)); }
+
+	public <T> T collapse(DoubleBiFunction<T> f){ return f.apply(first, second); }
+
+	public double collapseToDouble(DoubleBinaryOperator f){ return f.applyAsDouble(first, second); }
+
+	public boolean satisfies(DoubleBiPredicate p){ return p.test(first, second); }
+
+	public DoublePair withFirstDo(DoubleConsumer doF){
+		doF.accept(first);
+		return this;
+	}
+
+	public DoublePair withSecondDo(DoubleConsumer doF){
+		doF.accept(second);
+		return this;
+	}
+
+	public DoublePair withBothDo(DoubleBiConsumer doF){
+		doF.accept(first, second);
+		return this;
+	}
+
+	public Pair<Double, Double> boxed(){ return Pair.of(first, second); }
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null) return false;
+
+		if(o.getClass() == FirstFocus.class) return equals(((FirstFocus) o).pair);
+
+		if(o.getClass() == SecondFocus.class) return equals(((SecondFocus) o).pair);
+
+		if(getClass() != o.getClass()) return false;
+
+		DoublePair pair = (DoublePair) o;
+		return Double.compare(first, pair.first) == 0 && Double.compare(second, pair.second) == 0;
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Double.hashCode(first)) + Double.hashCode(second); }
+
+	@Override
+	public String toString(){ return "DoublePair{" + first + "," + second + '}'; }
+
+	@FunctionalInterface
+	public interface DoubleBiFunction<T> {
+		T apply(double first, double second);
+	}
+
+	@FunctionalInterface
+	public interface DoubleBiPredicate {
+		boolean test(double first, double second);
+	}
+
+	@FunctionalInterface
+	public interface DoubleBiConsumer {
+		void accept(double first, double second);
+	}
+
+	public static final class FirstFocus {
+		private final DoublePair pair;
+
+		private FirstFocus(DoublePair pair){ this.pair = pair; }
+
+		public DoublePair unfocus(){ return pair; }
+
+		public FirstFocus replace(double newFirst){ return pair.replaceFirst(newFirst).focusFirst(); }
+
+		public double isolate(){ return pair.first; }
+
+		public FirstFocus map(DoubleUnaryOperator f){ return pair.mapFirst(f).focusFirst(); }
+
+		public FirstFocus withDo(DoubleConsumer doF){
+			pair.withFirstDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "FirstFocus{" + pair + '}'; }
+	}
+
+	public static final class SecondFocus {
+		private final DoublePair pair;
+
+		private SecondFocus(DoublePair pair){ this.pair = pair; }
+
+		public DoublePair unfocus(){ return pair; }
+
+		public SecondFocus replace(double newSecond){ return pair.replaceSecond(newSecond).focusSecond(); }
+
+		public double isolate(){ return pair.second; }
+
+		public SecondFocus map(DoubleUnaryOperator f){ return pair.mapSecond(f).focusSecond(); }
+
+		public SecondFocus withDo(DoubleConsumer doF){
+			pair.withSecondDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "SecondFocus{" + pair + '}'; }
+	}
+}
@@ -0,0 +1,177 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A double-specialized {@link PairArray}: bulk operations take the functional interfaces of {@link DoublePair}, so
+ * a scan reads its two columns without boxing a single component. {@link #boxed} shares both columns with the
+ * PairArray it returns, and hashes agree with it. Components compare as {@link Double#equals} does.
+ */
+public final class DoublePairArray implements Iterable<DoublePair> {
+	private final double[] firsts;
+	private final double[] seconds;
+
+	DoublePairArray(double[] firsts, double[] seconds){
+		this.firsts = firsts;
+		this.seconds = seconds;
+	}
+
+	public static DoublePairArray of(double[] firsts, double[] seconds){
+		if(firsts.length != seconds.length){
+			throw new IllegalArgumentException(firsts.length + " first components but " + seconds.length + " second");
+		}
+		return new DoublePairArray(firsts.clone(), seconds.clone());
+	}
+
+	//region Access
+
+	public int size(){ return firsts.length; }
+
+	public boolean isEmpty(){ return firsts.length == 0; }
+
+	public DoublePair get(int index){ return DoublePair.of(firsts[index], seconds[index]); }
+
+	public double first(int index){ return firsts[index]; }
+
+	public double second(int index){ return seconds[index]; }
+
+	public double[] firsts(){ return firsts.clone(); }
+
+	public double[] seconds(){ return seconds.clone(); }
+
+	//endregion
+
+	//region Bulk operations
+
+	public DoublePairArray mapFirst(DoubleUnaryOperator f){ return new DoublePairArray(map(firsts, f), seconds); }
+
+	public DoublePairArray mapSecond(DoubleUnaryOperator f){ return new DoublePairArray(firsts, map(seconds, f)); }
+
+	private static double[] map(double[] column, DoubleUnaryOperator f){
+		double[] mapped = new double[column.length];
+		for(int i = 0; i < mapped.length; i++) mapped[i] = f.applyAsDouble(column[i]);
+		return mapped;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> List<T> collapse(DoublePair.DoubleBiFunction<T> f){
+		Object[] collapsed = new Object[firsts.length];
+		for(int i = 0; i < collapsed.length; i++) collapsed[i] = f.apply(firsts[i], seconds[i]);
+		return (List<T>) Collections.unmodifiableList(Arrays.asList(collapsed));
+	}
+
+	public double[] collapseToDouble(DoubleBinaryOperator f){
+		double[] collapsed = new double[firsts.length];
+		for(int i = 0; i < collapsed.length; i++) collapsed[i] = f.applyAsDouble(firsts[i], seconds[i]);
+		return collapsed;
+	}
+
+	/** Tests each pair in turn, selecting the indexes of those satisfying the predicate. */
+	public Selection satisfies(DoublePair.DoubleBiPredicate p){
+		long[] words = new long[(firsts.length + 63) >>> 6];
+		for(int i = 0; i < firsts.length; i++){
+			if(p.test(firsts[i], seconds[i])) words[i >>> 6] |= 1L << i;
+		}
+		return new Selection(words, firsts.length);
+	}
+
+	public DoublePairArray withBothDo(DoublePair.DoubleBiConsumer doF){
+		for(int i = 0; i < firsts.length; i++) doF.accept(firsts[i], seconds[i]);
+		return this;
+	}
+
+	public PairArray<Double, Double> boxed(){ return PairArray.ofColumns(Column.of(firsts), Column.of(seconds)); }
+
+	//endregion
+
+	//region Iteration
+
+	@Override
+	public Iterator<DoublePair> iterator(){ return Spliterators.iterator(spliterator()); }
+
+	/** A spliterator over the pairs, creating each as it is reached, that splits its index range in halves. */
+	@Override
+	public Spliterator<DoublePair> spliterator(){ return new PairSpliterator(0, firsts.length); }
+
+	public Stream<DoublePair> stream(){ return StreamSupport.stream(spliterator(), false); }
+
+	public Stream<DoublePair> parallelStream(){ return StreamSupport.stream(spliterator(), true); }
+
+	private final class PairSpliterator implements Spliterator<DoublePair> {
+		private       int index;
+		private final int end;
+
+		private PairSpliterator(int index, int end){
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super DoublePair> action){
+			if(index >= end) return false;
+			action.accept(get(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super DoublePair> action){
+			for(; index < end; index++) action.accept(get(index));
+		}
+
+		@Override
+		public Spliterator<DoublePair> trySplit(){
+			int middle = (index + end) >>> 1;
+			if(middle <= index) return null;
+			PairSpliterator prefix = new PairSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize(){ return end - index; }
+
+		@Override
+		public int characteristics(){ return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE; }
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		DoublePairArray that = (DoublePairArray) o;
+		return Arrays.equals(firsts, that.firsts) && Arrays.equals(seconds, that.seconds);
+	}
+
+	/** The hash of the list of the boxed pairs. */
+	@Override
+	public int hashCode(){
+		int hash = 1;
+		for(int i = 0; i < firsts.length; i++){
+			hash = 31 * hash + 31 * (31 + Double.hashCode(firsts[i])) + Double.hashCode(seconds[i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder builder = new StringBuilder("DoublePairArray[");
+		for(int i = 0; i < firsts.length; i++){
+			if(i > 0) builder.append(", ");
+			builder.append(get(i));
+		}
+		return builder.append(']').toString();
+	}
+}
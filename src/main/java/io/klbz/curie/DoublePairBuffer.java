@@ -0,0 +1,130 @@
+package io.klbz.curie;
+
+import java.nio.ByteBuffer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * An {@link OffHeapBuffer} of double pairs, each stored as two adjacent doubles. Pairs are read as {@link DoublePair}s
+ * or component by component, and bulk operations scan the buffer in place, updating or testing every pair
+ * without bringing it onto the heap.
+ */
+public final class DoublePairBuffer extends OffHeapBuffer {
+	private static final int BYTES = 2 * Double.BYTES;
+
+	private DoublePairBuffer(int capacity){ super(capacity, BYTES, 0); }
+
+	public static DoublePairBuffer allocate(int capacity){ return new DoublePairBuffer(capacity); }
+
+	//region Access
+
+	public DoublePairBuffer add(double first, double second){
+		int index = append();
+		memory().putDouble(index * BYTES, first).putDouble(index * BYTES + Double.BYTES, second);
+		return this;
+	}
+
+	public DoublePairBuffer add(DoublePair pair){ return add(pair.isolateFirst(), pair.isolateSecond()); }
+
+	public DoublePairBuffer set(int index, double first, double second){
+		checkIndex(index);
+		memory().putDouble(index * BYTES, first).putDouble(index * BYTES + Double.BYTES, second);
+		return this;
+	}
+
+	public DoublePair get(int index){ return DoublePair.of(first(index), second(index)); }
+
+	public double first(int index){
+		checkIndex(index);
+		return memory().getDouble(index * BYTES);
+	}
+
+	public double second(int index){
+		checkIndex(index);
+		return memory().getDouble(index * BYTES + Double.BYTES);
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	/** Replaces the first component of every pair with the result of applying the given function to it. */
+	public DoublePairBuffer updateFirst(DoubleUnaryOperator f){ return update(0, f); }
+
+	/** Replaces the second component of every pair with the result of applying the given function to it. */
+	public DoublePairBuffer updateSecond(DoubleUnaryOperator f){ return update(Double.BYTES, f); }
+
+	private DoublePairBuffer update(int offset, DoubleUnaryOperator f){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int i = 0, at = offset; i < size; i++, at += BYTES){
+				memory.putDouble(at, f.applyAsDouble(memory.getDouble(at)));
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	public double[] collapseToDouble(DoubleBinaryOperator f){
+		ByteBuffer memory = beginScan();
+		try{
+			double[] collapsed = new double[size];
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				collapsed[i] = f.applyAsDouble(memory.getDouble(at), memory.getDouble(at + Double.BYTES));
+			}
+			return collapsed;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Tests each pair in turn, selecting the indexes of those satisfying the predicate. */
+	public Selection satisfies(DoublePair.DoubleBiPredicate p){
+		ByteBuffer memory = beginScan();
+		try{
+			long[] words = new long[(size + 63) >>> 6];
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				if(p.test(memory.getDouble(at), memory.getDouble(at + Double.BYTES))) words[i >>> 6] |= 1L << i;
+			}
+			return new Selection(words, size);
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	public DoublePairBuffer withBothDo(DoublePair.DoubleBiConsumer doF){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				doF.accept(memory.getDouble(at), memory.getDouble(at + Double.BYTES));
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Copies the pairs onto the heap. */
+	public DoublePairArray toArray(){
+		ByteBuffer memory = memory();
+		double[] firsts = new double[size];
+		double[] seconds = new double[size];
+		for(int i = 0, at = 0; i < size; i++, at += BYTES){
+			firsts[i] = memory.getDouble(at);
+			seconds[i] = memory.getDouble(at + Double.BYTES);
+		}
+		return new DoublePairArray(firsts, seconds);
+	}
+
+	//endregion
+
+	@Override
+	public String toString(){
+		return isClosed() ? "DoublePairBuffer{closed}" : "DoublePairBuffer{" + size() + " of " + capacity() + '}';
+	}
+}
@@ -0,0 +1,122 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static io.klbz.curie.DoubleSatisfaction.dissatisfies;
+import static io.klbz.curie.DoubleSatisfaction.satisfies;
+
+/**
+ * A double-specialized {@link Predicate}: the same combinators and constructors, applied to unboxed values.
+ */
+public interface DoublePredicate extends java.util.function.DoublePredicate {
+
+	//region Common Predicates
+
+	static DoublePredicate everTrue(){ return x -> true; }
+
+	static DoublePredicate everFalse(){ return x -> false; }
+
+	/** Tests for equality as {@link Double#equals} does, so NaN equals NaN and 0.0 differs from -0.0. */
+	static DoublePredicate isEqual(double target){ return x -> Double.compare(x, target) == 0; }
+
+	static DoublePredicate isGreaterThan(double bound){ return DoubleRangeSet.greaterThan(bound); }
+
+	static DoublePredicate isAtLeast(double bound){ return DoubleRangeSet.between(bound, Double.POSITIVE_INFINITY); }
+
+	static DoublePredicate isLessThan(double bound){ return DoubleRangeSet.lessThan(bound); }
+
+	static DoublePredicate isAtMost(double bound){ return DoubleRangeSet.between(Double.NEGATIVE_INFINITY, bound); }
+
+	/** Tests whether a value lies within the given bounds, inclusive of both. */
+	static DoublePredicate isBetween(double lowerBound, double upperBound){
+		return DoubleRangeSet.between(lowerBound, upperBound);
+	}
+
+	/** Tests for membership under the same equality as {@link #isEqual(double)}. */
+	static DoublePredicate isIn(double... values){
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return x -> Arrays.binarySearch(sorted, x) >= 0;
+	}
+
+	//endregion
+
+	//region Construction
+
+	static DoublePredicate is(DoublePredicate p){ return p; }
+
+	static DoublePredicate isNot(DoublePredicate p){ return p.negate(); }
+
+	static DoublePredicate enrich(java.util.function.DoublePredicate base){
+		return base instanceof DoublePredicate ? (DoublePredicate) base : base::test;
+	}
+
+	//endregion
+
+	//region Aggregation
+
+	@Override
+	default DoublePredicate and(java.util.function.DoublePredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) && other.test(x);
+	}
+
+	@Override
+	default DoublePredicate or(java.util.function.DoublePredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) || other.test(x);
+	}
+
+	default DoublePredicate xor(java.util.function.DoublePredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) ^ other.test(x);
+	}
+
+	static DoublePredicate allOf(java.util.function.DoublePredicate... predicates){
+		java.util.function.DoublePredicate[] clauses = DoubleRangeSet.mergeRuns(predicates, false);
+		if(clauses.length == 1) return enrich(clauses[0]);
+
+		return x -> {
+			for(java.util.function.DoublePredicate clause : clauses){
+				if(!clause.test(x)) return false;
+			}
+			return true;
+		};
+	}
+
+	static DoublePredicate anyOf(java.util.function.DoublePredicate... predicates){
+		java.util.function.DoublePredicate[] clauses = DoubleRangeSet.mergeRuns(predicates, true);
+		if(clauses.length == 1) return enrich(clauses[0]);
+
+		return x -> {
+			for(java.util.function.DoublePredicate clause : clauses){
+				if(clause.test(x)) return true;
+			}
+			return false;
+		};
+	}
+
+	static DoublePredicate noneOf(java.util.function.DoublePredicate... predicates){
+		return anyOf(predicates).negate();
+	}
+
+	//endregion
+
+	//region Adaptation
+
+	@Override
+	default DoublePredicate negate(){
+		return x -> !test(x);
+	}
+
+	//endregion
+
+	//region Application
+
+	default DoubleSatisfaction satisfy(double value){
+		return test(value) ? satisfies(value) : dissatisfies(value);
+	}
+
+	//endregion
+}
@@ -0,0 +1,199 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+
+/**
+ * A double-specialized {@link RangeSet}: the values in a set of closed intervals, kept sorted, disjoint and coalesced,
+ * and tested by binary search. Produced by the comparison constructors, and merged by {@link #and}, {@link #or},
+ * {@link #xor}, {@link #negate} and adjacent clauses of {@link DoublePredicate#allOf} and
+ * {@link DoublePredicate#anyOf}.
+ *
+ * Intervals use the primitive comparison operators, so 0.0 and -0.0 are the same point and open bounds become the
+ * adjacent representable value. NaN lies outside every interval, but still has an answer: comparisons reject it,
+ * and the combinators track it like any other value.
+ */
+public final class DoubleRangeSet implements DoublePredicate {
+	private static final DoubleRangeSet EMPTY = new DoubleRangeSet(new double[0], new double[0], false);
+
+	private final double[] lows;
+	private final double[] highs;
+	private final boolean  matchesNaN;
+
+	private DoubleRangeSet(double[] lows, double[] highs, boolean matchesNaN){
+		this.lows = lows;
+		this.highs = highs;
+		this.matchesNaN = matchesNaN;
+	}
+
+	//region Construction
+
+	/** The values between the given bounds, inclusive of both; empty if either is NaN. */
+	static DoubleRangeSet between(double low, double high){
+		if(!(low <= high)) return EMPTY;
+		return new DoubleRangeSet(new double[]{ low + 0.0 }, new double[]{ high + 0.0 }, false);
+	}
+
+	static DoubleRangeSet greaterThan(double bound){
+		return bound == Double.POSITIVE_INFINITY ? EMPTY : between(Math.nextUp(bound), Double.POSITIVE_INFINITY);
+	}
+
+	static DoubleRangeSet lessThan(double bound){
+		return bound == Double.NEGATIVE_INFINITY ? EMPTY : between(Double.NEGATIVE_INFINITY, Math.nextDown(bound));
+	}
+
+	//endregion
+
+	@Override
+	public boolean test(double x){
+		if(Double.isNaN(x)) return matchesNaN;
+
+		int low = 0;
+		int high = lows.length - 1;
+		while(low <= high){
+			int mid = (low + high) >>> 1;
+			if(lows[mid] <= x) low = mid + 1;
+			else high = mid - 1;
+		}
+		return high >= 0 && x <= highs[high];
+	}
+
+	//region Aggregation
+
+	public DoubleRangeSet and(DoubleRangeSet other){
+		Builder builder = new Builder(lows.length + other.lows.length, matchesNaN && other.matchesNaN);
+		int i = 0;
+		int j = 0;
+		while(i < lows.length && j < other.lows.length){
+			double low = Math.max(lows[i], other.lows[j]);
+			double high = Math.min(highs[i], other.highs[j]);
+			if(low <= high) builder.add(low, high);
+
+			if(highs[i] <= other.highs[j]) i++;
+			else j++;
+		}
+		return builder.build();
+	}
+
+	public DoubleRangeSet or(DoubleRangeSet other){
+		Builder builder = new Builder(lows.length + other.lows.length, matchesNaN || other.matchesNaN);
+		int i = 0;
+		int j = 0;
+		while(i < lows.length || j < other.lows.length){
+			if(j == other.lows.length || (i < lows.length && lows[i] <= other.lows[j])){
+				builder.add(lows[i], highs[i]);
+				i++;
+			}
+			else{
+				builder.add(other.lows[j], other.highs[j]);
+				j++;
+			}
+		}
+		return builder.build();
+	}
+
+	public DoubleRangeSet xor(DoubleRangeSet other){ return or(other).and(and(other).negate()); }
+
+	@Override
+	public DoubleRangeSet negate(){
+		Builder builder = new Builder(lows.length + 1, !matchesNaN);
+		double gapLow = Double.NEGATIVE_INFINITY;
+		for(int i = 0; i < lows.length; i++){
+			if(lows[i] > gapLow) builder.add(gapLow, Math.nextDown(lows[i]));
+			if(highs[i] == Double.POSITIVE_INFINITY) return builder.build();
+			gapLow = Math.nextUp(highs[i]);
+		}
+		builder.add(gapLow, Double.POSITIVE_INFINITY);
+		return builder.build();
+	}
+
+	@Override
+	public DoublePredicate and(java.util.function.DoublePredicate other){
+		return other instanceof DoubleRangeSet ? and((DoubleRangeSet) other) : DoublePredicate.super.and(other);
+	}
+
+	@Override
+	public DoublePredicate or(java.util.function.DoublePredicate other){
+		return other instanceof DoubleRangeSet ? or((DoubleRangeSet) other) : DoublePredicate.super.or(other);
+	}
+
+	@Override
+	public DoublePredicate xor(java.util.function.DoublePredicate other){
+		return other instanceof DoubleRangeSet ? xor((DoubleRangeSet) other) : DoublePredicate.super.xor(other);
+	}
+
+	/** Replaces each run of adjacent range sets among the given clauses with their union (or intersection). */
+	static java.util.function.DoublePredicate[] mergeRuns(java.util.function.DoublePredicate[] clauses, boolean union){
+		java.util.function.DoublePredicate[] merged = new java.util.function.DoublePredicate[clauses.length];
+		int size = 0;
+		for(java.util.function.DoublePredicate clause : clauses){
+			if(size > 0 && merged[size - 1] instanceof DoubleRangeSet && clause instanceof DoubleRangeSet){
+				DoubleRangeSet last = (DoubleRangeSet) merged[size - 1];
+				merged[size - 1] = union ? last.or((DoubleRangeSet) clause) : last.and((DoubleRangeSet) clause);
+			}
+			else merged[size++] = clause;
+		}
+		return Arrays.copyOf(merged, size);
+	}
+
+	//endregion
+
+	/** Accumulates intervals in ascending order of their lows, coalescing those that overlap or abut. */
+	private static final class Builder {
+		private final boolean matchesNaN;
+
+		private double[] lows;
+		private double[] highs;
+		private int      size;
+
+		private Builder(int capacity, boolean matchesNaN){
+			this.matchesNaN = matchesNaN;
+			lows = new double[Math.max(capacity, 1)];
+			highs = new double[Math.max(capacity, 1)];
+		}
+
+		private void add(double low, double high){
+			if(size > 0 && low <= Math.nextUp(highs[size - 1])){
+				highs[size - 1] = Math.max(highs[size - 1], high + 0.0);
+				return;
+			}
+			if(size == lows.length){
+				lows = Arrays.copyOf(lows, size * 2);
+				highs = Arrays.copyOf(highs, size * 2);
+			}
+			lows[size] = low + 0.0; // -0.0 + 0.0 is 0.0, so equal sets hold equal bounds
+			highs[size] = high + 0.0;
+			size++;
+		}
+
+		private DoubleRangeSet build(){
+			if(size == 0 && !matchesNaN) return EMPTY;
+			return new DoubleRangeSet(Arrays.copyOf(lows, size), Arrays.copyOf(highs, size), matchesNaN);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		DoubleRangeSet rangeSet = (DoubleRangeSet) o;
+		return matchesNaN == rangeSet.matchesNaN
+		       && Arrays.equals(lows, rangeSet.lows)
+		       && Arrays.equals(highs, rangeSet.highs);
+	}
+
+	@Override
+	public int hashCode(){
+		return 31 * (31 * (31 + Boolean.hashCode(matchesNaN)) + Arrays.hashCode(lows)) + Arrays.hashCode(highs);
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder builder = new StringBuilder("DoubleRangeSet[");
+		for(int i = 0; i < lows.length; i++){
+			if(i > 0) builder.append(", ");
+			builder.append('[').append(lows[i]).append(", ").append(highs[i]).append(']');
+		}
+		return builder.append(matchesNaN ? ", NaN]" : "]").toString();
+	}
+}
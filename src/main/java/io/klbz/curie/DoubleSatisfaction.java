@@ -0,0 +1,105 @@
+package io.klbz.curie;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Supplier;
+
+/**
+ * A double-specialized {@link Satisfaction}, produced by {@link DoublePredicate#satisfy(double)}.
+ * It carries the tested value unboxed, and preserves or rejects it into a {@link MaybeDouble}.
+ */
+public interface DoubleSatisfaction {
+	static DoubleSatisfaction satisfies(double satisfyingValue) { return new Satisfied(satisfyingValue); }
+
+	static DoubleSatisfaction dissatisfies(double dissatisfyingValue) { return new Dissatisfied(dissatisfyingValue); }
+
+	boolean isSatisfied();
+
+	MaybeDouble preserve();
+
+	MaybeDouble reject();
+
+	<S> S collapse(S ifSatisfied, S ifDissatisfied);
+
+	<S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied);
+
+	<S> S pipeCollapse(DoubleFunction<? extends S> ifSatisfied, DoubleFunction<? extends S> ifDissatisfied);
+
+	DoubleSatisfaction whenSatisfiedDo(DoubleConsumer doF);
+
+	DoubleSatisfaction whenDissatisfiedDo(DoubleConsumer doF);
+
+	class Satisfied implements DoubleSatisfaction {
+		private final double value;
+
+		private Satisfied(double value){ this.value = value; }
+
+		@Override
+		public boolean isSatisfied(){ return true; }
+
+		@Override
+		public MaybeDouble preserve(){ return MaybeDouble.just(value); }
+
+		@Override
+		public MaybeDouble reject(){ return MaybeDouble.none(); }
+
+		@Override
+		public <S> S collapse(S ifSatisfied, S ifDissatisfied){ return ifSatisfied; }
+
+		@Override
+		public <S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied){
+			return ifSatisfied.get();
+		}
+
+		@Override
+		public <S> S pipeCollapse(DoubleFunction<? extends S> ifSatisfied, DoubleFunction<? extends S> ifDissatisfied){
+			return ifSatisfied.apply(value);
+		}
+
+		@Override
+		public DoubleSatisfaction whenSatisfiedDo(DoubleConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+
+		@Override
+		public DoubleSatisfaction whenDissatisfiedDo(DoubleConsumer doF){ return this; }
+	}
+
+	class Dissatisfied implements DoubleSatisfaction {
+		private final double value;
+
+		private Dissatisfied(double value){ this.value = value; }
+
+		@Override
+		public boolean isSatisfied(){ return false; }
+
+		@Override
+		public MaybeDouble preserve(){ return MaybeDouble.none(); }
+
+		@Override
+		public MaybeDouble reject(){ return MaybeDouble.just(value); }
+
+		@Override
+		public <S> S collapse(S ifSatisfied, S ifDissatisfied){ return ifDissatisfied; }
+
+		@Override
+		public <S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied){
+			return ifDissatisfied.get();
+		}
+
+		@Override
+		public <S> S pipeCollapse(DoubleFunction<? extends S> ifSatisfied, DoubleFunction<? extends S> ifDissatisfied){
+			return ifDissatisfied.apply(value);
+		}
+
+		@Override
+		public DoubleSatisfaction whenSatisfiedDo(DoubleConsumer doF){ return this; }
+
+		@Override
+		public DoubleSatisfaction whenDissatisfiedDo(DoubleConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+	}
+}
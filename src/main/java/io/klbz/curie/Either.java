@@ -64,13 +64,13 @@ public interface Either<L, R> {
 		public <LPrime> Either<LPrime, R> mapL(Function<? super L, LPrime> f){ return left(f.apply(value)); }
 
 		@Override
-		public <RPrime> Either<L, RPrime> mapR(Function<? super R, RPrime> f){ return left(value); }
+		public <RPrime> Either<L, RPrime> mapR(Function<? super R, RPrime> f){ return retypeR(); }
 
 		@Override
 		public <LPrime> Either<LPrime, R> flatMapL(Function<? super L, Either<LPrime, R>> f){ return f.apply(value); }
 
 		@Override
-		public <RPrime> Either<L, RPrime> flatMapR(Function<? super R, Either<L, RPrime>> f){ return left(value); }
+		public <RPrime> Either<L, RPrime> flatMapR(Function<? super R, Either<L, RPrime>> f){ return retypeR(); }
 
 		@Override
 		public L collapseIntoL(Function<? super R, ? extends L> f){ return value; }
@@ -125,10 +125,14 @@ public interface Either<L, R> {
 		}
 
 		@Override
-		public int hashCode(){ return Objects.hash(Alternative.Left, value); }
+		public int hashCode(){ return 31 * (31 + Alternative.Left.hashCode()) + Objects.hashCode(value); }
 
 		@Override
 		public String toString(){ return "Left{" + value + '}'; }
+
+		/** A Left holds no R, so it can stand in for a Left of any right type without being rebuilt. */
+		@SuppressWarnings("unchecked")
+		private <RPrime> Either<L, RPrime> retypeR(){ return (Either<L, RPrime>) this; }
 	}
 
 	class Right<L, R> implements Either<L, R> {
@@ -140,13 +144,13 @@ public interface Either<L, R> {
 		public Either<R, L> swap(){ return left(value); }
 
 		@Override
-		public <LPrime> Either<LPrime, R> mapL(Function<? super L, LPrime> f){ return right(value); }
+		public <LPrime> Either<LPrime, R> mapL(Function<? super L, LPrime> f){ return retypeL(); }
 
 		@Override
 		public <RPrime> Either<L, RPrime> mapR(Function<? super R, RPrime> f){ return right(f.apply(value)); }
 
 		@Override
-		public <LPrime> Either<LPrime, R> flatMapL(Function<? super L, Either<LPrime, R>> f){ return right(value); }
+		public <LPrime> Either<LPrime, R> flatMapL(Function<? super L, Either<LPrime, R>> f){ return retypeL(); }
 
 		@Override
 		public <RPrime> Either<L, RPrime> flatMapR(Function<? super R, Either<L, RPrime>> f){ return f.apply(value); }
@@ -204,10 +208,14 @@ public interface Either<L, R> {
 		}
 
 		@Override
-		public int hashCode(){ return Objects.hash(Alternative.Right, value); }
+		public int hashCode(){ return 31 * (31 + Alternative.Right.hashCode()) + Objects.hashCode(value); }
 
 		@Override
 		public String toString(){ return "Right{" + value + '}'; }
+
+		/** A Right holds no L, so it can stand in for a Right of any left type without being rebuilt. */
+		@SuppressWarnings("unchecked")
+		private <LPrime> Either<LPrime, R> retypeL(){ return (Either<LPrime, R>) this; }
 	}
 
 	class InvalidAlternativeException extends RuntimeException {
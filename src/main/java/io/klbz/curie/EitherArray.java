@@ -0,0 +1,397 @@
+package io.klbz.curie;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable sequence of {@link Either}s, stored as a bitmap of which slots are rights and two dense columns, one of
+ * the left values and one of the right values, so no slot needs a wrapper of its own; values that are all non-null
+ * {@link Integer}s, {@link Long}s or {@link Double}s are stored unboxed.
+ *
+ * A slot's value is found by counting the rights before it, which a running count kept per 64 slots makes a
+ * constant-time lookup. Bulk operations mirror those of a single Either across every slot: {@link #mapL} and
+ * {@link #mapR} build one new column and share the bitmap and the other column, so a scan of one side never reads the
+ * values of the other. Eithers themselves are only created on demand, by {@link #get}, iteration and streams, whose
+ * spliterator splits by index for parallel streams; {@link #collector} gathers a stream back into an array.
+ */
+public final class EitherArray<L, R> implements Iterable<Either<L, R>> {
+	private static final EitherArray<?, ?> EMPTY = new EitherArray<>(new long[0], 0,
+	                                                                 Column.pack(new Object[0], 0),
+	                                                                 Column.pack(new Object[0], 0));
+
+	private final long[] tags;
+	private final int[]  ranks;
+	private final int    size;
+	private final Column lefts;
+	private final Column rights;
+
+	private EitherArray(long[] tags, int size, Column lefts, Column rights){
+		this.tags = tags;
+		this.size = size;
+		this.lefts = lefts;
+		this.rights = rights;
+		ranks = new int[tags.length];
+		for(int w = 1; w < tags.length; w++) ranks[w] = ranks[w - 1] + Long.bitCount(tags[w - 1]);
+	}
+
+	//region Construction
+
+	@SuppressWarnings("unchecked")
+	public static <L, R> EitherArray<L, R> empty(){ return (EitherArray<L, R>) EMPTY; }
+
+	public static <L, R> EitherArray<L, R> of(Collection<? extends Either<? extends L, ? extends R>> eithers){
+		Builder<L, R> builder = new Builder<>(eithers.size());
+		for(Either<? extends L, ? extends R> either : eithers) builder.add(either);
+		return builder.build();
+	}
+
+	public static <L, R> Builder<L, R> builder(){ return new Builder<>(16); }
+
+	/** Gathers the Eithers of a stream, sequential or parallel, into an array in encounter order. */
+	public static <L, R> Collector<Either<? extends L, ? extends R>, ?, EitherArray<L, R>> collector(){
+		return Collector.of(EitherArray::<L, R>builder, Builder::add, Builder::addAll, Builder::build);
+	}
+
+	//endregion
+
+	//region Access
+
+	/** The number of slots, left or right. */
+	public int size(){ return size; }
+
+	public boolean isEmpty(){ return size == 0; }
+
+	public int countL(){ return lefts.size(); }
+
+	public int countR(){ return rights.size(); }
+
+	public boolean isLeft(int index){ return !isRight(index); }
+
+	public boolean isRight(int index){
+		checkIndex(index);
+		return (tags[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/** The slot at the given index, as an Either created on demand. */
+	@SuppressWarnings("unchecked")
+	public Either<L, R> get(int index){
+		int rank = rank(index);
+		return isRight(index) ? Either.right((R) rights.get(rank)) : Either.left((L) lefts.get(index - rank));
+	}
+
+	/** The indexes of the left slots. */
+	public Selection lefts(){
+		long[] words = new long[tags.length];
+		for(int w = 0; w < words.length; w++) words[w] = ~tags[w] & liveBits(w);
+		return new Selection(words, size);
+	}
+
+	/** The indexes of the right slots. */
+	public Selection rights(){ return new Selection(tags.clone(), size); }
+
+	/** The left values, in order, as an unmodifiable view. */
+	public List<L> leftValues(){ return lefts.asList(); }
+
+	/** The right values, in order, as an unmodifiable view. */
+	public List<R> rightValues(){ return rights.asList(); }
+
+	/** The number of rights before the given index. */
+	private int rank(int index){ return ranks[index >>> 6] + Long.bitCount(tags[index >>> 6] & ((1L << index) - 1)); }
+
+	private void checkIndex(int index){
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	/** Swaps the sides of every slot, sharing both columns. */
+	public EitherArray<R, L> swap(){
+		long[] swapped = new long[tags.length];
+		for(int w = 0; w < swapped.length; w++) swapped[w] = ~tags[w] & liveBits(w);
+		return new EitherArray<>(swapped, size, rights, lefts);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <LPrime> EitherArray<LPrime, R> mapL(Function<? super L, LPrime> f){
+		Object[] mapped = new Object[lefts.size()];
+		for(int i = 0; i < mapped.length; i++) mapped[i] = f.apply((L) lefts.get(i));
+		return new EitherArray<>(tags, size, Column.pack(mapped, mapped.length), rights);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <RPrime> EitherArray<L, RPrime> mapR(Function<? super R, RPrime> f){
+		Object[] mapped = new Object[rights.size()];
+		for(int i = 0; i < mapped.length; i++) mapped[i] = f.apply((R) rights.get(i));
+		return new EitherArray<>(tags, size, lefts, Column.pack(mapped, mapped.length));
+	}
+
+	@SuppressWarnings("unchecked")
+	public <LPrime> EitherArray<LPrime, R> flatMapL(Function<? super L, Either<LPrime, R>> f){
+		Builder<LPrime, R> builder = new Builder<>(size);
+		int nextL = 0;
+		int nextR = 0;
+		for(int i = 0; i < size; i++){
+			if((tags[i >>> 6] & (1L << i)) != 0) builder.addRight((R) rights.get(nextR++));
+			else builder.add(f.apply((L) lefts.get(nextL++)));
+		}
+		return builder.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	public <RPrime> EitherArray<L, RPrime> flatMapR(Function<? super R, Either<L, RPrime>> f){
+		Builder<L, RPrime> builder = new Builder<>(size);
+		int nextL = 0;
+		int nextR = 0;
+		for(int i = 0; i < size; i++){
+			if((tags[i >>> 6] & (1L << i)) != 0) builder.add(f.apply((R) rights.get(nextR++)));
+			else builder.addLeft((L) lefts.get(nextL++));
+		}
+		return builder.build();
+	}
+
+	/** Tests each left value, selecting the indexes of those satisfying the predicate; rights fail. */
+	@SuppressWarnings("unchecked")
+	public Selection satisfiesL(Predicate<? super L> p){
+		long[] selected = new long[tags.length];
+		int next = 0;
+		for(int w = 0; w < tags.length; w++){
+			for(long word = ~tags[w] & liveBits(w); word != 0; word &= word - 1){
+				if(p.test((L) lefts.get(next++))) selected[w] |= Long.lowestOneBit(word);
+			}
+		}
+		return new Selection(selected, size);
+	}
+
+	/** Tests each right value, selecting the indexes of those satisfying the predicate; lefts fail. */
+	@SuppressWarnings("unchecked")
+	public Selection satisfiesR(Predicate<? super R> p){
+		long[] selected = new long[tags.length];
+		int next = 0;
+		for(int w = 0; w < tags.length; w++){
+			for(long word = tags[w]; word != 0; word &= word - 1){
+				if(p.test((R) rights.get(next++))) selected[w] |= Long.lowestOneBit(word);
+			}
+		}
+		return new Selection(selected, size);
+	}
+
+	/** Visits each left value along with its index, in order, without reading any right value. */
+	@SuppressWarnings("unchecked")
+	public EitherArray<L, R> forEachL(ObjIntConsumer<? super L> doF){
+		int next = 0;
+		for(int w = 0; w < tags.length; w++){
+			for(long word = ~tags[w] & liveBits(w); word != 0; word &= word - 1){
+				doF.accept((L) lefts.get(next++), (w << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+		return this;
+	}
+
+	/** Visits each right value along with its index, in order, without reading any left value. */
+	@SuppressWarnings("unchecked")
+	public EitherArray<L, R> forEachR(ObjIntConsumer<? super R> doF){
+		int next = 0;
+		for(int w = 0; w < tags.length; w++){
+			for(long word = tags[w]; word != 0; word &= word - 1){
+				doF.accept((R) rights.get(next++), (w << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+		return this;
+	}
+
+	@SuppressWarnings("unchecked")
+	public EitherArray<L, R> whenLDo(Consumer<? super L> doF){
+		for(int i = 0; i < lefts.size(); i++) doF.accept((L) lefts.get(i));
+		return this;
+	}
+
+	@SuppressWarnings("unchecked")
+	public EitherArray<L, R> whenRDo(Consumer<? super R> doF){
+		for(int i = 0; i < rights.size(); i++) doF.accept((R) rights.get(i));
+		return this;
+	}
+
+	/** The bits of the given tag word that stand for slots, rather than the unused tail of the last word. */
+	private long liveBits(int w){ return w == tags.length - 1 && size % 64 != 0 ? (1L << size) - 1 : -1L; }
+
+	//endregion
+
+	//region Iteration
+
+	@Override
+	public Iterator<Either<L, R>> iterator(){ return Spliterators.iterator(spliterator()); }
+
+	/** A spliterator over every slot, creating each Either as it is reached, that splits its index range in halves. */
+	@Override
+	public Spliterator<Either<L, R>> spliterator(){ return new EitherSpliterator(0, size); }
+
+	public Stream<Either<L, R>> stream(){ return StreamSupport.stream(spliterator(), false); }
+
+	public Stream<Either<L, R>> parallelStream(){ return StreamSupport.stream(spliterator(), true); }
+
+	/** The left values alone, in order. */
+	public Stream<L> streamL(){ return leftValues().stream(); }
+
+	/** The right values alone, in order. */
+	public Stream<R> streamR(){ return rightValues().stream(); }
+
+	/** The slots, as an unmodifiable view creating each Either on demand. */
+	public List<Either<L, R>> asList(){ return new EitherList(); }
+
+	private final class EitherSpliterator implements Spliterator<Either<L, R>> {
+		private       int index;
+		private final int end;
+
+		private EitherSpliterator(int index, int end){
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Either<L, R>> action){
+			if(index >= end) return false;
+			action.accept(get(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Either<L, R>> action){
+			for(; index < end; index++) action.accept(get(index));
+		}
+
+		@Override
+		public Spliterator<Either<L, R>> trySplit(){
+			int middle = (index + end) >>> 1;
+			if(middle <= index) return null;
+			EitherSpliterator prefix = new EitherSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize(){ return end - index; }
+
+		@Override
+		public int characteristics(){ return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE; }
+	}
+
+	private final class EitherList extends AbstractList<Either<L, R>> implements RandomAccess {
+		@Override
+		public Either<L, R> get(int index){ return EitherArray.this.get(index); }
+
+		@Override
+		public int size(){ return size; }
+
+		@Override
+		public Spliterator<Either<L, R>> spliterator(){ return EitherArray.this.spliterator(); }
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		EitherArray<?, ?> that = (EitherArray<?, ?>) o;
+		return size == that.size
+		       && Arrays.equals(tags, that.tags)
+		       && lefts.asList().equals(that.lefts.asList())
+		       && rights.asList().equals(that.rights.asList());
+	}
+
+	/** The hash of the list of the slots. */
+	@Override
+	public int hashCode(){
+		int leftHash = 31 + Either.Alternative.Left.hashCode();
+		int rightHash = 31 + Either.Alternative.Right.hashCode();
+		int hash = 1;
+		int nextL = 0;
+		int nextR = 0;
+		for(int i = 0; i < size; i++){
+			boolean right = (tags[i >>> 6] & (1L << i)) != 0;
+			int slotHash = right
+			               ? 31 * rightHash + Objects.hashCode(rights.get(nextR++))
+			               : 31 * leftHash + Objects.hashCode(lefts.get(nextL++));
+			hash = 31 * hash + slotHash;
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString(){ return "EitherArray" + asList(); }
+
+	/** Gathers slots one at a time, then packs them into an {@link EitherArray}. */
+	public static final class Builder<L, R> {
+		private long[]   tags;
+		private Object[] lefts;
+		private Object[] rights;
+		private int      size;
+		private int      countL;
+		private int      countR;
+
+		private Builder(int capacity){
+			tags = new long[(Math.max(capacity, 1) + 63) >>> 6];
+			lefts = new Object[Math.max(capacity, 1)];
+			rights = new Object[Math.max(capacity, 1)];
+		}
+
+		public Builder<L, R> addLeft(L value){
+			if(countL == lefts.length) lefts = Arrays.copyOf(lefts, countL * 2);
+			lefts[countL++] = value;
+			mark(false);
+			return this;
+		}
+
+		public Builder<L, R> addRight(R value){
+			if(countR == rights.length) rights = Arrays.copyOf(rights, countR * 2);
+			rights[countR++] = value;
+			mark(true);
+			return this;
+		}
+
+		public Builder<L, R> add(Either<? extends L, ? extends R> either){
+			return either instanceof Either.Right ? addRight(either.assumeR()) : addLeft(either.assumeL());
+		}
+
+		/** Appends the slots gathered by another builder, leaving it unchanged. */
+		@SuppressWarnings("unchecked")
+		public Builder<L, R> addAll(Builder<? extends L, ? extends R> other){
+			int nextL = 0;
+			int nextR = 0;
+			for(int i = 0; i < other.size; i++){
+				if((other.tags[i >>> 6] & (1L << i)) != 0) addRight((R) other.rights[nextR++]);
+				else addLeft((L) other.lefts[nextL++]);
+			}
+			return this;
+		}
+
+		private void mark(boolean right){
+			if(size >>> 6 == tags.length) tags = Arrays.copyOf(tags, tags.length * 2);
+			if(right) tags[size >>> 6] |= 1L << size;
+			size++;
+		}
+
+		/** Packs the slots so far; the result keeps no array that later additions write to. */
+		public EitherArray<L, R> build(){
+			return new EitherArray<>(Arrays.copyOf(tags, (size + 63) >>> 6), size,
+			                         Column.pack(lefts, countL), Column.pack(rights, countR));
+		}
+	}
+}
@@ -0,0 +1,310 @@
+package io.klbz.curie;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * An append-only journal of {@link Either}s, persisted in a directory of memory-mapped segment files, so results can
+ * be written as they are produced and replayed after a restart or a crash.
+ *
+ * Each record is framed by its length and a CRC-32 of its bytes, which are those of {@link Codec#eithers}: a tag byte,
+ * then the left or right payload. A record is written into the mapped segment behind a zero length, which is set
+ * last, so a record is either whole or absent to any reader in the same process. When a segment has no room left for
+ * the next record, it is forced to storage and a new segment of the same size is started.
+ *
+ * Opening a journal scans its segments and keeps, in each, the records up to the first missing, torn or damaged one;
+ * the rest of the last segment is cleared and appended over. Records may be lost on a crash of the operating system
+ * unless {@link #flush} was called after them.
+ *
+ * Reading decodes records straight out of the mapped segments. {@link #lefts} and {@link #rights} look at each
+ * record's tag and step over those of the other side by their length, without decoding them. A stream covers the
+ * records appended before it was created. A journal is not thread-safe, and its streams must not be used once it is
+ * closed.
+ */
+public final class EitherJournal<L, R> implements Closeable {
+	private static final int    HEADER = 8;
+	private static final String SUFFIX = ".journal";
+
+	private final Path                   directory;
+	private final Codec<L>               lefts;
+	private final Codec<R>               rights;
+	private final int                    segmentBytes;
+	private final List<MappedByteBuffer> segments = new ArrayList<>();
+	private final List<Integer>          ends     = new ArrayList<>();
+	private final CRC32                  crc      = new CRC32();
+	private MappedByteBuffer             active;
+	private int                          offset;
+	private long                         countL;
+	private long                         countR;
+	private boolean                      closed;
+
+	private EitherJournal(Path directory, Codec<L> lefts, Codec<R> rights, int segmentBytes){
+		this.directory = directory;
+		this.lefts = lefts;
+		this.rights = rights;
+		this.segmentBytes = segmentBytes;
+	}
+
+	/**
+	 * Opens the journal in the given directory, creating it if need be, and recovers the records already in it.
+	 *
+	 * @param segmentBytes the size of each new segment file, which bounds the size of a record
+	 */
+	public static <L, R> EitherJournal<L, R> open(Path directory, Codec<L> lefts, Codec<R> rights, int segmentBytes)
+			throws IOException {
+		if(segmentBytes <= HEADER){
+			throw new IllegalArgumentException("Segments of " + segmentBytes + " bytes are too small");
+		}
+
+		Files.createDirectories(directory);
+		List<Path> paths = new ArrayList<>();
+		try(DirectoryStream<Path> found = Files.newDirectoryStream(directory, "*" + SUFFIX)){
+			for(Path path : found) paths.add(path);
+		}
+		paths.sort(null);
+
+		EitherJournal<L, R> journal = new EitherJournal<>(directory, lefts, rights, segmentBytes);
+		for(Path path : paths) journal.recover(map(path, Math.max(Files.size(path), HEADER + 1)));
+		if(journal.segments.isEmpty()) journal.roll();
+		else{
+			journal.active = journal.segments.get(journal.segments.size() - 1);
+			journal.offset = journal.ends.remove(journal.ends.size() - 1);
+			journal.clearFrom(journal.offset);
+		}
+		return journal;
+	}
+
+	//region Appending
+
+	/** Appends the given result, returning its position in the journal, counting from 0. */
+	public long append(Either<L, R> value) throws IOException {
+		checkOpen();
+		boolean appended = tryAppend(value);
+		if(!appended && offset > 0){
+			roll();
+			appended = tryAppend(value);
+		}
+		if(!appended){
+			throw new IllegalArgumentException("Value " + value + " needs more than a segment of " + segmentBytes
+			                                   + " bytes");
+		}
+		if(value instanceof Either.Right) countR++;
+		else countL++;
+		return size() - 1;
+	}
+
+	/** Forces the records appended so far to storage. */
+	public void flush(){
+		checkOpen();
+		active.force();
+	}
+
+	private boolean tryAppend(Either<L, R> value){
+		int start = offset;
+		if(active.capacity() - start <= HEADER) return false;
+
+		active.limit(active.capacity()).position(start + HEADER);
+		try{
+			if(value instanceof Either.Right){
+				active.put(Codecs.RIGHT);
+				rights.encode(value.assumeR(), active);
+			}
+			else{
+				active.put(Codecs.LEFT);
+				lefts.encode(value.assumeL(), active);
+			}
+		}
+		catch(BufferOverflowException e){
+			return false;
+		}
+
+		int end = active.position();
+		active.putInt(start + 4, checksum(active, start + HEADER, end));
+		active.putInt(start, end - start - HEADER);
+		offset = end;
+		return true;
+	}
+
+	/** Seals the active segment, if any, and starts the next. */
+	private void roll() throws IOException {
+		if(active != null){
+			active.force();
+			ends.add(offset);
+		}
+		active = map(directory.resolve(String.format("%08d", segments.size()) + SUFFIX), segmentBytes);
+		segments.add(active);
+		offset = 0;
+	}
+
+	private static MappedByteBuffer map(Path path, long bytes) throws IOException {
+		try(FileChannel channel = FileChannel.open(path, CREATE, READ, WRITE)){
+			return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+		}
+	}
+
+	//endregion
+
+	//region Recovery
+
+	/** Adds a segment found on opening, counting its intact records and noting where they end. */
+	private void recover(MappedByteBuffer segment){
+		int at = 0;
+		for(int length; (length = intactLength(segment, at)) > 0; at += HEADER + length){
+			if(segment.get(at + HEADER) == Codecs.RIGHT) countR++;
+			else countL++;
+		}
+		segments.add(segment);
+		ends.add(at);
+	}
+
+	/** The length of the record at the given offset, or 0 if there is no intact record there. */
+	private int intactLength(ByteBuffer segment, int at){
+		if(segment.capacity() - at <= HEADER) return 0;
+		int length = segment.getInt(at);
+		if(length <= 0 || length > segment.capacity() - at - HEADER) return 0;
+
+		byte tag = segment.get(at + HEADER);
+		if(tag != Codecs.LEFT && tag != Codecs.RIGHT) return 0;
+		return checksum(segment, at + HEADER, at + HEADER + length) == segment.getInt(at + 4) ? length : 0;
+	}
+
+	/**
+	 * Clears the rest of the active segment after its last intact record, unless nothing was begun there, so that no
+	 * torn record can later be mistaken for one appended over it.
+	 */
+	private void clearFrom(int at){
+		if(active.capacity() - at < 4 || active.getInt(at) == 0) return;
+		for(int i = at; i < active.capacity(); i++) active.put(i, (byte) 0);
+	}
+
+	private int checksum(ByteBuffer segment, int from, int to){
+		ByteBuffer bytes = segment.duplicate();
+		bytes.limit(to).position(from);
+		crc.reset();
+		crc.update(bytes);
+		return (int) crc.getValue();
+	}
+
+	//endregion
+
+	//region Reading
+
+	/** The number of records in the journal. */
+	public long size(){ return countL + countR; }
+
+	public long countL(){ return countL; }
+
+	public long countR(){ return countR; }
+
+	public int segmentCount(){ return segments.size(); }
+
+	/** The records, in the order they were appended. */
+	public Stream<Either<L, R>> stream(){
+		return StreamSupport.stream(new RecordSpliterator<Either<L, R>>(size()) {
+			@Override
+			Either<L, R> decode(byte tag, ByteBuffer payload){
+				return tag == Codecs.RIGHT ? Either.right(rights.decode(payload)) : Either.left(lefts.decode(payload));
+			}
+		}, false);
+	}
+
+	/** The left values, in the order they were appended, stepping over the rights without decoding them. */
+	public Stream<L> lefts(){
+		return StreamSupport.stream(new RecordSpliterator<L>(countL) {
+			@Override
+			L decode(byte tag, ByteBuffer payload){ return lefts.decode(payload); }
+
+			@Override
+			boolean wanted(byte tag){ return tag == Codecs.LEFT; }
+		}, false);
+	}
+
+	/** The right values, in the order they were appended, stepping over the lefts without decoding them. */
+	public Stream<R> rights(){
+		return StreamSupport.stream(new RecordSpliterator<R>(countR) {
+			@Override
+			R decode(byte tag, ByteBuffer payload){ return rights.decode(payload); }
+
+			@Override
+			boolean wanted(byte tag){ return tag == Codecs.RIGHT; }
+		}, false);
+	}
+
+	/** Walks the records appended before it was created, one segment at a time, through a view of each segment. */
+	private abstract class RecordSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+		private final int  lastSegment = segments.size() - 1;
+		private final int  lastEnd     = offset;
+		private int        segment     = -1;
+		private int        at;
+		private int        end;
+		private ByteBuffer view;
+
+		private RecordSpliterator(long size){ super(size, ORDERED | SIZED | NONNULL | IMMUTABLE); }
+
+		/** Decodes the payload after the given tag, which the view is positioned at and limited to. */
+		abstract T decode(byte tag, ByteBuffer payload);
+
+		boolean wanted(byte tag){ return true; }
+
+		@Override
+		public boolean tryAdvance(Consumer<? super T> action){
+			checkOpen();
+			while(true){
+				while(at >= end){
+					if(segment == lastSegment) return false;
+					segment++;
+					view = segments.get(segment).duplicate();
+					at = 0;
+					end = segment == lastSegment ? lastEnd : ends.get(segment);
+				}
+
+				view.limit(view.capacity());
+				int length = view.getInt(at);
+				int payload = at + HEADER;
+				at = payload + length;
+				byte tag = view.get(payload);
+				if(wanted(tag)){
+					view.limit(at).position(payload + 1);
+					action.accept(decode(tag, view));
+					return true;
+				}
+			}
+		}
+	}
+
+	//endregion
+
+	/** Forces the records to storage and releases the segments' mappings. Closing a closed journal does nothing. */
+	@Override
+	public void close(){
+		if(closed) return;
+		closed = true;
+		active.force();
+		for(MappedByteBuffer segment : segments) OffHeapBuffer.Deallocator.free(segment);
+		segments.clear();
+		active = null;
+	}
+
+	private void checkOpen(){
+		if(closed) throw new IllegalStateException("EitherJournal is closed");
+	}
+}
@@ -0,0 +1,178 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * A {@link Predicate} over the constants of one enum, held as a bitmask indexed by ordinal.
+ *
+ * Combining two enum predicates of the same type with {@link #and}, {@link #or} or {@link #xor}, or negating one,
+ * combines their masks up front, so however elaborate the boolean expression, testing a value is one ordinal lookup
+ * and one bit test. Combining with any other predicate falls back to the ordinary composites.
+ *
+ * Null is not a constant of any enum, but still has an answer: it is rejected by the membership constructors, and the
+ * combinators treat it as one more bit.
+ */
+public final class EnumPredicate<E extends Enum<E>> implements Predicate<E> {
+	private final Class<E> type;
+	private final long[]   mask;
+	private final boolean  matchesNull;
+
+	private EnumPredicate(Class<E> type, long[] mask, boolean matchesNull){
+		this.type = type;
+		this.mask = mask;
+		this.matchesNull = matchesNull;
+	}
+
+	//region Construction
+
+	public static <E extends Enum<E>> EnumPredicate<E> everTrue(Class<E> type){ return enrich(type, x -> true); }
+
+	public static <E extends Enum<E>> EnumPredicate<E> everFalse(Class<E> type){ return enrich(type, x -> false); }
+
+	public static <E extends Enum<E>> EnumPredicate<E> isEqual(E constant){ return isIn(constant); }
+
+	@SafeVarargs
+	@SuppressWarnings("varargs")
+	public static <E extends Enum<E>> EnumPredicate<E> isIn(E first, E... rest){
+		return isIn(first.getDeclaringClass(), EnumSet.of(first, rest));
+	}
+
+	public static <E extends Enum<E>> EnumPredicate<E> isIn(Class<E> type, Collection<E> constants){
+		long[] mask = new long[wordsFor(type)];
+		for(E constant : constants) mask[constant.ordinal() >>> 6] |= 1L << constant.ordinal();
+		return new EnumPredicate<>(type, mask, false);
+	}
+
+	/**
+	 * Tabulates an arbitrary predicate, such as one built from {@link Predicate#isEqual} and {@link Predicate#anyOf},
+	 * by testing it once against each constant of the enum, and null. A predicate that throws
+	 * {@link NullPointerException} on null, as one dereferencing its argument does, is taken to reject it.
+	 */
+	public static <E extends Enum<E>> EnumPredicate<E> enrich(
+			Class<E> type,
+			java.util.function.Predicate<? super E> base){
+
+		if(base instanceof EnumPredicate && ((EnumPredicate<?>) base).type == type){
+			@SuppressWarnings("unchecked")
+			EnumPredicate<E> enumPredicate = (EnumPredicate<E>) base;
+			return enumPredicate;
+		}
+
+		long[] mask = new long[wordsFor(type)];
+		for(E constant : type.getEnumConstants()){
+			if(base.test(constant)) mask[constant.ordinal() >>> 6] |= 1L << constant.ordinal();
+		}
+		return new EnumPredicate<>(type, mask, matchesNull(base));
+	}
+
+	private static boolean matchesNull(java.util.function.Predicate<?> base){
+		try{
+			return base.test(null);
+		}
+		catch(NullPointerException e){
+			return false;
+		}
+	}
+
+	private static int wordsFor(Class<? extends Enum<?>> type){ return (type.getEnumConstants().length + 63) >>> 6; }
+
+	//endregion
+
+	@Override
+	public boolean test(E e){
+		if(e == null) return matchesNull;
+		int ordinal = e.ordinal();
+		return (mask[ordinal >>> 6] & (1L << ordinal)) != 0;
+	}
+
+	/** The constants this predicate accepts. */
+	public EnumSet<E> values(){
+		EnumSet<E> values = EnumSet.noneOf(type);
+		for(E constant : type.getEnumConstants()){
+			if(test(constant)) values.add(constant);
+		}
+		return values;
+	}
+
+	//region Aggregation
+
+	public EnumPredicate<E> and(EnumPredicate<E> other){
+		long[] combined = requireSameType(other).clone();
+		for(int i = 0; i < combined.length; i++) combined[i] &= other.mask[i];
+		return new EnumPredicate<>(type, combined, matchesNull && other.matchesNull);
+	}
+
+	public EnumPredicate<E> or(EnumPredicate<E> other){
+		long[] combined = requireSameType(other).clone();
+		for(int i = 0; i < combined.length; i++) combined[i] |= other.mask[i];
+		return new EnumPredicate<>(type, combined, matchesNull || other.matchesNull);
+	}
+
+	public EnumPredicate<E> xor(EnumPredicate<E> other){
+		long[] combined = requireSameType(other).clone();
+		for(int i = 0; i < combined.length; i++) combined[i] ^= other.mask[i];
+		return new EnumPredicate<>(type, combined, matchesNull ^ other.matchesNull);
+	}
+
+	@Override
+	public EnumPredicate<E> negate(){
+		long[] inverted = new long[mask.length];
+		int constants = type.getEnumConstants().length;
+		for(int i = 0; i < inverted.length; i++) inverted[i] = ~mask[i];
+		if((constants & 63) != 0) inverted[inverted.length - 1] &= (1L << constants) - 1;
+		return new EnumPredicate<>(type, inverted, !matchesNull);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Predicate<E> and(java.util.function.Predicate<? super E> other){
+		if(isSameType(other)) return and((EnumPredicate<E>) other);
+		return Predicate.super.and(other);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Predicate<E> or(java.util.function.Predicate<? super E> other){
+		if(isSameType(other)) return or((EnumPredicate<E>) other);
+		return Predicate.super.or(other);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Predicate<E> xor(java.util.function.Predicate<? super E> other){
+		if(isSameType(other)) return xor((EnumPredicate<E>) other);
+		return Predicate.super.xor(other);
+	}
+
+	private boolean isSameType(java.util.function.Predicate<?> other){
+		return other instanceof EnumPredicate && ((EnumPredicate<?>) other).type == type;
+	}
+
+	private long[] requireSameType(EnumPredicate<E> other){
+		if(other.type != type){
+			throw new IllegalArgumentException("Cannot combine predicates over " + type + " and " + other.type);
+		}
+		return mask;
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		EnumPredicate<?> that = (EnumPredicate<?>) o;
+		return type == that.type && matchesNull == that.matchesNull && Arrays.equals(mask, that.mask);
+	}
+
+	@Override
+	public int hashCode(){
+		return 31 * (31 * (31 + type.hashCode()) + Boolean.hashCode(matchesNull)) + Arrays.hashCode(mask);
+	}
+
+	@Override
+	public String toString(){ return "EnumPredicate{" + values() + (matchesNull ? ", null" : "") + '}'; }
+}
@@ -0,0 +1,162 @@
+package io.klbz.curie;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Pair} whose first component is an unboxed int, such as an (id, value) or (offset, payload) tuple.
+ * Hashes agree with those of the equivalent boxed Pair.
+ */
+public final class IntObjPair<S> {
+	private final int first;
+	private final S   second;
+
+	private IntObjPair(int first, S second){
+		this.first = first;
+		this.second = second;
+	}
+
+	public static <S> IntObjPair<S> of(int first, S second){ return new IntObjPair<>(first, second); }
+
+	public IntObjPair<S> replaceFirst(int newFirst){ return of(newFirst, second); }
+
+	public <SPrime> IntObjPair<SPrime> replaceSecond(SPrime newSecond){ return of(first, newSecond); }
+
+	public FirstFocus<S> focusFirst(){ return new FirstFocus<>(this); }
+
+	public SecondFocus<S> focusSecond(){ return new SecondFocus<>(this); }
+
+	public int isolateFirst(){ return first; }
+
+	public S isolateSecond(){ return second; }
+
+	public IntObjPair<S> mapFirst(IntUnaryOperator f){ return of(f.applyAsInt(first), second); }
+
+	public <FPrime> Pair<FPrime, S> mapFirstToObj(IntFunction<FPrime> f){ return Pair.of(f.apply(first), second); }
+
+	public <SPrime> IntObjPair<SPrime> mapSecond(Function<? super S, SPrime> f){ return of(first, f.apply(second)); }
+
+	public IntPair mapSecondToInt(ToIntFunction<? super S> f){ return IntPair.of(first, f.applyAsInt(second)); }
+
+	public <T> T collapse(IntObjFunction<? super S, T> f){ return f.apply(first, second); }
+
+	public boolean satisfies(IntObjPredicate<? super S> p){ return p.test(first, second); }
+
+	public IntObjPair<S> withFirstDo(IntConsumer doF){
+		doF.accept(first);
+		return this;
+	}
+
+	public IntObjPair<S> withSecondDo(Consumer<S> doF){
+		doF.accept(second);
+		return this;
+	}
+
+	public IntObjPair<S> withBothDo(IntObjConsumer<S> doF){
+		doF.accept(first, second);
+		return this;
+	}
+
+	public Pair<Integer, S> boxed(){ return Pair.of(first, second); }
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null) return false;
+
+		if(o.getClass() == FirstFocus.class) return equals(((FirstFocus<?>) o).pair);
+
+		if(o.getClass() == SecondFocus.class) return equals(((SecondFocus<?>) o).pair);
+
+		if(getClass() != o.getClass()) return false;
+
+		IntObjPair<?> pair = (IntObjPair<?>) o;
+		return first == pair.first && Objects.equals(second, pair.second);
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Integer.hashCode(first)) + Objects.hashCode(second); }
+
+	@Override
+	public String toString(){ return "IntObjPair{" + first + "," + second + '}'; }
+
+	@FunctionalInterface
+	public interface IntObjFunction<S, T> {
+		T apply(int first, S second);
+	}
+
+	@FunctionalInterface
+	public interface IntObjPredicate<S> {
+		boolean test(int first, S second);
+	}
+
+	@FunctionalInterface
+	public interface IntObjConsumer<S> {
+		void accept(int first, S second);
+	}
+
+	public static final class FirstFocus<S> {
+		private final IntObjPair<S> pair;
+
+		private FirstFocus(IntObjPair<S> pair){ this.pair = pair; }
+
+		public IntObjPair<S> unfocus(){ return pair; }
+
+		public FirstFocus<S> replace(int newFirst){ return pair.replaceFirst(newFirst).focusFirst(); }
+
+		public int isolate(){ return pair.first; }
+
+		public FirstFocus<S> map(IntUnaryOperator f){ return pair.mapFirst(f).focusFirst(); }
+
+		public FirstFocus<S> withDo(IntConsumer doF){
+			pair.withFirstDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "FirstFocus{" + pair + '}'; }
+	}
+
+	public static final class SecondFocus<S> {
+		private final IntObjPair<S> pair;
+
+		private SecondFocus(IntObjPair<S> pair){ this.pair = pair; }
+
+		public IntObjPair<S> unfocus(){ return pair; }
+
+		public <SPrime> SecondFocus<SPrime> replace(SPrime newSecond){
+			return pair.replaceSecond(newSecond).focusSecond();
+		}
+
+		public S isolate(){ return pair.second; }
+
+		public <SPrime> SecondFocus<SPrime> map(Function<? super S, SPrime> f){
+			return pair.mapSecond(f).focusSecond();
+		}
+
+		public SecondFocus<S> withDo(Consumer<S> doF){
+			pair.withSecondDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "SecondFocus{" + pair + '}'; }
+	}
+}
@@ -0,0 +1,161 @@
+package io.klbz.curie;
+
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An int-specialized {@link Pair}: both components are stored unboxed, so a pair costs a single small object.
+ * Hashes agree with those of the equivalent boxed Pair.
+ */
+public final class IntPair {
+	private final int first;
+	private final int second;
+
+	private IntPair(int first, int second){
+		this.first = first;
+		this.second = second;
+	}
+
+	public static IntPair of(int first, int second){ return new IntPair(first, second); }
+
+	public IntPair replaceFirst(int newFirst){ return of(newFirst, second); }
+
+	public IntPair replaceSecond(int newSecond){ return of(first, newSecond); }
+
+	public FirstFocus focusFirst(){ return new FirstFocus(this); }
+
+	public SecondFocus focusSecond(){ return new SecondFocus(this); }
+
+	public int isolateFirst(){ return first; }
+
+	public int isolateSecond(){ return second; }
+
+	public IntPair mapFirst(IntUnaryOperator f){ return of(f.applyAsInt(first), second); }
+
+	public IntPair mapSecond(IntUnaryOperator f){ return of(first, f.applyAsInt(second)); }
+
+	public <FPrime> ObjIntPair<FPrime> mapFirstToObj(IntFunction<FPrime> f){
+		return ObjIntPair.of(f.apply(first), second);
+	}
+
+	public <SPrime> IntObjPair<SPrime> mapSecondToObj(IntFunction<SPrime> f){
+		return IntObjPair.of(first, f.apply(second));
+	}
+
+	public <T> T collapse(IntBiFunction<T> f){ return f.apply(first, second); }
+
+	public int collapseToInt(IntBinaryOperator f){ return f.applyAsInt(first, second); }
+
+	public boolean satisfies(IntBiPredicate p){ return p.test(first, second); }
+
+	public IntPair withFirstDo(IntConsumer doF){
+		doF.accept(first);
+		return this;
+	}
+
+	public IntPair withSecondDo(IntConsumer doF){
+		doF.accept(second);
+		return this;
+	}
+
+	public IntPair withBothDo(IntBiConsumer doF){
+		doF.accept(first, second);
+		return this;
+	}
+
+	public Pair<Integer, Integer> boxed(){ return Pair.of(first, second); }
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null) return false;
+
+		if(o.getClass() == FirstFocus.class) return equals(((FirstFocus) o).pair);
+
+		if(o.getClass() == SecondFocus.class) return equals(((SecondFocus) o).pair);
+
+		if(getClass() != o.getClass()) return false;
+
+		IntPair pair = (IntPair) o;
+		return first == pair.first && second == pair.second;
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Integer.hashCode(first)) + Integer.hashCode(second); }
+
+	@Override
+	public String toString(){ return "IntPair{" + first + "," + second + '}'; }
+
+	@FunctionalInterface
+	public interface IntBiFunction<T> {
+		T apply(int first, int second);
+	}
+
+	@FunctionalInterface
+	public interface IntBiPredicate {
+		boolean test(int first, int second);
+	}
+
+	@FunctionalInterface
+	public interface IntBiConsumer {
+		void accept(int first, int second);
+	}
+
+	public static final class FirstFocus {
+		private final IntPair pair;
+
+		private FirstFocus(IntPair pair){ this.pair = pair; }
+
+		public IntPair unfocus(){ return pair; }
+
+		public FirstFocus replace(int newFirst){ return pair.replaceFirst(newFirst).focusFirst(); }
+
+		public int isolate(){ return pair.first; }
+
+		public FirstFocus map(IntUnaryOperator f){ return pair.mapFirst(f).focusFirst(); }
+
+		public FirstFocus withDo(IntConsumer doF){
+			pair.withFirstDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "FirstFocus{" + pair + '}'; }
+	}
+
+	public static final class SecondFocus {
+		private final IntPair pair;
+
+		private SecondFocus(IntPair pair){ this.pair = pair; }
+
+		public IntPair unfocus(){ return pair; }
+
+		public SecondFocus replace(int newSecond){ return pair.replaceSecond(newSecond).focusSecond(); }
+
+		public int isolate(){ return pair.second; }
+
+		public SecondFocus map(IntUnaryOperator f){ return pair.mapSecond(f).focusSecond(); }
+
+		public SecondFocus withDo(IntConsumer doF){
+			pair.withSecondDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "SecondFocus{" + pair + '}'; }
+	}
+}
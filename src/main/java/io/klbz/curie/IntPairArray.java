@@ -0,0 +1,177 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An int-specialized {@link PairArray}: bulk operations take the functional interfaces of {@link IntPair}, so
+ * a scan reads its two columns without boxing a single component. {@link #boxed} shares both columns with the
+ * PairArray it returns, and hashes agree with it.
+ */
+public final class IntPairArray implements Iterable<IntPair> {
+	private final int[] firsts;
+	private final int[] seconds;
+
+	IntPairArray(int[] firsts, int[] seconds){
+		this.firsts = firsts;
+		this.seconds = seconds;
+	}
+
+	public static IntPairArray of(int[] firsts, int[] seconds){
+		if(firsts.length != seconds.length){
+			throw new IllegalArgumentException(firsts.length + " first components but " + seconds.length + " second");
+		}
+		return new IntPairArray(firsts.clone(), seconds.clone());
+	}
+
+	//region Access
+
+	public int size(){ return firsts.length; }
+
+	public boolean isEmpty(){ return firsts.length == 0; }
+
+	public IntPair get(int index){ return IntPair.of(firsts[index], seconds[index]); }
+
+	public int first(int index){ return firsts[index]; }
+
+	public int second(int index){ return seconds[index]; }
+
+	public int[] firsts(){ return firsts.clone(); }
+
+	public int[] seconds(){ return seconds.clone(); }
+
+	//endregion
+
+	//region Bulk operations
+
+	public IntPairArray mapFirst(IntUnaryOperator f){ return new IntPairArray(map(firsts, f), seconds); }
+
+	public IntPairArray mapSecond(IntUnaryOperator f){ return new IntPairArray(firsts, map(seconds, f)); }
+
+	private static int[] map(int[] column, IntUnaryOperator f){
+		int[] mapped = new int[column.length];
+		for(int i = 0; i < mapped.length; i++) mapped[i] = f.applyAsInt(column[i]);
+		return mapped;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> List<T> collapse(IntPair.IntBiFunction<T> f){
+		Object[] collapsed = new Object[firsts.length];
+		for(int i = 0; i < collapsed.length; i++) collapsed[i] = f.apply(firsts[i], seconds[i]);
+		return (List<T>) Collections.unmodifiableList(Arrays.asList(collapsed));
+	}
+
+	public int[] collapseToInt(IntBinaryOperator f){
+		int[] collapsed = new int[firsts.length];
+		for(int i = 0; i < collapsed.length; i++) collapsed[i] = f.applyAsInt(firsts[i], seconds[i]);
+		return collapsed;
+	}
+
+	/** Tests each pair in turn, selecting the indexes of those satisfying the predicate. */
+	public Selection satisfies(IntPair.IntBiPredicate p){
+		long[] words = new long[(firsts.length + 63) >>> 6];
+		for(int i = 0; i < firsts.length; i++){
+			if(p.test(firsts[i], seconds[i])) words[i >>> 6] |= 1L << i;
+		}
+		return new Selection(words, firsts.length);
+	}
+
+	public IntPairArray withBothDo(IntPair.IntBiConsumer doF){
+		for(int i = 0; i < firsts.length; i++) doF.accept(firsts[i], seconds[i]);
+		return this;
+	}
+
+	public PairArray<Integer, Integer> boxed(){ return PairArray.ofColumns(Column.of(firsts), Column.of(seconds)); }
+
+	//endregion
+
+	//region Iteration
+
+	@Override
+	public Iterator<IntPair> iterator(){ return Spliterators.iterator(spliterator()); }
+
+	/** A spliterator over the pairs, creating each as it is reached, that splits its index range in halves. */
+	@Override
+	public Spliterator<IntPair> spliterator(){ return new PairSpliterator(0, firsts.length); }
+
+	public Stream<IntPair> stream(){ return StreamSupport.stream(spliterator(), false); }
+
+	public Stream<IntPair> parallelStream(){ return StreamSupport.stream(spliterator(), true); }
+
+	private final class PairSpliterator implements Spliterator<IntPair> {
+		private       int index;
+		private final int end;
+
+		private PairSpliterator(int index, int end){
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super IntPair> action){
+			if(index >= end) return false;
+			action.accept(get(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super IntPair> action){
+			for(; index < end; index++) action.accept(get(index));
+		}
+
+		@Override
+		public Spliterator<IntPair> trySplit(){
+			int middle = (index + end) >>> 1;
+			if(middle <= index) return null;
+			PairSpliterator prefix = new PairSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize(){ return end - index; }
+
+		@Override
+		public int characteristics(){ return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE; }
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		IntPairArray that = (IntPairArray) o;
+		return Arrays.equals(firsts, that.firsts) && Arrays.equals(seconds, that.seconds);
+	}
+
+	/** The hash of the list of the boxed pairs. */
+	@Override
+	public int hashCode(){
+		int hash = 1;
+		for(int i = 0; i < firsts.length; i++){
+			hash = 31 * hash + 31 * (31 + Integer.hashCode(firsts[i])) + Integer.hashCode(seconds[i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder builder = new StringBuilder("IntPairArray[");
+		for(int i = 0; i < firsts.length; i++){
+			if(i > 0) builder.append(", ");
+			builder.append(get(i));
+		}
+		return builder.append(']').toString();
+	}
+}
@@ -0,0 +1,130 @@
+package io.klbz.curie;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An {@link OffHeapBuffer} of int pairs, each stored as two adjacent ints. Pairs are read as {@link IntPair}s
+ * or component by component, and bulk operations scan the buffer in place, updating or testing every pair
+ * without bringing it onto the heap.
+ */
+public final class IntPairBuffer extends OffHeapBuffer {
+	private static final int BYTES = 2 * Integer.BYTES;
+
+	private IntPairBuffer(int capacity){ super(capacity, BYTES, 0); }
+
+	public static IntPairBuffer allocate(int capacity){ return new IntPairBuffer(capacity); }
+
+	//region Access
+
+	public IntPairBuffer add(int first, int second){
+		int index = append();
+		memory().putInt(index * BYTES, first).putInt(index * BYTES + Integer.BYTES, second);
+		return this;
+	}
+
+	public IntPairBuffer add(IntPair pair){ return add(pair.isolateFirst(), pair.isolateSecond()); }
+
+	public IntPairBuffer set(int index, int first, int second){
+		checkIndex(index);
+		memory().putInt(index * BYTES, first).putInt(index * BYTES + Integer.BYTES, second);
+		return this;
+	}
+
+	public IntPair get(int index){ return IntPair.of(first(index), second(index)); }
+
+	public int first(int index){
+		checkIndex(index);
+		return memory().getInt(index * BYTES);
+	}
+
+	public int second(int index){
+		checkIndex(index);
+		return memory().getInt(index * BYTES + Integer.BYTES);
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	/** Replaces the first component of every pair with the result of applying the given function to it. */
+	public IntPairBuffer updateFirst(IntUnaryOperator f){ return update(0, f); }
+
+	/** Replaces the second component of every pair with the result of applying the given function to it. */
+	public IntPairBuffer updateSecond(IntUnaryOperator f){ return update(Integer.BYTES, f); }
+
+	private IntPairBuffer update(int offset, IntUnaryOperator f){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int i = 0, at = offset; i < size; i++, at += BYTES){
+				memory.putInt(at, f.applyAsInt(memory.getInt(at)));
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	public int[] collapseToInt(IntBinaryOperator f){
+		ByteBuffer memory = beginScan();
+		try{
+			int[] collapsed = new int[size];
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				collapsed[i] = f.applyAsInt(memory.getInt(at), memory.getInt(at + Integer.BYTES));
+			}
+			return collapsed;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Tests each pair in turn, selecting the indexes of those satisfying the predicate. */
+	public Selection satisfies(IntPair.IntBiPredicate p){
+		ByteBuffer memory = beginScan();
+		try{
+			long[] words = new long[(size + 63) >>> 6];
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				if(p.test(memory.getInt(at), memory.getInt(at + Integer.BYTES))) words[i >>> 6] |= 1L << i;
+			}
+			return new Selection(words, size);
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	public IntPairBuffer withBothDo(IntPair.IntBiConsumer doF){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				doF.accept(memory.getInt(at), memory.getInt(at + Integer.BYTES));
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Copies the pairs onto the heap. */
+	public IntPairArray toArray(){
+		ByteBuffer memory = memory();
+		int[] firsts = new int[size];
+		int[] seconds = new int[size];
+		for(int i = 0, at = 0; i < size; i++, at += BYTES){
+			firsts[i] = memory.getInt(at);
+			seconds[i] = memory.getInt(at + Integer.BYTES);
+		}
+		return new IntPairArray(firsts, seconds);
+	}
+
+	//endregion
+
+	@Override
+	public String toString(){
+		return isClosed() ? "IntPairBuffer{closed}" : "IntPairBuffer{" + size() + " of " + capacity() + '}';
+	}
+}
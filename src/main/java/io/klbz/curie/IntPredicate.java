@@ -0,0 +1,115 @@
+package io.klbz.curie;
+
+import java.util.Objects;
+
+import static io.klbz.curie.IntSatisfaction.dissatisfies;
+import static io.klbz.curie.IntSatisfaction.satisfies;
+
+/**
+ * An int-specialized {@link Predicate}: the same combinators and constructors, applied to unboxed values.
+ */
+public interface IntPredicate extends java.util.function.IntPredicate {
+
+	//region Common Predicates
+
+	static IntPredicate everTrue(){ return x -> true; }
+
+	static IntPredicate everFalse(){ return x -> false; }
+
+	static IntPredicate isEqual(int target){ return x -> x == target; }
+
+	static IntPredicate isGreaterThan(int bound){
+		return bound == Integer.MAX_VALUE ? IntRangeSet.of() : IntRangeSet.between(bound + 1, Integer.MAX_VALUE);
+	}
+
+	static IntPredicate isAtLeast(int bound){ return IntRangeSet.between(bound, Integer.MAX_VALUE); }
+
+	static IntPredicate isLessThan(int bound){
+		return bound == Integer.MIN_VALUE ? IntRangeSet.of() : IntRangeSet.between(Integer.MIN_VALUE, bound - 1);
+	}
+
+	static IntPredicate isAtMost(int bound){ return IntRangeSet.between(Integer.MIN_VALUE, bound); }
+
+	/** Tests whether a value lies within the given bounds, inclusive of both. */
+	static IntPredicate isBetween(int lowerBound, int upperBound){ return IntRangeSet.between(lowerBound, upperBound); }
+
+	static IntPredicate isIn(int... values){ return IntRangeSet.of(values); }
+
+	//endregion
+
+	//region Construction
+
+	static IntPredicate is(IntPredicate p){ return p; }
+
+	static IntPredicate isNot(IntPredicate p){ return p.negate(); }
+
+	static IntPredicate enrich(java.util.function.IntPredicate base){
+		return base instanceof IntPredicate ? (IntPredicate) base : base::test;
+	}
+
+	//endregion
+
+	//region Aggregation
+
+	@Override
+	default IntPredicate and(java.util.function.IntPredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) && other.test(x);
+	}
+
+	@Override
+	default IntPredicate or(java.util.function.IntPredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) || other.test(x);
+	}
+
+	default IntPredicate xor(java.util.function.IntPredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) ^ other.test(x);
+	}
+
+	static IntPredicate allOf(java.util.function.IntPredicate... predicates){
+		java.util.function.IntPredicate[] clauses = IntRangeSet.mergeRuns(predicates, false);
+		if(clauses.length == 1) return enrich(clauses[0]);
+
+		return x -> {
+			for(java.util.function.IntPredicate clause : clauses){
+				if(!clause.test(x)) return false;
+			}
+			return true;
+		};
+	}
+
+	static IntPredicate anyOf(java.util.function.IntPredicate... predicates){
+		java.util.function.IntPredicate[] clauses = IntRangeSet.mergeRuns(predicates, true);
+		if(clauses.length == 1) return enrich(clauses[0]);
+
+		return x -> {
+			for(java.util.function.IntPredicate clause : clauses){
+				if(clause.test(x)) return true;
+			}
+			return false;
+		};
+	}
+
+	static IntPredicate noneOf(java.util.function.IntPredicate... predicates){ return anyOf(predicates).negate(); }
+
+	//endregion
+
+	//region Adaptation
+
+	@Override
+	default IntPredicate negate(){
+		return x -> !test(x);
+	}
+
+	//endregion
+
+	//region Application
+
+	default IntSatisfaction satisfy(int value){
+		return test(value) ? satisfies(value) : dissatisfies(value);
+	}
+
+	//endregion
+}
@@ -0,0 +1,182 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+
+/**
+ * An int-specialized {@link RangeSet}: the values in a set of closed intervals, kept sorted, disjoint and coalesced,
+ * and tested by binary search. Produced by the comparison constructors and {@link IntPredicate#isIn}, and merged by
+ * {@link #and}, {@link #or}, {@link #xor}, {@link #negate} and adjacent clauses of {@link IntPredicate#allOf} and
+ * {@link IntPredicate#anyOf}.
+ */
+public final class IntRangeSet implements IntPredicate {
+	private static final IntRangeSet EMPTY = new IntRangeSet(new int[0], new int[0]);
+
+	private final int[] lows;
+	private final int[] highs;
+
+	private IntRangeSet(int[] lows, int[] highs){
+		this.lows = lows;
+		this.highs = highs;
+	}
+
+	//region Construction
+
+	static IntRangeSet between(int low, int high){
+		return low <= high ? new IntRangeSet(new int[]{ low }, new int[]{ high }) : EMPTY;
+	}
+
+	static IntRangeSet of(int... values){
+		int[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		Builder builder = new Builder(sorted.length);
+		for(int value : sorted) builder.add(value, value);
+		return builder.build();
+	}
+
+	//endregion
+
+	@Override
+	public boolean test(int x){
+		int low = 0;
+		int high = lows.length - 1;
+		while(low <= high){
+			int mid = (low + high) >>> 1;
+			if(lows[mid] <= x) low = mid + 1;
+			else high = mid - 1;
+		}
+		return high >= 0 && x <= highs[high];
+	}
+
+	//region Aggregation
+
+	public IntRangeSet and(IntRangeSet other){
+		Builder builder = new Builder(lows.length + other.lows.length);
+		int i = 0;
+		int j = 0;
+		while(i < lows.length && j < other.lows.length){
+			int low = Math.max(lows[i], other.lows[j]);
+			int high = Math.min(highs[i], other.highs[j]);
+			if(low <= high) builder.add(low, high);
+
+			if(highs[i] <= other.highs[j]) i++;
+			else j++;
+		}
+		return builder.build();
+	}
+
+	public IntRangeSet or(IntRangeSet other){
+		Builder builder = new Builder(lows.length + other.lows.length);
+		int i = 0;
+		int j = 0;
+		while(i < lows.length || j < other.lows.length){
+			if(j == other.lows.length || (i < lows.length && lows[i] <= other.lows[j])){
+				builder.add(lows[i], highs[i]);
+				i++;
+			}
+			else{
+				builder.add(other.lows[j], other.highs[j]);
+				j++;
+			}
+		}
+		return builder.build();
+	}
+
+	public IntRangeSet xor(IntRangeSet other){ return or(other).and(and(other).negate()); }
+
+	@Override
+	public IntRangeSet negate(){
+		Builder builder = new Builder(lows.length + 1);
+		int gapLow = Integer.MIN_VALUE;
+		for(int i = 0; i < lows.length; i++){
+			if(lows[i] > gapLow) builder.add(gapLow, lows[i] - 1);
+			if(highs[i] == Integer.MAX_VALUE) return builder.build();
+			gapLow = highs[i] + 1;
+		}
+		builder.add(gapLow, Integer.MAX_VALUE);
+		return builder.build();
+	}
+
+	@Override
+	public IntPredicate and(java.util.function.IntPredicate other){
+		return other instanceof IntRangeSet ? and((IntRangeSet) other) : IntPredicate.super.and(other);
+	}
+
+	@Override
+	public IntPredicate or(java.util.function.IntPredicate other){
+		return other instanceof IntRangeSet ? or((IntRangeSet) other) : IntPredicate.super.or(other);
+	}
+
+	@Override
+	public IntPredicate xor(java.util.function.IntPredicate other){
+		return other instanceof IntRangeSet ? xor((IntRangeSet) other) : IntPredicate.super.xor(other);
+	}
+
+	/** Replaces each run of adjacent range sets among the given clauses with their union (or intersection). */
+	static java.util.function.IntPredicate[] mergeRuns(java.util.function.IntPredicate[] clauses, boolean union){
+		java.util.function.IntPredicate[] merged = new java.util.function.IntPredicate[clauses.length];
+		int size = 0;
+		for(java.util.function.IntPredicate clause : clauses){
+			if(size > 0 && merged[size - 1] instanceof IntRangeSet && clause instanceof IntRangeSet){
+				IntRangeSet last = (IntRangeSet) merged[size - 1];
+				merged[size - 1] = union ? last.or((IntRangeSet) clause) : last.and((IntRangeSet) clause);
+			}
+			else merged[size++] = clause;
+		}
+		return Arrays.copyOf(merged, size);
+	}
+
+	//endregion
+
+	/** Accumulates intervals in ascending order of their lows, coalescing those that overlap or abut. */
+	private static final class Builder {
+		private int[] lows;
+		private int[] highs;
+		private int   size;
+
+		private Builder(int capacity){
+			lows = new int[Math.max(capacity, 1)];
+			highs = new int[Math.max(capacity, 1)];
+		}
+
+		private void add(int low, int high){
+			if(size > 0 && (highs[size - 1] == Integer.MAX_VALUE || low <= highs[size - 1] + 1)){
+				highs[size - 1] = Math.max(highs[size - 1], high);
+				return;
+			}
+			if(size == lows.length){
+				lows = Arrays.copyOf(lows, size * 2);
+				highs = Arrays.copyOf(highs, size * 2);
+			}
+			lows[size] = low;
+			highs[size] = high;
+			size++;
+		}
+
+		private IntRangeSet build(){
+			return size == 0 ? EMPTY : new IntRangeSet(Arrays.copyOf(lows, size), Arrays.copyOf(highs, size));
+		}
+	}
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		IntRangeSet rangeSet = (IntRangeSet) o;
+		return Arrays.equals(lows, rangeSet.lows) && Arrays.equals(highs, rangeSet.highs);
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Arrays.hashCode(lows)) + Arrays.hashCode(highs); }
+
+	@Override
+	public String toString(){
+		StringBuilder builder = new StringBuilder("IntRangeSet[");
+		for(int i = 0; i < lows.length; i++){
+			if(i > 0) builder.append(", ");
+			builder.append('[').append(lows[i]).append(", ").append(highs[i]).append(']');
+		}
+		return builder.append(']').toString();
+	}
+}
@@ -0,0 +1,105 @@
+package io.klbz.curie;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * An int-specialized {@link Satisfaction}, produced by {@link IntPredicate#satisfy(int)}.
+ * It carries the tested value unboxed, and preserves or rejects it into a {@link MaybeInt}.
+ */
+public interface IntSatisfaction {
+	static IntSatisfaction satisfies(int satisfyingValue) { return new Satisfied(satisfyingValue); }
+
+	static IntSatisfaction dissatisfies(int dissatisfyingValue) { return new Dissatisfied(dissatisfyingValue); }
+
+	boolean isSatisfied();
+
+	MaybeInt preserve();
+
+	MaybeInt reject();
+
+	<S> S collapse(S ifSatisfied, S ifDissatisfied);
+
+	<S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied);
+
+	<S> S pipeCollapse(IntFunction<? extends S> ifSatisfied, IntFunction<? extends S> ifDissatisfied);
+
+	IntSatisfaction whenSatisfiedDo(IntConsumer doF);
+
+	IntSatisfaction whenDissatisfiedDo(IntConsumer doF);
+
+	class Satisfied implements IntSatisfaction {
+		private final int value;
+
+		private Satisfied(int value){ this.value = value; }
+
+		@Override
+		public boolean isSatisfied(){ return true; }
+
+		@Override
+		public MaybeInt preserve(){ return MaybeInt.just(value); }
+
+		@Override
+		public MaybeInt reject(){ return MaybeInt.none(); }
+
+		@Override
+		public <S> S collapse(S ifSatisfied, S ifDissatisfied){ return ifSatisfied; }
+
+		@Override
+		public <S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied){
+			return ifSatisfied.get();
+		}
+
+		@Override
+		public <S> S pipeCollapse(IntFunction<? extends S> ifSatisfied, IntFunction<? extends S> ifDissatisfied){
+			return ifSatisfied.apply(value);
+		}
+
+		@Override
+		public IntSatisfaction whenSatisfiedDo(IntConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+
+		@Override
+		public IntSatisfaction whenDissatisfiedDo(IntConsumer doF){ return this; }
+	}
+
+	class Dissatisfied implements IntSatisfaction {
+		private final int value;
+
+		private Dissatisfied(int value){ this.value = value; }
+
+		@Override
+		public boolean isSatisfied(){ return false; }
+
+		@Override
+		public MaybeInt preserve(){ return MaybeInt.none(); }
+
+		@Override
+		public MaybeInt reject(){ return MaybeInt.just(value); }
+
+		@Override
+		public <S> S collapse(S ifSatisfied, S ifDissatisfied){ return ifDissatisfied; }
+
+		@Override
+		public <S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied){
+			return ifDissatisfied.get();
+		}
+
+		@Override
+		public <S> S pipeCollapse(IntFunction<? extends S> ifSatisfied, IntFunction<? extends S> ifDissatisfied){
+			return ifDissatisfied.apply(value);
+		}
+
+		@Override
+		public IntSatisfaction whenSatisfiedDo(IntConsumer doF){ return this; }
+
+		@Override
+		public IntSatisfaction whenDissatisfiedDo(IntConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+	}
+}
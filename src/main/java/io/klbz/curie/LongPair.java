@@ -0,0 +1,152 @@
+package io.klbz.curie;
+
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A long-specialized {@link Pair}: both components are stored unboxed, so a pair costs a single small object.
+ * Hashes agree with those of the equivalent boxed Pair.
+ */
+public final class LongPair {
+	private final long first;
+	private final long second;
+
+	private LongPair(long first, long second){
+		this.first = first;
+		this.second = second;
+	}
+
+	public static LongPair of(long first, long second){ return new LongPair(first, second); }
+
+	public LongPair replaceFirst(long newFirst){ return of(newFirst, second); }
+
+	public LongPair replaceSecond(long newSecond){ return of(first, newSecond); }
+
+	public FirstFocus focusFirst(){ return new FirstFocus(this); }
+
+	public SecondFocus focusSecond(){ return new SecondFocus(this); }
+
+	public long isolateFirst(){ return first; }
+
+	public long isolateSecond(){ return second; }
+
+	public LongPair mapFirst(LongUnaryOperator f){ return of(f.applyAsLong(first), second); }
+
+	public LongPair mapSecond(LongUnaryOperator f){ return of(first, f.applyAsLong(second)); }
+
+	public <T> T collapse(LongBiFunction<T> f){ return f.apply(first, second); }
+
+	public long collapseToLong(LongBinaryOperator f){ return f.applyAsLong(first, second); }
+
+	public boolean satisfies(LongBiPredicate p){ return p.test(first, second); }
+
+	public LongPair withFirstDo(LongConsumer doF){
+		doF.accept(first);
+		return this;
+	}
+
+	public LongPair withSecondDo(LongConsumer doF){
+		doF.accept(second);
+		return this;
+	}
+
+	public LongPair withBothDo(LongBiConsumer doF){
+		doF.accept(first, second);
+		return this;
+	}
+
+	public Pair<Long, Long> boxed(){ return Pair.of(first, second); }
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null) return false;
+
+		if(o.getClass() == FirstFocus.class) return equals(((FirstFocus) o).pair);
+
+		if(o.getClass() == SecondFocus.class) return equals(((SecondFocus) o).pair);
+
+		if(getClass() != o.getClass()) return false;
+
+		LongPair pair = (LongPair) o;
+		return first == pair.first && second == pair.second;
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Long.hashCode(first)) + Long.hashCode(second); }
+
+	@Override
+	public String toString(){ return "LongPair{" + first + "," + second + '}'; }
+
+	@FunctionalInterface
+	public interface LongBiFunction<T> {
+		T apply(long first, long second);
+	}
+
+	@FunctionalInterface
+	public interface LongBiPredicate {
+		boolean test(long first, long second);
+	}
+
+	@FunctionalInterface
+	public interface LongBiConsumer {
+		void accept(long first, long second);
+	}
+
+	public static final class FirstFocus {
+		private final LongPair pair;
+
+		private FirstFocus(LongPair pair){ this.pair = pair; }
+
+		public LongPair unfocus(){ return pair; }
+
+		public FirstFocus replace(long newFirst){ return pair.replaceFirst(newFirst).focusFirst(); }
+
+		public long isolate(){ return pair.first; }
+
+		public FirstFocus map(LongUnaryOperator f){ return pair.mapFirst(f).focusFirst(); }
+
+		public FirstFocus withDo(LongConsumer doF){
+			pair.withFirstDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "FirstFocus{" + pair + '}'; }
+	}
+
+	public static final class SecondFocus {
+		private final LongPair pair;
+
+		private SecondFocus(LongPair pair){ this.pair = pair; }
+
+		public LongPair unfocus(){ return pair; }
+
+		public SecondFocus replace(long newSecond){ return pair.replaceSecond(newSecond).focusSecond(); }
+
+		public long isolate(){ return pair.second; }
+
+		public SecondFocus map(LongUnaryOperator f){ return pair.mapSecond(f).focusSecond(); }
+
+		public SecondFocus withDo(LongConsumer doF){
+			pair.withSecondDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "SecondFocus{" + pair + '}'; }
+	}
+}
@@ -0,0 +1,177 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A long-specialized {@link PairArray}: bulk operations take the functional interfaces of {@link LongPair}, so
+ * a scan reads its two columns without boxing a single component. {@link #boxed} shares both columns with the
+ * PairArray it returns, and hashes agree with it.
+ */
+public final class LongPairArray implements Iterable<LongPair> {
+	private final long[] firsts;
+	private final long[] seconds;
+
+	LongPairArray(long[] firsts, long[] seconds){
+		this.firsts = firsts;
+		this.seconds = seconds;
+	}
+
+	public static LongPairArray of(long[] firsts, long[] seconds){
+		if(firsts.length != seconds.length){
+			throw new IllegalArgumentException(firsts.length + " first components but " + seconds.length + " second");
+		}
+		return new LongPairArray(firsts.clone(), seconds.clone());
+	}
+
+	//region Access
+
+	public int size(){ return firsts.length; }
+
+	public boolean isEmpty(){ return firsts.length == 0; }
+
+	public LongPair get(int index){ return LongPair.of(firsts[index], seconds[index]); }
+
+	public long first(int index){ return firsts[index]; }
+
+	public long second(int index){ return seconds[index]; }
+
+	public long[] firsts(){ return firsts.clone(); }
+
+	public long[] seconds(){ return seconds.clone(); }
+
+	//endregion
+
+	//region Bulk operations
+
+	public LongPairArray mapFirst(LongUnaryOperator f){ return new LongPairArray(map(firsts, f), seconds); }
+
+	public LongPairArray mapSecond(LongUnaryOperator f){ return new LongPairArray(firsts, map(seconds, f)); }
+
+	private static long[] map(long[] column, LongUnaryOperator f){
+		long[] mapped = new long[column.length];
+		for(int i = 0; i < mapped.length; i++) mapped[i] = f.applyAsLong(column[i]);
+		return mapped;
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> List<T> collapse(LongPair.LongBiFunction<T> f){
+		Object[] collapsed = new Object[firsts.length];
+		for(int i = 0; i < collapsed.length; i++) collapsed[i] = f.apply(firsts[i], seconds[i]);
+		return (List<T>) Collections.unmodifiableList(Arrays.asList(collapsed));
+	}
+
+	public long[] collapseToLong(LongBinaryOperator f){
+		long[] collapsed = new long[firsts.length];
+		for(int i = 0; i < collapsed.length; i++) collapsed[i] = f.applyAsLong(firsts[i], seconds[i]);
+		return collapsed;
+	}
+
+	/** Tests each pair in turn, selecting the indexes of those satisfying the predicate. */
+	public Selection satisfies(LongPair.LongBiPredicate p){
+		long[] words = new long[(firsts.length + 63) >>> 6];
+		for(int i = 0; i < firsts.length; i++){
+			if(p.test(firsts[i], seconds[i])) words[i >>> 6] |= 1L << i;
+		}
+		return new Selection(words, firsts.length);
+	}
+
+	public LongPairArray withBothDo(LongPair.LongBiConsumer doF){
+		for(int i = 0; i < firsts.length; i++) doF.accept(firsts[i], seconds[i]);
+		return this;
+	}
+
+	public PairArray<Long, Long> boxed(){ return PairArray.ofColumns(Column.of(firsts), Column.of(seconds)); }
+
+	//endregion
+
+	//region Iteration
+
+	@Override
+	public Iterator<LongPair> iterator(){ return Spliterators.iterator(spliterator()); }
+
+	/** A spliterator over the pairs, creating each as it is reached, that splits its index range in halves. */
+	@Override
+	public Spliterator<LongPair> spliterator(){ return new PairSpliterator(0, firsts.length); }
+
+	public Stream<LongPair> stream(){ return StreamSupport.stream(spliterator(), false); }
+
+	public Stream<LongPair> parallelStream(){ return StreamSupport.stream(spliterator(), true); }
+
+	private final class PairSpliterator implements Spliterator<LongPair> {
+		private       int index;
+		private final int end;
+
+		private PairSpliterator(int index, int end){
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super LongPair> action){
+			if(index >= end) return false;
+			action.accept(get(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super LongPair> action){
+			for(; index < end; index++) action.accept(get(index));
+		}
+
+		@Override
+		public Spliterator<LongPair> trySplit(){
+			int middle = (index + end) >>> 1;
+			if(middle <= index) return null;
+			PairSpliterator prefix = new PairSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize(){ return end - index; }
+
+		@Override
+		public int characteristics(){ return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE; }
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		LongPairArray that = (LongPairArray) o;
+		return Arrays.equals(firsts, that.firsts) && Arrays.equals(seconds, that.seconds);
+	}
+
+	/** The hash of the list of the boxed pairs. */
+	@Override
+	public int hashCode(){
+		int hash = 1;
+		for(int i = 0; i < firsts.length; i++){
+			hash = 31 * hash + 31 * (31 + Long.hashCode(firsts[i])) + Long.hashCode(seconds[i]);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder builder = new StringBuilder("LongPairArray[");
+		for(int i = 0; i < firsts.length; i++){
+			if(i > 0) builder.append(", ");
+			builder.append(get(i));
+		}
+		return builder.append(']').toString();
+	}
+}
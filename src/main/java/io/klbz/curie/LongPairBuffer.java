@@ -0,0 +1,130 @@
+package io.klbz.curie;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * An {@link OffHeapBuffer} of long pairs, each stored as two adjacent longs. Pairs are read as {@link LongPair}s
+ * or component by component, and bulk operations scan the buffer in place, updating or testing every pair
+ * without bringing it onto the heap.
+ */
+public final class LongPairBuffer extends OffHeapBuffer {
+	private static final int BYTES = 2 * Long.BYTES;
+
+	private LongPairBuffer(int capacity){ super(capacity, BYTES, 0); }
+
+	public static LongPairBuffer allocate(int capacity){ return new LongPairBuffer(capacity); }
+
+	//region Access
+
+	public LongPairBuffer add(long first, long second){
+		int index = append();
+		memory().putLong(index * BYTES, first).putLong(index * BYTES + Long.BYTES, second);
+		return this;
+	}
+
+	public LongPairBuffer add(LongPair pair){ return add(pair.isolateFirst(), pair.isolateSecond()); }
+
+	public LongPairBuffer set(int index, long first, long second){
+		checkIndex(index);
+		memory().putLong(index * BYTES, first).putLong(index * BYTES + Long.BYTES, second);
+		return this;
+	}
+
+	public LongPair get(int index){ return LongPair.of(first(index), second(index)); }
+
+	public long first(int index){
+		checkIndex(index);
+		return memory().getLong(index * BYTES);
+	}
+
+	public long second(int index){
+		checkIndex(index);
+		return memory().getLong(index * BYTES + Long.BYTES);
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	/** Replaces the first component of every pair with the result of applying the given function to it. */
+	public LongPairBuffer updateFirst(LongUnaryOperator f){ return update(0, f); }
+
+	/** Replaces the second component of every pair with the result of applying the given function to it. */
+	public LongPairBuffer updateSecond(LongUnaryOperator f){ return update(Long.BYTES, f); }
+
+	private LongPairBuffer update(int offset, LongUnaryOperator f){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int i = 0, at = offset; i < size; i++, at += BYTES){
+				memory.putLong(at, f.applyAsLong(memory.getLong(at)));
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	public long[] collapseToLong(LongBinaryOperator f){
+		ByteBuffer memory = beginScan();
+		try{
+			long[] collapsed = new long[size];
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				collapsed[i] = f.applyAsLong(memory.getLong(at), memory.getLong(at + Long.BYTES));
+			}
+			return collapsed;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Tests each pair in turn, selecting the indexes of those satisfying the predicate. */
+	public Selection satisfies(LongPair.LongBiPredicate p){
+		ByteBuffer memory = beginScan();
+		try{
+			long[] words = new long[(size + 63) >>> 6];
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				if(p.test(memory.getLong(at), memory.getLong(at + Long.BYTES))) words[i >>> 6] |= 1L << i;
+			}
+			return new Selection(words, size);
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	public LongPairBuffer withBothDo(LongPair.LongBiConsumer doF){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int i = 0, at = 0; i < size; i++, at += BYTES){
+				doF.accept(memory.getLong(at), memory.getLong(at + Long.BYTES));
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Copies the pairs onto the heap. */
+	public LongPairArray toArray(){
+		ByteBuffer memory = memory();
+		long[] firsts = new long[size];
+		long[] seconds = new long[size];
+		for(int i = 0, at = 0; i < size; i++, at += BYTES){
+			firsts[i] = memory.getLong(at);
+			seconds[i] = memory.getLong(at + Long.BYTES);
+		}
+		return new LongPairArray(firsts, seconds);
+	}
+
+	//endregion
+
+	@Override
+	public String toString(){
+		return isClosed() ? "LongPairBuffer{closed}" : "LongPairBuffer{" + size() + " of " + capacity() + '}';
+	}
+}
@@ -0,0 +1,117 @@
+package io.klbz.curie;
+
+import java.util.Objects;
+
+import static io.klbz.curie.LongSatisfaction.dissatisfies;
+import static io.klbz.curie.LongSatisfaction.satisfies;
+
+/**
+ * A long-specialized {@link Predicate}: the same combinators and constructors, applied to unboxed values.
+ */
+public interface LongPredicate extends java.util.function.LongPredicate {
+
+	//region Common Predicates
+
+	static LongPredicate everTrue(){ return x -> true; }
+
+	static LongPredicate everFalse(){ return x -> false; }
+
+	static LongPredicate isEqual(long target){ return x -> x == target; }
+
+	static LongPredicate isGreaterThan(long bound){
+		return bound == Long.MAX_VALUE ? LongRangeSet.of() : LongRangeSet.between(bound + 1, Long.MAX_VALUE);
+	}
+
+	static LongPredicate isAtLeast(long bound){ return LongRangeSet.between(bound, Long.MAX_VALUE); }
+
+	static LongPredicate isLessThan(long bound){
+		return bound == Long.MIN_VALUE ? LongRangeSet.of() : LongRangeSet.between(Long.MIN_VALUE, bound - 1);
+	}
+
+	static LongPredicate isAtMost(long bound){ return LongRangeSet.between(Long.MIN_VALUE, bound); }
+
+	/** Tests whether a value lies within the given bounds, inclusive of both. */
+	static LongPredicate isBetween(long lowerBound, long upperBound){
+		return LongRangeSet.between(lowerBound, upperBound);
+	}
+
+	static LongPredicate isIn(long... values){ return LongRangeSet.of(values); }
+
+	//endregion
+
+	//region Construction
+
+	static LongPredicate is(LongPredicate p){ return p; }
+
+	static LongPredicate isNot(LongPredicate p){ return p.negate(); }
+
+	static LongPredicate enrich(java.util.function.LongPredicate base){
+		return base instanceof LongPredicate ? (LongPredicate) base : base::test;
+	}
+
+	//endregion
+
+	//region Aggregation
+
+	@Override
+	default LongPredicate and(java.util.function.LongPredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) && other.test(x);
+	}
+
+	@Override
+	default LongPredicate or(java.util.function.LongPredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) || other.test(x);
+	}
+
+	default LongPredicate xor(java.util.function.LongPredicate other){
+		Objects.requireNonNull(other);
+		return x -> test(x) ^ other.test(x);
+	}
+
+	static LongPredicate allOf(java.util.function.LongPredicate... predicates){
+		java.util.function.LongPredicate[] clauses = LongRangeSet.mergeRuns(predicates, false);
+		if(clauses.length == 1) return enrich(clauses[0]);
+
+		return x -> {
+			for(java.util.function.LongPredicate clause : clauses){
+				if(!clause.test(x)) return false;
+			}
+			return true;
+		};
+	}
+
+	static LongPredicate anyOf(java.util.function.LongPredicate... predicates){
+		java.util.function.LongPredicate[] clauses = LongRangeSet.mergeRuns(predicates, true);
+		if(clauses.length == 1) return enrich(clauses[0]);
+
+		return x -> {
+			for(java.util.function.LongPredicate clause : clauses){
+				if(clause.test(x)) return true;
+			}
+			return false;
+		};
+	}
+
+	static LongPredicate noneOf(java.util.function.LongPredicate... predicates){ return anyOf(predicates).negate(); }
+
+	//endregion
+
+	//region Adaptation
+
+	@Override
+	default LongPredicate negate(){
+		return x -> !test(x);
+	}
+
+	//endregion
+
+	//region Application
+
+	default LongSatisfaction satisfy(long value){
+		return test(value) ? satisfies(value) : dissatisfies(value);
+	}
+
+	//endregion
+}
@@ -0,0 +1,182 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+
+/**
+ * A long-specialized {@link RangeSet}: the values in a set of closed intervals, kept sorted, disjoint and coalesced,
+ * and tested by binary search. Produced by the comparison constructors and {@link LongPredicate#isIn}, and merged by
+ * {@link #and}, {@link #or}, {@link #xor}, {@link #negate} and adjacent clauses of {@link LongPredicate#allOf} and
+ * {@link LongPredicate#anyOf}.
+ */
+public final class LongRangeSet implements LongPredicate {
+	private static final LongRangeSet EMPTY = new LongRangeSet(new long[0], new long[0]);
+
+	private final long[] lows;
+	private final long[] highs;
+
+	private LongRangeSet(long[] lows, long[] highs){
+		this.lows = lows;
+		this.highs = highs;
+	}
+
+	//region Construction
+
+	static LongRangeSet between(long low, long high){
+		return low <= high ? new LongRangeSet(new long[]{ low }, new long[]{ high }) : EMPTY;
+	}
+
+	static LongRangeSet of(long... values){
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		Builder builder = new Builder(sorted.length);
+		for(long value : sorted) builder.add(value, value);
+		return builder.build();
+	}
+
+	//endregion
+
+	@Override
+	public boolean test(long x){
+		int low = 0;
+		int high = lows.length - 1;
+		while(low <= high){
+			int mid = (low + high) >>> 1;
+			if(lows[mid] <= x) low = mid + 1;
+			else high = mid - 1;
+		}
+		return high >= 0 && x <= highs[high];
+	}
+
+	//region Aggregation
+
+	public LongRangeSet and(LongRangeSet other){
+		Builder builder = new Builder(lows.length + other.lows.length);
+		int i = 0;
+		int j = 0;
+		while(i < lows.length && j < other.lows.length){
+			long low = Math.max(lows[i], other.lows[j]);
+			long high = Math.min(highs[i], other.highs[j]);
+			if(low <= high) builder.add(low, high);
+
+			if(highs[i] <= other.highs[j]) i++;
+			else j++;
+		}
+		return builder.build();
+	}
+
+	public LongRangeSet or(LongRangeSet other){
+		Builder builder = new Builder(lows.length + other.lows.length);
+		int i = 0;
+		int j = 0;
+		while(i < lows.length || j < other.lows.length){
+			if(j == other.lows.length || (i < lows.length && lows[i] <= other.lows[j])){
+				builder.add(lows[i], highs[i]);
+				i++;
+			}
+			else{
+				builder.add(other.lows[j], other.highs[j]);
+				j++;
+			}
+		}
+		return builder.build();
+	}
+
+	public LongRangeSet xor(LongRangeSet other){ return or(other).and(and(other).negate()); }
+
+	@Override
+	public LongRangeSet negate(){
+		Builder builder = new Builder(lows.length + 1);
+		long gapLow = Long.MIN_VALUE;
+		for(int i = 0; i < lows.length; i++){
+			if(lows[i] > gapLow) builder.add(gapLow, lows[i] - 1);
+			if(highs[i] == Long.MAX_VALUE) return builder.build();
+			gapLow = highs[i] + 1;
+		}
+		builder.add(gapLow, Long.MAX_VALUE);
+		return builder.build();
+	}
+
+	@Override
+	public LongPredicate and(java.util.function.LongPredicate other){
+		return other instanceof LongRangeSet ? and((LongRangeSet) other) : LongPredicate.super.and(other);
+	}
+
+	@Override
+	public LongPredicate or(java.util.function.LongPredicate other){
+		return other instanceof LongRangeSet ? or((LongRangeSet) other) : LongPredicate.super.or(other);
+	}
+
+	@Override
+	public LongPredicate xor(java.util.function.LongPredicate other){
+		return other instanceof LongRangeSet ? xor((LongRangeSet) other) : LongPredicate.super.xor(other);
+	}
+
+	/** Replaces each run of adjacent range sets among the given clauses with their union (or intersection). */
+	static java.util.function.LongPredicate[] mergeRuns(java.util.function.LongPredicate[] clauses, boolean union){
+		java.util.function.LongPredicate[] merged = new java.util.function.LongPredicate[clauses.length];
+		int size = 0;
+		for(java.util.function.LongPredicate clause : clauses){
+			if(size > 0 && merged[size - 1] instanceof LongRangeSet && clause instanceof LongRangeSet){
+				LongRangeSet last = (LongRangeSet) merged[size - 1];
+				merged[size - 1] = union ? last.or((LongRangeSet) clause) : last.and((LongRangeSet) clause);
+			}
+			else merged[size++] = clause;
+		}
+		return Arrays.copyOf(merged, size);
+	}
+
+	//endregion
+
+	/** Accumulates intervals in ascending order of their lows, coalescing those that overlap or abut. */
+	private static final class Builder {
+		private long[] lows;
+		private long[] highs;
+		private int   size;
+
+		private Builder(int capacity){
+			lows = new long[Math.max(capacity, 1)];
+			highs = new long[Math.max(capacity, 1)];
+		}
+
+		private void add(long low, long high){
+			if(size > 0 && (highs[size - 1] == Long.MAX_VALUE || low <= highs[size - 1] + 1)){
+				highs[size - 1] = Math.max(highs[size - 1], high);
+				return;
+			}
+			if(size == lows.length){
+				lows = Arrays.copyOf(lows, size * 2);
+				highs = Arrays.copyOf(highs, size * 2);
+			}
+			lows[size] = low;
+			highs[size] = high;
+			size++;
+		}
+
+		private LongRangeSet build(){
+			return size == 0 ? EMPTY : new LongRangeSet(Arrays.copyOf(lows, size), Arrays.copyOf(highs, size));
+		}
+	}
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		LongRangeSet rangeSet = (LongRangeSet) o;
+		return Arrays.equals(lows, rangeSet.lows) && Arrays.equals(highs, rangeSet.highs);
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Arrays.hashCode(lows)) + Arrays.hashCode(highs); }
+
+	@Override
+	public String toString(){
+		StringBuilder builder = new StringBuilder("LongRangeSet[");
+		for(int i = 0; i < lows.length; i++){
+			if(i > 0) builder.append(", ");
+			builder.append('[').append(lows[i]).append(", ").append(highs[i]).append(']');
+		}
+		return builder.append(']').toString();
+	}
+}
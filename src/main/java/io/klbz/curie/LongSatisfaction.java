@@ -0,0 +1,105 @@
+package io.klbz.curie;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * A long-specialized {@link Satisfaction}, produced by {@link LongPredicate#satisfy(long)}.
+ * It carries the tested value unboxed, and preserves or rejects it into a {@link MaybeLong}.
+ */
+public interface LongSatisfaction {
+	static LongSatisfaction satisfies(long satisfyingValue) { return new Satisfied(satisfyingValue); }
+
+	static LongSatisfaction dissatisfies(long dissatisfyingValue) { return new Dissatisfied(dissatisfyingValue); }
+
+	boolean isSatisfied();
+
+	MaybeLong preserve();
+
+	MaybeLong reject();
+
+	<S> S collapse(S ifSatisfied, S ifDissatisfied);
+
+	<S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied);
+
+	<S> S pipeCollapse(LongFunction<? extends S> ifSatisfied, LongFunction<? extends S> ifDissatisfied);
+
+	LongSatisfaction whenSatisfiedDo(LongConsumer doF);
+
+	LongSatisfaction whenDissatisfiedDo(LongConsumer doF);
+
+	class Satisfied implements LongSatisfaction {
+		private final long value;
+
+		private Satisfied(long value){ this.value = value; }
+
+		@Override
+		public boolean isSatisfied(){ return true; }
+
+		@Override
+		public MaybeLong preserve(){ return MaybeLong.just(value); }
+
+		@Override
+		public MaybeLong reject(){ return MaybeLong.none(); }
+
+		@Override
+		public <S> S collapse(S ifSatisfied, S ifDissatisfied){ return ifSatisfied; }
+
+		@Override
+		public <S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied){
+			return ifSatisfied.get();
+		}
+
+		@Override
+		public <S> S pipeCollapse(LongFunction<? extends S> ifSatisfied, LongFunction<? extends S> ifDissatisfied){
+			return ifSatisfied.apply(value);
+		}
+
+		@Override
+		public LongSatisfaction whenSatisfiedDo(LongConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+
+		@Override
+		public LongSatisfaction whenDissatisfiedDo(LongConsumer doF){ return this; }
+	}
+
+	class Dissatisfied implements LongSatisfaction {
+		private final long value;
+
+		private Dissatisfied(long value){ this.value = value; }
+
+		@Override
+		public boolean isSatisfied(){ return false; }
+
+		@Override
+		public MaybeLong preserve(){ return MaybeLong.none(); }
+
+		@Override
+		public MaybeLong reject(){ return MaybeLong.just(value); }
+
+		@Override
+		public <S> S collapse(S ifSatisfied, S ifDissatisfied){ return ifDissatisfied; }
+
+		@Override
+		public <S> S lazyCollapse(Supplier<? extends S> ifSatisfied, Supplier<? extends S> ifDissatisfied){
+			return ifDissatisfied.get();
+		}
+
+		@Override
+		public <S> S pipeCollapse(LongFunction<? extends S> ifSatisfied, LongFunction<? extends S> ifDissatisfied){
+			return ifDissatisfied.apply(value);
+		}
+
+		@Override
+		public LongSatisfaction whenSatisfiedDo(LongConsumer doF){ return this; }
+
+		@Override
+		public LongSatisfaction whenDissatisfiedDo(LongConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+	}
+}
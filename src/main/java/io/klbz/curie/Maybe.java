@@ -9,7 +9,7 @@ import java.util.function.Supplier;
 public interface Maybe<T> {
 	static <T> Maybe<T> just(T value){ return new Just<>(value); }
 
-	static <T> Maybe<T> none(){ return new None<>(); }
+	static <T> Maybe<T> none(){ return None.instance(); }
 
 	<S> Maybe<S> map(Function<? super T, S> transform);
 
@@ -83,15 +83,24 @@ public interface Maybe<T> {
 		}
 
 		@Override
-		public int hashCode(){ return Objects.hash(value); }
+		public int hashCode(){ return 31 + Objects.hashCode(value); }
 
 		@Override
 		public String toString(){ return "Just{" + value + '}'; }
 	}
 
+	/**
+	 * None carries no value, so a single type-erased instance serves every parameterization.
+	 * All empty results produced by the library are this instance; no empty path allocates.
+	 */
 	class None<T> implements Maybe<T> {
+		private static final None<?> instance = new None<>();
+
 		private None(){}
 
+		@SuppressWarnings("unchecked")
+		private static <T> None<T> instance(){ return (None<T>) instance; }
+
 		@Override
 		public <S> Maybe<S> map(Function<? super T, S> transform){ return none(); }
 
@@ -116,10 +125,10 @@ public interface Maybe<T> {
 		public boolean satisfies(Predicate<? super T> p){ return false; }
 
 		@Override
-		public Maybe<T> preserveIf(Predicate<? super T> p){ return none(); }
+		public Maybe<T> preserveIf(Predicate<? super T> p){ return this; }
 
 		@Override
-		public Maybe<T> rejectIf(Predicate<? super T> p){ return none(); }
+		public Maybe<T> rejectIf(Predicate<? super T> p){ return this; }
 
 		@Override
 		public Maybe<T> whenPresentDo(Consumer<T> doF){ return this; }
@@ -141,6 +150,6 @@ public interface Maybe<T> {
 	}
 
 	class ValueNotPresentException extends RuntimeException {
-		private ValueNotPresentException(){ super("Cannot provide value from a None-type Maybe"); }
+		ValueNotPresentException(){ super("Cannot provide value from a None-type Maybe"); }
 	}
 }
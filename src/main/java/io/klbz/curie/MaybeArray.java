@@ -0,0 +1,319 @@
+package io.klbz.curie;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable sequence of {@link Maybe}s, stored as a bitmap of which slots are present and a dense column of just
+ * the present values, so an absent slot costs one bit and a present one little more than its value; present values
+ * that are all non-null {@link Integer}s, {@link Long}s or {@link Double}s are stored unboxed.
+ *
+ * A slot's value is found by counting the present slots before it, which a running count kept per 64 slots makes a
+ * constant-time lookup. Bulk operations mirror those of a single Maybe across every slot, visiting only the present
+ * values: {@link #map} builds a new column and shares the bitmap, while {@link #flatMap}, {@link #preserveIf} and
+ * {@link #rejectIf} build both. Maybes themselves are only created on demand, by {@link #get}, iteration and streams,
+ * whose spliterator splits by index for parallel streams.
+ */
+public final class MaybeArray<T> implements Iterable<Maybe<T>> {
+	private static final MaybeArray<?> EMPTY = new MaybeArray<>(new long[0], 0, Column.pack(new Object[0], 0));
+
+	private final long[] words;
+	private final int[]  ranks;
+	private final int    size;
+	private final Column values;
+
+	private MaybeArray(long[] words, int size, Column values){
+		this.words = words;
+		this.size = size;
+		this.values = values;
+		ranks = new int[words.length];
+		for(int w = 1; w < words.length; w++) ranks[w] = ranks[w - 1] + Long.bitCount(words[w - 1]);
+	}
+
+	//region Construction
+
+	@SuppressWarnings("unchecked")
+	public static <T> MaybeArray<T> empty(){ return (MaybeArray<T>) EMPTY; }
+
+	public static <T> MaybeArray<T> of(Collection<? extends Maybe<? extends T>> maybes){
+		Builder<T> builder = new Builder<>(maybes.size());
+		for(Maybe<? extends T> maybe : maybes) builder.add(maybe);
+		return builder.build();
+	}
+
+	/** A sequence with a present slot for each non-null element of the given list, and an absent slot for each null. */
+	public static <T> MaybeArray<T> ofNullables(List<? extends T> values){
+		Builder<T> builder = new Builder<>(values.size());
+		for(T value : values){
+			if(value == null) builder.addNone();
+			else builder.addJust(value);
+		}
+		return builder.build();
+	}
+
+	public static <T> Builder<T> builder(){ return new Builder<>(16); }
+
+	//endregion
+
+	//region Access
+
+	/** The number of slots, present or absent. */
+	public int size(){ return size; }
+
+	public boolean isEmpty(){ return size == 0; }
+
+	/** The number of present slots. */
+	public int count(){ return values.size(); }
+
+	public boolean isPresent(int index){
+		checkIndex(index);
+		return (words[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/** The slot at the given index, as a Maybe created on demand. */
+	@SuppressWarnings("unchecked")
+	public Maybe<T> get(int index){ return isPresent(index) ? Maybe.just((T) values.get(rank(index))) : Maybe.none(); }
+
+	/** The indexes of the present slots. */
+	public Selection present(){ return new Selection(words.clone(), size); }
+
+	/** The present values, in order, as an unmodifiable view. */
+	public List<T> presentValues(){ return values.asList(); }
+
+	/** The position among the present values of the value of the given present slot. */
+	private int rank(int index){ return ranks[index >>> 6] + Long.bitCount(words[index >>> 6] & ((1L << index) - 1)); }
+
+	private void checkIndex(int index){
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	@SuppressWarnings("unchecked")
+	public <S> MaybeArray<S> map(Function<? super T, S> transform){
+		Object[] mapped = new Object[values.size()];
+		for(int i = 0; i < mapped.length; i++) mapped[i] = transform.apply((T) values.get(i));
+		return new MaybeArray<>(words, size, Column.pack(mapped, mapped.length));
+	}
+
+	@SuppressWarnings("unchecked")
+	public <S> MaybeArray<S> flatMap(Function<? super T, Maybe<S>> transform){
+		long[] kept = new long[words.length];
+		Object[] mapped = new Object[values.size()];
+		int count = 0;
+		int next = 0;
+		for(int w = 0; w < words.length; w++){
+			for(long word = words[w]; word != 0; word &= word - 1){
+				Maybe<S> result = transform.apply((T) values.get(next++));
+				if(result instanceof Maybe.Just){
+					kept[w] |= Long.lowestOneBit(word);
+					mapped[count++] = result.assume();
+				}
+			}
+		}
+		return new MaybeArray<>(kept, size, Column.pack(mapped, count));
+	}
+
+	/** Keeps the present values satisfying the given predicate, and makes the others absent. */
+	public MaybeArray<T> preserveIf(Predicate<? super T> p){ return retain(p, true); }
+
+	/** Makes the present values satisfying the given predicate absent. */
+	public MaybeArray<T> rejectIf(Predicate<? super T> p){ return retain(p, false); }
+
+	@SuppressWarnings("unchecked")
+	private MaybeArray<T> retain(Predicate<? super T> p, boolean kept){
+		long[] keptWords = new long[words.length];
+		Object[] keptValues = new Object[values.size()];
+		int count = 0;
+		int next = 0;
+		for(int w = 0; w < words.length; w++){
+			for(long word = words[w]; word != 0; word &= word - 1){
+				Object value = values.get(next++);
+				if(p.test((T) value) == kept){
+					keptWords[w] |= Long.lowestOneBit(word);
+					keptValues[count++] = value;
+				}
+			}
+		}
+		if(count == values.size()) return this;
+		return new MaybeArray<>(keptWords, size, Column.pack(keptValues, count));
+	}
+
+	/** Tests each present value, selecting the indexes of those satisfying the predicate; absent slots fail. */
+	@SuppressWarnings("unchecked")
+	public Selection satisfies(Predicate<? super T> p){
+		long[] selected = new long[words.length];
+		int next = 0;
+		for(int w = 0; w < words.length; w++){
+			for(long word = words[w]; word != 0; word &= word - 1){
+				if(p.test((T) values.get(next++))) selected[w] |= Long.lowestOneBit(word);
+			}
+		}
+		return new Selection(selected, size);
+	}
+
+	/** Visits each present value along with its index, in order, skipping absent slots a word at a time. */
+	@SuppressWarnings("unchecked")
+	public MaybeArray<T> forEachPresent(ObjIntConsumer<? super T> doF){
+		int next = 0;
+		for(int w = 0; w < words.length; w++){
+			for(long word = words[w]; word != 0; word &= word - 1){
+				doF.accept((T) values.get(next++), (w << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+		return this;
+	}
+
+	@SuppressWarnings("unchecked")
+	public MaybeArray<T> whenPresentDo(Consumer<? super T> doF){
+		for(int i = 0; i < values.size(); i++) doF.accept((T) values.get(i));
+		return this;
+	}
+
+	//endregion
+
+	//region Iteration
+
+	@Override
+	public Iterator<Maybe<T>> iterator(){ return Spliterators.iterator(spliterator()); }
+
+	/** A spliterator over every slot, creating each Maybe as it is reached, that splits its index range in halves. */
+	@Override
+	public Spliterator<Maybe<T>> spliterator(){ return new MaybeSpliterator(0, size); }
+
+	public Stream<Maybe<T>> stream(){ return StreamSupport.stream(spliterator(), false); }
+
+	public Stream<Maybe<T>> parallelStream(){ return StreamSupport.stream(spliterator(), true); }
+
+	/** The slots, as an unmodifiable view creating each Maybe on demand. */
+	public List<Maybe<T>> asList(){ return new MaybeList(); }
+
+	private final class MaybeSpliterator implements Spliterator<Maybe<T>> {
+		private       int index;
+		private final int end;
+
+		private MaybeSpliterator(int index, int end){
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Maybe<T>> action){
+			if(index >= end) return false;
+			action.accept(get(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Maybe<T>> action){
+			for(; index < end; index++) action.accept(get(index));
+		}
+
+		@Override
+		public Spliterator<Maybe<T>> trySplit(){
+			int middle = (index + end) >>> 1;
+			if(middle <= index) return null;
+			MaybeSpliterator prefix = new MaybeSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize(){ return end - index; }
+
+		@Override
+		public int characteristics(){ return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE; }
+	}
+
+	private final class MaybeList extends AbstractList<Maybe<T>> implements RandomAccess {
+		@Override
+		public Maybe<T> get(int index){ return MaybeArray.this.get(index); }
+
+		@Override
+		public int size(){ return size; }
+
+		@Override
+		public Spliterator<Maybe<T>> spliterator(){ return MaybeArray.this.spliterator(); }
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		MaybeArray<?> that = (MaybeArray<?>) o;
+		return size == that.size && Arrays.equals(words, that.words) && values.asList().equals(that.values.asList());
+	}
+
+	/** The hash of the list of the slots. */
+	@Override
+	public int hashCode(){
+		int hash = 1;
+		int next = 0;
+		for(int i = 0; i < size; i++){
+			boolean present = (words[i >>> 6] & (1L << i)) != 0;
+			hash = 31 * hash + (present ? 31 + Objects.hashCode(values.get(next++)) : 0);
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString(){ return "MaybeArray" + asList(); }
+
+	/** Gathers slots one at a time, then packs them into a {@link MaybeArray}. */
+	public static final class Builder<T> {
+		private long[]   words;
+		private Object[] values;
+		private int      size;
+		private int      count;
+
+		private Builder(int capacity){
+			words = new long[(Math.max(capacity, 1) + 63) >>> 6];
+			values = new Object[Math.max(capacity, 1)];
+		}
+
+		public Builder<T> addJust(T value){
+			if(count == values.length) values = Arrays.copyOf(values, count * 2);
+			values[count++] = value;
+			mark(true);
+			return this;
+		}
+
+		public Builder<T> addNone(){
+			mark(false);
+			return this;
+		}
+
+		public Builder<T> add(Maybe<? extends T> maybe){
+			return maybe instanceof Maybe.Just ? addJust(maybe.assume()) : addNone();
+		}
+
+		private void mark(boolean present){
+			if(size >>> 6 == words.length) words = Arrays.copyOf(words, words.length * 2);
+			if(present) words[size >>> 6] |= 1L << size;
+			size++;
+		}
+
+		/** Packs the slots so far; the result keeps no array that later additions write to. */
+		public MaybeArray<T> build(){
+			return new MaybeArray<>(Arrays.copyOf(words, (size + 63) >>> 6), size, Column.pack(values, count));
+		}
+	}
+}
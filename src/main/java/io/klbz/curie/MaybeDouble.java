@@ -0,0 +1,175 @@
+package io.klbz.curie;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A double-specialized {@link Maybe}: the same operations, carried out on an unboxed value.
+ * Absence is a single shared None. Present values compare as {@link Double#equals} does, so NaN equals NaN and 0.0
+ * differs from -0.0.
+ */
+public interface MaybeDouble {
+	static MaybeDouble just(double value){ return new Just(value); }
+
+	static MaybeDouble none(){ return None.instance; }
+
+	/**
+	 * Unboxes a Maybe of Double.
+	 *
+	 * @throws NullPointerException when the Maybe is a Just of null
+	 */
+	static MaybeDouble from(Maybe<Double> maybe){ return maybe instanceof Maybe.None ? none() : just(maybe.assume()); }
+
+	MaybeDouble map(DoubleUnaryOperator transform);
+
+	<S> Maybe<S> mapToObj(DoubleFunction<? extends S> transform);
+
+	MaybeDouble flatMap(DoubleFunction<MaybeDouble> transform);
+
+	double assume();
+
+	double assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid);
+
+	double collapse(double defaultWhenNone);
+
+	double collapse(DoubleSupplier defaultWhenNone);
+
+	boolean satisfies(DoublePredicate p);
+
+	MaybeDouble preserveIf(DoublePredicate p);
+
+	MaybeDouble rejectIf(DoublePredicate p);
+
+	MaybeDouble whenPresentDo(DoubleConsumer doF);
+
+	MaybeDouble whenMissingDo(SideEffect doF);
+
+	Maybe<Double> boxed();
+
+	class Just implements MaybeDouble {
+		private final double value;
+
+		private Just(double value){ this.value = value; }
+
+		@Override
+		public MaybeDouble map(DoubleUnaryOperator transform){ return new Just(transform.applyAsDouble(value)); }
+
+		@Override
+		public <S> Maybe<S> mapToObj(DoubleFunction<? extends S> transform){
+			return Maybe.just(transform.apply(value));
+		}
+
+		@Override
+		public MaybeDouble flatMap(DoubleFunction<MaybeDouble> transform){ return transform.apply(value); }
+
+		@Override
+		public double assume(){ return value; }
+
+		@Override
+		public double assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid){ return value; }
+
+		@Override
+		public double collapse(double defaultWhenNone){ return value; }
+
+		@Override
+		public double collapse(DoubleSupplier defaultWhenNone){ return value; }
+
+		@Override
+		public boolean satisfies(DoublePredicate p){ return p.test(value); }
+
+		@Override
+		public MaybeDouble preserveIf(DoublePredicate p){ return p.test(value) ? this : none(); }
+
+		@Override
+		public MaybeDouble rejectIf(DoublePredicate p){ return p.test(value) ? none() : this; }
+
+		@Override
+		public MaybeDouble whenPresentDo(DoubleConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+
+		@Override
+		public MaybeDouble whenMissingDo(SideEffect doF){ return this; }
+
+		@Override
+		public Maybe<Double> boxed(){ return Maybe.just(value); }
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+			Just just = (Just) o;
+			return Double.compare(value, just.value) == 0;
+		}
+
+		@Override
+		public int hashCode(){ return 31 + Double.hashCode(value); }
+
+		@Override
+		public String toString(){ return "Just{" + value + '}'; }
+	}
+
+	class None implements MaybeDouble {
+		private static final None instance = new None();
+
+		private None(){}
+
+		@Override
+		public MaybeDouble map(DoubleUnaryOperator transform){ return this; }
+
+		@Override
+		public <S> Maybe<S> mapToObj(DoubleFunction<? extends S> transform){ return Maybe.none(); }
+
+		@Override
+		public MaybeDouble flatMap(DoubleFunction<MaybeDouble> transform){ return this; }
+
+		@Override
+		public double assume(){ throw new Maybe.ValueNotPresentException(); }
+
+		@Override
+		public double assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid){
+			throw toThrowWhenAssumptionInvalid.get();
+		}
+
+		@Override
+		public double collapse(double defaultWhenNone){ return defaultWhenNone; }
+
+		@Override
+		public double collapse(DoubleSupplier defaultWhenNone){ return defaultWhenNone.getAsDouble(); }
+
+		@Override
+		public boolean satisfies(DoublePredicate p){ return false; }
+
+		@Override
+		public MaybeDouble preserveIf(DoublePredicate p){ return this; }
+
+		@Override
+		public MaybeDouble rejectIf(DoublePredicate p){ return this; }
+
+		@Override
+		public MaybeDouble whenPresentDo(DoubleConsumer doF){ return this; }
+
+		@Override
+		public MaybeDouble whenMissingDo(SideEffect doF){
+			doF.perform();
+			return this;
+		}
+
+		@Override
+		public Maybe<Double> boxed(){ return Maybe.none(); }
+
+		@Override
+		public boolean equals(Object o){ return this == o; }
+
+		@Override
+		public int hashCode(){ return 0; }
+
+		@Override
+		public String toString(){ return "None{}"; }
+	}
+}
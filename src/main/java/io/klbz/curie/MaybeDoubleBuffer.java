@@ -0,0 +1,173 @@
+package io.klbz.curie;
+
+import java.nio.ByteBuffer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * An {@link OffHeapBuffer} of optional doubles: the values are stored one after another, followed by a bitmap of
+ * which of them are present. Elements are read as {@link MaybeDouble}s, and bulk operations scan the buffer in
+ * place, visiting only the present values, as the operations of a single MaybeDouble would.
+ */
+public final class MaybeDoubleBuffer extends OffHeapBuffer {
+	private final int presence;
+
+	private MaybeDoubleBuffer(int capacity){
+		super(capacity, Double.BYTES, ((capacity + 63) >>> 6) * Long.BYTES);
+		presence = capacity * Double.BYTES;
+	}
+
+	public static MaybeDoubleBuffer allocate(int capacity){ return new MaybeDoubleBuffer(capacity); }
+
+	//region Access
+
+	public MaybeDoubleBuffer add(double value){ return put(append(), value); }
+
+	public MaybeDoubleBuffer addNone(){
+		clear(append());
+		return this;
+	}
+
+	public MaybeDoubleBuffer add(MaybeDouble maybe){
+		return maybe instanceof MaybeDouble.Just ? add(maybe.assume()) : addNone();
+	}
+
+	public MaybeDoubleBuffer set(int index, double value){
+		checkIndex(index);
+		return put(index, value);
+	}
+
+	public MaybeDoubleBuffer setNone(int index){
+		checkIndex(index);
+		clear(index);
+		return this;
+	}
+
+	public MaybeDouble get(int index){ return isPresent(index) ? MaybeDouble.just(value(index)) : MaybeDouble.none(); }
+
+	public boolean isPresent(int index){
+		checkIndex(index);
+		return (word(memory(), index) & (1L << index)) != 0;
+	}
+
+	/** The number of present values. */
+	public int count(){
+		ByteBuffer memory = memory();
+		int count = 0;
+		for(int w = 0; w < (size + 63) >>> 6; w++) count += Long.bitCount(memory.getLong(presence + w * Long.BYTES));
+		return count;
+	}
+
+	private double value(int index){ return memory().getDouble(index * Double.BYTES); }
+
+	private MaybeDoubleBuffer put(int index, double value){
+		ByteBuffer memory = memory();
+		memory.putDouble(index * Double.BYTES, value);
+		int at = presence + (index >>> 6) * Long.BYTES;
+		memory.putLong(at, memory.getLong(at) | 1L << index);
+		return this;
+	}
+
+	private void clear(int index){
+		ByteBuffer memory = memory();
+		int at = presence + (index >>> 6) * Long.BYTES;
+		memory.putLong(at, memory.getLong(at) & ~(1L << index));
+	}
+
+	private long word(ByteBuffer memory, int index){ return memory.getLong(presence + (index >>> 6) * Long.BYTES); }
+
+	//endregion
+
+	//region Bulk operations
+
+	/** Replaces every present value with the result of applying the given function to it. */
+	public MaybeDoubleBuffer update(DoubleUnaryOperator transform){
+		ByteBuffer memory = beginScan();
+		try{
+			forEachPresent(memory, i -> {
+				int at = i * Double.BYTES;
+				memory.putDouble(at, transform.applyAsDouble(memory.getDouble(at)));
+			});
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Keeps the present values satisfying the given predicate, and makes the others absent. */
+	public MaybeDoubleBuffer preserveIf(DoublePredicate p){ return retain(p, true); }
+
+	/** Makes the present values satisfying the given predicate absent. */
+	public MaybeDoubleBuffer rejectIf(DoublePredicate p){ return retain(p, false); }
+
+	private MaybeDoubleBuffer retain(DoublePredicate p, boolean kept){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int w = 0; w < (size + 63) >>> 6; w++){
+				int at = presence + w * Long.BYTES;
+				long word = memory.getLong(at);
+				for(long remaining = word; remaining != 0; remaining &= remaining - 1){
+					int bit = Long.numberOfTrailingZeros(remaining);
+					if(p.test(memory.getDouble(((w << 6) + bit) * Double.BYTES)) != kept) word &= ~(1L << bit);
+				}
+				memory.putLong(at, word);
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Tests each present value, selecting the indexes of those satisfying the predicate; absent values fail. */
+	public Selection satisfies(DoublePredicate p){
+		ByteBuffer memory = beginScan();
+		try{
+			long[] words = new long[(size + 63) >>> 6];
+			forEachPresent(memory, i -> {
+				if(p.test(memory.getDouble(i * Double.BYTES))) words[i >>> 6] |= 1L << i;
+			});
+			return new Selection(words, size);
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** The indexes of the present values. */
+	public Selection present(){
+		ByteBuffer memory = memory();
+		long[] words = new long[(size + 63) >>> 6];
+		for(int w = 0; w < words.length; w++) words[w] = memory.getLong(presence + w * Long.BYTES);
+		return new Selection(words, size);
+	}
+
+	public MaybeDoubleBuffer whenPresentDo(DoubleConsumer doF){
+		ByteBuffer memory = beginScan();
+		try{
+			forEachPresent(memory, i -> doF.accept(memory.getDouble(i * Double.BYTES)));
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	private void forEachPresent(ByteBuffer memory, IntConsumer doF){
+		for(int w = 0; w < (size + 63) >>> 6; w++){
+			for(long word = memory.getLong(presence + w * Long.BYTES); word != 0; word &= word - 1){
+				doF.accept((w << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+	}
+
+	//endregion
+
+	@Override
+	public String toString(){
+		return isClosed() ? "MaybeDoubleBuffer{closed}" : "MaybeDoubleBuffer{" + size() + " of " + capacity() + '}';
+	}
+}
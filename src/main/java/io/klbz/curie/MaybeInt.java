@@ -0,0 +1,188 @@
+package io.klbz.curie;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * An int-specialized {@link Maybe}: the same operations, carried out on an unboxed value.
+ * Present values in the range of the JDK's {@link Integer} cache share a cached Just, and absence is a single shared
+ * None, so most numeric pipelines allocate nothing at all.
+ */
+public interface MaybeInt {
+	static MaybeInt just(int value){ return Just.of(value); }
+
+	static MaybeInt none(){ return None.instance; }
+
+	/**
+	 * Unboxes a Maybe of Integer.
+	 *
+	 * @throws NullPointerException when the Maybe is a Just of null
+	 */
+	static MaybeInt from(Maybe<Integer> maybe){ return maybe instanceof Maybe.None ? none() : just(maybe.assume()); }
+
+	MaybeInt map(IntUnaryOperator transform);
+
+	<S> Maybe<S> mapToObj(IntFunction<? extends S> transform);
+
+	MaybeInt flatMap(IntFunction<MaybeInt> transform);
+
+	int assume();
+
+	int assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid);
+
+	int collapse(int defaultWhenNone);
+
+	int collapse(IntSupplier defaultWhenNone);
+
+	boolean satisfies(IntPredicate p);
+
+	MaybeInt preserveIf(IntPredicate p);
+
+	MaybeInt rejectIf(IntPredicate p);
+
+	MaybeInt whenPresentDo(IntConsumer doF);
+
+	MaybeInt whenMissingDo(SideEffect doF);
+
+	Maybe<Integer> boxed();
+
+	class Just implements MaybeInt {
+		private static final int    cacheLow = -128;
+		private static final Just[] cache    = new Just[256];
+
+		static {
+			for(int i = 0; i < cache.length; i++){
+				cache[i] = new Just(cacheLow + i);
+			}
+		}
+
+		private final int value;
+
+		private Just(int value){ this.value = value; }
+
+		private static Just of(int value){
+			return (value >= cacheLow && value < cacheLow + cache.length)
+			       ? cache[value - cacheLow]
+			       : new Just(value);
+		}
+
+		@Override
+		public MaybeInt map(IntUnaryOperator transform){ return of(transform.applyAsInt(value)); }
+
+		@Override
+		public <S> Maybe<S> mapToObj(IntFunction<? extends S> transform){ return Maybe.just(transform.apply(value)); }
+
+		@Override
+		public MaybeInt flatMap(IntFunction<MaybeInt> transform){ return transform.apply(value); }
+
+		@Override
+		public int assume(){ return value; }
+
+		@Override
+		public int assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid){ return value; }
+
+		@Override
+		public int collapse(int defaultWhenNone){ return value; }
+
+		@Override
+		public int collapse(IntSupplier defaultWhenNone){ return value; }
+
+		@Override
+		public boolean satisfies(IntPredicate p){ return p.test(value); }
+
+		@Override
+		public MaybeInt preserveIf(IntPredicate p){ return p.test(value) ? this : none(); }
+
+		@Override
+		public MaybeInt rejectIf(IntPredicate p){ return p.test(value) ? none() : this; }
+
+		@Override
+		public MaybeInt whenPresentDo(IntConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+
+		@Override
+		public MaybeInt whenMissingDo(SideEffect doF){ return this; }
+
+		@Override
+		public Maybe<Integer> boxed(){ return Maybe.just(value); }
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+			Just just = (Just) o;
+			return value == just.value;
+		}
+
+		@Override
+		public int hashCode(){ return 31 + Integer.hashCode(value); }
+
+		@Override
+		public String toString(){ return "Just{" + value + '}'; }
+	}
+
+	class None implements MaybeInt {
+		private static final None instance = new None();
+
+		private None(){}
+
+		@Override
+		public MaybeInt map(IntUnaryOperator transform){ return this; }
+
+		@Override
+		public <S> Maybe<S> mapToObj(IntFunction<? extends S> transform){ return Maybe.none(); }
+
+		@Override
+		public MaybeInt flatMap(IntFunction<MaybeInt> transform){ return this; }
+
+		@Override
+		public int assume(){ throw new Maybe.ValueNotPresentException(); }
+
+		@Override
+		public int assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid){
+			throw toThrowWhenAssumptionInvalid.get();
+		}
+
+		@Override
+		public int collapse(int defaultWhenNone){ return defaultWhenNone; }
+
+		@Override
+		public int collapse(IntSupplier defaultWhenNone){ return defaultWhenNone.getAsInt(); }
+
+		@Override
+		public boolean satisfies(IntPredicate p){ return false; }
+
+		@Override
+		public MaybeInt preserveIf(IntPredicate p){ return this; }
+
+		@Override
+		public MaybeInt rejectIf(IntPredicate p){ return this; }
+
+		@Override
+		public MaybeInt whenPresentDo(IntConsumer doF){ return this; }
+
+		@Override
+		public MaybeInt whenMissingDo(SideEffect doF){
+			doF.perform();
+			return this;
+		}
+
+		@Override
+		public Maybe<Integer> boxed(){ return Maybe.none(); }
+
+		@Override
+		public boolean equals(Object o){ return this == o; }
+
+		@Override
+		public int hashCode(){ return 0; }
+
+		@Override
+		public String toString(){ return "None{}"; }
+	}
+}
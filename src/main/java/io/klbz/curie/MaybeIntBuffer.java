@@ -0,0 +1,172 @@
+package io.klbz.curie;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An {@link OffHeapBuffer} of optional ints: the values are stored one after another, followed by a bitmap of
+ * which of them are present. Elements are read as {@link MaybeInt}s, and bulk operations scan the buffer in
+ * place, visiting only the present values, as the operations of a single MaybeInt would.
+ */
+public final class MaybeIntBuffer extends OffHeapBuffer {
+	private final int presence;
+
+	private MaybeIntBuffer(int capacity){
+		super(capacity, Integer.BYTES, ((capacity + 63) >>> 6) * Long.BYTES);
+		presence = capacity * Integer.BYTES;
+	}
+
+	public static MaybeIntBuffer allocate(int capacity){ return new MaybeIntBuffer(capacity); }
+
+	//region Access
+
+	public MaybeIntBuffer add(int value){ return put(append(), value); }
+
+	public MaybeIntBuffer addNone(){
+		clear(append());
+		return this;
+	}
+
+	public MaybeIntBuffer add(MaybeInt maybe){
+		return maybe instanceof MaybeInt.Just ? add(maybe.assume()) : addNone();
+	}
+
+	public MaybeIntBuffer set(int index, int value){
+		checkIndex(index);
+		return put(index, value);
+	}
+
+	public MaybeIntBuffer setNone(int index){
+		checkIndex(index);
+		clear(index);
+		return this;
+	}
+
+	public MaybeInt get(int index){ return isPresent(index) ? MaybeInt.just(value(index)) : MaybeInt.none(); }
+
+	public boolean isPresent(int index){
+		checkIndex(index);
+		return (word(memory(), index) & (1L << index)) != 0;
+	}
+
+	/** The number of present values. */
+	public int count(){
+		ByteBuffer memory = memory();
+		int count = 0;
+		for(int w = 0; w < (size + 63) >>> 6; w++) count += Long.bitCount(memory.getLong(presence + w * Long.BYTES));
+		return count;
+	}
+
+	private int value(int index){ return memory().getInt(index * Integer.BYTES); }
+
+	private MaybeIntBuffer put(int index, int value){
+		ByteBuffer memory = memory();
+		memory.putInt(index * Integer.BYTES, value);
+		int at = presence + (index >>> 6) * Long.BYTES;
+		memory.putLong(at, memory.getLong(at) | 1L << index);
+		return this;
+	}
+
+	private void clear(int index){
+		ByteBuffer memory = memory();
+		int at = presence + (index >>> 6) * Long.BYTES;
+		memory.putLong(at, memory.getLong(at) & ~(1L << index));
+	}
+
+	private long word(ByteBuffer memory, int index){ return memory.getLong(presence + (index >>> 6) * Long.BYTES); }
+
+	//endregion
+
+	//region Bulk operations
+
+	/** Replaces every present value with the result of applying the given function to it. */
+	public MaybeIntBuffer update(IntUnaryOperator transform){
+		ByteBuffer memory = beginScan();
+		try{
+			forEachPresent(memory, i -> {
+				int at = i * Integer.BYTES;
+				memory.putInt(at, transform.applyAsInt(memory.getInt(at)));
+			});
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Keeps the present values satisfying the given predicate, and makes the others absent. */
+	public MaybeIntBuffer preserveIf(IntPredicate p){ return retain(p, true); }
+
+	/** Makes the present values satisfying the given predicate absent. */
+	public MaybeIntBuffer rejectIf(IntPredicate p){ return retain(p, false); }
+
+	private MaybeIntBuffer retain(IntPredicate p, boolean kept){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int w = 0; w < (size + 63) >>> 6; w++){
+				int at = presence + w * Long.BYTES;
+				long word = memory.getLong(at);
+				for(long remaining = word; remaining != 0; remaining &= remaining - 1){
+					int bit = Long.numberOfTrailingZeros(remaining);
+					if(p.test(memory.getInt(((w << 6) + bit) * Integer.BYTES)) != kept) word &= ~(1L << bit);
+				}
+				memory.putLong(at, word);
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Tests each present value, selecting the indexes of those satisfying the predicate; absent values fail. */
+	public Selection satisfies(IntPredicate p){
+		ByteBuffer memory = beginScan();
+		try{
+			long[] words = new long[(size + 63) >>> 6];
+			forEachPresent(memory, i -> {
+				if(p.test(memory.getInt(i * Integer.BYTES))) words[i >>> 6] |= 1L << i;
+			});
+			return new Selection(words, size);
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** The indexes of the present values. */
+	public Selection present(){
+		ByteBuffer memory = memory();
+		long[] words = new long[(size + 63) >>> 6];
+		for(int w = 0; w < words.length; w++) words[w] = memory.getLong(presence + w * Long.BYTES);
+		return new Selection(words, size);
+	}
+
+	public MaybeIntBuffer whenPresentDo(IntConsumer doF){
+		ByteBuffer memory = beginScan();
+		try{
+			forEachPresent(memory, i -> doF.accept(memory.getInt(i * Integer.BYTES)));
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	private void forEachPresent(ByteBuffer memory, IntConsumer doF){
+		for(int w = 0; w < (size + 63) >>> 6; w++){
+			for(long word = memory.getLong(presence + w * Long.BYTES); word != 0; word &= word - 1){
+				doF.accept((w << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+	}
+
+	//endregion
+
+	@Override
+	public String toString(){
+		return isClosed() ? "MaybeIntBuffer{closed}" : "MaybeIntBuffer{" + size() + " of " + capacity() + '}';
+	}
+}
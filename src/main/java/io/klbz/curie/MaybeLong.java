@@ -0,0 +1,188 @@
+package io.klbz.curie;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * A long-specialized {@link Maybe}: the same operations, carried out on an unboxed value.
+ * Present values in the range of the JDK's {@link Long} cache share a cached Just, and absence is a single shared
+ * None, so most numeric pipelines allocate nothing at all.
+ */
+public interface MaybeLong {
+	static MaybeLong just(long value){ return Just.of(value); }
+
+	static MaybeLong none(){ return None.instance; }
+
+	/**
+	 * Unboxes a Maybe of Long.
+	 *
+	 * @throws NullPointerException when the Maybe is a Just of null
+	 */
+	static MaybeLong from(Maybe<Long> maybe){ return maybe instanceof Maybe.None ? none() : just(maybe.assume()); }
+
+	MaybeLong map(LongUnaryOperator transform);
+
+	<S> Maybe<S> mapToObj(LongFunction<? extends S> transform);
+
+	MaybeLong flatMap(LongFunction<MaybeLong> transform);
+
+	long assume();
+
+	long assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid);
+
+	long collapse(long defaultWhenNone);
+
+	long collapse(LongSupplier defaultWhenNone);
+
+	boolean satisfies(LongPredicate p);
+
+	MaybeLong preserveIf(LongPredicate p);
+
+	MaybeLong rejectIf(LongPredicate p);
+
+	MaybeLong whenPresentDo(LongConsumer doF);
+
+	MaybeLong whenMissingDo(SideEffect doF);
+
+	Maybe<Long> boxed();
+
+	class Just implements MaybeLong {
+		private static final int    cacheLow = -128;
+		private static final Just[] cache    = new Just[256];
+
+		static {
+			for(int i = 0; i < cache.length; i++){
+				cache[i] = new Just(cacheLow + i);
+			}
+		}
+
+		private final long value;
+
+		private Just(long value){ this.value = value; }
+
+		private static Just of(long value){
+			return (value >= cacheLow && value < cacheLow + cache.length)
+			       ? cache[(int) value - cacheLow]
+			       : new Just(value);
+		}
+
+		@Override
+		public MaybeLong map(LongUnaryOperator transform){ return of(transform.applyAsLong(value)); }
+
+		@Override
+		public <S> Maybe<S> mapToObj(LongFunction<? extends S> transform){ return Maybe.just(transform.apply(value)); }
+
+		@Override
+		public MaybeLong flatMap(LongFunction<MaybeLong> transform){ return transform.apply(value); }
+
+		@Override
+		public long assume(){ return value; }
+
+		@Override
+		public long assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid){ return value; }
+
+		@Override
+		public long collapse(long defaultWhenNone){ return value; }
+
+		@Override
+		public long collapse(LongSupplier defaultWhenNone){ return value; }
+
+		@Override
+		public boolean satisfies(LongPredicate p){ return p.test(value); }
+
+		@Override
+		public MaybeLong preserveIf(LongPredicate p){ return p.test(value) ? this : none(); }
+
+		@Override
+		public MaybeLong rejectIf(LongPredicate p){ return p.test(value) ? none() : this; }
+
+		@Override
+		public MaybeLong whenPresentDo(LongConsumer doF){
+			doF.accept(value);
+			return this;
+		}
+
+		@Override
+		public MaybeLong whenMissingDo(SideEffect doF){ return this; }
+
+		@Override
+		public Maybe<Long> boxed(){ return Maybe.just(value); }
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+			Just just = (Just) o;
+			return value == just.value;
+		}
+
+		@Override
+		public int hashCode(){ return 31 + Long.hashCode(value); }
+
+		@Override
+		public String toString(){ return "Just{" + value + '}'; }
+	}
+
+	class None implements MaybeLong {
+		private static final None instance = new None();
+
+		private None(){}
+
+		@Override
+		public MaybeLong map(LongUnaryOperator transform){ return this; }
+
+		@Override
+		public <S> Maybe<S> mapToObj(LongFunction<? extends S> transform){ return Maybe.none(); }
+
+		@Override
+		public MaybeLong flatMap(LongFunction<MaybeLong> transform){ return this; }
+
+		@Override
+		public long assume(){ throw new Maybe.ValueNotPresentException(); }
+
+		@Override
+		public long assume(Supplier<? extends RuntimeException> toThrowWhenAssumptionInvalid){
+			throw toThrowWhenAssumptionInvalid.get();
+		}
+
+		@Override
+		public long collapse(long defaultWhenNone){ return defaultWhenNone; }
+
+		@Override
+		public long collapse(LongSupplier defaultWhenNone){ return defaultWhenNone.getAsLong(); }
+
+		@Override
+		public boolean satisfies(LongPredicate p){ return false; }
+
+		@Override
+		public MaybeLong preserveIf(LongPredicate p){ return this; }
+
+		@Override
+		public MaybeLong rejectIf(LongPredicate p){ return this; }
+
+		@Override
+		public MaybeLong whenPresentDo(LongConsumer doF){ return this; }
+
+		@Override
+		public MaybeLong whenMissingDo(SideEffect doF){
+			doF.perform();
+			return this;
+		}
+
+		@Override
+		public Maybe<Long> boxed(){ return Maybe.none(); }
+
+		@Override
+		public boolean equals(Object o){ return this == o; }
+
+		@Override
+		public int hashCode(){ return 0; }
+
+		@Override
+		public String toString(){ return "None{}"; }
+	}
+}
@@ -0,0 +1,173 @@
+package io.klbz.curie;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * An {@link OffHeapBuffer} of optional longs: the values are stored one after another, followed by a bitmap of
+ * which of them are present. Elements are read as {@link MaybeLong}s, and bulk operations scan the buffer in
+ * place, visiting only the present values, as the operations of a single MaybeLong would.
+ */
+public final class MaybeLongBuffer extends OffHeapBuffer {
+	private final int presence;
+
+	private MaybeLongBuffer(int capacity){
+		super(capacity, Long.BYTES, ((capacity + 63) >>> 6) * Long.BYTES);
+		presence = capacity * Long.BYTES;
+	}
+
+	public static MaybeLongBuffer allocate(int capacity){ return new MaybeLongBuffer(capacity); }
+
+	//region Access
+
+	public MaybeLongBuffer add(long value){ return put(append(), value); }
+
+	public MaybeLongBuffer addNone(){
+		clear(append());
+		return this;
+	}
+
+	public MaybeLongBuffer add(MaybeLong maybe){
+		return maybe instanceof MaybeLong.Just ? add(maybe.assume()) : addNone();
+	}
+
+	public MaybeLongBuffer set(int index, long value){
+		checkIndex(index);
+		return put(index, value);
+	}
+
+	public MaybeLongBuffer setNone(int index){
+		checkIndex(index);
+		clear(index);
+		return this;
+	}
+
+	public MaybeLong get(int index){ return isPresent(index) ? MaybeLong.just(value(index)) : MaybeLong.none(); }
+
+	public boolean isPresent(int index){
+		checkIndex(index);
+		return (word(memory(), index) & (1L << index)) != 0;
+	}
+
+	/** The number of present values. */
+	public int count(){
+		ByteBuffer memory = memory();
+		int count = 0;
+		for(int w = 0; w < (size + 63) >>> 6; w++) count += Long.bitCount(memory.getLong(presence + w * Long.BYTES));
+		return count;
+	}
+
+	private long value(int index){ return memory().getLong(index * Long.BYTES); }
+
+	private MaybeLongBuffer put(int index, long value){
+		ByteBuffer memory = memory();
+		memory.putLong(index * Long.BYTES, value);
+		int at = presence + (index >>> 6) * Long.BYTES;
+		memory.putLong(at, memory.getLong(at) | 1L << index);
+		return this;
+	}
+
+	private void clear(int index){
+		ByteBuffer memory = memory();
+		int at = presence + (index >>> 6) * Long.BYTES;
+		memory.putLong(at, memory.getLong(at) & ~(1L << index));
+	}
+
+	private long word(ByteBuffer memory, int index){ return memory.getLong(presence + (index >>> 6) * Long.BYTES); }
+
+	//endregion
+
+	//region Bulk operations
+
+	/** Replaces every present value with the result of applying the given function to it. */
+	public MaybeLongBuffer update(LongUnaryOperator transform){
+		ByteBuffer memory = beginScan();
+		try{
+			forEachPresent(memory, i -> {
+				int at = i * Long.BYTES;
+				memory.putLong(at, transform.applyAsLong(memory.getLong(at)));
+			});
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Keeps the present values satisfying the given predicate, and makes the others absent. */
+	public MaybeLongBuffer preserveIf(LongPredicate p){ return retain(p, true); }
+
+	/** Makes the present values satisfying the given predicate absent. */
+	public MaybeLongBuffer rejectIf(LongPredicate p){ return retain(p, false); }
+
+	private MaybeLongBuffer retain(LongPredicate p, boolean kept){
+		ByteBuffer memory = beginScan();
+		try{
+			for(int w = 0; w < (size + 63) >>> 6; w++){
+				int at = presence + w * Long.BYTES;
+				long word = memory.getLong(at);
+				for(long remaining = word; remaining != 0; remaining &= remaining - 1){
+					int bit = Long.numberOfTrailingZeros(remaining);
+					if(p.test(memory.getLong(((w << 6) + bit) * Long.BYTES)) != kept) word &= ~(1L << bit);
+				}
+				memory.putLong(at, word);
+			}
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** Tests each present value, selecting the indexes of those satisfying the predicate; absent values fail. */
+	public Selection satisfies(LongPredicate p){
+		ByteBuffer memory = beginScan();
+		try{
+			long[] words = new long[(size + 63) >>> 6];
+			forEachPresent(memory, i -> {
+				if(p.test(memory.getLong(i * Long.BYTES))) words[i >>> 6] |= 1L << i;
+			});
+			return new Selection(words, size);
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	/** The indexes of the present values. */
+	public Selection present(){
+		ByteBuffer memory = memory();
+		long[] words = new long[(size + 63) >>> 6];
+		for(int w = 0; w < words.length; w++) words[w] = memory.getLong(presence + w * Long.BYTES);
+		return new Selection(words, size);
+	}
+
+	public MaybeLongBuffer whenPresentDo(LongConsumer doF){
+		ByteBuffer memory = beginScan();
+		try{
+			forEachPresent(memory, i -> doF.accept(memory.getLong(i * Long.BYTES)));
+			return this;
+		}
+		finally{
+			endScan(memory);
+		}
+	}
+
+	private void forEachPresent(ByteBuffer memory, IntConsumer doF){
+		for(int w = 0; w < (size + 63) >>> 6; w++){
+			for(long word = memory.getLong(presence + w * Long.BYTES); word != 0; word &= word - 1){
+				doF.accept((w << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+	}
+
+	//endregion
+
+	@Override
+	public String toString(){
+		return isClosed() ? "MaybeLongBuffer{closed}" : "MaybeLongBuffer{" + size() + " of " + capacity() + '}';
+	}
+}
@@ -0,0 +1,406 @@
+package io.klbz.curie;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A predicate that remembers its answers for the most valuable of the inputs it has seen, produced by
+ * {@link Predicate#memoize}. Meant for pure but expensive predicates that see heavily repeated inputs.
+ *
+ * The cache is split into segments by hash, each guarded by its own lock and bounded by its share of the maximum
+ * size, so eviction decisions are made per segment. The answer for a missing input is computed outside the lock,
+ * so a slow predicate never blocks other inputs; two threads missing on the same input may both compute it.
+ *
+ * Two eviction policies are offered:
+ * <ul>
+ *   <li>{@link Eviction#LRU} discards the least recently used input;</li>
+ *   <li>{@link Eviction#TINY_LFU} admits new inputs through a small LRU window, and lets one into the main,
+ *   segmented-LRU region only if a frequency sketch shows it to be used more often than the input it would replace,
+ *   so that a burst of one-off inputs cannot flush out the frequently repeated ones.</li>
+ * </ul>
+ * Answers may also expire a fixed time after they were computed. Inputs are compared by {@code equals}, so they
+ * should be immutable; null is an input like any other.
+ */
+public final class MemoizedPredicate<T> implements Predicate<T> {
+	private static final int    MAX_SEGMENTS     = 64;
+	private static final int    MIN_SEGMENT_SIZE = 64;
+	private static final Object NULL_KEY         = new Object();
+
+	/** How a full cache chooses which input to forget. */
+	public enum Eviction {
+		LRU,
+		TINY_LFU
+	}
+
+	private final java.util.function.Predicate<? super T> base;
+	private final Segment[]                               segments;
+	private final long                                    expireAfterNanos;
+	private final LongSupplier                            ticker;
+
+	private final LongAdder hits      = new LongAdder();
+	private final LongAdder misses    = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	MemoizedPredicate(
+			java.util.function.Predicate<? super T> base,
+			int maximumSize,
+			Eviction eviction,
+			Duration expireAfterWrite,
+			int segmentCount,
+			LongSupplier ticker){
+
+		if(maximumSize < 1) throw new IllegalArgumentException("Maximum size " + maximumSize + " is not positive");
+		if(expireAfterWrite != null && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())){
+			throw new IllegalArgumentException("Expiry " + expireAfterWrite + " is not positive");
+		}
+
+		this.base = Objects.requireNonNull(base);
+		this.expireAfterNanos = expireAfterWrite == null ? Long.MAX_VALUE : expireAfterWrite.toNanos();
+		this.ticker = ticker;
+
+		segments = new Segment[segmentCount];
+		for(int i = 0; i < segmentCount; i++){
+			int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+			segments[i] = Objects.requireNonNull(eviction) == Eviction.LRU
+			              ? new LruSegment(capacity)
+			              : new TinyLfuSegment(capacity);
+		}
+	}
+
+	static <T> MemoizedPredicate<T> of(
+			java.util.function.Predicate<? super T> base,
+			int maximumSize,
+			Eviction eviction,
+			Duration expireAfterWrite){
+
+		return new MemoizedPredicate<>(
+				base,
+				maximumSize,
+				eviction,
+				expireAfterWrite,
+				segmentCountFor(maximumSize),
+				System::nanoTime);
+	}
+
+	/** A power of two, enough to spread the available processors thinly, but leaving each segment a useful size. */
+	private static int segmentCountFor(int maximumSize){
+		int wanted = Math.min(Runtime.getRuntime().availableProcessors() * 4, maximumSize / MIN_SEGMENT_SIZE);
+		return Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, wanted)));
+	}
+
+	@Override
+	public boolean test(T t){
+		Object key = t == null ? NULL_KEY : t;
+		int hash = spread(key.hashCode());
+		Segment segment = segments[hash & (segments.length - 1)];
+
+		long now = expireAfterNanos == Long.MAX_VALUE ? 0 : ticker.getAsLong();
+		Boolean known = segment.get(key, hash, now, expireAfterNanos);
+		if(known != null){
+			hits.increment();
+			return known;
+		}
+
+		misses.increment();
+		boolean answer = base.test(t);
+		evictions.add(segment.put(key, hash, answer, now));
+		return answer;
+	}
+
+	private static int spread(int hash){ return (hash ^ (hash >>> 16)) * 0x45d9f3b; }
+
+	//region Management
+
+	/** The number of answers currently remembered. */
+	public int size(){
+		int size = 0;
+		for(Segment segment : segments) size += segment.size();
+		return size;
+	}
+
+	/** Forgets every answer, leaving the statistics untouched. */
+	public void clear(){
+		for(Segment segment : segments) segment.clear();
+	}
+
+	public Stats stats(){ return new Stats(hits.sum(), misses.sum(), evictions.sum()); }
+
+	/** A snapshot of how often a memoized predicate found its answers remembered. */
+	public static final class Stats {
+		private final long hits;
+		private final long misses;
+		private final long evictions;
+
+		private Stats(long hits, long misses, long evictions){
+			this.hits = hits;
+			this.misses = misses;
+			this.evictions = evictions;
+		}
+
+		public long hits(){ return hits; }
+
+		/** The number of tests that computed their answer, whether never seen, forgotten or expired. */
+		public long misses(){ return misses; }
+
+		/** The number of answers forgotten to make room for others, not counting expired ones. */
+		public long evictions(){ return evictions; }
+
+		public long requests(){ return hits + misses; }
+
+		public double hitRate(){ return requests() == 0 ? 1.0 : (double) hits / requests(); }
+
+		@Override
+		public String toString(){
+			return "Stats{hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + '}';
+		}
+	}
+
+	//endregion
+
+	//region Segments
+
+	/** A remembered answer, and when it was computed. */
+	private static final class Entry {
+		private final boolean answer;
+		private final long    writtenAt;
+
+		private Entry(boolean answer, long writtenAt){
+			this.answer = answer;
+			this.writtenAt = writtenAt;
+		}
+
+		private boolean isExpired(long now, long expireAfterNanos){ return now - writtenAt >= expireAfterNanos; }
+	}
+
+	private abstract static class Segment {
+		/** The remembered answer for the given key, or null if it is missing or expired. */
+		abstract Boolean get(Object key, int hash, long now, long expireAfterNanos);
+
+		/** Remembers an answer, returning how many others were evicted to make room for it. */
+		abstract int put(Object key, int hash, boolean answer, long now);
+
+		abstract int size();
+
+		abstract void clear();
+	}
+
+	private static final class LruSegment extends Segment {
+		private final int                capacity;
+		private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+		private LruSegment(int capacity){ this.capacity = capacity; }
+
+		@Override
+		synchronized Boolean get(Object key, int hash, long now, long expireAfterNanos){
+			Entry entry = entries.get(key);
+			if(entry == null) return null;
+			if(entry.isExpired(now, expireAfterNanos)){
+				entries.remove(key);
+				return null;
+			}
+			return entry.answer;
+		}
+
+		@Override
+		synchronized int put(Object key, int hash, boolean answer, long now){
+			entries.put(key, new Entry(answer, now));
+			if(entries.size() <= capacity) return 0;
+
+			Iterator<Object> eldest = entries.keySet().iterator();
+			eldest.next();
+			eldest.remove();
+			return 1;
+		}
+
+		@Override
+		synchronized int size(){ return entries.size(); }
+
+		@Override
+		synchronized void clear(){ entries.clear(); }
+	}
+
+	/**
+	 * A window LRU in front of a segmented LRU of probationary and protected entries, with admission from the window
+	 * to the main region decided by a frequency sketch, after Einziger, Friedman and Manes' W-TinyLFU. Each region is
+	 * an intrusive list, least recently used first, so an access costs one lookup and no allocation.
+	 */
+	private static final class TinyLfuSegment extends Segment {
+		private static final int WINDOW    = 0;
+		private static final int PROBATION = 1;
+		private static final int PROTECTED = 2;
+
+		private final int windowCapacity;
+		private final int mainCapacity;
+		private final int protectedCapacity;
+
+		private final Map<Object, Node> index   = new HashMap<>();
+		private final Node[]            regions = { Node.list(), Node.list(), Node.list() };
+		private final int[]             sizes   = new int[3];
+		private final FrequencySketch   sketch;
+
+		private TinyLfuSegment(int capacity){
+			windowCapacity = Math.max(1, capacity / 100);
+			mainCapacity = capacity - windowCapacity;
+			protectedCapacity = mainCapacity * 4 / 5;
+			sketch = new FrequencySketch(capacity);
+		}
+
+		@Override
+		synchronized Boolean get(Object key, int hash, long now, long expireAfterNanos){
+			sketch.increment(hash);
+
+			Node node = index.get(key);
+			if(node == null) return null;
+			if(now - node.writtenAt >= expireAfterNanos){
+				index.remove(key);
+				unlink(node);
+				return null;
+			}
+
+			unlink(node);
+			if(node.region == PROBATION){
+				append(PROTECTED, node);
+				if(sizes[PROTECTED] > protectedCapacity) append(PROBATION, unlink(regions[PROTECTED].next));
+			}
+			else append(node.region, node);
+			return node.answer;
+		}
+
+		@Override
+		synchronized int put(Object key, int hash, boolean answer, long now){
+			Node existing = index.get(key);
+			if(existing != null){
+				existing.answer = answer;
+				existing.writtenAt = now;
+				return 0;
+			}
+
+			Node node = new Node(key, hash, answer, now);
+			index.put(key, node);
+			append(WINDOW, node);
+			if(sizes[WINDOW] <= windowCapacity) return 0;
+
+			Node candidate = unlink(regions[WINDOW].next);
+			if(sizes[PROBATION] + sizes[PROTECTED] < mainCapacity){
+				append(PROBATION, candidate);
+				return 0;
+			}
+
+			Node victim = sizes[PROBATION] > 0 ? regions[PROBATION].next : regions[PROTECTED].next;
+			if(mainCapacity > 0 && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)){
+				index.remove(unlink(victim).key);
+				append(PROBATION, candidate);
+			}
+			else index.remove(candidate.key);
+			return 1;
+		}
+
+		private void append(int region, Node node){
+			Node tail = regions[region];
+			node.region = region;
+			node.prev = tail.prev;
+			node.next = tail;
+			tail.prev.next = node;
+			tail.prev = node;
+			sizes[region]++;
+		}
+
+		private Node unlink(Node node){
+			node.prev.next = node.next;
+			node.next.prev = node.prev;
+			sizes[node.region]--;
+			return node;
+		}
+
+		@Override
+		synchronized int size(){ return index.size(); }
+
+		@Override
+		synchronized void clear(){
+			index.clear();
+			for(int region = 0; region < regions.length; region++){
+				regions[region].next = regions[region].prev = regions[region];
+				sizes[region] = 0;
+			}
+		}
+
+		/** A remembered answer, linked into the list of its region; a list is headed by a sentinel node. */
+		private static final class Node {
+			private final Object key;
+			private final int    hash;
+			private boolean      answer;
+			private long         writtenAt;
+			private int          region;
+			private Node         prev;
+			private Node         next;
+
+			private Node(Object key, int hash, boolean answer, long writtenAt){
+				this.key = key;
+				this.hash = hash;
+				this.answer = answer;
+				this.writtenAt = writtenAt;
+			}
+
+			private static Node list(){
+				Node sentinel = new Node(null, 0, false, 0);
+				sentinel.prev = sentinel.next = sentinel;
+				return sentinel;
+			}
+		}
+	}
+
+	/**
+	 * A count-min sketch of four rows of small saturating counters, estimating how often each hash has been seen. All
+	 * counters are halved once the sketch has counted ten times as many events as its segment holds, so that the
+	 * estimates favour recent popularity.
+	 */
+	private static final class FrequencySketch {
+		private static final int   ROWS      = 4;
+		private static final int   MAX_COUNT = 15;
+		private static final int[] ROW_SEEDS = { 0x97cb3127, 0xb1a2c1e5, 0x85ebca6b, 0xc2b2ae35 };
+
+		private final byte[] counters;
+		private final int    rowMask;
+		private final int    sampleSize;
+		private       int    additions;
+
+		private FrequencySketch(int capacity){
+			int width = Integer.highestOneBit(Math.max(16, capacity) * 2 - 1);
+			counters = new byte[ROWS * width];
+			rowMask = width - 1;
+			sampleSize = 10 * Math.max(16, capacity);
+		}
+
+		private void increment(int hash){
+			for(int row = 0; row < ROWS; row++){
+				int index = indexOf(hash, row);
+				if(counters[index] < MAX_COUNT) counters[index]++;
+			}
+			if(++additions >= sampleSize) age();
+		}
+
+		private int frequency(int hash){
+			int frequency = MAX_COUNT;
+			for(int row = 0; row < ROWS; row++) frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+			return frequency;
+		}
+
+		private int indexOf(int hash, int row){
+			int mixed = (hash + ROW_SEEDS[row]) * ROW_SEEDS[row];
+			return row * (rowMask + 1) + ((mixed ^ (mixed >>> 16)) & rowMask);
+		}
+
+		private void age(){
+			for(int i = 0; i < counters.length; i++) counters[i] >>= 1;
+			additions /= 2;
+		}
+	}
+
+	//endregion
+}
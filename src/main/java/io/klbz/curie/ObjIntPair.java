@@ -0,0 +1,154 @@
+package io.klbz.curie;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link Pair} whose second component is an unboxed int, such as a (key, count) or (item, score) tuple.
+ * Hashes agree with those of the equivalent boxed Pair.
+ */
+public final class ObjIntPair<F> {
+	private final F   first;
+	private final int second;
+
+	private ObjIntPair(F first, int second){
+		this.first = first;
+		this.second = second;
+	}
+
+	public static <F> ObjIntPair<F> of(F first, int second){ return new ObjIntPair<>(first, second); }
+
+	public <FPrime> ObjIntPair<FPrime> replaceFirst(FPrime newFirst){ return of(newFirst, second); }
+
+	public ObjIntPair<F> replaceSecond(int newSecond){ return of(first, newSecond); }
+
+	public FirstFocus<F> focusFirst(){ return new FirstFocus<>(this); }
+
+	public SecondFocus<F> focusSecond(){ return new SecondFocus<>(this); }
+
+	public F isolateFirst(){ return first; }
+
+	public int isolateSecond(){ return second; }
+
+	public <FPrime> ObjIntPair<FPrime> mapFirst(Function<? super F, FPrime> f){ return of(f.apply(first), second); }
+
+	public IntPair mapFirstToInt(ToIntFunction<? super F> f){ return IntPair.of(f.applyAsInt(first), second); }
+
+	public ObjIntPair<F> mapSecond(IntUnaryOperator f){ return of(first, f.applyAsInt(second)); }
+
+	public <SPrime> Pair<F, SPrime> mapSecondToObj(IntFunction<SPrime> f){ return Pair.of(first, f.apply(second)); }
+
+	public <T> T collapse(ObjIntFunction<? super F, T> f){ return f.apply(first, second); }
+
+	public boolean satisfies(ObjIntPredicate<? super F> p){ return p.test(first, second); }
+
+	public ObjIntPair<F> withFirstDo(Consumer<F> doF){
+		doF.accept(first);
+		return this;
+	}
+
+	public ObjIntPair<F> withSecondDo(IntConsumer doF){
+		doF.accept(second);
+		return this;
+	}
+
+	public ObjIntPair<F> withBothDo(ObjIntConsumer<F> doF){
+		doF.accept(first, second);
+		return this;
+	}
+
+	public Pair<F, Integer> boxed(){ return Pair.of(first, second); }
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null) return false;
+
+		if(o.getClass() == FirstFocus.class) return equals(((FirstFocus<?>) o).pair);
+
+		if(o.getClass() == SecondFocus.class) return equals(((SecondFocus<?>) o).pair);
+
+		if(getClass() != o.getClass()) return false;
+
+		ObjIntPair<?> pair = (ObjIntPair<?>) o;
+		return Objects.equals(first, pair.first) && second == pair.second;
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Objects.hashCode(first)) + Integer.hashCode(second); }
+
+	@Override
+	public String toString(){ return "ObjIntPair{" + first + "," + second + '}'; }
+
+	@FunctionalInterface
+	public interface ObjIntFunction<F, T> {
+		T apply(F first, int second);
+	}
+
+	@FunctionalInterface
+	public interface ObjIntPredicate<F> {
+		boolean test(F first, int second);
+	}
+
+	public static final class FirstFocus<F> {
+		private final ObjIntPair<F> pair;
+
+		private FirstFocus(ObjIntPair<F> pair){ this.pair = pair; }
+
+		public ObjIntPair<F> unfocus(){ return pair; }
+
+		public <FPrime> FirstFocus<FPrime> replace(FPrime newFirst){ return pair.replaceFirst(newFirst).focusFirst(); }
+
+		public F isolate(){ return pair.first; }
+
+		public <FPrime> FirstFocus<FPrime> map(Function<? super F, FPrime> f){ return pair.mapFirst(f).focusFirst(); }
+
+		public FirstFocus<F> withDo(Consumer<F> doF){
+			pair.withFirstDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "FirstFocus{" + pair + '}'; }
+	}
+
+	public static final class SecondFocus<F> {
+		private final ObjIntPair<F> pair;
+
+		private SecondFocus(ObjIntPair<F> pair){ this.pair = pair; }
+
+		public ObjIntPair<F> unfocus(){ return pair; }
+
+		public SecondFocus<F> replace(int newSecond){ return pair.replaceSecond(newSecond).focusSecond(); }
+
+		public int isolate(){ return pair.second; }
+
+		public SecondFocus<F> map(IntUnaryOperator f){ return pair.mapSecond(f).focusSecond(); }
+
+		public SecondFocus<F> withDo(IntConsumer doF){
+			pair.withSecondDo(doF);
+			return this;
+		}
+
+		@Override
+		public boolean equals(Object o){ return this == o || pair.equals(o); }
+
+		@Override
+		public int hashCode(){ return pair.hashCode(); }
+
+		@Override
+		public String toString(){ return "SecondFocus{" + pair + '}'; }
+	}
+}
@@ -0,0 +1,124 @@
+package io.klbz.curie;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A fixed-capacity container whose elements live in direct memory, outside the Java heap: they are neither counted
+ * against the heap size nor copied or scanned by the garbage collector. Only the small object that refers to them
+ * is on the heap.
+ *
+ * Elements are appended up to the capacity chosen at allocation, and can be replaced in place. A buffer should be
+ * closed, with try-with-resources or explicitly, as soon as it is no longer needed: closing releases its memory at
+ * once where the JVM allows, and otherwise leaves it for the garbage collector to release with the buffer. Any use
+ * of a closed buffer throws {@link IllegalStateException}. A buffer closed from within a function passed to one of
+ * its own bulk operations keeps its memory until that operation returns. A buffer is not thread-safe, and must never
+ * be closed while another thread may be using it.
+ */
+public abstract class OffHeapBuffer implements AutoCloseable {
+	private final int  capacity;
+	private ByteBuffer memory;
+	private int        scans;
+	int                size;
+
+	OffHeapBuffer(int capacity, int bytesPerElement, int trailingBytes){
+		if(capacity < 0) throw new IllegalArgumentException("Capacity " + capacity + " is negative");
+		long bytes = (long) capacity * bytesPerElement + trailingBytes;
+		if(bytes > Integer.MAX_VALUE){
+			throw new IllegalArgumentException("A buffer of " + bytes + " bytes is too large");
+		}
+
+		this.capacity = capacity;
+		this.memory = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+	}
+
+	public final int capacity(){ return capacity; }
+
+	/** The number of elements appended so far. */
+	public final int size(){ return size; }
+
+	public final boolean isEmpty(){ return size == 0; }
+
+	public final boolean isClosed(){ return memory == null; }
+
+	/** The bytes of direct memory this buffer holds, or zero once it is closed. */
+	public final long directBytes(){ return memory == null ? 0 : memory.capacity(); }
+
+	/** Releases this buffer's memory. Closing a closed buffer does nothing. */
+	@Override
+	public final void close(){
+		ByteBuffer released = memory;
+		memory = null;
+		if(released != null && scans == 0) Deallocator.free(released);
+	}
+
+	final ByteBuffer memory(){
+		ByteBuffer current = memory;
+		if(current == null) throw new IllegalStateException(getClass().getSimpleName() + " is closed");
+		return current;
+	}
+
+	/**
+	 * The memory, for a bulk operation that calls functions given by the caller, which must pass it to
+	 * {@link #endScan} once done. Closing the buffer before then leaves the memory to be freed by endScan.
+	 */
+	final ByteBuffer beginScan(){
+		ByteBuffer current = memory();
+		scans++;
+		return current;
+	}
+
+	final void endScan(ByteBuffer scanned){
+		if(--scans == 0 && memory == null) Deallocator.free(scanned);
+	}
+
+	final void checkIndex(int index){
+		memory();
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+	}
+
+	/** Claims the next element's index. */
+	final int append(){
+		memory();
+		if(size == capacity){
+			throw new IllegalStateException(getClass().getSimpleName() + " of " + capacity + " is full");
+		}
+		return size++;
+	}
+
+	/** Frees direct memory eagerly through the JDK's own cleaner, where the running JVM exposes it. */
+	static final class Deallocator {
+		private static final Object UNSAFE;
+		private static final Method INVOKE_CLEANER;
+
+		static {
+			Object unsafe = null;
+			Method invokeCleaner = null;
+			try{
+				Class<?> type = Class.forName("sun.misc.Unsafe");
+				Field instance = type.getDeclaredField("theUnsafe");
+				instance.setAccessible(true);
+				unsafe = instance.get(null);
+				invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+			}
+			catch(ReflectiveOperationException | RuntimeException e){
+				unsafe = null;
+				invokeCleaner = null;
+			}
+			UNSAFE = unsafe;
+			INVOKE_CLEANER = invokeCleaner;
+		}
+
+		static void free(ByteBuffer buffer){
+			if(INVOKE_CLEANER == null) return;
+			try{
+				INVOKE_CLEANER.invoke(UNSAFE, buffer);
+			}
+			catch(ReflectiveOperationException e){
+				// Left for the garbage collector to release.
+			}
+		}
+	}
+}
@@ -78,7 +78,7 @@ public final class Pair<F, S> {
 	}
 
 	@Override
-	public int hashCode(){ return Objects.hash(first, second); }
+	public int hashCode(){ return 31 * (31 + Objects.hashCode(first)) + Objects.hashCode(second); }
 
 	@Override
 	public String toString(){ return "Pair{" + first + "," + second + '}'; }
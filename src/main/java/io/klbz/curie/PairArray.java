@@ -0,0 +1,295 @@
+package io.klbz.curie;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An immutable, columnar sequence of {@link Pair}s: first components are stored in one array and second components in
+ * another, so a pair costs two array slots rather than an object, and a column whose values are all non-null
+ * {@link Integer}s, {@link Long}s or {@link Double}s is stored unboxed.
+ *
+ * Bulk operations mirror those of a single Pair across the whole sequence: {@link #mapFirst} and {@link #mapSecond}
+ * build one new column and share the other, {@link #collapse} gathers one result per pair, and {@link #satisfies}
+ * tests each pair into a {@link Selection}. Pairs themselves are only created on demand, by {@link #get}, iteration
+ * and streams, whose spliterator splits by index for parallel streams.
+ *
+ * Bulk operations still box each unboxed component as they pass it on; {@link IntPairArray}, {@link LongPairArray}
+ * and {@link DoublePairArray} scan primitive columns with primitive functions instead.
+ */
+public final class PairArray<F, S> implements Iterable<Pair<F, S>> {
+	private static final PairArray<?, ?> EMPTY = new PairArray<>(Column.pack(new Object[0], 0),
+	                                                             Column.pack(new Object[0], 0));
+
+	private final Column firsts;
+	private final Column seconds;
+
+	private PairArray(Column firsts, Column seconds){
+		this.firsts = firsts;
+		this.seconds = seconds;
+	}
+
+	//region Construction
+
+	@SuppressWarnings("unchecked")
+	public static <F, S> PairArray<F, S> empty(){ return (PairArray<F, S>) EMPTY; }
+
+	public static <F, S> PairArray<F, S> of(Collection<? extends Pair<? extends F, ? extends S>> pairs){
+		Builder<F, S> builder = new Builder<>(pairs.size());
+		for(Pair<? extends F, ? extends S> pair : pairs) builder.add(pair);
+		return builder.build();
+	}
+
+	/** Pairs up the elements of two lists of the same size, index by index. */
+	public static <F, S> PairArray<F, S> zip(List<? extends F> firsts, List<? extends S> seconds){
+		requireSameSize(firsts.size(), seconds.size());
+		Object[] firstValues = firsts.toArray();
+		Object[] secondValues = seconds.toArray();
+		return new PairArray<>(Column.pack(firstValues, firstValues.length),
+		                       Column.pack(secondValues, secondValues.length));
+	}
+
+	public static PairArray<Integer, Integer> ofInts(int[] firsts, int[] seconds){
+		requireSameSize(firsts.length, seconds.length);
+		return new PairArray<>(Column.of(firsts.clone()), Column.of(seconds.clone()));
+	}
+
+	public static PairArray<Long, Long> ofLongs(long[] firsts, long[] seconds){
+		requireSameSize(firsts.length, seconds.length);
+		return new PairArray<>(Column.of(firsts.clone()), Column.of(seconds.clone()));
+	}
+
+	public static PairArray<Double, Double> ofDoubles(double[] firsts, double[] seconds){
+		requireSameSize(firsts.length, seconds.length);
+		return new PairArray<>(Column.of(firsts.clone()), Column.of(seconds.clone()));
+	}
+
+	static <F, S> PairArray<F, S> ofColumns(Column firsts, Column seconds){ return new PairArray<>(firsts, seconds); }
+
+	public static <F, S> Builder<F, S> builder(){ return new Builder<>(16); }
+
+	private static void requireSameSize(int firstCount, int secondCount){
+		if(firstCount != secondCount){
+			throw new IllegalArgumentException(firstCount + " first components but " + secondCount + " second");
+		}
+	}
+
+	//endregion
+
+	//region Access
+
+	public int size(){ return firsts.size(); }
+
+	public boolean isEmpty(){ return firsts.size() == 0; }
+
+	/** A pair of the components at the given index, created on demand. */
+	public Pair<F, S> get(int index){ return Pair.of(first(index), second(index)); }
+
+	@SuppressWarnings("unchecked")
+	public F first(int index){
+		checkIndex(index);
+		return (F) firsts.get(index);
+	}
+
+	@SuppressWarnings("unchecked")
+	public S second(int index){
+		checkIndex(index);
+		return (S) seconds.get(index);
+	}
+
+	/** The first components, as an unmodifiable view. */
+	public List<F> firsts(){ return firsts.asList(); }
+
+	/** The second components, as an unmodifiable view. */
+	public List<S> seconds(){ return seconds.asList(); }
+
+	/** The pairs, as an unmodifiable view creating each on demand. */
+	public List<Pair<F, S>> asList(){ return new PairList(); }
+
+	private void checkIndex(int index){
+		if(index < 0 || index >= size()) throw new IndexOutOfBoundsException("Index " + index + " of " + size());
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	@SuppressWarnings("unchecked")
+	public <FPrime> PairArray<FPrime, S> mapFirst(Function<? super F, FPrime> f){
+		return new PairArray<>(map(firsts, (Function<Object, ?>) f), seconds);
+	}
+
+	@SuppressWarnings("unchecked")
+	public <SPrime> PairArray<F, SPrime> mapSecond(Function<? super S, SPrime> f){
+		return new PairArray<>(firsts, map(seconds, (Function<Object, ?>) f));
+	}
+
+	private static Column map(Column column, Function<Object, ?> f){
+		Object[] mapped = new Object[column.size()];
+		for(int i = 0; i < mapped.length; i++) mapped[i] = f.apply(column.get(i));
+		return Column.pack(mapped, mapped.length);
+	}
+
+	/** Collapses each pair in turn, gathering the results in order. */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> collapse(BiFunction<? super F, ? super S, T> f){
+		Object[] collapsed = new Object[size()];
+		for(int i = 0; i < collapsed.length; i++) collapsed[i] = f.apply((F) firsts.get(i), (S) seconds.get(i));
+		return (List<T>) Collections.unmodifiableList(Arrays.asList(collapsed));
+	}
+
+	/** Tests each pair in turn, selecting the indexes of those satisfying the predicate. */
+	@SuppressWarnings("unchecked")
+	public Selection satisfies(BiPredicate<? super F, ? super S> p){
+		int size = size();
+		long[] words = new long[(size + 63) >>> 6];
+		for(int i = 0; i < size; i++){
+			if(p.test((F) firsts.get(i), (S) seconds.get(i))) words[i >>> 6] |= 1L << i;
+		}
+		return new Selection(words, size);
+	}
+
+	@SuppressWarnings("unchecked")
+	public PairArray<F, S> withBothDo(BiConsumer<? super F, ? super S> doF){
+		for(int i = 0; i < size(); i++) doF.accept((F) firsts.get(i), (S) seconds.get(i));
+		return this;
+	}
+
+	//endregion
+
+	//region Iteration
+
+	@Override
+	public Iterator<Pair<F, S>> iterator(){ return Spliterators.iterator(spliterator()); }
+
+	/** A spliterator over the pairs, creating each as it is reached, that splits its index range in halves. */
+	@Override
+	public Spliterator<Pair<F, S>> spliterator(){ return new PairSpliterator(0, size()); }
+
+	public Stream<Pair<F, S>> stream(){ return StreamSupport.stream(spliterator(), false); }
+
+	public Stream<Pair<F, S>> parallelStream(){ return StreamSupport.stream(spliterator(), true); }
+
+	private final class PairSpliterator implements Spliterator<Pair<F, S>> {
+		private       int index;
+		private final int end;
+
+		private PairSpliterator(int index, int end){
+			this.index = index;
+			this.end = end;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Pair<F, S>> action){
+			if(index >= end) return false;
+			action.accept(get(index++));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Pair<F, S>> action){
+			for(; index < end; index++) action.accept(get(index));
+		}
+
+		@Override
+		public Spliterator<Pair<F, S>> trySplit(){
+			int middle = (index + end) >>> 1;
+			if(middle <= index) return null;
+			PairSpliterator prefix = new PairSpliterator(index, middle);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize(){ return end - index; }
+
+		@Override
+		public int characteristics(){ return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE; }
+	}
+
+	private final class PairList extends AbstractList<Pair<F, S>> implements RandomAccess {
+		@Override
+		public Pair<F, S> get(int index){ return PairArray.this.get(index); }
+
+		@Override
+		public int size(){ return PairArray.this.size(); }
+
+		@Override
+		public Spliterator<Pair<F, S>> spliterator(){ return PairArray.this.spliterator(); }
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		PairArray<?, ?> that = (PairArray<?, ?>) o;
+		if(size() != that.size()) return false;
+		for(int i = 0; i < size(); i++){
+			if(!Objects.equals(firsts.get(i), that.firsts.get(i))) return false;
+			if(!Objects.equals(seconds.get(i), that.seconds.get(i))) return false;
+		}
+		return true;
+	}
+
+	/** The hash of the list of the pairs. */
+	@Override
+	public int hashCode(){
+		int hash = 1;
+		for(int i = 0; i < size(); i++){
+			hash = 31 * hash + 31 * (31 + Objects.hashCode(firsts.get(i))) + Objects.hashCode(seconds.get(i));
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString(){ return "PairArray" + asList(); }
+
+	/** Gathers pairs one at a time, then packs them into a {@link PairArray}. */
+	public static final class Builder<F, S> {
+		private Object[] firsts;
+		private Object[] seconds;
+		private int      size;
+
+		private Builder(int capacity){
+			firsts = new Object[Math.max(capacity, 1)];
+			seconds = new Object[firsts.length];
+		}
+
+		public Builder<F, S> add(F first, S second){
+			if(size == firsts.length){
+				firsts = Arrays.copyOf(firsts, size * 2);
+				seconds = Arrays.copyOf(seconds, size * 2);
+			}
+			firsts[size] = first;
+			seconds[size] = second;
+			size++;
+			return this;
+		}
+
+		public Builder<F, S> add(Pair<? extends F, ? extends S> pair){
+			return add(pair.isolateFirst(), pair.isolateSecond());
+		}
+
+		/** Packs the pairs so far; arrays handed to the result are full, so later additions never write to them. */
+		public PairArray<F, S> build(){
+			return new PairArray<>(Column.pack(firsts, size), Column.pack(seconds, size));
+		}
+	}
+}
@@ -1,6 +1,17 @@
 package io.klbz.curie;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
 
 import static io.klbz.curie.Satisfaction.dissatisfies;
 import static io.klbz.curie.Satisfaction.satisfies;
@@ -9,14 +20,39 @@ public interface Predicate<T> extends java.util.function.Predicate<T> {
 
 	//region Common Predicates
 
-	static <T> Predicate<T> everTrue(){ return t -> true; }
+	static <T> Predicate<T> everTrue(){ return Constant.of(true); }
 
-	static <T> Predicate<T> everFalse(){ return t -> false; }
+	static <T> Predicate<T> everFalse(){ return Constant.of(false); }
 
-	static <T> Predicate<T> isEqual(Object targetRef){
-		return (null == targetRef)
-		       ? Objects::isNull
-		       : targetRef::equals;
+	static <T> Predicate<T> isEqual(Object targetRef){ return new IsEqual<>(targetRef); }
+
+	/**
+	 * Tests membership in the given values through a hash index; see {@link IsIn}. Equivalent to an anyOf of isEqual
+	 * predicates on each value, for values with symmetric equals methods.
+	 */
+	static <T> Predicate<T> isIn(Collection<?> values){ return IsIn.of(values); }
+
+	static <T> Predicate<T> isIn(Object... values){ return IsIn.of(Arrays.asList(values)); }
+
+	static <T extends Comparable<? super T>> Predicate<T> isGreaterThan(T bound){
+		return RangeSet.of(Objects.requireNonNull(bound), false, null, false);
+	}
+
+	static <T extends Comparable<? super T>> Predicate<T> isAtLeast(T bound){
+		return RangeSet.of(Objects.requireNonNull(bound), true, null, false);
+	}
+
+	static <T extends Comparable<? super T>> Predicate<T> isLessThan(T bound){
+		return RangeSet.of(null, false, Objects.requireNonNull(bound), false);
+	}
+
+	static <T extends Comparable<? super T>> Predicate<T> isAtMost(T bound){
+		return RangeSet.of(null, false, Objects.requireNonNull(bound), true);
+	}
+
+	/** Tests whether a value lies within the given bounds, inclusive of both. */
+	static <T extends Comparable<? super T>> Predicate<T> isBetween(T lowerBound, T upperBound){
+		return RangeSet.of(Objects.requireNonNull(lowerBound), true, Objects.requireNonNull(upperBound), true);
 	}
 
 	//endregion
@@ -38,39 +74,34 @@ public interface Predicate<T> extends java.util.function.Predicate<T> {
 	@Override
 	default Predicate<T> and(java.util.function.Predicate<? super T> other){
 		Objects.requireNonNull(other);
-		return t -> test(t) && other.test(t);
+		return AllOf.of(this, other);
 	}
 
 	@Override
 	default Predicate<T> or(java.util.function.Predicate<? super T> other){
 		Objects.requireNonNull(other);
-		return t -> test(t) || other.test(t);
+		return AnyOf.of(this, other);
 	}
 
 	default Predicate<T> xor(java.util.function.Predicate<? super T> other){
 		Objects.requireNonNull(other);
-		return t -> test(t) ^ other.test(t);
+		return new Xor<>(this, other);
 	}
 
 	@SafeVarargs
+	@SuppressWarnings("varargs")
 	static <T> Predicate<T> allOf(java.util.function.Predicate<? super T>... predicates){
-		Predicate<T> aggregate = everTrue();
-		for(java.util.function.Predicate<? super T> predicate : predicates){
-			aggregate = aggregate.and(predicate);
-		}
-		return aggregate;
+		return AllOf.of(predicates);
 	}
 
 	@SafeVarargs
+	@SuppressWarnings("varargs")
 	static <T> Predicate<T> anyOf(java.util.function.Predicate<? super T>... predicates){
-		Predicate<T> aggregate = everFalse();
-		for(java.util.function.Predicate<? super T> predicate : predicates){
-			aggregate = aggregate.or(predicate);
-		}
-		return aggregate;
+		return AnyOf.of(predicates);
 	}
 
 	@SafeVarargs
+	@SuppressWarnings("varargs")
 	static <T> Predicate<T> noneOf(java.util.function.Predicate<? super T>... predicates){
 		return anyOf(predicates).negate();
 	}
@@ -81,7 +112,48 @@ public interface Predicate<T> extends java.util.function.Predicate<T> {
 
 	@Override
 	default Predicate<T> negate(){
-		return t -> !test(t);
+		return new Not<>(this);
+	}
+
+	/**
+	 * Rewrites this predicate into an equivalent one that performs no more checks, and usually fewer: constants are
+	 * folded, double negations cancelled, nested conjunctions and disjunctions flattened, and repeated or
+	 * complementary clauses removed. Clauses are assumed to be free of side effects; see {@link PredicateOptimizer}.
+	 */
+	default Predicate<T> optimize(){ return PredicateOptimizer.optimize(this); }
+
+	/**
+	 * Compiles this predicate, and any combinators it was built from, into a single specialized implementation.
+	 * Rules evaluated at a shared, megamorphic call site benefit the most; see {@link CompiledPredicate}.
+	 */
+	default Predicate<T> compile(){ return CompiledPredicate.compile(this); }
+
+	/**
+	 * Remembers this predicate's answers for up to the given number of recently used inputs. This predicate must be
+	 * pure, and its inputs immutable; see {@link MemoizedPredicate}.
+	 */
+	default MemoizedPredicate<T> memoize(int maximumSize){
+		return memoize(maximumSize, MemoizedPredicate.Eviction.LRU);
+	}
+
+	default MemoizedPredicate<T> memoize(int maximumSize, MemoizedPredicate.Eviction eviction){
+		return MemoizedPredicate.of(this, maximumSize, eviction, null);
+	}
+
+	/** Remembers this predicate's answers as {@link #memoize(int)} does, but for no longer than the given duration. */
+	default MemoizedPredicate<T> memoize(int maximumSize, MemoizedPredicate.Eviction eviction, Duration expiry){
+		return MemoizedPredicate.of(this, maximumSize, eviction, Objects.requireNonNull(expiry));
+	}
+
+	/**
+	 * Wraps this predicate, and every clause it was built from, in named probes counting their tests and passes;
+	 * see {@link ProfiledPredicate}.
+	 */
+	default ProfiledPredicate<T> profile(String name){ return ProfiledPredicate.instrument(name, this); }
+
+	/** Profiles this predicate as {@link #profile(String)} does, also timing one test in every {@code sampleEvery}. */
+	default ProfiledPredicate<T> profile(String name, int sampleEvery){
+		return ProfiledPredicate.instrument(name, this, sampleEvery);
 	}
 
 	//endregion
@@ -93,4 +165,362 @@ public interface Predicate<T> extends java.util.function.Predicate<T> {
 	}
 
 	//endregion
+
+	//region Batch Application
+
+	default Selection testAll(T[] values){ return Selection.evaluate(this, values, false); }
+
+	default Selection testAll(List<? extends T> values){ return Selection.evaluate(this, values.toArray(), false); }
+
+	/**
+	 * Tests the elements at indexes [fromIndex, toIndex); bit i of the result holds the outcome for fromIndex + i.
+	 */
+	default Selection testRange(int fromIndex, int toIndex, IntFunction<? extends T> elementAt){
+		if(fromIndex > toIndex) throw new IllegalArgumentException("fromIndex " + fromIndex + " > toIndex " + toIndex);
+
+		Object[] elements = new Object[toIndex - fromIndex];
+		for(int i = 0; i < elements.length; i++) elements[i] = elementAt.apply(fromIndex + i);
+		return Selection.evaluate(this, elements, false);
+	}
+
+	/**
+	 * Tests large batches in chunks on the common fork-join pool. The predicate must be safe to call concurrently.
+	 */
+	default Selection testAllParallel(T[] values){ return Selection.evaluate(this, values, true); }
+
+	default Selection testAllParallel(List<? extends T> values){
+		return Selection.evaluate(this, values.toArray(), true);
+	}
+
+	//endregion
+
+	//region Composites
+
+	/**
+	 * A conjunction held as a flat array of clauses, tested in order until one fails.
+	 * Conjoining further clauses (including other conjunctions) extends the array rather than nesting, so a rule of any
+	 * size costs a single loop. Adjacent range clauses are intersected into a single {@link RangeSet}.
+	 */
+	class AllOf<T> implements Predicate<T> {
+		/** An empty array to collect clauses into, cast to the clause type of the junction being built. */
+		static final java.util.function.Predicate<?>[] NO_CLAUSES = new java.util.function.Predicate<?>[0];
+
+		private final java.util.function.Predicate<? super T>[] clauses;
+
+		private AllOf(java.util.function.Predicate<? super T>[] clauses){ this.clauses = clauses; }
+
+		java.util.function.Predicate<? super T>[] clauses(){ return clauses; }
+
+		@SafeVarargs
+		@SuppressWarnings("unchecked")
+		static <T> AllOf<T> of(java.util.function.Predicate<? super T>... predicates){
+			List<java.util.function.Predicate<? super T>> flattened = new ArrayList<>(predicates.length);
+			for(java.util.function.Predicate<? super T> predicate : predicates){
+				Objects.requireNonNull(predicate);
+				if(predicate instanceof AllOf) Collections.addAll(flattened, ((AllOf<T>) predicate).clauses);
+				else flattened.add(predicate);
+			}
+			java.util.function.Predicate<?>[] merged = RangeSet.mergeRuns(flattened, false).toArray(NO_CLAUSES);
+			return new AllOf<>((java.util.function.Predicate<? super T>[]) merged);
+		}
+
+		@Override
+		public boolean test(T t){
+			for(java.util.function.Predicate<? super T> clause : clauses){
+				if(!clause.test(t)) return false;
+			}
+			return true;
+		}
+
+		@Override
+		public Predicate<T> and(java.util.function.Predicate<? super T> other){
+			Objects.requireNonNull(other);
+			return of(this, other);
+		}
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			return Arrays.equals(clauses, ((AllOf<?>) o).clauses);
+		}
+
+		@Override
+		public int hashCode(){ return Arrays.hashCode(clauses); }
+	}
+
+	/**
+	 * A disjunction held as a flat array of clauses, tested in order until one passes.
+	 * Disjoining further clauses (including other disjunctions) extends the array rather than nesting. Adjacent range
+	 * clauses are united into a single {@link RangeSet}, and adjacent equalities into a single {@link IsIn}.
+	 */
+	class AnyOf<T> implements Predicate<T> {
+		private final java.util.function.Predicate<? super T>[] clauses;
+
+		private AnyOf(java.util.function.Predicate<? super T>[] clauses){ this.clauses = clauses; }
+
+		java.util.function.Predicate<? super T>[] clauses(){ return clauses; }
+
+		@SafeVarargs
+		@SuppressWarnings("unchecked")
+		static <T> AnyOf<T> of(java.util.function.Predicate<? super T>... predicates){
+			List<java.util.function.Predicate<? super T>> flattened = new ArrayList<>(predicates.length);
+			for(java.util.function.Predicate<? super T> predicate : predicates){
+				Objects.requireNonNull(predicate);
+				if(predicate instanceof AnyOf) Collections.addAll(flattened, ((AnyOf<T>) predicate).clauses);
+				else flattened.add(predicate);
+			}
+			List<java.util.function.Predicate<? super T>> merged = indexEqualities(RangeSet.mergeRuns(flattened, true));
+			return new AnyOf<>((java.util.function.Predicate<? super T>[]) merged.toArray(AllOf.NO_CLAUSES));
+		}
+
+		/**
+		 * Replaces each run of adjacent isEqual and isIn clauses with a single isIn, once the run holds an isIn or at
+		 * least {@link IsIn#MIN_INDEXED_VALUES} values. Only adjacent clauses are merged, so no other clause is
+		 * evaluated any more or less often.
+		 */
+		private static <T> List<java.util.function.Predicate<? super T>> indexEqualities(
+				List<java.util.function.Predicate<? super T>> clauses){
+
+			List<java.util.function.Predicate<? super T>> indexed = new ArrayList<>(clauses.size());
+			List<java.util.function.Predicate<? super T>> run = new ArrayList<>();
+			for(java.util.function.Predicate<? super T> clause : clauses){
+				if(clause instanceof IsEqual || clause instanceof IsIn){
+					run.add(clause);
+					continue;
+				}
+				mergeRun(run, indexed);
+				indexed.add(clause);
+			}
+			mergeRun(run, indexed);
+			return indexed;
+		}
+
+		private static <T> void mergeRun(
+				List<java.util.function.Predicate<? super T>> run,
+				List<java.util.function.Predicate<? super T>> indexed){
+
+			List<Object> values = new ArrayList<>();
+			boolean anyIndexed = false;
+			for(java.util.function.Predicate<? super T> clause : run){
+				if(clause instanceof IsIn){
+					anyIndexed = true;
+					values.addAll(((IsIn<?>) clause).values());
+				}
+				else values.add(((IsEqual<?>) clause).target());
+			}
+
+			if(run.size() > 1 && (anyIndexed || values.size() >= IsIn.MIN_INDEXED_VALUES)) indexed.add(IsIn.of(values));
+			else indexed.addAll(run);
+			run.clear();
+		}
+
+		@Override
+		public boolean test(T t){
+			for(java.util.function.Predicate<? super T> clause : clauses){
+				if(clause.test(t)) return true;
+			}
+			return false;
+		}
+
+		@Override
+		public Predicate<T> or(java.util.function.Predicate<? super T> other){
+			Objects.requireNonNull(other);
+			return of(this, other);
+		}
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			return Arrays.equals(clauses, ((AnyOf<?>) o).clauses);
+		}
+
+		@Override
+		public int hashCode(){ return Arrays.hashCode(clauses); }
+	}
+
+	class Not<T> implements Predicate<T> {
+		private final java.util.function.Predicate<? super T> negated;
+
+		Not(java.util.function.Predicate<? super T> negated){ this.negated = negated; }
+
+		java.util.function.Predicate<? super T> negated(){ return negated; }
+
+		@Override
+		public boolean test(T t){ return !negated.test(t); }
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Predicate<T> negate(){
+			return negated instanceof Predicate ? (Predicate<T>) negated : negated::test;
+		}
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			return negated.equals(((Not<?>) o).negated);
+		}
+
+		@Override
+		public int hashCode(){ return 31 + negated.hashCode(); }
+	}
+
+	class Xor<T> implements Predicate<T> {
+		private final java.util.function.Predicate<? super T> left;
+		private final java.util.function.Predicate<? super T> right;
+
+		Xor(java.util.function.Predicate<? super T> left, java.util.function.Predicate<? super T> right){
+			this.left = left;
+			this.right = right;
+		}
+
+		java.util.function.Predicate<? super T> left(){ return left; }
+
+		java.util.function.Predicate<? super T> right(){ return right; }
+
+		@Override
+		public boolean test(T t){ return left.test(t) ^ right.test(t); }
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			Xor<?> xor = (Xor<?>) o;
+			return left.equals(xor.left) && right.equals(xor.right);
+		}
+
+		@Override
+		public int hashCode(){ return 31 * (31 + left.hashCode()) + right.hashCode(); }
+	}
+
+	/** The shared everTrue and everFalse predicates. */
+	class Constant<T> implements Predicate<T> {
+		private static final Constant<?> TRUE  = new Constant<>(true);
+		private static final Constant<?> FALSE = new Constant<>(false);
+
+		private final boolean value;
+
+		private Constant(boolean value){ this.value = value; }
+
+		@SuppressWarnings("unchecked")
+		static <T> Constant<T> of(boolean value){ return (Constant<T>) (value ? TRUE : FALSE); }
+
+		boolean value(){ return value; }
+
+		@Override
+		public boolean test(T t){ return value; }
+
+		@Override
+		public Predicate<T> negate(){ return of(!value); }
+	}
+
+	class IsEqual<T> implements Predicate<T> {
+		private final Object target;
+
+		private IsEqual(Object target){ this.target = target; }
+
+		Object target(){ return target; }
+
+		@Override
+		public boolean test(T t){ return target == null ? t == null : target.equals(t); }
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			return Objects.equals(target, ((IsEqual<?>) o).target);
+		}
+
+		@Override
+		public int hashCode(){ return 31 + Objects.hashCode(target); }
+	}
+
+	/**
+	 * Membership in a fixed set of values, tested through an index chosen for the values it holds: an {@link EnumSet}
+	 * for constants of a single enum, an identity set for values whose classes inherit {@link Object#equals}, and a
+	 * hash set otherwise. Hash lookups compare references before calling equals, so interned constants also match
+	 * without an equals call.
+	 */
+	class IsIn<T> implements Predicate<T> {
+		static final int MIN_INDEXED_VALUES = 4;
+
+		private final Set<Object> index;
+		private final boolean     matchesNull;
+
+		private IsIn(Set<Object> index, boolean matchesNull){
+			this.index = index;
+			this.matchesNull = matchesNull;
+		}
+
+		static <T> IsIn<T> of(Collection<?> values){
+			List<Object> nonNull = new ArrayList<>(values.size());
+			boolean matchesNull = false;
+			for(Object value : values){
+				if(value == null) matchesNull = true;
+				else nonNull.add(value);
+			}
+			return new IsIn<>(indexOf(nonNull), matchesNull);
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static Set<Object> indexOf(List<Object> values){
+			if(values.isEmpty()) return Collections.emptySet();
+
+			Class<?> enumType = values.get(0) instanceof Enum ? ((Enum<?>) values.get(0)).getDeclaringClass() : null;
+			boolean identityEquality = true;
+			for(Object value : values){
+				if(enumType != null && !(value instanceof Enum && ((Enum<?>) value).getDeclaringClass() == enumType)){
+					enumType = null;
+				}
+				identityEquality &= inheritsIdentityEquality(value.getClass());
+			}
+
+			Set<Object> index;
+			if(enumType != null) index = EnumSet.noneOf((Class) enumType);
+			else if(identityEquality) index = Collections.newSetFromMap(new IdentityHashMap<>());
+			else index = new HashSet<>();
+			index.addAll(values);
+			return index;
+		}
+
+		private static boolean inheritsIdentityEquality(Class<?> type){
+			try{
+				return type.getMethod("equals", Object.class).getDeclaringClass() == Object.class;
+			}
+			catch(NoSuchMethodException e){
+				return false;
+			}
+		}
+
+		/** The values this predicate matches, including null if it does. */
+		List<Object> values(){
+			List<Object> values = new ArrayList<>(index);
+			if(matchesNull) values.add(null);
+			return values;
+		}
+
+		@Override
+		public boolean test(T t){ return t == null ? matchesNull : index.contains(t); }
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			IsIn<?> isIn = (IsIn<?>) o;
+			return matchesNull == isIn.matchesNull && index.equals(isIn.index);
+		}
+
+		@Override
+		public int hashCode(){ return 31 * (31 + Boolean.hashCode(matchesNull)) + index.hashCode(); }
+	}
+
+	//endregion
 }
@@ -0,0 +1,139 @@
+package io.klbz.curie;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Rewrites predicates built by the library's combinators into equivalent ones that perform fewer checks, backing
+ * {@link Predicate#optimize()}.
+ *
+ * The rewrite works bottom-up over {@link Predicate.AllOf}, {@link Predicate.AnyOf}, {@link Predicate.Not},
+ * {@link Predicate.Xor} and {@link Predicate.Constant} nodes; any other predicate is an opaque leaf, and two leaves
+ * are considered the same clause when they are {@link Object#equals equal} (by identity, for lambdas). Because a
+ * rewritten predicate may skip, drop or reorder the evaluation of clauses, it can only be relied on to give the same
+ * results when the clauses are free of side effects.
+ *
+ * Within a junction, every range clause is gathered into one place, where the junction merges them into a single
+ * {@link RangeSet}; within a disjunction, every isEqual and isIn clause is likewise merged into a single hash-indexed
+ * {@link Predicate.IsIn}.
+ */
+final class PredicateOptimizer {
+	private PredicateOptimizer(){}
+
+	@SuppressWarnings("unchecked")
+	static <T> Predicate<T> optimize(Predicate<T> predicate){
+		java.util.function.Predicate<Object> optimized = simplify((java.util.function.Predicate<Object>) predicate);
+		return optimized instanceof Predicate ? (Predicate<T>) optimized : optimized::test;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static java.util.function.Predicate<Object> simplify(java.util.function.Predicate<Object> p){
+		if(p instanceof Predicate.AllOf) return junction(((Predicate.AllOf<Object>) p).clauses(), false);
+
+		if(p instanceof Predicate.AnyOf) return junction(((Predicate.AnyOf<Object>) p).clauses(), true);
+
+		if(p instanceof Predicate.Not){
+			return negation(simplify(((Predicate.Not<Object>) p).negated()));
+		}
+
+		if(p instanceof Predicate.Xor){
+			Predicate.Xor<Object> xor = (Predicate.Xor<Object>) p;
+			java.util.function.Predicate<Object> left = simplify(xor.left());
+			java.util.function.Predicate<Object> right = simplify(xor.right());
+
+			if(left instanceof Predicate.Constant){
+				return ((Predicate.Constant<Object>) left).value() ? negation(right) : right;
+			}
+			if(right instanceof Predicate.Constant){
+				return ((Predicate.Constant<Object>) right).value() ? negation(left) : left;
+			}
+			if(left.equals(right)) return Predicate.everFalse();
+			if(left.equals(negation(right))) return Predicate.everTrue();
+
+			return new Predicate.Xor<>(left, right);
+		}
+
+		return p;
+	}
+
+	/**
+	 * Simplifies a conjunction (when decidesOn is false) or disjunction (when decidesOn is true): a clause equal to
+	 * decidesOn, or a pair of complementary clauses, decides the whole; clauses equal to its opposite, and repeats of
+	 * earlier clauses, are dropped.
+	 */
+	@SuppressWarnings("unchecked")
+	private static java.util.function.Predicate<Object> junction(
+			java.util.function.Predicate<? super Object>[] clauses,
+			boolean decidesOn){
+
+		Set<java.util.function.Predicate<Object>> kept = new LinkedHashSet<>();
+		for(java.util.function.Predicate<? super Object> clause : clauses){
+			java.util.function.Predicate<Object> simplified = simplify(clause);
+
+			if(simplified instanceof Predicate.Constant){
+				if(((Predicate.Constant<Object>) simplified).value() == decidesOn) return simplified;
+				continue;
+			}
+
+			boolean sameJunction = decidesOn
+			                       ? simplified instanceof Predicate.AnyOf
+			                       : simplified instanceof Predicate.AllOf;
+			if(sameJunction){
+				Object[] nested = decidesOn
+				                  ? ((Predicate.AnyOf<Object>) simplified).clauses()
+				                  : ((Predicate.AllOf<Object>) simplified).clauses();
+				for(Object n : nested) kept.add((java.util.function.Predicate<Object>) n);
+			}
+			else kept.add(simplified);
+		}
+
+		for(java.util.function.Predicate<Object> clause : kept){
+			if(kept.contains(negation(clause))) return Predicate.Constant.of(decidesOn);
+		}
+
+		if(kept.isEmpty()) return Predicate.Constant.of(!decidesOn);
+		if(kept.size() == 1) return kept.iterator().next();
+
+		List<java.util.function.Predicate<Object>> gathered = gather(new ArrayList<>(kept), p -> p instanceof RangeSet);
+		if(!decidesOn) return Predicate.AllOf.of(toArray(gathered));
+
+		gathered = gather(gathered, p -> p instanceof Predicate.IsEqual || p instanceof Predicate.IsIn);
+		return Predicate.AnyOf.of(toArray(gathered));
+	}
+
+	/**
+	 * Moves every clause of the given kind up to the first of them, so that the junction can merge them all together.
+	 */
+	private static List<java.util.function.Predicate<Object>> gather(
+			List<java.util.function.Predicate<Object>> clauses,
+			java.util.function.Predicate<java.util.function.Predicate<Object>> kind){
+
+		List<java.util.function.Predicate<Object>> ofKind = new ArrayList<>();
+		for(java.util.function.Predicate<Object> clause : clauses){
+			if(kind.test(clause)) ofKind.add(clause);
+		}
+
+		List<java.util.function.Predicate<Object>> gathered = new ArrayList<>(clauses.size());
+		for(java.util.function.Predicate<Object> clause : clauses){
+			if(!kind.test(clause)) gathered.add(clause);
+			else if(clause == ofKind.get(0)) gathered.addAll(ofKind);
+		}
+		return gathered;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static java.util.function.Predicate<Object>[] toArray(List<java.util.function.Predicate<Object>> clauses){
+		return (java.util.function.Predicate<Object>[]) clauses.toArray(Predicate.AllOf.NO_CLAUSES);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static java.util.function.Predicate<Object> negation(java.util.function.Predicate<Object> p){
+		if(p instanceof Predicate.Constant) return Predicate.Constant.of(!((Predicate.Constant<Object>) p).value());
+		if(p instanceof Predicate.Not){
+			return ((Predicate.Not<Object>) p).negated();
+		}
+		return new Predicate.Not<>(p);
+	}
+}
@@ -0,0 +1,289 @@
+package io.klbz.curie;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A predicate wrapped in a named probe that records how often it is tested, how often it passes and, for a sample
+ * of its tests, how long it takes; produced by {@link Predicate#profile}.
+ *
+ * Profiling a predicate built with {@link Predicate#allOf}, {@link Predicate#anyOf}, negation or xor rebuilds it with
+ * a probe around every clause, named after its position below the root ({@code rule.0.1} is the second clause of the
+ * first clause of {@code rule}), so that a {@link #snapshot} reports a tree of clause statistics mirroring the
+ * predicate's structure. A clause that was profiled already keeps its own probe and name.
+ *
+ * Counts are kept in striped {@link LongAdder}s, so probes scale across threads. With sampling off, a probe costs
+ * two uncontended adder increments per test and never reads the clock; with sampling on, one test in every
+ * {@code sampleEvery} (rounded up to a power of two) is timed, chosen by a racy, and therefore approximate, counter.
+ */
+public final class ProfiledPredicate<T> implements Predicate<T> {
+	private final String                                  name;
+	private final String                                  kind;
+	private final java.util.function.Predicate<? super T> delegate;
+	private final List<ProfiledPredicate<?>>              children;
+	private final int                                     sampleMask;
+
+	private final LongAdder       invocations  = new LongAdder();
+	private final LongAdder       passes       = new LongAdder();
+	private final LongAdder       samples      = new LongAdder();
+	private final LongAdder       sampledNanos = new LongAdder();
+	private final LongAccumulator maxNanos     = new LongAccumulator(Math::max, 0);
+	private       int             tick;
+
+	private ProfiledPredicate(
+			String name,
+			String kind,
+			java.util.function.Predicate<? super T> delegate,
+			List<ProfiledPredicate<?>> children,
+			int sampleMask){
+
+		this.name = name;
+		this.kind = kind;
+		this.delegate = delegate;
+		this.children = children;
+		this.sampleMask = sampleMask;
+	}
+
+	//region Construction
+
+	/** Profiles the given predicate and its clauses, counting their tests without timing any of them. */
+	public static <T> ProfiledPredicate<T> instrument(String name, java.util.function.Predicate<? super T> predicate){
+		return instrument(name, predicate, 0);
+	}
+
+	/**
+	 * Profiles the given predicate and its clauses, timing one test in every {@code sampleEvery} of each; zero turns
+	 * sampling off.
+	 */
+	public static <T> ProfiledPredicate<T> instrument(
+			String name,
+			java.util.function.Predicate<? super T> predicate,
+			int sampleEvery){
+
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(predicate);
+		if(sampleEvery < 0) throw new IllegalArgumentException("Sampling interval " + sampleEvery + " is negative");
+
+		return probe(name, predicate, sampleEvery == 0 ? -1 : roundUpToPowerOfTwo(sampleEvery) - 1);
+	}
+
+	private static int roundUpToPowerOfTwo(int x){ return x == 1 ? 1 : Integer.highestOneBit(x - 1) << 1; }
+
+	@SuppressWarnings("unchecked")
+	private static <T> ProfiledPredicate<T> probe(
+			String name,
+			java.util.function.Predicate<? super T> predicate,
+			int sampleMask){
+
+		if(predicate instanceof ProfiledPredicate) return (ProfiledPredicate<T>) predicate;
+
+		List<ProfiledPredicate<?>> children = new ArrayList<>();
+		java.util.function.Predicate<? super T> delegate;
+		String kind;
+		if(predicate instanceof Predicate.AllOf){
+			kind = "allOf";
+			delegate = Predicate.allOf(probes(name, ((Predicate.AllOf<T>) predicate).clauses(), sampleMask, children));
+		}
+		else if(predicate instanceof Predicate.AnyOf){
+			kind = "anyOf";
+			delegate = Predicate.anyOf(probes(name, ((Predicate.AnyOf<T>) predicate).clauses(), sampleMask, children));
+		}
+		else if(predicate instanceof Predicate.Not){
+			kind = "not";
+			java.util.function.Predicate<? super T>[] operands = clauses(1);
+			operands[0] = ((Predicate.Not<T>) predicate).negated();
+			delegate = new Predicate.Not<>(probes(name, operands, sampleMask, children)[0]);
+		}
+		else if(predicate instanceof Predicate.Xor){
+			kind = "xor";
+			Predicate.Xor<T> xor = (Predicate.Xor<T>) predicate;
+			java.util.function.Predicate<? super T>[] operands = clauses(2);
+			operands[0] = xor.left();
+			operands[1] = xor.right();
+			operands = probes(name, operands, sampleMask, children);
+			delegate = new Predicate.Xor<>(operands[0], operands[1]);
+		}
+		else{
+			kind = kindOf(predicate);
+			delegate = predicate;
+		}
+		return new ProfiledPredicate<>(name, kind, delegate, Collections.unmodifiableList(children), sampleMask);
+	}
+
+	/** Probes each of the given clauses, named after its index below the given parent, and adds them to children. */
+	private static <T> java.util.function.Predicate<? super T>[] probes(
+			String parentName,
+			java.util.function.Predicate<? super T>[] clauses,
+			int sampleMask,
+			List<ProfiledPredicate<?>> children){
+
+		java.util.function.Predicate<? super T>[] probes = clauses(clauses.length);
+		for(int i = 0; i < clauses.length; i++){
+			ProfiledPredicate<? super T> probe = probe(parentName + "." + i, clauses[i], sampleMask);
+			children.add(probe);
+			probes[i] = probe;
+		}
+		return probes;
+	}
+
+	/** An empty array of the given number of clauses. */
+	@SuppressWarnings("unchecked")
+	private static <T> java.util.function.Predicate<? super T>[] clauses(int length){
+		return (java.util.function.Predicate<? super T>[]) new java.util.function.Predicate<?>[length];
+	}
+
+	/** A short description of a leaf: its class, or {@code lambda} for the unnamed classes of lambdas. */
+	private static String kindOf(java.util.function.Predicate<?> leaf){
+		Class<?> type = leaf.getClass();
+		return type.isSynthetic() || type.getSimpleName().contains("$$Lambda") ? "lambda" : type.getSimpleName();
+	}
+
+	//endregion
+
+	@Override
+	public boolean test(T t){
+		invocations.increment();
+
+		boolean result;
+		if(sampleMask >= 0 && (++tick & sampleMask) == 0){
+			long start = System.nanoTime();
+			result = delegate.test(t);
+			long elapsed = System.nanoTime() - start;
+			samples.increment();
+			sampledNanos.add(elapsed);
+			maxNanos.accumulate(elapsed);
+		}
+		else result = delegate.test(t);
+
+		if(result) passes.increment();
+		return result;
+	}
+
+	public String name(){ return name; }
+
+	//region Reporting
+
+	/** The statistics this probe and those of its clauses have gathered so far. */
+	public Snapshot snapshot(){
+		List<Snapshot> childSnapshots = new ArrayList<>(children.size());
+		for(ProfiledPredicate<?> child : children) childSnapshots.add(child.snapshot());
+		return new Snapshot(
+				name,
+				kind,
+				invocations.sum(),
+				passes.sum(),
+				samples.sum(),
+				sampledNanos.sum(),
+				maxNanos.get(),
+				Collections.unmodifiableList(childSnapshots));
+	}
+
+	/** Discards the statistics of this probe and those of its clauses. */
+	public void reset(){
+		invocations.reset();
+		passes.reset();
+		samples.reset();
+		sampledNanos.reset();
+		maxNanos.reset();
+		for(ProfiledPredicate<?> child : children) child.reset();
+	}
+
+	/** The statistics of one probe, and of the probes of its clauses, at one moment. */
+	public static final class Snapshot {
+		private final String         name;
+		private final String         kind;
+		private final long           invocations;
+		private final long           passes;
+		private final long           samples;
+		private final long           sampledNanos;
+		private final long           maxNanos;
+		private final List<Snapshot> children;
+
+		private Snapshot(
+				String name,
+				String kind,
+				long invocations,
+				long passes,
+				long samples,
+				long sampledNanos,
+				long maxNanos,
+				List<Snapshot> children){
+
+			this.name = name;
+			this.kind = kind;
+			this.invocations = invocations;
+			this.passes = passes;
+			this.samples = samples;
+			this.sampledNanos = sampledNanos;
+			this.maxNanos = maxNanos;
+			this.children = children;
+		}
+
+		public String name(){ return name; }
+
+		/** What was probed: {@code allOf}, {@code anyOf}, {@code not}, {@code xor}, or a leaf's description. */
+		public String kind(){ return kind; }
+
+		public long invocations(){ return invocations; }
+
+		public long passes(){ return passes; }
+
+		public long failures(){ return invocations - passes; }
+
+		public double passRatio(){ return invocations == 0 ? 0 : (double) passes / invocations; }
+
+		/** The number of tests that were timed. */
+		public long samples(){ return samples; }
+
+		/** The mean duration of the timed tests, or zero if none were timed. */
+		public double meanNanos(){ return samples == 0 ? 0 : (double) sampledNanos / samples; }
+
+		public long maxNanos(){ return maxNanos; }
+
+		public List<Snapshot> children(){ return children; }
+
+		/** This snapshot as nested maps of names to numbers, strings and lists, ready for a JSON or metrics encoder. */
+		public Map<String, Object> toMap(){
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("name", name);
+			map.put("kind", kind);
+			map.put("invocations", invocations);
+			map.put("passes", passes);
+			map.put("passRatio", passRatio());
+			map.put("samples", samples);
+			map.put("meanNanos", meanNanos());
+			map.put("maxNanos", maxNanos);
+
+			List<Map<String, Object>> childMaps = new ArrayList<>(children.size());
+			for(Snapshot child : children) childMaps.add(child.toMap());
+			map.put("children", childMaps);
+			return map;
+		}
+
+		/** This snapshot and its clauses', one per line, indented by depth. */
+		@Override
+		public String toString(){
+			StringBuilder builder = new StringBuilder();
+			appendTo(builder, 0);
+			return builder.toString();
+		}
+
+		private void appendTo(StringBuilder builder, int depth){
+			for(int i = 0; i < depth; i++) builder.append("  ");
+			builder.append(name).append(" (").append(kind).append("): ")
+			       .append(invocations).append(" tests, ")
+			       .append(String.format("%.1f%%", passRatio() * 100)).append(" passed");
+			if(samples > 0) builder.append(String.format(", mean %.0f ns, max %d ns", meanNanos(), maxNanos));
+			builder.append('\n');
+			for(Snapshot child : children) child.appendTo(builder, depth + 1);
+		}
+	}
+
+	//endregion
+}
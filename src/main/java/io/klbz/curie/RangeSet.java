@@ -0,0 +1,290 @@
+package io.klbz.curie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link Predicate} accepting the values in a set of intervals of a {@link Comparable} type, produced by
+ * {@link Predicate#isGreaterThan}, {@link Predicate#isAtLeast}, {@link Predicate#isLessThan},
+ * {@link Predicate#isAtMost} and {@link Predicate#isBetween}.
+ *
+ * The intervals are kept sorted, disjoint and coalesced, so testing a value is a binary search however many ranges
+ * went into the set. Combining range sets with {@link #and}, {@link #or}, {@link #xor} or {@link #negate} (or through
+ * adjacent clauses of {@link Predicate#allOf} and {@link Predicate#anyOf}) computes the resulting set up front.
+ *
+ * Null lies outside every interval, but still has an answer: ranges reject it, and the combinators track it like any
+ * other value. Only range sets whose bounds share a class are combined; others fall back to the ordinary composites.
+ */
+public final class RangeSet<T extends Comparable<? super T>> implements Predicate<T> {
+	private final Interval[] intervals;
+	private final Class<?>   domain;
+	private final boolean    matchesNull;
+
+	private RangeSet(Interval[] intervals, Class<?> domain, boolean matchesNull){
+		this.intervals = intervals;
+		this.domain = domain;
+		this.matchesNull = matchesNull;
+	}
+
+	//region Construction
+
+	static <T extends Comparable<? super T>> RangeSet<T> of(
+			T lower,
+			boolean lowerInclusive,
+			T upper,
+			boolean upperInclusive){
+
+		Interval interval = new Interval(lower, lowerInclusive, upper, upperInclusive);
+		Class<?> domain = lower != null ? lower.getClass() : upper != null ? upper.getClass() : null;
+		return new RangeSet<>(interval.isEmpty() ? new Interval[0] : new Interval[]{ interval }, domain, false);
+	}
+
+	//endregion
+
+	@Override
+	public boolean test(T t){
+		if(t == null) return matchesNull;
+
+		int low = 0;
+		int high = intervals.length - 1;
+		while(low <= high){
+			int mid = (low + high) >>> 1;
+			if(intervals[mid].admitsFromBelow(t)) low = mid + 1;
+			else high = mid - 1;
+		}
+		return high >= 0 && intervals[high].admitsFromAbove(t);
+	}
+
+	//region Aggregation
+
+	public RangeSet<T> and(RangeSet<T> other){
+		requireCompatible(other);
+
+		List<Interval> intersection = new ArrayList<>();
+		int i = 0;
+		int j = 0;
+		while(i < intervals.length && j < other.intervals.length){
+			Interval a = intervals[i];
+			Interval b = other.intervals[j];
+			Interval from = compareLowers(a, b) >= 0 ? a : b;
+			Interval to = compareUppers(a, b) <= 0 ? a : b;
+			Interval overlap = new Interval(from.lower, from.lowerInclusive, to.upper, to.upperInclusive);
+			if(!overlap.isEmpty()) intersection.add(overlap);
+
+			if(to == a) i++;
+			else j++;
+		}
+		boolean intersectionMatchesNull = matchesNull && other.matchesNull;
+		return new RangeSet<>(intersection.toArray(new Interval[0]), domainWith(other), intersectionMatchesNull);
+	}
+
+	public RangeSet<T> or(RangeSet<T> other){
+		requireCompatible(other);
+
+		Interval[] all = Arrays.copyOf(intervals, intervals.length + other.intervals.length);
+		System.arraycopy(other.intervals, 0, all, intervals.length, other.intervals.length);
+		Arrays.sort(all, RangeSet::compareLowers);
+
+		List<Interval> union = new ArrayList<>();
+		for(Interval next : all){
+			Interval last = union.isEmpty() ? null : union.get(union.size() - 1);
+			if(last == null || !last.touches(next)) union.add(next);
+			else if(compareUppers(next, last) > 0){
+				Interval extended = new Interval(last.lower, last.lowerInclusive, next.upper, next.upperInclusive);
+				union.set(union.size() - 1, extended);
+			}
+		}
+		boolean unionMatchesNull = matchesNull || other.matchesNull;
+		return new RangeSet<>(union.toArray(new Interval[0]), domainWith(other), unionMatchesNull);
+	}
+
+	public RangeSet<T> xor(RangeSet<T> other){ return or(other).and(and(other).negate()); }
+
+	@Override
+	public RangeSet<T> negate(){
+		List<Interval> gaps = new ArrayList<>();
+		Object gapLower = null;
+		boolean gapLowerInclusive = false;
+		for(Interval interval : intervals){
+			if(interval.lower != null){
+				Interval gap = new Interval(gapLower, gapLowerInclusive, interval.lower, !interval.lowerInclusive);
+				if(!gap.isEmpty()) gaps.add(gap);
+			}
+			if(interval.upper == null) return new RangeSet<>(gaps.toArray(new Interval[0]), domain, !matchesNull);
+
+			gapLower = interval.upper;
+			gapLowerInclusive = !interval.upperInclusive;
+		}
+		gaps.add(new Interval(gapLower, gapLowerInclusive, null, false));
+		return new RangeSet<>(gaps.toArray(new Interval[0]), domain, !matchesNull);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Predicate<T> and(java.util.function.Predicate<? super T> other){
+		if(isCompatible(other)) return and((RangeSet<T>) other);
+		return Predicate.super.and(other);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Predicate<T> or(java.util.function.Predicate<? super T> other){
+		if(isCompatible(other)) return or((RangeSet<T>) other);
+		return Predicate.super.or(other);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public Predicate<T> xor(java.util.function.Predicate<? super T> other){
+		if(isCompatible(other)) return xor((RangeSet<T>) other);
+		return Predicate.super.xor(other);
+	}
+
+	/**
+	 * Replaces each run of adjacent, combinable range sets among the given clauses with their union (or intersection).
+	 * Only adjacent clauses are merged, so no other clause is evaluated any more or less often.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	static <T> List<java.util.function.Predicate<? super T>> mergeRuns(
+			List<java.util.function.Predicate<? super T>> clauses,
+			boolean union){
+
+		List<java.util.function.Predicate<? super T>> merged = new ArrayList<>(clauses.size());
+		for(java.util.function.Predicate<? super T> clause : clauses){
+			java.util.function.Predicate<? super T> last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+			if(last instanceof RangeSet && ((RangeSet) last).isCompatible(clause)){
+				RangeSet previous = (RangeSet) last;
+				merged.set(merged.size() - 1, union ? previous.or((RangeSet) clause) : previous.and((RangeSet) clause));
+			}
+			else merged.add(clause);
+		}
+		return merged;
+	}
+
+	boolean isCompatible(java.util.function.Predicate<?> other){
+		if(!(other instanceof RangeSet)) return false;
+
+		Class<?> otherDomain = ((RangeSet<?>) other).domain;
+		return domain == null || otherDomain == null || domain == otherDomain;
+	}
+
+	private void requireCompatible(RangeSet<T> other){
+		if(!isCompatible(other)){
+			throw new IllegalArgumentException("Cannot combine ranges over " + domain + " and " + other.domain);
+		}
+	}
+
+	private Class<?> domainWith(RangeSet<T> other){ return domain != null ? domain : other.domain; }
+
+	//endregion
+
+	//region Intervals
+
+	/** Orders intervals by where they start: unbounded first, then an inclusive bound before an exclusive one. */
+	private static int compareLowers(Interval a, Interval b){
+		if(a.lower == null || b.lower == null) return a.lower == null ? (b.lower == null ? 0 : -1) : 1;
+
+		int comparison = compare(a.lower, b.lower);
+		if(comparison != 0 || a.lowerInclusive == b.lowerInclusive) return comparison;
+		return a.lowerInclusive ? -1 : 1;
+	}
+
+	/** Orders intervals by where they end: unbounded last, then an inclusive bound after an exclusive one. */
+	private static int compareUppers(Interval a, Interval b){
+		if(a.upper == null || b.upper == null) return a.upper == null ? (b.upper == null ? 0 : 1) : -1;
+
+		int comparison = compare(a.upper, b.upper);
+		if(comparison != 0 || a.upperInclusive == b.upperInclusive) return comparison;
+		return a.upperInclusive ? 1 : -1;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static int compare(Object a, Object b){ return ((Comparable<Object>) a).compareTo(b); }
+
+	/** A single interval; a null bound is unbounded on that side. */
+	private static final class Interval {
+		private final Object  lower;
+		private final boolean lowerInclusive;
+		private final Object  upper;
+		private final boolean upperInclusive;
+
+		private Interval(Object lower, boolean lowerInclusive, Object upper, boolean upperInclusive){
+			this.lower = lower;
+			this.lowerInclusive = lowerInclusive;
+			this.upper = upper;
+			this.upperInclusive = upperInclusive;
+		}
+
+		private boolean isEmpty(){
+			if(lower == null || upper == null) return false;
+
+			int comparison = compare(lower, upper);
+			return comparison > 0 || (comparison == 0 && !(lowerInclusive && upperInclusive));
+		}
+
+		private boolean admitsFromBelow(Object value){
+			if(lower == null) return true;
+
+			int comparison = compare(value, lower);
+			return comparison > 0 || (comparison == 0 && lowerInclusive);
+		}
+
+		private boolean admitsFromAbove(Object value){
+			if(upper == null) return true;
+
+			int comparison = compare(value, upper);
+			return comparison < 0 || (comparison == 0 && upperInclusive);
+		}
+
+		/** Whether the given interval, starting no earlier than this one, overlaps or abuts it. */
+		private boolean touches(Interval next){
+			if(upper == null || next.lower == null) return true;
+
+			int comparison = compare(next.lower, upper);
+			return comparison < 0 || (comparison == 0 && (next.lowerInclusive || upperInclusive));
+		}
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			Interval interval = (Interval) o;
+			return lowerInclusive == interval.lowerInclusive
+			       && upperInclusive == interval.upperInclusive
+			       && Objects.equals(lower, interval.lower)
+			       && Objects.equals(upper, interval.upper);
+		}
+
+		@Override
+		public int hashCode(){
+			return 31 * (31 * (31 * (31 + Objects.hashCode(lower)) + Boolean.hashCode(lowerInclusive))
+			             + Objects.hashCode(upper)) + Boolean.hashCode(upperInclusive);
+		}
+
+		@Override
+		public String toString(){
+			return (lowerInclusive ? "[" : "(") + (lower == null ? "-inf" : lower) + ", "
+			       + (upper == null ? "+inf" : upper) + (upperInclusive ? "]" : ")");
+		}
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		RangeSet<?> rangeSet = (RangeSet<?>) o;
+		return matchesNull == rangeSet.matchesNull && Arrays.equals(intervals, rangeSet.intervals);
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Boolean.hashCode(matchesNull)) + Arrays.hashCode(intervals); }
+
+	@Override
+	public String toString(){ return "RangeSet" + Arrays.toString(intervals) + (matchesNull ? " or null" : ""); }
+}
@@ -0,0 +1,222 @@
+package io.klbz.curie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A set of named rules, each a {@link Predicate}, compiled into one network of checks shared between them.
+ *
+ * Rules built from the library's combinators are taken apart into their clauses, and identical sub-predicates,
+ * wherever they appear, become a single node of the network: composites are identical when they combine the same
+ * nodes in the same order, and leaves when they are {@linkplain Object#equals equal}, so {@link Predicate#isEqual},
+ * {@link Predicate#isIn} and range predicates are shared by value, and lambdas by identity. Testing an input walks the
+ * rules in turn, remembering the answer of every node it reaches, so each distinct check runs at most once per input
+ * however many rules repeat it; the cost grows with the number of distinct checks, not with rules times clauses.
+ *
+ * Each composite still evaluates its clauses in order and stops as soon as its answer is decided, so a clause runs
+ * only if some rule containing it would have run it when tested alone.
+ */
+public final class RuleSet<T> {
+	private static final byte UNKNOWN = 0;
+	private static final byte TRUE    = 1;
+	private static final byte FALSE   = 2;
+
+	private final List<String>                           names;
+	private final int[]                                  roots;
+	private final int[]                                  kinds;
+	private final int[][]                                children;
+	private final java.util.function.Predicate<Object>[] leaves;
+
+	@SuppressWarnings("unchecked")
+	private RuleSet(List<String> names, int[] roots, List<Node> nodes){
+		this.names = names;
+		this.roots = roots;
+		kinds = new int[nodes.size()];
+		children = new int[nodes.size()][];
+		leaves = (java.util.function.Predicate<Object>[]) new java.util.function.Predicate<?>[nodes.size()];
+		for(int i = 0; i < kinds.length; i++){
+			kinds[i] = nodes.get(i).kind;
+			children[i] = nodes.get(i).children;
+			leaves[i] = nodes.get(i).leaf;
+		}
+	}
+
+	public static <T> Builder<T> builder(){ return new Builder<>(); }
+
+	/** The names of the rules, in the order they were registered; rule {@code i} is index {@code i} of a match. */
+	public List<String> names(){ return names; }
+
+	public int size(){ return roots.length; }
+
+	/** The number of distinct checks the rules were compiled into. */
+	public int nodeCount(){ return kinds.length; }
+
+	//region Evaluation
+
+	/** Tests every rule against the given input, selecting the indexes of the rules it satisfies. */
+	public Selection evaluate(T t){
+		byte[] memo = new byte[kinds.length];
+		long[] words = new long[(roots.length + 63) >>> 6];
+		for(int i = 0; i < roots.length; i++){
+			if(test(roots[i], t, memo)) words[i >>> 6] |= 1L << i;
+		}
+		return new Selection(words, roots.length);
+	}
+
+	/** The names of the rules the given input satisfies, in registration order. */
+	public List<String> matching(T t){ return evaluate(t).selectFrom(names); }
+
+	private boolean test(int id, T t, byte[] memo){
+		byte known = memo[id];
+		if(known != UNKNOWN) return known == TRUE;
+
+		boolean result;
+		switch(kinds[id]){
+			case LEAF:
+				result = leaves[id].test(t);
+				break;
+			case ALL:
+				result = allOf(children[id], t, memo);
+				break;
+			case ANY:
+				result = anyOf(children[id], t, memo);
+				break;
+			case NOT:
+				result = !test(children[id][0], t, memo);
+				break;
+			default:
+				result = test(children[id][0], t, memo) ^ test(children[id][1], t, memo);
+		}
+		memo[id] = result ? TRUE : FALSE;
+		return result;
+	}
+
+	private boolean allOf(int[] clauses, T t, byte[] memo){
+		for(int clause : clauses){
+			if(!test(clause, t, memo)) return false;
+		}
+		return true;
+	}
+
+	private boolean anyOf(int[] clauses, T t, byte[] memo){
+		for(int clause : clauses){
+			if(test(clause, t, memo)) return true;
+		}
+		return false;
+	}
+
+	//endregion
+
+	//region Network
+
+	private static final int LEAF = 0;
+	private static final int ALL  = 1;
+	private static final int ANY  = 2;
+	private static final int NOT  = 3;
+	private static final int XOR  = 4;
+
+	/** One distinct check while compiling: a leaf predicate, or a composite over the ids of earlier nodes. */
+	private static final class Node {
+		private final int                                  kind;
+		private final int[]                                children;
+		private final java.util.function.Predicate<Object> leaf;
+
+		private Node(int kind, int[] children, java.util.function.Predicate<Object> leaf){
+			this.kind = kind;
+			this.children = children;
+			this.leaf = leaf;
+		}
+
+		@Override
+		public boolean equals(Object o){
+			if(this == o) return true;
+			if(o == null || getClass() != o.getClass()) return false;
+
+			Node node = (Node) o;
+			return kind == node.kind && Arrays.equals(children, node.children) && Objects.equals(leaf, node.leaf);
+		}
+
+		@Override
+		public int hashCode(){ return 31 * (31 * (31 + kind) + Arrays.hashCode(children)) + Objects.hashCode(leaf); }
+	}
+
+	/** Interns the nodes of each rule in turn, children before their parents. */
+	private static final class Compiler {
+		private final List<Node>                                    nodes   = new ArrayList<>();
+		private final Map<Node, Integer>                            ids     = new HashMap<>();
+		private final Map<java.util.function.Predicate<?>, Integer> visited = new IdentityHashMap<>();
+
+		@SuppressWarnings("unchecked")
+		private int idOf(java.util.function.Predicate<?> predicate){
+			Integer seen = visited.get(predicate);
+			if(seen != null) return seen;
+
+			Node node;
+			if(predicate instanceof Predicate.AllOf){
+				node = composite(ALL, ((Predicate.AllOf<?>) predicate).clauses());
+			}
+			else if(predicate instanceof Predicate.AnyOf){
+				node = composite(ANY, ((Predicate.AnyOf<?>) predicate).clauses());
+			}
+			else if(predicate instanceof Predicate.Not){
+				node = composite(NOT, ((Predicate.Not<?>) predicate).negated());
+			}
+			else if(predicate instanceof Predicate.Xor){
+				Predicate.Xor<?> xor = (Predicate.Xor<?>) predicate;
+				node = composite(XOR, xor.left(), xor.right());
+			}
+			else node = new Node(LEAF, new int[0], (java.util.function.Predicate<Object>) predicate);
+
+			Integer id = ids.get(node);
+			if(id == null){
+				id = nodes.size();
+				nodes.add(node);
+				ids.put(node, id);
+			}
+			visited.put(predicate, id);
+			return id;
+		}
+
+		private Node composite(int kind, java.util.function.Predicate<?>... clauses){
+			int[] children = new int[clauses.length];
+			for(int i = 0; i < clauses.length; i++) children[i] = idOf(clauses[i]);
+			return new Node(kind, children, null);
+		}
+	}
+
+	//endregion
+
+	/** Registers named rules, then compiles them together into a {@link RuleSet}. */
+	public static final class Builder<T> {
+		private final Map<String, java.util.function.Predicate<? super T>> rules = new LinkedHashMap<>();
+
+		private Builder(){}
+
+		public Builder<T> rule(String name, java.util.function.Predicate<? super T> predicate){
+			Objects.requireNonNull(name);
+			Objects.requireNonNull(predicate);
+			if(rules.putIfAbsent(name, predicate) != null) throw new IllegalArgumentException("Duplicate rule " + name);
+			return this;
+		}
+
+		public RuleSet<T> build(){
+			Compiler compiler = new Compiler();
+			int[] roots = new int[rules.size()];
+			int i = 0;
+			for(java.util.function.Predicate<? super T> rule : rules.values()) roots[i++] = compiler.idOf(rule);
+
+			List<String> names = Collections.unmodifiableList(new ArrayList<>(rules.keySet()));
+			return new RuleSet<>(names, roots, compiler.nodes);
+		}
+	}
+
+	@Override
+	public String toString(){ return "RuleSet{" + roots.length + " rules, " + kinds.length + " checks}"; }
+}
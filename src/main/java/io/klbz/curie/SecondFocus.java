@@ -19,7 +19,10 @@ public class SecondFocus<F, S> {
 
 	public <SPrime> SecondFocus<F, SPrime> map(Function<? super S, SPrime> f){ return on(pair.mapSecond(f)); }
 
-	public SecondFocus<F, S> withDo(Consumer<S> doF){ return on(pair.withSecondDo(doF)); }
+	public SecondFocus<F, S> withDo(Consumer<S> doF){
+		pair.withSecondDo(doF);
+		return this;
+	}
 
 	@Override
 	public boolean equals(Object o){
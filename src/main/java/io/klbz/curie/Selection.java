@@ -0,0 +1,256 @@
+package io.klbz.curie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * The results of testing a predicate against every element of a batch, one bit per element, produced by
+ * {@link Predicate#testAll}, {@link Predicate#testRange} and {@link Predicate#testAllParallel}; or of testing
+ * every rule of a {@link RuleSet} against one input, one bit per rule.
+ *
+ * Selections over batches of the same size combine with word-wide {@link #and}, {@link #or}, {@link #xor},
+ * {@link #andNot} and {@link #not}, so filters can be composed after the fact without retesting any element.
+ *
+ * Batch evaluation sees through {@link Predicate#allOf}, {@link Predicate#anyOf}, negation and xor: each clause is
+ * tested, in a tight loop, only against the elements its composite has not yet decided, so clauses are invoked
+ * exactly as often as they would be by testing each element in turn.
+ */
+public final class Selection {
+	private static final int PARALLEL_CHUNK_WORDS = 64;
+
+	private final long[] words;
+	private final int    size;
+
+	Selection(long[] words, int size){
+		this.words = words;
+		this.size = size;
+	}
+
+	//region Evaluation
+
+	static Selection evaluate(java.util.function.Predicate<?> predicate, Object[] elements, boolean parallel){
+		long[] words = allSelected(elements.length);
+		@SuppressWarnings("unchecked")
+		java.util.function.Predicate<Object> p = (java.util.function.Predicate<Object>) predicate;
+
+		if(parallel && words.length > PARALLEL_CHUNK_WORDS){
+			int chunks = (words.length + PARALLEL_CHUNK_WORDS - 1) / PARALLEL_CHUNK_WORDS;
+			IntStream.range(0, chunks).parallel().forEach(chunk -> {
+				int from = chunk * PARALLEL_CHUNK_WORDS;
+				retain(p, elements, words, from, Math.min(words.length, from + PARALLEL_CHUNK_WORDS), 0);
+			});
+		}
+		else{
+			retain(p, elements, words, 0, words.length, 0);
+		}
+
+		return new Selection(words, elements.length);
+	}
+
+	/**
+	 * Clears, within words [from, to), the bit of every element that fails the predicate.
+	 * The element for bit b of word w is found at elements[base + 64w + b].
+	 */
+	@SuppressWarnings("unchecked")
+	private static void retain(
+			java.util.function.Predicate<Object> p,
+			Object[] elements,
+			long[] words,
+			int from,
+			int to,
+			int base){
+
+		int rangeBase = base + (from << 6);
+
+		if(p instanceof Predicate.Constant){
+			if(!((Predicate.Constant<?>) p).value()) Arrays.fill(words, from, to, 0L);
+			return;
+		}
+
+		if(p instanceof Predicate.AllOf){
+			for(java.util.function.Predicate<?> clause : ((Predicate.AllOf<?>) p).clauses()){
+				retain((java.util.function.Predicate<Object>) clause, elements, words, from, to, base);
+			}
+			return;
+		}
+
+		if(p instanceof Predicate.AnyOf){
+			long[] undecided = Arrays.copyOfRange(words, from, to);
+			Arrays.fill(words, from, to, 0L);
+			for(java.util.function.Predicate<?> clause : ((Predicate.AnyOf<?>) p).clauses()){
+				long[] passing = undecided.clone();
+				retain((java.util.function.Predicate<Object>) clause, elements, passing, 0, passing.length, rangeBase);
+
+				boolean anyUndecided = false;
+				for(int i = 0; i < passing.length; i++){
+					words[from + i] |= passing[i];
+					undecided[i] &= ~passing[i];
+					anyUndecided |= undecided[i] != 0;
+				}
+				if(!anyUndecided) return;
+			}
+			return;
+		}
+
+		if(p instanceof Predicate.Not){
+			long[] passing = Arrays.copyOfRange(words, from, to);
+			java.util.function.Predicate<?> negated = ((Predicate.Not<?>) p).negated();
+			retain((java.util.function.Predicate<Object>) negated, elements, passing, 0, passing.length, rangeBase);
+			for(int i = 0; i < passing.length; i++) words[from + i] &= ~passing[i];
+			return;
+		}
+
+		if(p instanceof Predicate.Xor){
+			Predicate.Xor<?> xor = (Predicate.Xor<?>) p;
+			long[] left = Arrays.copyOfRange(words, from, to);
+			long[] right = left.clone();
+			retain((java.util.function.Predicate<Object>) xor.left(), elements, left, 0, left.length, rangeBase);
+			retain((java.util.function.Predicate<Object>) xor.right(), elements, right, 0, right.length, rangeBase);
+			for(int i = 0; i < left.length; i++) words[from + i] = left[i] ^ right[i];
+			return;
+		}
+
+		for(int w = from; w < to; w++){
+			long remaining = words[w];
+			long kept = remaining;
+			while(remaining != 0){
+				int bit = Long.numberOfTrailingZeros(remaining);
+				if(!p.test(elements[base + (w << 6) + bit])) kept &= ~(1L << bit);
+				remaining &= remaining - 1;
+			}
+			words[w] = kept;
+		}
+	}
+
+	private static long[] allSelected(int size){
+		long[] words = new long[(size + 63) >>> 6];
+		Arrays.fill(words, -1L);
+		if((size & 63) != 0) words[words.length - 1] = (1L << size) - 1;
+		return words;
+	}
+
+	//endregion
+
+	//region Queries
+
+	/** The number of elements tested, selected or not. */
+	public int size(){ return size; }
+
+	/** The number of elements selected. */
+	public int count(){
+		int count = 0;
+		for(long word : words) count += Long.bitCount(word);
+		return count;
+	}
+
+	public boolean isEmpty(){
+		for(long word : words){
+			if(word != 0) return false;
+		}
+		return true;
+	}
+
+	public boolean isSelected(int index){
+		if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " of " + size);
+		return (words[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/** The selected indexes, in ascending order. */
+	public int[] indexes(){
+		int[] indexes = new int[count()];
+		int next = 0;
+		for(int w = 0; w < words.length; w++){
+			for(long word = words[w]; word != 0; word &= word - 1){
+				indexes[next++] = (w << 6) + Long.numberOfTrailingZeros(word);
+			}
+		}
+		return indexes;
+	}
+
+	public Selection forEachSelected(IntConsumer doF){
+		for(int w = 0; w < words.length; w++){
+			for(long word = words[w]; word != 0; word &= word - 1){
+				doF.accept((w << 6) + Long.numberOfTrailingZeros(word));
+			}
+		}
+		return this;
+	}
+
+	/** The selected elements of the batch this selection was evaluated over, in order. */
+	public <T> List<T> selectFrom(List<T> values){
+		requireSize(values.size());
+		List<T> selected = new ArrayList<>(count());
+		if(values instanceof RandomAccess) forEachSelected(i -> selected.add(values.get(i)));
+		else{
+			@SuppressWarnings("unchecked")
+			T[] copy = (T[]) values.toArray();
+			forEachSelected(i -> selected.add(copy[i]));
+		}
+		return selected;
+	}
+
+	//endregion
+
+	//region Combination
+
+	public Selection and(Selection other){
+		requireSize(other.size);
+		long[] combined = new long[words.length];
+		for(int i = 0; i < combined.length; i++) combined[i] = words[i] & other.words[i];
+		return new Selection(combined, size);
+	}
+
+	public Selection or(Selection other){
+		requireSize(other.size);
+		long[] combined = new long[words.length];
+		for(int i = 0; i < combined.length; i++) combined[i] = words[i] | other.words[i];
+		return new Selection(combined, size);
+	}
+
+	public Selection xor(Selection other){
+		requireSize(other.size);
+		long[] combined = new long[words.length];
+		for(int i = 0; i < combined.length; i++) combined[i] = words[i] ^ other.words[i];
+		return new Selection(combined, size);
+	}
+
+	public Selection andNot(Selection other){
+		requireSize(other.size);
+		long[] combined = new long[words.length];
+		for(int i = 0; i < combined.length; i++) combined[i] = words[i] & ~other.words[i];
+		return new Selection(combined, size);
+	}
+
+	public Selection not(){
+		long[] inverted = allSelected(size);
+		for(int i = 0; i < inverted.length; i++) inverted[i] &= ~words[i];
+		return new Selection(inverted, size);
+	}
+
+	private void requireSize(int otherSize){
+		if(otherSize != size){
+			throw new IllegalArgumentException("Selection over " + size + " elements applied to " + otherSize);
+		}
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		Selection selection = (Selection) o;
+		return size == selection.size && Arrays.equals(words, selection.words);
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + size) + Arrays.hashCode(words); }
+
+	@Override
+	public String toString(){ return "Selection{" + count() + " of " + size + '}'; }
+}
@@ -0,0 +1,142 @@
+package io.klbz.curie;
+
+import java.util.Arrays;
+
+/**
+ * An {@link IntPredicate} over a small domain of non-negative ints, such as codes or flags, held as a bitmask.
+ *
+ * As with {@link EnumPredicate}, combining two small-int predicates with {@link #and}, {@link #or} or {@link #xor},
+ * or negating one, combines their masks up front, so testing a value is one bounds check and one bit test. Every
+ * value outside the mask, negative or too large, shares a single answer, which the combinators track like any other
+ * bit; the membership constructors reject them all.
+ */
+public final class SmallIntPredicate implements IntPredicate {
+	/** The exclusive upper bound on values the constructors accept. */
+	public static final int MAX_DOMAIN = 1 << 16;
+
+	private final long[]  mask;
+	private final boolean matchesOutside;
+
+	private SmallIntPredicate(long[] mask, boolean matchesOutside){
+		this.mask = mask;
+		this.matchesOutside = matchesOutside;
+	}
+
+	/** Trims trailing words that agree with the outside answer, so that equal predicates have equal masks. */
+	private static SmallIntPredicate of(long[] mask, boolean matchesOutside){
+		long outsideWord = matchesOutside ? -1L : 0L;
+		int length = mask.length;
+		while(length > 0 && mask[length - 1] == outsideWord) length--;
+		return new SmallIntPredicate(length == mask.length ? mask : Arrays.copyOf(mask, length), matchesOutside);
+	}
+
+	//region Construction
+
+	public static SmallIntPredicate everTrue(){ return of(new long[0], true); }
+
+	public static SmallIntPredicate everFalse(){ return of(new long[0], false); }
+
+	public static SmallIntPredicate isEqual(int value){ return isIn(value); }
+
+	public static SmallIntPredicate isIn(int... values){
+		int max = -1;
+		for(int value : values) max = Math.max(max, requireInDomain(value));
+
+		long[] mask = new long[(max + 64) >>> 6];
+		for(int value : values) mask[value >>> 6] |= 1L << value;
+		return of(mask, false);
+	}
+
+	/** Tests whether a value lies within the given bounds, inclusive of both. */
+	public static SmallIntPredicate isBetween(int lowerBound, int upperBound){
+		requireInDomain(lowerBound);
+		requireInDomain(upperBound);
+
+		long[] mask = new long[(upperBound + 64) >>> 6];
+		for(int value = lowerBound; value <= upperBound; value++) mask[value >>> 6] |= 1L << value;
+		return of(mask, false);
+	}
+
+	private static int requireInDomain(int value){
+		if(value < 0 || value >= MAX_DOMAIN){
+			throw new IllegalArgumentException("Value " + value + " outside [0, " + MAX_DOMAIN + ")");
+		}
+		return value;
+	}
+
+	//endregion
+
+	@Override
+	public boolean test(int value){
+		int word = value >>> 6;
+		return word < mask.length ? (mask[word] & (1L << value)) != 0 : matchesOutside;
+	}
+
+	//region Aggregation
+
+	public SmallIntPredicate and(SmallIntPredicate other){
+		long[] left = widened(other.mask.length);
+		long[] right = other.widened(mask.length);
+		for(int i = 0; i < left.length; i++) left[i] &= right[i];
+		return of(left, matchesOutside && other.matchesOutside);
+	}
+
+	public SmallIntPredicate or(SmallIntPredicate other){
+		long[] left = widened(other.mask.length);
+		long[] right = other.widened(mask.length);
+		for(int i = 0; i < left.length; i++) left[i] |= right[i];
+		return of(left, matchesOutside || other.matchesOutside);
+	}
+
+	public SmallIntPredicate xor(SmallIntPredicate other){
+		long[] left = widened(other.mask.length);
+		long[] right = other.widened(mask.length);
+		for(int i = 0; i < left.length; i++) left[i] ^= right[i];
+		return of(left, matchesOutside ^ other.matchesOutside);
+	}
+
+	@Override
+	public SmallIntPredicate negate(){
+		long[] inverted = new long[mask.length];
+		for(int i = 0; i < inverted.length; i++) inverted[i] = ~mask[i];
+		return of(inverted, !matchesOutside);
+	}
+
+	@Override
+	public IntPredicate and(java.util.function.IntPredicate other){
+		return other instanceof SmallIntPredicate ? and((SmallIntPredicate) other) : IntPredicate.super.and(other);
+	}
+
+	@Override
+	public IntPredicate or(java.util.function.IntPredicate other){
+		return other instanceof SmallIntPredicate ? or((SmallIntPredicate) other) : IntPredicate.super.or(other);
+	}
+
+	@Override
+	public IntPredicate xor(java.util.function.IntPredicate other){
+		return other instanceof SmallIntPredicate ? xor((SmallIntPredicate) other) : IntPredicate.super.xor(other);
+	}
+
+	/** A copy of this mask at least the given number of words long, padded with this predicate's outside answer. */
+	private long[] widened(int words){
+		if(words <= mask.length) return mask.clone();
+
+		long[] widened = Arrays.copyOf(mask, words);
+		if(matchesOutside) Arrays.fill(widened, mask.length, words, -1L);
+		return widened;
+	}
+
+	//endregion
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o) return true;
+		if(o == null || getClass() != o.getClass()) return false;
+
+		SmallIntPredicate that = (SmallIntPredicate) o;
+		return matchesOutside == that.matchesOutside && Arrays.equals(mask, that.mask);
+	}
+
+	@Override
+	public int hashCode(){ return 31 * (31 + Boolean.hashCode(matchesOutside)) + Arrays.hashCode(mask); }
+}
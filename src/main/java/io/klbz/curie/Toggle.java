@@ -1,7 +1,5 @@
 package io.klbz.curie;
 
-import java.util.Objects;
-
 /**
  * A tiny stateful object that can be either off or on.
  * Useful for detecting and/or testing side effects.
@@ -32,7 +30,7 @@ public final class Toggle {
 	}
 
 	@Override
-	public int hashCode(){ return Objects.hash(isOn); }
+	public int hashCode(){ return 31 + Boolean.hashCode(isOn); }
 
 	@Override
 	public String toString(){ return "Toggle{" + (isOn ? "on" : "off") + '}'; }
@@ -0,0 +1,98 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Adaptive Predicate")
+class AdaptivePredicateTest {
+	private static final java.util.function.Predicate<Integer> positive  = x -> x > 0;
+	private static final java.util.function.Predicate<Integer> even      = x -> x % 2 == 0;
+	private static final java.util.function.Predicate<Integer> small     = x -> x < 100;
+	private static final java.util.function.Predicate<Integer> alwaysOn  = x -> true;
+	private static final java.util.function.Predicate<Integer> alwaysOff = x -> false;
+
+	@Test
+	@DisplayName("Agrees with the fixed-order composites for every input")
+	void agreesWithFixedOrder(){
+		Predicate<Integer> adaptiveAll = AdaptivePredicate.allOf(1, 8, positive, even, small);
+		Predicate<Integer> adaptiveAny = AdaptivePredicate.anyOf(1, 8, positive, even, small);
+		Predicate<Integer> fixedAll = Predicate.allOf(positive, even, small);
+		Predicate<Integer> fixedAny = Predicate.anyOf(positive, even, small);
+
+		for(int round = 0; round < 10; round++){
+			for(int x = -200; x <= 200; x++){
+				assertEquals(fixedAll.test(x), adaptiveAll.test(x));
+				assertEquals(fixedAny.test(x), adaptiveAny.test(x));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("allOf moves the clause most likely to fail to the front")
+	void allOfPromotesFailingClause(){
+		AdaptivePredicate<Integer> p = AdaptivePredicate.allOf(1, 16, alwaysOn, alwaysOn, alwaysOff);
+		assertEquals(asList(0, 1, 2), p.evaluationOrder());
+
+		for(int i = 0; i < 1_000; i++) p.test(i);
+
+		assertEquals(2, (int) p.evaluationOrder().get(0));
+	}
+
+	@Test
+	@DisplayName("anyOf moves the clause most likely to pass to the front")
+	void anyOfPromotesPassingClause(){
+		AdaptivePredicate<Integer> p = AdaptivePredicate.anyOf(1, 16, alwaysOff, alwaysOff, alwaysOn);
+
+		for(int i = 0; i < 1_000; i++) p.test(i);
+
+		assertEquals(2, (int) p.evaluationOrder().get(0));
+	}
+
+	@Test
+	@DisplayName("Empty composites behave as their identities")
+	void emptyComposites(){
+		assertTrue(AdaptivePredicate.allOf().test("x"));
+		assertFalse(AdaptivePredicate.anyOf().test("x"));
+	}
+
+	@Test
+	@DisplayName("Rejects null clauses and invalid tuning")
+	void rejectsInvalidConstruction(){
+		assertThrows(NullPointerException.class, () -> AdaptivePredicate.allOf(positive, null));
+		assertThrows(IllegalArgumentException.class, () -> AdaptivePredicate.allOf(3, 16, positive));
+		assertThrows(IllegalArgumentException.class, () -> AdaptivePredicate.anyOf(4, 0, positive));
+	}
+
+	@Test
+	@DisplayName("Stays correct while reordering under concurrent use")
+	void concurrentUse() throws Exception{
+		Predicate<Integer> adaptive = AdaptivePredicate.allOf(1, 4, positive, even, small);
+		Predicate<Integer> fixed = Predicate.allOf(positive, even, small);
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<Boolean>> results = new ArrayList<>();
+			for(int thread = 0; thread < 4; thread++){
+				results.add(executor.submit(() -> {
+					for(int x = -10_000; x <= 10_000; x++){
+						if(adaptive.test(x) != fixed.test(x)) return false;
+					}
+					return true;
+				}));
+			}
+			for(Future<Boolean> result : results) assertTrue(result.get());
+		}
+		finally{
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package io.klbz.curie;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test support for measuring the heap bytes an operation allocates on the current thread.
+ *
+ * Each operation is warmed up (so that lambda linkage and class initialization are not counted), then run many times
+ * between two readings of the thread's allocation counter. Results are written to a volatile sink so that escape
+ * analysis cannot hide an allocation the operation really performs.
+ *
+ * Budgets are expressed in bytes, or via {@link #objects(int)} as a count of small (two-reference) objects such as a
+ * Just, Left, Pair or boxed value, so that they hold regardless of the JVM's header and pointer sizes.
+ */
+final class Allocations {
+	private static final int WARMUP_ITERATIONS   = 20_000;
+	private static final int MEASURED_ITERATIONS = 100_000;
+
+	private static final com.sun.management.ThreadMXBean threads = threadBean();
+
+	@SuppressWarnings("unused")
+	private static volatile Object sink;
+	@SuppressWarnings("unused")
+	private static volatile int    intSink;
+
+	private static long smallObjectBytes = -1;
+
+	private Allocations(){}
+
+	static long bytesPerOperation(Supplier<?> operation){ return measure(() -> sink = operation.get()); }
+
+	static long bytesPerOperation(IntSupplier operation){ return measure(() -> intSink = operation.getAsInt()); }
+
+	static long objects(int count){
+		if(smallObjectBytes < 0) smallObjectBytes = bytesPerOperation(TwoReferences::new);
+		return count * smallObjectBytes;
+	}
+
+	static void assertAllocationFree(Supplier<?> operation){ assertAllocatesAtMost(0, operation); }
+
+	static void assertAllocationFree(IntSupplier operation){ assertAllocatesAtMost(0, operation); }
+
+	static void assertAllocatesAtMost(long budgetInBytes, Supplier<?> operation){
+		assertWithinBudget(budgetInBytes, bytesPerOperation(operation));
+	}
+
+	static void assertAllocatesAtMost(long budgetInBytes, IntSupplier operation){
+		assertWithinBudget(budgetInBytes, bytesPerOperation(operation));
+	}
+
+	private static void assertWithinBudget(long budgetInBytes, long actual){
+		assertTrue(actual <= budgetInBytes,
+		           () -> "Expected at most " + budgetInBytes + " bytes per operation, but allocated " + actual);
+	}
+
+	private static long measure(Runnable operation){
+		assumeTrue(threads != null, "Thread allocation measurement is not supported on this JVM");
+
+		for(int i = 0; i < WARMUP_ITERATIONS; i++){
+			operation.run();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(threadId);
+		for(int i = 0; i < MEASURED_ITERATIONS; i++){
+			operation.run();
+		}
+		long after = threads.getThreadAllocatedBytes(threadId);
+
+		return (after - before) / MEASURED_ITERATIONS;
+	}
+
+	private static final class TwoReferences {
+		@SuppressWarnings("unused") private Object first;
+		@SuppressWarnings("unused") private Object second;
+	}
+
+	private static com.sun.management.ThreadMXBean threadBean(){
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if(!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+		if(!threadBean.isThreadAllocatedMemorySupported()) return null;
+
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+		return threadBean;
+	}
+}
@@ -0,0 +1,129 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Bloom Filter Predicate")
+class BloomFilterPredicateTest {
+	private static final Set<String> DENIED =
+			IntStream.range(0, 20_000).mapToObj(i -> "denied-" + i).collect(Collectors.toSet());
+
+	private static double falsePositiveRate(Predicate<String> filter){
+		int accepted = 0;
+		for(int i = 0; i < 100_000; i++){
+			if(filter.test("allowed-" + i)) accepted++;
+		}
+		return accepted / 100_000.0;
+	}
+
+	@Test
+	@DisplayName("Every value the filter was built from is accepted")
+	void noFalseNegatives(){
+		BloomFilterPredicate<String> filter = BloomFilterPredicate.of(DENIED, 0.01);
+
+		for(String denied : DENIED) assertTrue(filter.test(denied), denied);
+	}
+
+	@Test
+	@DisplayName("Other values are accepted at about the configured rate")
+	void falsePositiveRate(){
+		for(double target : new double[]{ 0.1, 0.01, 0.001 }){
+			BloomFilterPredicate<String> filter = BloomFilterPredicate.of(DENIED, target);
+
+			assertTrue(falsePositiveRate(filter) < target * 1.5, "at " + target);
+			assertEquals(target, filter.expectedFalsePositiveRate(), target * 0.5);
+		}
+	}
+
+	@Test
+	@DisplayName("A custom hash of only 32 bits is accepted at about the configured rate too")
+	void narrowHashes(){
+		for(double target : new double[]{ 0.1, 0.01, 0.001 }){
+			BloomFilterPredicate<String> filter = BloomFilterPredicate.of(DENIED, target, String::hashCode);
+
+			for(String denied : DENIED) assertTrue(filter.test(denied), denied);
+			assertTrue(falsePositiveRate(filter) < target * 1.5, "at " + target);
+		}
+	}
+
+	@Test
+	@DisplayName("Filters build from streams, with custom hashes, and over integral numbers")
+	void streamsAndHashes(){
+		BloomFilterPredicate<Long> evens = BloomFilterPredicate.of(
+				LongStream.range(0, 10_000).map(x -> x * 2).boxed(),
+				10_000,
+				0.01);
+		BloomFilterPredicate<String> caseless = BloomFilterPredicate.of(
+				DENIED,
+				0.01,
+				x -> BloomFilterPredicate.defaultHash(x.toLowerCase()));
+
+		for(long x = 0; x < 20_000; x += 2) assertTrue(evens.test(x));
+		assertTrue(caseless.test("DENIED-17"));
+	}
+
+	@Test
+	@DisplayName("A precise check chained with and runs only for the values the filter accepts")
+	void preciseFallback(){
+		AtomicInteger preciseChecks = new AtomicInteger();
+		Predicate<String> isDenied = BloomFilterPredicate.<String>of(DENIED, 0.01).and(x -> {
+			preciseChecks.incrementAndGet();
+			return DENIED.contains(x);
+		});
+
+		assertTrue(isDenied.test("denied-7"));
+		assertEquals(0.0, falsePositiveRate(isDenied));
+		assertTrue(preciseChecks.get() < 2_000, preciseChecks.get() + " precise checks");
+	}
+
+	@Test
+	@DisplayName("A filter written to a file maps back with the same answers")
+	void persistence() throws IOException{
+		BloomFilterPredicate<String> filter = BloomFilterPredicate.of(DENIED, 0.01);
+		Path file = Files.createTempFile("bloom", ".filter");
+		try{
+			filter.writeTo(file);
+			BloomFilterPredicate<String> mapped = BloomFilterPredicate.map(file);
+
+			assertEquals(filter.bitCount(), mapped.bitCount());
+			assertEquals(filter.hashCount(), mapped.hashCount());
+			for(String denied : DENIED) assertTrue(mapped.test(denied));
+			for(int i = 0; i < 10_000; i++) assertEquals(filter.test("allowed-" + i), mapped.test("allowed-" + i));
+		}
+		finally{
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	@DisplayName("Mapping a file that holds no filter fails")
+	void corruptFiles() throws IOException{
+		Path file = Files.createTempFile("bloom", ".filter");
+		try{
+			Files.write(file, "not a filter, but long enough to hold a header".getBytes("UTF-8"));
+			assertThrows(IOException.class, () -> BloomFilterPredicate.map(file));
+		}
+		finally{
+			Files.delete(file);
+		}
+	}
+
+	@Test
+	@DisplayName("False-positive rates must lie strictly between 0 and 1")
+	void invalidRates(){
+		assertThrows(IllegalArgumentException.class, () -> BloomFilterPredicate.of(new HashSet<>(), 0));
+		assertThrows(IllegalArgumentException.class, () -> BloomFilterPredicate.of(new HashSet<>(), 1));
+	}
+}
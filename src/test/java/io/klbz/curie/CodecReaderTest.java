@@ -0,0 +1,65 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Codec Reader")
+class CodecReaderTest {
+	private static final Codec<Either<String, Long>> codec = Codec.eithers(Codec.strings(), Codec.longs());
+
+	private static byte[] encode(List<Either<String, Long>> values) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try(CodecWriter<Either<String, Long>> writer = codec.writer(Channels.newChannel(bytes), 64)){
+			writer.writeAll(values);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static CodecReader<Either<String, Long>> reader(byte[] bytes, int bufferBytes){
+		return codec.reader(Channels.newChannel(new ByteArrayInputStream(bytes)), bufferBytes);
+	}
+
+	@Test
+	@DisplayName("Reads back a long sequence through a small buffer")
+	void readsBack() throws IOException {
+		List<Either<String, Long>> values = new ArrayList<>();
+		for(long i = 0; i < 10_000; i++) values.add(i % 7 == 0 ? Either.left("failed " + i) : Either.right(i * i));
+		byte[] bytes = encode(values);
+
+		try(CodecReader<Either<String, Long>> reader = reader(bytes, 32)){
+			assertEquals(values, reader.stream().collect(Collectors.toList()));
+			assertEquals(10_000, reader.count());
+			assertFalse(reader.hasNext());
+			assertThrows(NoSuchElementException.class, reader::read);
+		}
+	}
+
+	@Test
+	@DisplayName("Fails on a channel ending within a value")
+	void truncated() throws IOException {
+		byte[] bytes = encode(Arrays.asList(Either.right(1L), Either.left("cut short")));
+		CodecReader<Either<String, Long>> reader = reader(Arrays.copyOf(bytes, bytes.length - 3), 64);
+		assertEquals(Either.right(1L), reader.read());
+		assertThrows(EOFException.class, reader::read);
+	}
+
+	@Test
+	@DisplayName("Fails on a value too large for its buffer")
+	void tooLarge() throws IOException {
+		CodecReader<Either<String, Long>> reader = reader(encode(Arrays.asList(Either.left("twelve bytes"))), 8);
+		assertThrows(IllegalStateException.class, reader::read);
+	}
+}
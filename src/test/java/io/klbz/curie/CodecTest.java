@@ -0,0 +1,114 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Codec")
+class CodecTest {
+	private static <T> T roundTrip(Codec<T> codec, T value){
+		ByteBuffer buffer = ByteBuffer.allocate(1024);
+		codec.encode(value, buffer);
+		int written = buffer.position();
+		buffer.flip();
+		T decoded = codec.decode(buffer);
+		assertEquals(written, buffer.position());
+		return decoded;
+	}
+
+	private static <T> int encodedLength(Codec<T> codec, T value){
+		ByteBuffer buffer = ByteBuffer.allocate(1024);
+		codec.encode(value, buffer);
+		return buffer.position();
+	}
+
+	//region Payloads
+
+	@Test
+	@DisplayName("Round-trips numbers and booleans")
+	void numbers(){
+		assertEquals(Integer.MIN_VALUE, (int) roundTrip(Codec.ints(), Integer.MIN_VALUE));
+		assertEquals(Long.MAX_VALUE, (long) roundTrip(Codec.longs(), Long.MAX_VALUE));
+		assertEquals(-0.0, roundTrip(Codec.doubles(), -0.0));
+		assertTrue(roundTrip(Codec.doubles(), Double.NaN).isNaN());
+		assertTrue(roundTrip(Codec.booleans(), true));
+		assertEquals(4, encodedLength(Codec.ints(), 7));
+	}
+
+	@Test
+	@DisplayName("Round-trips strings as UTF-8, however wide their characters")
+	void strings(){
+		String longString = new String(new char[300]).replace('\0', 'x');
+		for(String s : new String[]{"", "plain", "caf\u00e9", "\u20ac100", "\ud83d\ude00 smile", longString}){
+			assertEquals(s, roundTrip(Codec.strings(), s));
+			int bytes = s.getBytes(StandardCharsets.UTF_8).length;
+			assertEquals(bytes + (bytes < 128 ? 1 : 2), encodedLength(Codec.strings(), s));
+		}
+		assertEquals("a?b", roundTrip(Codec.strings(), "a\ud83db"));
+	}
+
+	//endregion
+
+	//region Curie values
+
+	@Test
+	@DisplayName("Writes a tag byte before a Maybe's or an Either's payload")
+	void tags(){
+		assertEquals(Maybe.just(5), roundTrip(Codec.maybes(Codec.ints()), Maybe.just(5)));
+		assertEquals(Maybe.none(), roundTrip(Codec.maybes(Codec.ints()), Maybe.none()));
+		assertEquals(5, encodedLength(Codec.maybes(Codec.ints()), Maybe.just(5)));
+		assertEquals(1, encodedLength(Codec.maybes(Codec.ints()), Maybe.none()));
+
+		Codec<Either<String, Long>> eithers = Codec.eithers(Codec.strings(), Codec.longs());
+		assertEquals(Either.left("oops"), roundTrip(eithers, Either.left("oops")));
+		assertEquals(Either.right(9L), roundTrip(eithers, Either.right(9L)));
+		assertEquals(9, encodedLength(eithers, Either.right(9L)));
+	}
+
+	@Test
+	@DisplayName("Round-trips nested combinations")
+	void nested(){
+		Codec<Pair<Maybe<Either<String, Unit>>, Pair<Unit, Double>>> codec = Codec.pairs(
+				Codec.maybes(Codec.eithers(Codec.strings(), Codec.units())),
+				Codec.pairs(Codec.units(), Codec.doubles()));
+
+		Pair<Maybe<Either<String, Unit>>, Pair<Unit, Double>> value = Pair.of(Maybe.just(Either.right(Unit.unit())),
+		                                                                      Pair.of(Unit.unit(), 2.5));
+		assertEquals(value, roundTrip(codec, value));
+		assertEquals(2 + 8, encodedLength(codec, value));
+
+		value = Pair.of(Maybe.just(Either.left("no")), Pair.of(Unit.unit(), 0.0));
+		assertEquals(value, roundTrip(codec, value));
+	}
+
+	//endregion
+
+	@Test
+	@DisplayName("Rejects tags and bytes no value could have been encoded as")
+	void invalid(){
+		assertThrows(Codec.InvalidEncodingException.class,
+		             () -> Codec.maybes(Codec.ints()).decode(ByteBuffer.wrap(new byte[]{2, 0, 0, 0, 0})));
+		assertThrows(Codec.InvalidEncodingException.class,
+		             () -> Codec.eithers(Codec.ints(), Codec.ints()).decode(ByteBuffer.wrap(new byte[]{-1})));
+		assertThrows(Codec.InvalidEncodingException.class,
+		             () -> Codec.strings().decode(ByteBuffer.wrap(new byte[]{2, (byte) 0xC3, 'a'})));
+		assertThrows(Codec.InvalidEncodingException.class,
+		             () -> Codec.booleans().decode(ByteBuffer.wrap(new byte[]{7})));
+	}
+
+	@Test
+	@DisplayName("Overflows and underflows buffers too short for the value")
+	void shortBuffers(){
+		assertThrows(BufferOverflowException.class, () -> Codec.strings().encode("too long", ByteBuffer.allocate(4)));
+		assertThrows(BufferUnderflowException.class,
+		             () -> Codec.strings().decode(ByteBuffer.wrap(new byte[]{8, 't', 'o', 'o'})));
+		assertThrows(BufferUnderflowException.class,
+		             () -> Codec.maybes(Codec.longs()).decode(ByteBuffer.wrap(new byte[]{1, 0, 0})));
+	}
+}
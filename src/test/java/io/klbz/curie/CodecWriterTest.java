@@ -0,0 +1,58 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Codec Writer")
+class CodecWriterTest {
+	@Test
+	@DisplayName("Writes values back to back, draining the buffer when it fills")
+	void writes() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Codec<Maybe<Integer>> codec = Codec.maybes(Codec.ints());
+		try(CodecWriter<Maybe<Integer>> writer = codec.writer(Channels.newChannel(bytes), 16)){
+			for(int i = 0; i < 100; i++) writer.write(i % 2 == 0 ? Maybe.just(i) : Maybe.none());
+			assertEquals(100, writer.count());
+			assertTrue(bytes.size() > 0);
+		}
+		assertEquals(50 * 5 + 50, bytes.size());
+
+		ByteBuffer written = ByteBuffer.wrap(bytes.toByteArray());
+		for(int i = 0; i < 100; i++) assertEquals(i % 2 == 0 ? Maybe.just(i) : Maybe.none(), codec.decode(written));
+	}
+
+	@Test
+	@DisplayName("Rejects a value too large for its buffer")
+	void tooLarge() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		CodecWriter<String> writer = Codec.strings().writer(Channels.newChannel(bytes), 8);
+		writer.write("short");
+		assertThrows(IllegalArgumentException.class, () -> writer.write("far too long"));
+		writer.write("fine").close();
+		assertEquals(6 + 5, bytes.size());
+	}
+
+	@Test
+	@DisplayName("Leaves nothing of a value whose encoding fails part way")
+	void failedEncoding() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Codec<Pair<Integer, Integer>> codec = Codec.pairs(Codec.ints(), Codec.ints());
+		CodecWriter<Pair<Integer, Integer>> writer = codec.writer(Channels.newChannel(bytes), 64);
+		writer.write(Pair.of(1, 2));
+		assertThrows(NullPointerException.class, () -> writer.write(Pair.of(3, null)));
+		writer.write(Pair.of(5, 6)).close();
+		assertEquals(2, writer.count());
+
+		ByteBuffer written = ByteBuffer.wrap(bytes.toByteArray());
+		assertEquals(Pair.of(1, 2), codec.decode(written));
+		assertEquals(Pair.of(5, 6), codec.decode(written));
+		assertFalse(written.hasRemaining());
+	}
+}
@@ -0,0 +1,103 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Predicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Compiled Predicate")
+class CompiledPredicateTest {
+	private static final Predicate<Integer> positive = x -> x > 0;
+	private static final Predicate<Integer> even     = x -> x % 2 == 0;
+	private static final Predicate<Integer> small    = x -> x < 100;
+	private static final Predicate<Integer> square   = x -> Math.sqrt(x) % 1 == 0;
+
+	@Test
+	@DisplayName("Agrees with the uncompiled predicate for every input")
+	void agreesWithUncompiled(){
+		Predicate<Integer> rule = allOf(positive, anyOf(even, square).negate())
+				.or(isNot(small).xor(even))
+				.and(square.xor(positive).negate());
+		Predicate<Integer> compiled = rule.compile();
+
+		for(int x = -300; x <= 300; x++) assertEquals(rule.test(x), compiled.test(x), "at " + x);
+	}
+
+	@Test
+	@DisplayName("Compiled allOf and anyOf still short-circuit")
+	void shortCircuits(){
+		AtomicInteger evaluations = new AtomicInteger();
+		java.util.function.Predicate<Integer> counted = x -> evaluations.incrementAndGet() > 0;
+
+		allOf(everFalse(), counted).compile().test(1);
+		anyOf(everTrue(), counted).compile().test(1);
+
+		assertEquals(0, evaluations.get());
+	}
+
+	@Test
+	@DisplayName("Composites wider than the inlining limit compile to the same result")
+	void wideComposites(){
+		@SuppressWarnings("unchecked")
+		java.util.function.Predicate<Integer>[] clauses =
+				(java.util.function.Predicate<Integer>[]) new java.util.function.Predicate<?>[100];
+		for(int i = 0; i < clauses.length; i++){
+			int excluded = i;
+			clauses[i] = x -> x != excluded;
+		}
+		Predicate<Integer> all = allOf(clauses);
+		Predicate<Integer> any = anyOf(clauses).negate();
+		Predicate<Integer> compiledAll = all.compile();
+		Predicate<Integer> compiledAny = any.compile();
+
+		for(int x = -10; x <= 110; x++){
+			assertEquals(all.test(x), compiledAll.test(x));
+			assertEquals(any.test(x), compiledAny.test(x));
+		}
+	}
+
+	@Test
+	@DisplayName("Compiling a compiled predicate returns it unchanged")
+	void compileIsIdempotent(){
+		Predicate<Integer> compiled = allOf(positive, even).compile();
+
+		assertSame(compiled, compiled.compile());
+	}
+
+	@Test
+	@DisplayName("Compiled predicates still compose")
+	void compiledPredicatesCompose(){
+		Predicate<Integer> compiled = allOf(positive, even).compile();
+
+		assertTrue(compiled.or(small).test(-3));
+		assertFalse(compiled.negate().test(4));
+		assertTrue(compiled.or(small).compile().test(-3));
+	}
+
+	@Test
+	@DisplayName("Exceptions thrown by clauses propagate unchanged")
+	void exceptionsPropagate(){
+		IllegalArgumentException thrown = new IllegalArgumentException();
+		Predicate<Integer> rule = allOf(positive, x -> { throw thrown; }).compile();
+
+		assertSame(thrown, assertThrows(IllegalArgumentException.class, () -> rule.test(1)));
+		assertFalse(rule.test(-1));
+	}
+
+	@Test
+	@DisplayName("Testing a compiled predicate allocates nothing")
+	void compiledTestAllocatesNothing(){
+		Predicate<String> compiled = allOf((String x) -> x.contains("x"), (String x) -> x.length() == 2)
+				.or(isEqual("y"))
+				.xor(everFalse())
+				.negate()
+				.compile();
+
+		assertAllocationFree(() -> compiled.test("xy"));
+		assertAllocationFree(() -> compiled.test(""));
+	}
+}
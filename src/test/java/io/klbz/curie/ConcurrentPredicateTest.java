@@ -0,0 +1,114 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static io.klbz.curie.ConcurrentPredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Concurrent Predicate")
+class ConcurrentPredicateTest {
+	private static ExecutorService executor;
+
+	@BeforeAll
+	static void startExecutor(){ executor = Executors.newCachedThreadPool(); }
+
+	@AfterAll
+	static void stopExecutor(){ executor.shutdownNow(); }
+
+	/** A clause that blocks until interrupted, counting down the given latches once it starts and once it is. */
+	private static Predicate<Integer> hangsUntilCancelled(CountDownLatch started, CountDownLatch cancelled){
+		return x -> {
+			started.countDown();
+			try{
+				Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+			}
+			catch(InterruptedException e){
+				cancelled.countDown();
+			}
+			return false;
+		};
+	}
+
+	/** A clause that answers once the given latch is released, so that the clauses it races are already running. */
+	private static Predicate<Integer> answersAfter(CountDownLatch started, boolean answer){
+		return x -> {
+			try{
+				started.await();
+			}
+			catch(InterruptedException e){
+				throw new IllegalStateException(e);
+			}
+			return answer;
+		};
+	}
+
+	@Test
+	@DisplayName("Composites agree with their sequential counterparts")
+	void agreesWithSequential(){
+		Predicate<Integer> even = x -> x % 2 == 0;
+		Predicate<Integer> small = x -> x < 10;
+		Predicate<Integer> positive = x -> x > 0;
+
+		for(int x = -5; x < 15; x++){
+			assertEquals(
+					Predicate.anyOf(even, small, positive).test(x),
+					anyOf(executor, even, small, positive).test(x));
+			assertEquals(
+					Predicate.allOf(even, small, positive).test(x),
+					allOf(executor, even, small, positive).test(x));
+			assertEquals(Predicate.anyOf(even, small).test(x), ConcurrentPredicate.anyOf(even, small).test(x));
+		}
+	}
+
+	@Test
+	@DisplayName("Empty composites answer like their sequential counterparts")
+	void empty(){
+		assertFalse(ConcurrentPredicate.<Integer>anyOf(executor).test(1));
+		assertTrue(ConcurrentPredicate.<Integer>allOf(executor).test(1));
+	}
+
+	@Test
+	@DisplayName("A disjunction is decided by the first accepting clause, and cancels the rest")
+	void anyOfCancelsOnAccept() throws InterruptedException{
+		CountDownLatch started = new CountDownLatch(2);
+		CountDownLatch cancelled = new CountDownLatch(2);
+		Predicate<Integer> slow = hangsUntilCancelled(started, cancelled);
+
+		assertTrue(anyOf(executor, slow, slow, answersAfter(started, true)).test(1));
+		assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("A conjunction is decided by the first rejecting clause, and cancels the rest")
+	void allOfCancelsOnReject() throws InterruptedException{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		Predicate<Integer> slow = hangsUntilCancelled(started, cancelled).negate();
+
+		assertFalse(allOf(executor, slow, answersAfter(started, false)).test(1));
+		assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	@DisplayName("A clause's exception propagates from the test")
+	void exceptionsPropagate(){
+		Predicate<Integer> failing = x -> { throw new IllegalArgumentException("bad " + x); };
+
+		assertThrows(IllegalArgumentException.class, () -> anyOf(executor, x -> false, failing).test(1));
+		assertThrows(IllegalArgumentException.class, () -> allOf(executor, x -> true, failing).test(1));
+	}
+
+	@Test
+	@DisplayName("Clauses may not be null")
+	void nullClauses(){
+		assertThrows(NullPointerException.class, () -> anyOf(executor, x -> true, null));
+	}
+}
@@ -0,0 +1,32 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Double Pair Array")
+class DoublePairArrayTest {
+	private static final DoublePairArray array =
+			DoublePairArray.of(new double[]{ 0.5, -0.0 }, new double[]{ 2, Double.NaN });
+
+	@Test
+	@DisplayName("Maps, collapses and tests each pair")
+	void bulkOperations(){
+		assertEquals(DoublePair.of(1.5, 2), array.mapFirst(x -> x + 1).get(0));
+		assertArrayEquals(new double[]{ 1, Double.NaN }, array.collapseToDouble((f, s) -> f * s));
+		assertEquals(Arrays.asList("0.5/2.0", "-0.0/NaN"), array.collapse((f, s) -> f + "/" + s));
+		assertArrayEquals(new int[]{ 1 }, array.satisfies((f, s) -> Double.isNaN(s)).indexes());
+	}
+
+	@Test
+	@DisplayName("Components compare as boxed doubles do")
+	void equality(){
+		assertEquals(DoublePairArray.of(new double[]{ 0.5, -0.0 }, new double[]{ 2, Double.NaN }), array);
+		assertNotEquals(DoublePairArray.of(new double[]{ 0.5, 0.0 }, new double[]{ 2, Double.NaN }), array);
+		assertEquals(array.boxed().hashCode(), array.hashCode());
+		assertEquals(PairArray.ofDoubles(new double[]{ 0.5, -0.0 }, new double[]{ 2, Double.NaN }), array.boxed());
+	}
+}
@@ -0,0 +1,91 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Double Pair Buffer")
+class DoublePairBufferTest {
+	@Test
+	@DisplayName("Appends and replaces pairs up to its capacity")
+	void access(){
+		try(DoublePairBuffer buffer = DoublePairBuffer.allocate(3)){
+			buffer.add(1, 10).add(DoublePair.of(2, 20));
+			assertEquals(2, buffer.size());
+			assertEquals(3, buffer.capacity());
+			assertEquals(DoublePair.of(2, 20), buffer.get(1));
+
+			buffer.set(0, Double.NEGATIVE_INFINITY, Double.MIN_VALUE);
+			assertEquals(Double.NEGATIVE_INFINITY, buffer.first(0));
+			assertEquals(Double.MIN_VALUE, buffer.second(0));
+
+			buffer.add(3, 30);
+			assertThrows(IllegalStateException.class, () -> buffer.add(4, 40));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(3));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, 0, 0));
+		}
+	}
+
+	@Test
+	@DisplayName("Stores, updates and tests doubles bit for bit")
+	void operations(){
+		try(DoublePairBuffer buffer = DoublePairBuffer.allocate(2)){
+			buffer.add(-0.0, Double.NaN).add(DoublePair.of(0.25, 4));
+			buffer.updateFirst(x -> x * 2);
+			assertEquals(DoublePair.of(-0.0, Double.NaN), buffer.get(0));
+			assertArrayEquals(new double[]{ Double.NaN, 2 }, buffer.collapseToDouble((f, s) -> f * s));
+			assertArrayEquals(new int[]{ 0 }, buffer.satisfies((f, s) -> Double.isNaN(s)).indexes());
+		}
+	}
+
+	@Test
+	@DisplayName("Updates and tests every pair in place")
+	void bulkOperations(){
+		try(DoublePairBuffer buffer = DoublePairBuffer.allocate(100)){
+			for(int i = 0; i < 100; i++) buffer.add(i, i * 0.5);
+
+			buffer.updateFirst(x -> -x).updateSecond(x -> x + 1);
+			assertEquals(DoublePair.of(-70, 36), buffer.get(70));
+			assertEquals(-99 + 50.5, buffer.collapseToDouble(Double::sum)[99]);
+
+			Selection selection = buffer.satisfies((f, s) -> s % 1 == 0);
+			assertEquals(50, selection.count());
+			assertTrue(selection.isSelected(98));
+
+			List<Double> firsts = new ArrayList<>();
+			buffer.withBothDo((f, s) -> firsts.add(f));
+			assertEquals(100, firsts.size());
+			assertEquals(-99, (double) firsts.get(99));
+		}
+	}
+
+	@Test
+	@DisplayName("Copies onto the heap")
+	void toArray(){
+		try(DoublePairBuffer buffer = DoublePairBuffer.allocate(4)){
+			buffer.add(1, 2).add(3, 4);
+			assertEquals(DoublePairArray.of(new double[]{ 1, 3 }, new double[]{ 2, 4 }), buffer.toArray());
+		}
+	}
+
+	@Test
+	@DisplayName("Holds direct memory until closed, and refuses any use after")
+	void lifecycle(){
+		DoublePairBuffer buffer = DoublePairBuffer.allocate(10);
+		assertEquals(10 * 2 * Double.BYTES, buffer.directBytes());
+		buffer.add(1, 2);
+
+		buffer.close();
+		assertTrue(buffer.isClosed());
+		assertEquals(0, buffer.directBytes());
+		assertEquals("DoublePairBuffer{closed}", buffer.toString());
+		List<Runnable> uses = Arrays.asList(() -> buffer.get(0), () -> buffer.second(5), () -> buffer.set(0, 1, 2),
+		                                    () -> buffer.add(1, 2), buffer::toArray);
+		for(Runnable use : uses) assertThrows(IllegalStateException.class, use::run);
+	}
+}
@@ -0,0 +1,38 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DoublePair")
+class DoublePairTest {
+	private static final DoublePair pair = DoublePair.of(0.5, 2.0);
+
+	@Test
+	@DisplayName("Equality follows Double.equals and hashes match the boxed pair")
+	void equalityAndHash(){
+		assertEquals(pair, DoublePair.of(0.5, 2.0));
+		assertEquals(DoublePair.of(Double.NaN, 0.0), DoublePair.of(Double.NaN, 0.0));
+		assertNotEquals(DoublePair.of(0.0, 1.0), DoublePair.of(-0.0, 1.0));
+		assertEquals(Pair.of(0.5, 2.0).hashCode(), pair.hashCode());
+	}
+
+	@Test
+	@DisplayName("Maps, collapses and tests both elements")
+	void operations(){
+		assertEquals(DoublePair.of(1.0, 2.0), pair.mapFirst(x -> x * 2));
+		assertEquals(DoublePair.of(0.5, 4.0), pair.focusSecond().map(x -> x * 2).unfocus());
+		assertEquals(1.0, pair.collapseToDouble((f, s) -> f * s));
+		assertEquals("0.5/2.0", pair.collapse((f, s) -> f + "/" + s));
+		assertTrue(pair.satisfies((f, s) -> f < s));
+	}
+
+	@Test
+	@DisplayName("Inspection allocates nothing")
+	void budgets(){
+		assertAllocationFree(() -> pair.satisfies((f, s) -> f < s));
+		assertAllocationFree(pair::hashCode);
+	}
+}
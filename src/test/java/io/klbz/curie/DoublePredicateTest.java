@@ -0,0 +1,55 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.DoublePredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DoublePredicate")
+class DoublePredicateTest {
+	@Test
+	@DisplayName("Comparisons test against their bounds, and never pass NaN")
+	void comparisons(){
+		assertTrue(isGreaterThan(0.5).test(0.75));
+		assertTrue(isBetween(0.0, 1.0).test(1.0));
+		assertFalse(isBetween(0.0, 1.0).test(Double.NaN));
+		assertFalse(isLessThan(1.0).test(Double.NaN));
+	}
+
+	@Test
+	@DisplayName("Equality and membership follow Double.equals")
+	void equality(){
+		assertTrue(isEqual(Double.NaN).test(Double.NaN));
+		assertFalse(isEqual(0.0).test(-0.0));
+		assertTrue(isIn(Double.NaN, 0.5).test(Double.NaN));
+		assertTrue(isIn(Double.NaN, 0.5).test(0.5));
+		assertFalse(isIn(0.0).test(-0.0));
+	}
+
+	@Test
+	@DisplayName("Combinators and aggregates combine predicates")
+	void combinators(){
+		DoublePredicate p = anyOf(isLessThan(0.0), isGreaterThan(1.0)).negate();
+		assertTrue(p.test(0.5));
+		assertFalse(p.test(1.5));
+		assertTrue(allOf().test(0.0));
+		assertTrue(noneOf(isEqual(1.0)).or(everFalse()).test(0.0));
+	}
+
+	@Test
+	@DisplayName("satisfy reifies satisfaction into a MaybeDouble")
+	void satisfy(){
+		assertEquals(MaybeDouble.just(0.5), isBetween(0.0, 1.0).satisfy(0.5).preserve());
+		assertEquals(MaybeDouble.just(1.5), isBetween(0.0, 1.0).satisfy(1.5).reject());
+	}
+
+	@Test
+	@DisplayName("Testing never boxes")
+	void budgets(){
+		DoublePredicate p = allOf(isGreaterThan(0.0), isLessThan(1.0)).and(isIn(0.25, 0.5));
+
+		assertAllocationFree(() -> p.test(0.25));
+	}
+}
@@ -0,0 +1,53 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.DoublePredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Double Range Set")
+class DoubleRangeSetTest {
+	private static final double[] SAMPLES = {
+			Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -10, -1, Math.nextDown(-0.0), -0.0, 0.0, Double.MIN_VALUE,
+			Math.nextDown(1.0), 1, Math.nextUp(1.0), 1.5, 10, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN
+	};
+
+	private static void assertAgrees(java.util.function.DoublePredicate expected, DoublePredicate actual){
+		for(double x : SAMPLES) assertEquals(expected.test(x), actual.test(x), "at " + x);
+	}
+
+	@Test
+	@DisplayName("Comparison constructors agree with the primitive operators, including at zeroes, infinities and NaN")
+	void construction(){
+		for(double bound : SAMPLES){
+			assertAgrees(x -> x > bound, isGreaterThan(bound));
+			assertAgrees(x -> x >= bound, isAtLeast(bound));
+			assertAgrees(x -> x < bound, isLessThan(bound));
+			assertAgrees(x -> x <= bound, isAtMost(bound));
+			assertAgrees(x -> x >= -1 && x <= bound, isBetween(-1, bound));
+		}
+	}
+
+	@Test
+	@DisplayName("Combinators agree with the equivalent lambdas, including at NaN")
+	void combinatorsAgree(){
+		DoublePredicate low = isLessThan(1);
+		DoublePredicate high = isGreaterThan(-1);
+
+		assertAgrees(x -> x < 1 && x > -1, low.and(high));
+		assertAgrees(x -> x < 1 || x > -1, low.or(high));
+		assertAgrees(x -> (x < 1) != (x > -1), low.xor(high));
+		assertAgrees(x -> !(x < 1), low.negate());
+		assertAgrees(x -> !(x < 1 || x > -1), low.or(high).negate());
+	}
+
+	@Test
+	@DisplayName("Open bounds coalesce with the adjacent closed bound")
+	void coalescing(){
+		assertEquals(isAtLeast(Double.NEGATIVE_INFINITY), isLessThan(1).or(isAtLeast(1)));
+		assertEquals(isAtLeast(0.0), isAtLeast(-0.0));
+		assertEquals(isBetween(-1, 1), anyOf(isBetween(-1, 0), isBetween(0, 1)));
+		assertEquals(isGreaterThan(Double.POSITIVE_INFINITY), isLessThan(1).and(isGreaterThan(Math.nextDown(1.0))));
+	}
+}
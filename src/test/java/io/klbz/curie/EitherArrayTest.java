@@ -0,0 +1,146 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Either Array")
+class EitherArrayTest {
+	private static final List<Either<String, Integer>> eithers = Arrays.asList(
+			Either.right(1),
+			Either.left("bad"),
+			Either.right(3),
+			Either.left(null),
+			Either.right(5));
+
+	private static final EitherArray<String, Integer> array = EitherArray.of(eithers);
+
+	/** Slots 0 to 199, left with the text of their index if divisible by 4, and otherwise right with their index. */
+	private static List<Either<String, Integer>> validated(){
+		List<Either<String, Integer>> slots = new ArrayList<>();
+		for(int i = 0; i < 200; i++) slots.add(i % 4 == 0 ? Either.left("#" + i) : Either.right(i));
+		return slots;
+	}
+
+	//region Construction
+
+	@Test
+	@DisplayName("Holds the slots it was built from, in order")
+	void holdsSlots(){
+		assertEquals(5, array.size());
+		assertEquals(2, array.countL());
+		assertEquals(3, array.countR());
+		assertEquals(eithers, array.asList());
+		assertEquals(Either.left(null), array.get(3));
+		assertTrue(array.isRight(4));
+		assertEquals(Arrays.asList("bad", null), array.leftValues());
+		assertEquals(Arrays.asList(1, 3, 5), array.rightValues());
+		assertThrows(IndexOutOfBoundsException.class, () -> array.get(5));
+	}
+
+	@Test
+	@DisplayName("Builders and collectors build equal arrays")
+	void constructions(){
+		EitherArray.Builder<String, Integer> builder = EitherArray.builder();
+		builder.addRight(1).addLeft("bad").addRight(3).addLeft(null).add(Either.right(5));
+		assertEquals(array, builder.build());
+
+		List<Either<String, Integer>> slots = validated();
+		for(int i = 0; i < 20; i++) slots.addAll(validated());
+		EitherArray<String, Integer> collected = slots.parallelStream().collect(EitherArray.collector());
+		assertEquals(EitherArray.of(slots), collected);
+		assertTrue(EitherArray.empty().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Finds the values of slots across many words")
+	void lookups(){
+		List<Either<String, Integer>> slots = validated();
+		EitherArray<String, Integer> large = EitherArray.of(slots);
+		assertEquals(slots, large.asList());
+		assertEquals(50, large.lefts().count());
+		assertEquals(150, large.rights().count());
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	@Test
+	@DisplayName("Bulk operations agree with those of each Either")
+	void agreesWithEithers(){
+		List<Either<String, Integer>> slots = validated();
+		EitherArray<String, Integer> large = EitherArray.of(slots);
+
+		assertEquals(slots.stream().map(e -> e.mapL(String::length)).collect(Collectors.toList()),
+		             large.mapL(String::length).asList());
+		assertEquals(slots.stream().map(e -> e.mapR(x -> x * 2L)).collect(Collectors.toList()),
+		             large.mapR(x -> x * 2L).asList());
+		assertEquals(slots.stream().map(Either::swap).collect(Collectors.toList()), large.swap().asList());
+		Function<Integer, Either<String, Integer>> fizz = x -> x % 3 == 0 ? Either.left("fizz") : Either.right(x);
+		assertEquals(slots.stream().map(e -> e.flatMapR(fizz)).collect(Collectors.toList()),
+		             large.flatMapR(fizz).asList());
+		Function<String, Either<String, Integer>> shortIsFine = s -> s.length() < 3 ? Either.right(-1) : Either.left(s);
+		assertEquals(slots.stream().map(e -> e.flatMapL(shortIsFine)).collect(Collectors.toList()),
+		             large.flatMapL(shortIsFine).asList());
+
+		Selection lefts = large.satisfiesL(s -> s.endsWith("2"));
+		Selection rights = large.satisfiesR(x -> x % 5 == 0);
+		for(int i = 0; i < slots.size(); i++){
+			assertEquals(slots.get(i).satisfiesL(s -> s.endsWith("2")), lefts.isSelected(i));
+			assertEquals(slots.get(i).satisfiesR(x -> x % 5 == 0), rights.isSelected(i));
+		}
+	}
+
+	@Test
+	@DisplayName("Visits one side only, with its indexes")
+	void visitsOneSide(){
+		List<String> visited = new ArrayList<>();
+		array.forEachL((value, index) -> visited.add(index + "=" + value));
+		array.forEachR((value, index) -> visited.add(index + "=" + value));
+		assertEquals(Arrays.asList("1=bad", "3=null", "0=1", "2=3", "4=5"), visited);
+
+		List<Object> values = new ArrayList<>();
+		assertSame(array, array.whenLDo(values::add).whenRDo(values::add));
+		assertEquals(Arrays.asList("bad", null, 1, 3, 5), values);
+	}
+
+	//endregion
+
+	//region Iteration
+
+	@Test
+	@DisplayName("Streams its slots, or the values of one side, in order")
+	void streams(){
+		assertEquals(eithers, array.stream().collect(Collectors.toList()));
+		assertEquals(Arrays.asList(1, 3, 5), array.streamR().collect(Collectors.toList()));
+		assertEquals(Arrays.asList("bad", null), array.streamL().collect(Collectors.toList()));
+
+		List<Either<String, Integer>> slots = validated();
+		for(int i = 0; i < 50; i++) slots.addAll(validated());
+		assertEquals(slots, EitherArray.of(slots).parallelStream().collect(Collectors.toList()));
+
+		List<Either<String, Integer>> iterated = new ArrayList<>();
+		for(Either<String, Integer> either : array) iterated.add(either);
+		assertEquals(eithers, iterated);
+	}
+
+	//endregion
+
+	@Test
+	@DisplayName("Equal arrays have the hash of the list of their slots")
+	void equality(){
+		assertEquals(eithers.hashCode(), array.hashCode());
+		assertEquals(array, array.mapR(x -> x));
+		assertNotEquals(array, array.mapR(x -> x + 1));
+		assertEquals(array, array.swap().swap());
+		assertEquals("EitherArray[Right{1}, Left{bad}, Right{3}, Left{null}, Right{5}]", array.toString());
+	}
+}
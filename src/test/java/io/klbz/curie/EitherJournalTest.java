@@ -0,0 +1,123 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Either Journal")
+class EitherJournalTest {
+	private Path directory;
+
+	@BeforeEach
+	void createDirectory() throws IOException { directory = Files.createTempDirectory("journal"); }
+
+	@AfterEach
+	void deleteDirectory() throws IOException {
+		try(Stream<Path> paths = Files.walk(directory)){
+			for(Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) Files.delete(path);
+		}
+	}
+
+	private EitherJournal<String, Long> open() throws IOException {
+		return EitherJournal.open(directory, Codec.strings(), Codec.longs(), 128);
+	}
+
+	/** Rights of the squares of 0 to 99, but lefts for multiples of 7. */
+	private static List<Either<String, Long>> results(){
+		List<Either<String, Long>> results = new ArrayList<>();
+		for(long i = 0; i < 100; i++) results.add(i % 7 == 0 ? Either.left("failed " + i) : Either.right(i * i));
+		return results;
+	}
+
+	private static <T> List<T> list(Stream<T> stream){ return stream.collect(Collectors.toList()); }
+
+	@Test
+	@DisplayName("Replays its records, or just one side of them, across segments")
+	void replays() throws IOException {
+		List<Either<String, Long>> results = results();
+		try(EitherJournal<String, Long> journal = open()){
+			for(int i = 0; i < results.size(); i++) assertEquals(i, journal.append(results.get(i)));
+
+			assertTrue(journal.segmentCount() > 1);
+			assertEquals(100, journal.size());
+			assertEquals(15, journal.countL());
+			assertEquals(results, list(journal.stream()));
+			assertEquals(list(results.stream().filter(e -> e.satisfiesL(s -> true)).map(Either::assumeL)),
+			             list(journal.lefts()));
+			assertEquals(list(results.stream().filter(e -> e.satisfiesR(x -> true)).map(Either::assumeR)),
+			             list(journal.rights()));
+		}
+	}
+
+	@Test
+	@DisplayName("Recovers its records on opening, and appends after them")
+	void recovers() throws IOException {
+		List<Either<String, Long>> results = results();
+		try(EitherJournal<String, Long> journal = open()){
+			for(Either<String, Long> result : results) journal.append(result);
+		}
+		try(EitherJournal<String, Long> journal = open()){
+			assertEquals(results, list(journal.stream()));
+			assertEquals(100, journal.append(Either.left("after")));
+		}
+		try(EitherJournal<String, Long> journal = open()){
+			assertEquals(101, journal.size());
+			assertEquals("after", list(journal.lefts()).get(15));
+		}
+	}
+
+	@Test
+	@DisplayName("Drops a damaged record at the end, and everything after it")
+	void dropsDamaged() throws IOException {
+		try(EitherJournal<String, Long> journal = open()){
+			journal.append(Either.right(1L));
+			journal.append(Either.left("torn"));
+		}
+		try(FileChannel file = FileChannel.open(directory.resolve("00000000.journal"), StandardOpenOption.WRITE)){
+			file.write(ByteBuffer.wrap(new byte[]{'T'}), 9 + 8 + 9 + 1);
+		}
+		try(EitherJournal<String, Long> journal = open()){
+			assertEquals(Arrays.asList(Either.right(1L)), list(journal.stream()));
+			journal.append(Either.right(2L));
+		}
+		try(EitherJournal<String, Long> journal = open()){
+			assertEquals(Arrays.asList(Either.right(1L), Either.right(2L)), list(journal.stream()));
+		}
+	}
+
+	@Test
+	@DisplayName("Rejects records larger than a segment, and any use once closed")
+	void rejects() throws IOException {
+		EitherJournal<String, Long> journal = open();
+		Either<String, Long> tooLarge = Either.left(new String(new char[200]));
+		assertThrows(IllegalArgumentException.class, () -> journal.append(tooLarge));
+		assertThrows(IllegalArgumentException.class, () -> journal.append(tooLarge));
+		assertEquals(1, journal.segmentCount());
+		journal.append(Either.right(1L));
+		assertThrows(IllegalArgumentException.class, () -> journal.append(tooLarge));
+		assertThrows(IllegalArgumentException.class, () -> journal.append(tooLarge));
+		assertEquals(2, journal.segmentCount());
+		assertEquals(1, journal.size());
+		Stream<Either<String, Long>> stream = journal.stream();
+		journal.close();
+		journal.close();
+		assertThrows(IllegalStateException.class, () -> journal.append(Either.right(1L)));
+		assertThrows(IllegalStateException.class, () -> list(stream));
+	}
+}
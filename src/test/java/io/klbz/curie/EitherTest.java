@@ -4,6 +4,7 @@ import io.klbz.curie.Either.InvalidAlternativeException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static io.klbz.curie.Allocations.*;
 import static io.klbz.curie.Box.boxed;
 import static io.klbz.curie.Either.left;
 import static io.klbz.curie.Either.right;
@@ -181,6 +182,13 @@ class EitherTest {
 	@DisplayName("Right: Right-isolates to just its value")
 	void rightIsolateR(){ assertEquals(just(rightVal), simpleRight.isolateR()); }
 
+	@Test
+	@DisplayName("Isolating the absent alternative allocates nothing")
+	void isolateAbsentAllocatesNothing(){
+		assertAllocationFree(simpleLeft::isolateR);
+		assertAllocationFree(simpleRight::isolateL);
+	}
+
 	//endregion
 
 	//region Satisfaction
@@ -318,4 +326,48 @@ class EitherTest {
 	void rightAssumeRCustom(){ assertEquals(rightVal, simpleRight.assumeR(IllegalArgumentException::new));}
 
 	//endregion
-}
\ No newline at end of file
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Construction, swapping and mapping the present alternative allocate only the new Either")
+	void constructionAndMapBudget(){
+		assertAllocatesAtMost(objects(1), () -> left(leftVal));
+		assertAllocatesAtMost(objects(1), () -> right(rightVal));
+		assertAllocatesAtMost(objects(1), simpleLeft::swap);
+		assertAllocatesAtMost(objects(1), () -> simpleLeft.mapL(String::trim));
+		assertAllocatesAtMost(objects(1), () -> simpleRight.mapR(x -> x + 1));
+	}
+
+	@Test
+	@DisplayName("Mapping and flat-mapping the absent alternative allocate nothing")
+	void mapAbsentAllocatesNothing(){
+		assertAllocationFree(() -> simpleLeft.mapR(x -> x + 1));
+		assertAllocationFree(() -> simpleLeft.flatMapR(x -> simpleRight));
+		assertAllocationFree(() -> simpleRight.mapL(String::trim));
+		assertAllocationFree(() -> simpleRight.flatMapL(x -> simpleLeft));
+	}
+
+	@Test
+	@DisplayName("Collapsing, inspection and side effects allocate nothing")
+	void inspectionAllocatesNothing(){
+		assertAllocationFree(() -> simpleLeft.collapseIntoL(String::valueOf));
+		assertAllocationFree(() -> simpleRight.collapseIntoR(String::length));
+		assertAllocationFree(() -> simpleLeft.satisfies(String::isEmpty, x -> x == 5));
+		assertAllocationFree(() -> simpleRight.satisfiesR(x -> x == 5));
+		assertAllocationFree(() -> simpleLeft.whenLDo(x -> {}).whenRDo(x -> {}));
+		assertAllocationFree(() -> simpleRight.assumeR());
+	}
+
+	@Test
+	@DisplayName("Equality and hashing allocate nothing")
+	void equalityAllocatesNothing(){
+		Either<String, Integer> sameLeft = left(leftVal);
+
+		assertAllocationFree(() -> simpleLeft.equals(sameLeft));
+		assertAllocationFree(simpleLeft::hashCode);
+		assertAllocationFree(simpleRight::hashCode);
+	}
+
+	//endregion
+}
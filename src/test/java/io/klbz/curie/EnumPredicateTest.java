@@ -0,0 +1,127 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+
+import static io.klbz.curie.EnumPredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Enum Predicate")
+class EnumPredicateTest {
+	private enum State { A, B, C, D, E, F }
+
+	private enum Wide {
+		W0, W1, W2, W3, W4, W5, W6, W7, W8, W9, W10, W11, W12, W13, W14, W15, W16, W17, W18, W19, W20, W21,
+		W22, W23, W24, W25, W26, W27, W28, W29, W30, W31, W32, W33, W34, W35, W36, W37, W38, W39, W40, W41,
+		W42, W43, W44, W45, W46, W47, W48, W49, W50, W51, W52, W53, W54, W55, W56, W57, W58, W59, W60, W61,
+		W62, W63, W64, W65, W66, W67, W68, W69
+	}
+
+	private static <E extends Enum<E>> void assertAgrees(Class<E> type, Predicate<E> expected, Predicate<E> actual){
+		for(E constant : type.getEnumConstants()){
+			assertEquals(expected.test(constant), actual.test(constant), constant.name());
+		}
+		assertEquals(expected.test(null), actual.test(null), "null");
+	}
+
+	@Test
+	@DisplayName("isIn and isEqual accept exactly the given constants")
+	void membership(){
+		EnumPredicate<State> p = isIn(State.A, State.C, State.F);
+
+		assertEquals(EnumSet.of(State.A, State.C, State.F), p.values());
+		assertTrue(isEqual(State.B).test(State.B));
+		assertFalse(isEqual(State.B).test(State.C));
+		assertFalse(p.test(null));
+	}
+
+	@Test
+	@DisplayName("Combinators agree with the equivalent ordinary composites")
+	void combinatorsAgree(){
+		EnumPredicate<State> acf = isIn(State.A, State.C, State.F);
+		EnumPredicate<State> cd = isIn(State.C, State.D);
+		Predicate<State> ordinaryAcf = Predicate.anyOf(
+				Predicate.isEqual(State.A),
+				Predicate.isEqual(State.C),
+				Predicate.isEqual(State.F));
+		Predicate<State> ordinaryCd = Predicate.anyOf(Predicate.isEqual(State.C), Predicate.isEqual(State.D));
+
+		assertAgrees(State.class, ordinaryAcf.and(ordinaryCd.negate()), acf.and(cd.negate()));
+		assertAgrees(State.class, ordinaryAcf.or(ordinaryCd), acf.or(cd));
+		assertAgrees(State.class, ordinaryAcf.xor(ordinaryCd), acf.xor(cd));
+		assertAgrees(State.class, ordinaryAcf.negate(), acf.negate());
+	}
+
+	@Test
+	@DisplayName("Combining enum predicates yields a single mask")
+	void combinationStaysMasked(){
+		Predicate<State> viaInterface = isIn(State.A).or((java.util.function.Predicate<State>) isIn(State.B));
+
+		assertTrue(viaInterface instanceof EnumPredicate);
+		assertEquals(isIn(State.A, State.B), viaInterface);
+		assertEquals(everTrue(State.class), isIn(State.A).or(isIn(State.A).negate()));
+	}
+
+	@Test
+	@DisplayName("Combining with other predicates falls back to ordinary composites")
+	void mixedCombination(){
+		Predicate<State> mixed = isIn(State.A, State.B).and(s -> s.ordinal() > 0);
+
+		assertFalse(mixed instanceof EnumPredicate);
+		assertTrue(mixed.test(State.B));
+		assertFalse(mixed.test(State.A));
+	}
+
+	@Test
+	@DisplayName("enrich tabulates an arbitrary predicate over the enum")
+	void enrichTabulates(){
+		Predicate<State> rule = Predicate.allOf(
+				Predicate.<State>isIn(State.A, State.C, State.F),
+				Predicate.isNot(Predicate.isEqual(State.C)));
+
+		EnumPredicate<State> tabulated = enrich(State.class, rule);
+
+		assertAgrees(State.class, rule, tabulated);
+		assertEquals(isIn(State.A, State.F), tabulated);
+	}
+
+	@Test
+	@DisplayName("enrich takes a predicate dereferencing its argument to reject null")
+	void enrichDereferencing(){
+		EnumPredicate<State> late = enrich(State.class, s -> s.ordinal() > 2);
+
+		assertEquals(isIn(State.D, State.E, State.F), late);
+		assertFalse(late.test(null));
+		assertFalse(enrich(State.class, s -> s.name().equals("A")).negate().test(State.A));
+	}
+
+	@Test
+	@DisplayName("Negation accepts null and never accepts constants outside the enum")
+	void negationBounds(){
+		EnumPredicate<State> notA = isEqual(State.A).negate();
+
+		assertTrue(notA.test(null));
+		assertEquals(EnumSet.complementOf(EnumSet.of(State.A)), notA.values());
+		assertEquals(everFalse(State.class), everTrue(State.class).negate());
+	}
+
+	@Test
+	@DisplayName("Enums with more than 64 constants span several words")
+	void wideEnums(){
+		EnumPredicate<Wide> p = isIn(Wide.W1, Wide.W63, Wide.W64, Wide.W69);
+
+		assertAgrees(Wide.class, Predicate.isIn(Wide.W1, Wide.W63, Wide.W64, Wide.W69), p);
+		assertEquals(66, p.negate().values().size());
+		assertAgrees(Wide.class, Predicate.isIn(Wide.W64), p.and(isIn(Wide.W64, Wide.W65)));
+	}
+
+	@Test
+	@DisplayName("Testing allocates nothing")
+	void testAllocatesNothing(){
+		EnumPredicate<State> p = isIn(State.A, State.C).or(isEqual(State.F)).and(isEqual(State.C).negate());
+
+		Allocations.assertAllocationFree(() -> p.test(State.F));
+	}
+}
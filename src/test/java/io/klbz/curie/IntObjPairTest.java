@@ -0,0 +1,64 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Box.boxed;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntObjPair")
+class IntObjPairTest {
+	private static final IntObjPair<String> pair = IntObjPair.of(7, "seven");
+
+	@Test
+	@DisplayName("Equal to same and hashes as the equivalent boxed pair does")
+	void equalityAndHash(){
+		assertEquals(pair, IntObjPair.of(7, "seven"));
+		assertNotEquals(pair, IntObjPair.of(7, "eight"));
+		assertNotEquals(pair, IntObjPair.of(8, "seven"));
+		assertEquals(IntObjPair.of(7, null), IntObjPair.of(7, null));
+		assertEquals(Pair.of(7, "seven").hashCode(), pair.hashCode());
+	}
+
+	@Test
+	@DisplayName("Maps each element, including across specializations")
+	void map(){
+		assertEquals(IntObjPair.of(8, "seven"), pair.mapFirst(x -> x + 1));
+		assertEquals(IntObjPair.of(7, 5), pair.mapSecond(String::length));
+		assertEquals(IntPair.of(7, 5), pair.mapSecondToInt(String::length));
+		assertEquals(Pair.of("7", "seven"), pair.mapFirstToObj(Integer::toString));
+	}
+
+	@Test
+	@DisplayName("Collapses, tests and boxes both elements")
+	void collapseSatisfyAndBox(){
+		assertEquals("7=seven", pair.collapse((f, s) -> f + "=" + s));
+		assertTrue(pair.satisfies((f, s) -> s.length() < f));
+		assertEquals(Pair.of(7, "seven"), pair.boxed());
+	}
+
+	@Test
+	@DisplayName("Focuses on either element and back")
+	void focus(){
+		assertEquals(7, pair.focusFirst().isolate());
+		assertEquals(IntObjPair.of(7, 5), pair.focusSecond().map(String::length).unfocus());
+		assertEquals(pair, pair.focusSecond());
+		assertEquals(pair.focusFirst(), pair.focusSecond());
+	}
+
+	@Test
+	@DisplayName("Runs side effects on both elements")
+	void sideEffects(){
+		Box<String> box = boxed("");
+		pair.withBothDo((f, s) -> box.setValue(s + f));
+		assertTrue(box.contains("seven7"));
+	}
+
+	@Test
+	@DisplayName("Inspection allocates nothing")
+	void budgets(){
+		assertAllocationFree(() -> pair.satisfies((f, s) -> f > 0));
+		assertAllocationFree(pair::hashCode);
+	}
+}
@@ -0,0 +1,81 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.klbz.curie.Allocations.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Int Pair Array")
+class IntPairArrayTest {
+	private static final IntPairArray array = IntPairArray.of(new int[]{ 1, 2, 3 }, new int[]{ 10, 20, 30 });
+
+	@Test
+	@DisplayName("Holds copies of the columns it was built from")
+	void holdsColumns(){
+		int[] firsts = { 1, 2 };
+		IntPairArray copied = IntPairArray.of(firsts, new int[]{ 3, 4 });
+		firsts[0] = 99;
+
+		assertEquals(2, copied.size());
+		assertEquals(IntPair.of(1, 3), copied.get(0));
+		assertEquals(2, copied.first(1));
+		assertEquals(4, copied.second(1));
+		assertArrayEquals(new int[]{ 1, 2 }, copied.firsts());
+		assertThrows(IllegalArgumentException.class, () -> IntPairArray.of(new int[1], new int[0]));
+	}
+
+	@Test
+	@DisplayName("Maps, collapses and tests each pair")
+	void bulkOperations(){
+		assertEquals(IntPairArray.of(new int[]{ 2, 3, 4 }, new int[]{ 10, 20, 30 }), array.mapFirst(x -> x + 1));
+		assertEquals(IntPairArray.of(new int[]{ 1, 2, 3 }, new int[]{ 0, 0, 0 }), array.mapSecond(x -> 0));
+		assertArrayEquals(new int[]{ 11, 22, 33 }, array.collapseToInt(Integer::sum));
+		assertEquals(Arrays.asList("1:10", "2:20", "3:30"), array.collapse((f, s) -> f + ":" + s));
+		assertArrayEquals(new int[]{ 0, 2 }, array.satisfies((f, s) -> f % 2 == 1).indexes());
+
+		List<Integer> visited = new ArrayList<>();
+		assertSame(array, array.withBothDo((f, s) -> visited.add(f * s)));
+		assertEquals(Arrays.asList(10, 40, 90), visited);
+	}
+
+	@Test
+	@DisplayName("Scans without allocating per pair")
+	void scansUnboxed(){
+		int[] values = IntStream.range(1_000, 2_000).toArray();
+		IntPairArray large = IntPairArray.of(values, values);
+		assertAllocatesAtMost(1_024, () -> large.satisfies((f, s) -> f + s > 3_000));
+	}
+
+	@Test
+	@DisplayName("Boxes into an equal PairArray with the same hash")
+	void boxes(){
+		PairArray<Integer, Integer> boxed = array.boxed();
+		assertEquals(PairArray.ofInts(new int[]{ 1, 2, 3 }, new int[]{ 10, 20, 30 }), boxed);
+		assertEquals(boxed.hashCode(), array.hashCode());
+		assertEquals(Pair.of(3, 30), boxed.get(2));
+	}
+
+	@Test
+	@DisplayName("Streams its pairs in order, sequentially or in parallel")
+	void streams(){
+		List<IntPair> expected = Arrays.asList(IntPair.of(1, 10), IntPair.of(2, 20), IntPair.of(3, 30));
+		assertEquals(expected, array.stream().collect(Collectors.toList()));
+
+		int[] values = IntStream.range(0, 10_000).toArray();
+		IntPairArray large = IntPairArray.of(values, values);
+		assertEquals(10_000L * 9_999, large.parallelStream().mapToLong(p -> p.collapseToInt(Integer::sum)).sum());
+	}
+
+	@Test
+	@DisplayName("Renders each pair")
+	void rendering(){
+		assertEquals("IntPairArray[IntPair{1,10}, IntPair{2,20}, IntPair{3,30}]", array.toString());
+	}
+}
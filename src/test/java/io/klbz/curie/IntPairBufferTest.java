@@ -0,0 +1,109 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Int Pair Buffer")
+class IntPairBufferTest {
+	@Test
+	@DisplayName("Appends and replaces pairs up to its capacity")
+	void access(){
+		try(IntPairBuffer buffer = IntPairBuffer.allocate(3)){
+			buffer.add(1, 10).add(IntPair.of(2, 20));
+			assertEquals(2, buffer.size());
+			assertEquals(3, buffer.capacity());
+			assertEquals(IntPair.of(2, 20), buffer.get(1));
+
+			buffer.set(0, -1, Integer.MAX_VALUE);
+			assertEquals(-1, buffer.first(0));
+			assertEquals(Integer.MAX_VALUE, buffer.second(0));
+
+			buffer.add(3, 30);
+			assertThrows(IllegalStateException.class, () -> buffer.add(4, 40));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(3));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, 0, 0));
+		}
+	}
+
+	@Test
+	@DisplayName("Updates and tests every pair in place")
+	void bulkOperations(){
+		try(IntPairBuffer buffer = IntPairBuffer.allocate(100)){
+			for(int i = 0; i < 100; i++) buffer.add(i, i * i);
+
+			buffer.updateFirst(x -> -x).updateSecond(x -> x + 1);
+			assertEquals(IntPair.of(-7, 50), buffer.get(7));
+			assertEquals(99 * 99 + 1 - 99, buffer.collapseToInt(Integer::sum)[99]);
+
+			Selection selection = buffer.satisfies((f, s) -> s % 2 == 0);
+			assertEquals(50, selection.count());
+			assertTrue(selection.isSelected(99));
+
+			List<Integer> firsts = new ArrayList<>();
+			buffer.withBothDo((f, s) -> firsts.add(f));
+			assertEquals(100, firsts.size());
+			assertEquals(-99, (int) firsts.get(99));
+		}
+	}
+
+	@Test
+	@DisplayName("Copies onto the heap")
+	void toArray(){
+		try(IntPairBuffer buffer = IntPairBuffer.allocate(4)){
+			buffer.add(1, 2).add(3, 4);
+			assertEquals(IntPairArray.of(new int[]{ 1, 3 }, new int[]{ 2, 4 }), buffer.toArray());
+		}
+	}
+
+	@Test
+	@DisplayName("Keeps its memory until a bulk operation closing it returns")
+	void closedDuringBulkOperation(){
+		IntPairBuffer buffer = IntPairBuffer.allocate(100);
+		for(int i = 0; i < 100; i++) buffer.add(i, i);
+
+		buffer.updateFirst(x -> {
+			if(x == 50){
+				buffer.close();
+				assertThrows(IllegalStateException.class, () -> buffer.withBothDo((f, s) -> {}));
+			}
+			return x + 1;
+		});
+		assertTrue(buffer.isClosed());
+		assertEquals(0, buffer.directBytes());
+		assertThrows(IllegalStateException.class, () -> buffer.first(0));
+		assertThrows(IllegalStateException.class, () -> buffer.satisfies((f, s) -> true));
+	}
+
+	@Test
+	@DisplayName("Holds direct memory until closed, and refuses any use after")
+	void lifecycle(){
+		BufferPoolMXBean direct = ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+		                                           .filter(pool -> pool.getName().equals("direct"))
+		                                           .findFirst()
+		                                           .orElseThrow(IllegalStateException::new);
+		long before = direct.getMemoryUsed();
+
+		IntPairBuffer buffer = IntPairBuffer.allocate(1 << 16);
+		assertEquals(8L << 16, buffer.directBytes());
+		assertTrue(direct.getMemoryUsed() >= before + (8L << 16));
+		buffer.add(1, 2);
+
+		buffer.close();
+		buffer.close();
+		assertTrue(buffer.isClosed());
+		assertEquals(0, buffer.directBytes());
+		assertEquals("IntPairBuffer{closed}", buffer.toString());
+		for(Runnable use : Arrays.<Runnable>asList(() -> buffer.get(0), () -> buffer.first(9), () -> buffer.add(1, 2),
+		                                            buffer::toArray)){
+			assertThrows(IllegalStateException.class, use::run);
+		}
+	}
+}
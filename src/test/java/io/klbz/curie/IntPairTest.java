@@ -0,0 +1,111 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Box.boxed;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntPair")
+class IntPairTest {
+	private static final IntPair pair = IntPair.of(3, 5);
+
+	//region Equality and Hashcode
+
+	@Test
+	@DisplayName("Equal to same, unequal to different or boxed")
+	void equality(){
+		assertEquals(pair, IntPair.of(3, 5));
+		assertNotEquals(pair, IntPair.of(5, 3));
+		assertNotEquals(pair, null);
+		assertNotEquals(pair, Pair.of(3, 5));
+	}
+
+	@Test
+	@DisplayName("Hashes as the equivalent boxed pair does")
+	void hashMatchesBoxed(){ assertEquals(Pair.of(3, 5).hashCode(), pair.hashCode()); }
+
+	//endregion
+
+	//region Transformation
+
+	@Test
+	@DisplayName("Replaces and maps each element")
+	void replaceAndMap(){
+		assertEquals(IntPair.of(4, 5), pair.replaceFirst(4));
+		assertEquals(IntPair.of(3, 4), pair.replaceSecond(4));
+		assertEquals(IntPair.of(6, 5), pair.mapFirst(x -> x * 2));
+		assertEquals(IntPair.of(3, 10), pair.mapSecond(x -> x * 2));
+	}
+
+	@Test
+	@DisplayName("Maps an element to an object, yielding a mixed pair")
+	void mapToObj(){
+		assertEquals(ObjIntPair.of("3", 5), pair.mapFirstToObj(Integer::toString));
+		assertEquals(IntObjPair.of(3, "5"), pair.mapSecondToObj(Integer::toString));
+	}
+
+	@Test
+	@DisplayName("Collapses, tests and boxes both elements")
+	void collapseSatisfyAndBox(){
+		assertEquals("3:5", pair.collapse((f, s) -> f + ":" + s));
+		assertEquals(8, pair.collapseToInt(Integer::sum));
+		assertTrue(pair.satisfies((f, s) -> f < s));
+		assertFalse(pair.satisfies((f, s) -> f > s));
+		assertEquals(Pair.of(3, 5), pair.boxed());
+	}
+
+	@Test
+	@DisplayName("Runs side effects on either or both elements")
+	void sideEffects(){
+		Box<Integer> firstBox = boxed(0);
+		Box<Integer> secondBox = boxed(0);
+		assertSame(pair, pair.withFirstDo(firstBox::setValue).withSecondDo(secondBox::setValue));
+		assertTrue(firstBox.contains(3));
+		assertTrue(secondBox.contains(5));
+
+		pair.withBothDo((f, s) -> firstBox.setValue(f * s));
+		assertTrue(firstBox.contains(15));
+	}
+
+	//endregion
+
+	//region Focus
+
+	@Test
+	@DisplayName("Focuses on either element and back")
+	void focus(){
+		assertEquals(3, pair.focusFirst().isolate());
+		assertEquals(5, pair.focusSecond().isolate());
+		assertEquals(IntPair.of(4, 5), pair.focusFirst().map(x -> x + 1).unfocus());
+		assertEquals(IntPair.of(3, 6), pair.focusSecond().replace(6).unfocus());
+	}
+
+	@Test
+	@DisplayName("Focuses are equal to their pair and to each other")
+	void focusEquality(){
+		assertEquals(pair, pair.focusFirst());
+		assertEquals(pair.focusSecond(), pair);
+		assertEquals(pair.focusFirst(), pair.focusSecond());
+		assertEquals(pair.hashCode(), pair.focusFirst().hashCode());
+	}
+
+	//endregion
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Mapping allocates only the new pair, and inspection allocates nothing")
+	void budgets(){
+		IntPair same = IntPair.of(3, 5);
+
+		assertAllocatesAtMost(objects(1), () -> pair.mapFirst(x -> x + 1_000));
+		assertAllocationFree(() -> pair.collapseToInt(Integer::sum));
+		assertAllocationFree(() -> pair.satisfies((f, s) -> f < s));
+		assertAllocationFree(() -> pair.equals(same));
+		assertAllocationFree(pair::hashCode);
+	}
+
+	//endregion
+}
@@ -0,0 +1,178 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Box.boxed;
+import static io.klbz.curie.IntPredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IntPredicate")
+class IntPredicateTest {
+	//region Common Predicates
+
+	@Test
+	@DisplayName("everTrue and everFalse ignore their input")
+	void constants(){
+		assertTrue(everTrue().test(0));
+		assertFalse(everFalse().test(0));
+	}
+
+	@Test
+	@DisplayName("Comparisons test against their bounds")
+	void comparisons(){
+		assertTrue(isEqual(3).test(3));
+		assertFalse(isEqual(3).test(4));
+		assertTrue(isGreaterThan(3).test(4));
+		assertFalse(isGreaterThan(3).test(3));
+		assertTrue(isAtLeast(3).test(3));
+		assertFalse(isAtLeast(3).test(2));
+		assertTrue(isLessThan(3).test(2));
+		assertFalse(isLessThan(3).test(3));
+		assertTrue(isAtMost(3).test(3));
+		assertFalse(isAtMost(3).test(4));
+	}
+
+	@Test
+	@DisplayName("isBetween includes both bounds")
+	void between(){
+		IntPredicate p = isBetween(3, 5);
+		assertFalse(p.test(2));
+		assertTrue(p.test(3));
+		assertTrue(p.test(5));
+		assertFalse(p.test(6));
+	}
+
+	@Test
+	@DisplayName("isIn tests membership, regardless of order or duplicates")
+	void in(){
+		IntPredicate p = isIn(9, -4, 7, 9);
+		assertTrue(p.test(-4));
+		assertTrue(p.test(9));
+		assertFalse(p.test(8));
+		assertFalse(isIn().test(0));
+	}
+
+	@Test
+	@DisplayName("isIn is not affected by later changes to its arguments")
+	void inCopiesValues(){
+		int[] values = {1, 2, 3};
+		IntPredicate p = isIn(values);
+		values[0] = 10;
+		assertTrue(p.test(1));
+		assertFalse(p.test(10));
+	}
+
+	//endregion
+
+	//region Construction
+
+	@Test
+	@DisplayName("is, isNot and enrich construct predicates")
+	void construction(){
+		assertTrue(is(x -> x > 0).test(1));
+		assertFalse(isNot(x -> x > 0).test(1));
+
+		java.util.function.IntPredicate standard = x -> x > 0;
+		assertTrue(enrich(standard).test(1));
+
+		IntPredicate enriched = x -> x > 0;
+		assertSame(enriched, enrich(enriched));
+	}
+
+	//endregion
+
+	//region Aggregation
+
+	@Test
+	@DisplayName("and, or and xor combine with this predicate")
+	void binaryCombinators(){
+		IntPredicate even = x -> x % 2 == 0;
+		java.util.function.IntPredicate positive = x -> x > 0;
+
+		assertTrue(even.and(positive).test(2));
+		assertFalse(even.and(positive).test(-2));
+		assertTrue(even.or(positive).test(-2));
+		assertFalse(even.or(positive).test(-1));
+		assertTrue(even.xor(positive).test(1));
+		assertFalse(even.xor(positive).test(2));
+	}
+
+	@Test
+	@DisplayName("allOf, anyOf and noneOf aggregate any number of predicates")
+	void aggregates(){
+		IntPredicate all = allOf(isGreaterThan(0), isLessThan(10), x -> x % 2 == 0);
+		assertTrue(all.test(4));
+		assertFalse(all.test(5));
+		assertFalse(all.test(12));
+
+		IntPredicate any = anyOf(isEqual(1), isEqual(2));
+		assertTrue(any.test(2));
+		assertFalse(any.test(3));
+
+		IntPredicate none = noneOf(isEqual(1), isEqual(2));
+		assertFalse(none.test(1));
+		assertTrue(none.test(3));
+	}
+
+	@Test
+	@DisplayName("Empty aggregates behave as their identities")
+	void emptyAggregates(){
+		assertTrue(allOf().test(0));
+		assertFalse(anyOf().test(0));
+		assertTrue(noneOf().test(0));
+	}
+
+	@Test
+	@DisplayName("negate negates predicates")
+	void negate(){ assertFalse(everTrue().negate().test(0)); }
+
+	//endregion
+
+	//region Application
+
+	@Test
+	@DisplayName("satisfy reifies satisfaction with the unboxed value")
+	void satisfy(){
+		IntSatisfaction satisfied = isGreaterThan(0).satisfy(5);
+		IntSatisfaction dissatisfied = isGreaterThan(0).satisfy(-5);
+
+		assertTrue(satisfied.isSatisfied());
+		assertFalse(dissatisfied.isSatisfied());
+		assertEquals(MaybeInt.just(5), satisfied.preserve());
+		assertEquals(MaybeInt.none(), satisfied.reject());
+		assertEquals(MaybeInt.none(), dissatisfied.preserve());
+		assertEquals(MaybeInt.just(-5), dissatisfied.reject());
+		assertEquals("yes", satisfied.collapse("yes", "no"));
+		assertEquals("no", dissatisfied.lazyCollapse(() -> "yes", () -> "no"));
+		assertEquals("-5!", dissatisfied.pipeCollapse(x -> x + "?", x -> x + "!"));
+	}
+
+	@Test
+	@DisplayName("Satisfaction side effects run for the matching outcome only")
+	void satisfactionSideEffects(){
+		Box<Integer> box = boxed(0);
+		isGreaterThan(0).satisfy(5).whenSatisfiedDo(box::setValue).whenDissatisfiedDo(x -> box.setValue(-1));
+		assertTrue(box.contains(5));
+
+		isGreaterThan(0).satisfy(-5).whenSatisfiedDo(box::setValue).whenDissatisfiedDo(x -> box.setValue(-1));
+		assertTrue(box.contains(-1));
+	}
+
+	//endregion
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Testing never boxes, and satisfying allocates only the satisfaction")
+	void budgets(){
+		IntPredicate p = allOf(isGreaterThan(0), isLessThan(10_000), isIn(5_000, 6_000)).or(isEqual(-1));
+
+		assertAllocationFree(() -> p.test(5_000));
+		assertAllocationFree(() -> p.test(7_000));
+		assertAllocatesAtMost(objects(1), () -> p.satisfy(5_000));
+	}
+
+	//endregion
+}
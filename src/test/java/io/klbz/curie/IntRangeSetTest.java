@@ -0,0 +1,74 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.IntPredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Int Range Set")
+class IntRangeSetTest {
+	private static void assertAgrees(java.util.function.IntPredicate expected, IntPredicate actual){
+		for(int x = -300; x <= 300; x++) assertEquals(expected.test(x), actual.test(x), "at " + x);
+		for(int x : new int[]{ Integer.MIN_VALUE, Integer.MIN_VALUE + 1, Integer.MAX_VALUE - 1, Integer.MAX_VALUE }){
+			assertEquals(expected.test(x), actual.test(x), "at " + x);
+		}
+	}
+
+	@Test
+	@DisplayName("Comparison and membership constructors honour their bounds, including at the extremes")
+	void construction(){
+		assertAgrees(x -> x > 10, isGreaterThan(10));
+		assertAgrees(x -> false, isGreaterThan(Integer.MAX_VALUE));
+		assertAgrees(x -> false, isLessThan(Integer.MIN_VALUE));
+		assertAgrees(x -> x <= Integer.MIN_VALUE, isAtMost(Integer.MIN_VALUE));
+		assertAgrees(x -> x >= Integer.MAX_VALUE, isAtLeast(Integer.MAX_VALUE));
+		assertAgrees(x -> x >= -5 && x <= 5, isBetween(-5, 5));
+		assertAgrees(x -> x == 3 || x == 4 || x == 5 || x == 90, isIn(90, 5, 3, 4, 4));
+	}
+
+	@Test
+	@DisplayName("Combinators agree with the equivalent lambdas")
+	void combinatorsAgree(){
+		IntPredicate a = isBetween(-100, 50);
+		IntPredicate b = isIn(-200, 0, 60, 200).or(isAtLeast(250));
+
+		assertAgrees(x -> x >= -100 && x <= 50 && x == 0, a.and(b));
+		assertAgrees(x -> (x >= -100 && x <= 50) || x == -200 || x == 60 || x == 200 || x >= 250, a.or(b));
+		assertAgrees(x -> (x >= -100 && x <= 50) != (x == -200 || x == 0 || x == 60 || x == 200 || x >= 250), a.xor(b));
+		assertAgrees(x -> x < -100 || x > 50, a.negate());
+		assertAgrees(x -> true, a.or(a.negate()));
+		assertAgrees(x -> false, b.and(b.negate()));
+	}
+
+	@Test
+	@DisplayName("Combining range sets yields a single, canonical set of intervals")
+	void combinationStaysIndexed(){
+		IntPredicate viaInterface = isBetween(0, 4).or((java.util.function.IntPredicate) isBetween(5, 9));
+
+		assertEquals(isBetween(0, 9), viaInterface);
+		assertEquals(isBetween(1, 4), isIn(1, 2, 3, 4));
+		assertEquals(isAtLeast(Integer.MIN_VALUE), isLessThan(0).or(isAtLeast(0)));
+		assertEquals(isGreaterThan(Integer.MAX_VALUE), isLessThan(0).and(isAtLeast(0)));
+	}
+
+	@Test
+	@DisplayName("Adjacent range clauses of a junction are merged, and the rest kept in order")
+	void junctionsMergeRuns(){
+		IntPredicate even = x -> x % 2 == 0;
+
+		assertAgrees(x -> x >= 0 && x <= 10 && x % 2 == 0, allOf(isAtLeast(0), isAtMost(10), even));
+		assertAgrees(x -> x < 0 || x > 10 || x % 2 == 0, anyOf(isLessThan(0), isGreaterThan(10), even));
+		assertEquals(isBetween(0, 20), anyOf(isBetween(0, 10), isBetween(11, 20)));
+		assertEquals(isBetween(5, 10), allOf(isBetween(0, 10), isBetween(5, 20)));
+	}
+
+	@Test
+	@DisplayName("Combining with other predicates falls back to ordinary composites")
+	void mixedCombination(){
+		IntPredicate mixed = isBetween(0, 10).and(x -> x % 2 == 0);
+
+		assertFalse(mixed instanceof IntRangeSet);
+		assertAgrees(x -> x >= 0 && x <= 10 && x % 2 == 0, mixed);
+	}
+}
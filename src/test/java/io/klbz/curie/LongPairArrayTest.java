@@ -0,0 +1,29 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Long Pair Array")
+class LongPairArrayTest {
+	private static final LongPairArray array = LongPairArray.of(new long[]{ 1, 1L << 40 }, new long[]{ -1, 7 });
+
+	@Test
+	@DisplayName("Maps, collapses and tests each pair")
+	void bulkOperations(){
+		assertEquals(LongPair.of(1L << 41, 7), array.mapFirst(x -> x * 2).get(1));
+		assertArrayEquals(new long[]{ 0, (1L << 40) + 7 }, array.collapseToLong(Long::sum));
+		assertEquals(Arrays.asList("1/-1", (1L << 40) + "/7"), array.collapse((f, s) -> f + "/" + s));
+		assertArrayEquals(new int[]{ 1 }, array.satisfies((f, s) -> f > Integer.MAX_VALUE).indexes());
+	}
+
+	@Test
+	@DisplayName("Boxes into an equal PairArray with the same hash")
+	void boxes(){
+		assertEquals(PairArray.ofLongs(new long[]{ 1, 1L << 40 }, new long[]{ -1, 7 }), array.boxed());
+		assertEquals(array.boxed().hashCode(), array.hashCode());
+	}
+}
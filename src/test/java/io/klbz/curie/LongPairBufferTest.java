@@ -0,0 +1,93 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Long Pair Buffer")
+class LongPairBufferTest {
+	@Test
+	@DisplayName("Appends and replaces pairs up to its capacity")
+	void access(){
+		try(LongPairBuffer buffer = LongPairBuffer.allocate(3)){
+			buffer.add(1, 10).add(LongPair.of(2, 20));
+			assertEquals(2, buffer.size());
+			assertEquals(3, buffer.capacity());
+			assertEquals(LongPair.of(2, 20), buffer.get(1));
+
+			buffer.set(0, Long.MIN_VALUE, Long.MAX_VALUE);
+			assertEquals(Long.MIN_VALUE, buffer.first(0));
+			assertEquals(Long.MAX_VALUE, buffer.second(0));
+
+			buffer.add(3, 30);
+			assertThrows(IllegalStateException.class, () -> buffer.add(4, 40));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(3));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.set(-1, 0, 0));
+		}
+	}
+
+	@Test
+	@DisplayName("Stores, updates and tests full-width longs")
+	void operations(){
+		try(LongPairBuffer buffer = LongPairBuffer.allocate(2)){
+			buffer.add(Long.MIN_VALUE, 1L << 40).add(LongPair.of(-1, 2));
+			buffer.updateSecond(x -> x * 2);
+			assertEquals(LongPair.of(Long.MIN_VALUE, 1L << 41), buffer.get(0));
+			assertArrayEquals(new long[]{ Long.MIN_VALUE + (1L << 41), 3 }, buffer.collapseToLong(Long::sum));
+			assertArrayEquals(new int[]{ 0 }, buffer.satisfies((f, s) -> s > Integer.MAX_VALUE).indexes());
+			LongPairArray expected = LongPairArray.of(new long[]{ Long.MIN_VALUE, -1 }, new long[]{ 1L << 41, 4 });
+			assertEquals(expected, buffer.toArray());
+		}
+	}
+
+	@Test
+	@DisplayName("Updates and tests every pair in place")
+	void bulkOperations(){
+		try(LongPairBuffer buffer = LongPairBuffer.allocate(100)){
+			for(long i = 0; i < 100; i++) buffer.add(i, i << 33);
+
+			buffer.updateFirst(x -> -x).updateSecond(x -> x + 1);
+			assertEquals(LongPair.of(-70, (70L << 33) + 1), buffer.get(70));
+			assertEquals((99L << 33) + 1 - 99, buffer.collapseToLong(Long::sum)[99]);
+
+			Selection selection = buffer.satisfies((f, s) -> f % 2 == 0);
+			assertEquals(50, selection.count());
+			assertTrue(selection.isSelected(98));
+
+			List<Long> firsts = new ArrayList<>();
+			buffer.withBothDo((f, s) -> firsts.add(f));
+			assertEquals(100, firsts.size());
+			assertEquals(-99, (long) firsts.get(99));
+		}
+	}
+
+	@Test
+	@DisplayName("Copies onto the heap")
+	void toArray(){
+		try(LongPairBuffer buffer = LongPairBuffer.allocate(4)){
+			buffer.add(1, 2).add(3, 4);
+			assertEquals(LongPairArray.of(new long[]{ 1, 3 }, new long[]{ 2, 4 }), buffer.toArray());
+		}
+	}
+
+	@Test
+	@DisplayName("Holds direct memory until closed, and refuses any use after")
+	void lifecycle(){
+		LongPairBuffer buffer = LongPairBuffer.allocate(10);
+		assertEquals(10 * 2 * Long.BYTES, buffer.directBytes());
+		buffer.add(1, 2);
+
+		buffer.close();
+		assertTrue(buffer.isClosed());
+		assertEquals(0, buffer.directBytes());
+		assertEquals("LongPairBuffer{closed}", buffer.toString());
+		List<Runnable> uses = Arrays.asList(() -> buffer.get(0), () -> buffer.first(5), () -> buffer.set(0, 1, 2),
+		                                    () -> buffer.add(1, 2), buffer::toArray);
+		for(Runnable use : uses) assertThrows(IllegalStateException.class, use::run);
+	}
+}
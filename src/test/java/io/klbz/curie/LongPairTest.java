@@ -0,0 +1,46 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Box.boxed;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongPair")
+class LongPairTest {
+	private static final LongPair pair = LongPair.of(3_000_000_000L, 5L);
+
+	@Test
+	@DisplayName("Equal to same and hashes as the equivalent boxed pair does")
+	void equalityAndHash(){
+		assertEquals(pair, LongPair.of(3_000_000_000L, 5L));
+		assertNotEquals(pair, LongPair.of(5L, 3_000_000_000L));
+		assertEquals(Pair.of(3_000_000_000L, 5L).hashCode(), pair.hashCode());
+	}
+
+	@Test
+	@DisplayName("Maps, collapses and tests both elements")
+	void operations(){
+		assertEquals(LongPair.of(3_000_000_001L, 5L), pair.mapFirst(x -> x + 1));
+		assertEquals(LongPair.of(3_000_000_000L, 6L), pair.focusSecond().map(x -> x + 1).unfocus());
+		assertEquals(3_000_000_005L, pair.collapseToLong(Long::sum));
+		assertTrue(pair.satisfies((f, s) -> f > s));
+		assertEquals(Pair.of(3_000_000_000L, 5L), pair.boxed());
+	}
+
+	@Test
+	@DisplayName("Runs side effects and returns itself")
+	void sideEffects(){
+		Box<Long> box = boxed(0L);
+		assertSame(pair, pair.withSecondDo(box::setValue));
+		assertTrue(box.contains(5L));
+	}
+
+	@Test
+	@DisplayName("Inspection allocates nothing")
+	void budgets(){
+		assertAllocationFree(() -> pair.satisfies((f, s) -> f > s));
+		assertAllocationFree(pair::hashCode);
+	}
+}
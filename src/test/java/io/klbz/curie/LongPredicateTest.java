@@ -0,0 +1,50 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.LongPredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongPredicate")
+class LongPredicateTest {
+	private static final long big = 5_000_000_000L;
+
+	@Test
+	@DisplayName("Comparisons and membership test against their bounds")
+	void comparisons(){
+		assertTrue(isEqual(big).test(big));
+		assertTrue(isGreaterThan(big).test(big + 1));
+		assertFalse(isLessThan(big).test(big));
+		assertTrue(isBetween(big, big + 2).test(big + 2));
+		assertTrue(isIn(big, 1L).test(1L));
+		assertFalse(isIn(big, 1L).test(2L));
+	}
+
+	@Test
+	@DisplayName("Combinators and aggregates combine predicates")
+	void combinators(){
+		LongPredicate p = allOf(isAtLeast(0), isAtMost(big)).and(x -> x % 2 == 0);
+		assertTrue(p.test(big));
+		assertFalse(p.test(big - 1));
+		assertTrue(anyOf(isEqual(1), isEqual(big)).xor(everFalse()).test(big));
+		assertTrue(noneOf(isEqual(1)).test(2));
+		assertFalse(isNot(everTrue()).test(0));
+	}
+
+	@Test
+	@DisplayName("satisfy reifies satisfaction into a MaybeLong")
+	void satisfy(){
+		assertEquals(MaybeLong.just(big), isGreaterThan(0).satisfy(big).preserve());
+		assertEquals(MaybeLong.none(), isGreaterThan(0).satisfy(-big).preserve());
+	}
+
+	@Test
+	@DisplayName("Testing never boxes")
+	void budgets(){
+		LongPredicate p = allOf(isGreaterThan(0), isIn(big, big + 1));
+
+		assertAllocationFree(() -> p.test(big));
+	}
+}
@@ -0,0 +1,139 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maybe Array")
+class MaybeArrayTest {
+	private static final List<Maybe<String>> maybes = Arrays.asList(
+			Maybe.just("a"),
+			Maybe.none(),
+			Maybe.just("ccc"),
+			Maybe.just(null),
+			Maybe.none());
+
+	private static final MaybeArray<String> array = MaybeArray.of(maybes);
+
+	/** Slots 0 to 199, present unless divisible by 3, holding their index. */
+	private static List<Maybe<Integer>> sparse(){
+		List<Maybe<Integer>> slots = new ArrayList<>();
+		for(int i = 0; i < 200; i++) slots.add(i % 3 == 0 ? Maybe.none() : Maybe.just(i));
+		return slots;
+	}
+
+	//region Construction
+
+	@Test
+	@DisplayName("Holds the slots it was built from, in order")
+	void holdsSlots(){
+		assertEquals(5, array.size());
+		assertEquals(3, array.count());
+		assertEquals(maybes, array.asList());
+		assertEquals(Maybe.just("ccc"), array.get(2));
+		assertEquals(Maybe.just(null), array.get(3));
+		assertFalse(array.isPresent(4));
+		assertEquals(Arrays.asList("a", "ccc", null), array.presentValues());
+		assertThrows(IndexOutOfBoundsException.class, () -> array.get(5));
+	}
+
+	@Test
+	@DisplayName("Builders and nullable lists build equal arrays")
+	void constructions(){
+		MaybeArray.Builder<String> builder = MaybeArray.builder();
+		for(Maybe<String> maybe : maybes) builder.add(maybe);
+		assertEquals(array, builder.build());
+
+		MaybeArray<String> nullables = MaybeArray.ofNullables(Arrays.asList("a", null, "b"));
+		assertEquals(MaybeArray.of(Arrays.asList(Maybe.just("a"), Maybe.none(), Maybe.just("b"))), nullables);
+		assertTrue(MaybeArray.empty().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Finds the values of slots across many words")
+	void sparseLookups(){
+		List<Maybe<Integer>> slots = sparse();
+		MaybeArray<Integer> large = MaybeArray.of(slots);
+		assertEquals(slots, large.asList());
+		assertEquals(133, large.count());
+		assertEquals(133, large.present().count());
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	@Test
+	@DisplayName("Bulk operations agree with those of each Maybe")
+	void agreesWithMaybes(){
+		List<Maybe<Integer>> slots = sparse();
+		MaybeArray<Integer> large = MaybeArray.of(slots);
+
+		assertEquals(slots.stream().map(m -> m.map(x -> x * 2)).collect(Collectors.toList()),
+		             large.map(x -> x * 2).asList());
+		assertEquals(slots.stream().map(m -> m.flatMap(x -> x % 2 == 0 ? Maybe.just("" + x) : Maybe.<String>none()))
+		                  .collect(Collectors.toList()),
+		             large.flatMap(x -> x % 2 == 0 ? Maybe.just("" + x) : Maybe.none()).asList());
+		assertEquals(slots.stream().map(m -> m.preserveIf(x -> x > 100)).collect(Collectors.toList()),
+		             large.preserveIf(x -> x > 100).asList());
+		assertEquals(slots.stream().map(m -> m.rejectIf(x -> x > 100)).collect(Collectors.toList()),
+		             large.rejectIf(x -> x > 100).asList());
+
+		Selection selection = large.satisfies(x -> x % 5 == 0);
+		for(int i = 0; i < slots.size(); i++){
+			assertEquals(slots.get(i).satisfies(x -> x % 5 == 0), selection.isSelected(i));
+		}
+	}
+
+	@Test
+	@DisplayName("Filtering that keeps every value returns the same array")
+	void unchangedFilter(){ assertSame(array, array.rejectIf(x -> false)); }
+
+	@Test
+	@DisplayName("Visits only the present values, with their indexes")
+	void visitsPresent(){
+		List<String> visited = new ArrayList<>();
+		array.forEachPresent((value, index) -> visited.add(index + "=" + value));
+		assertEquals(Arrays.asList("0=a", "2=ccc", "3=null"), visited);
+
+		List<String> values = new ArrayList<>();
+		assertSame(array, array.whenPresentDo(values::add));
+		assertEquals(array.presentValues(), values);
+	}
+
+	//endregion
+
+	//region Iteration
+
+	@Test
+	@DisplayName("Streams its slots in order, sequentially or in parallel")
+	void streams(){
+		assertEquals(maybes, array.stream().collect(Collectors.toList()));
+
+		List<Maybe<Integer>> slots = sparse();
+		for(int i = 0; i < 50; i++) slots.addAll(sparse());
+		MaybeArray<Integer> large = MaybeArray.of(slots);
+		assertEquals(slots, large.parallelStream().collect(Collectors.toList()));
+
+		List<Maybe<String>> iterated = new ArrayList<>();
+		for(Maybe<String> maybe : array) iterated.add(maybe);
+		assertEquals(maybes, iterated);
+	}
+
+	//endregion
+
+	@Test
+	@DisplayName("Equal arrays have the hash of the list of their slots")
+	void equality(){
+		assertEquals(maybes.hashCode(), array.hashCode());
+		assertEquals(array, array.map(x -> x));
+		assertNotEquals(array, array.map(x -> x + "!"));
+		assertEquals("MaybeArray[Just{a}, None{}, Just{ccc}, Just{null}, None{}]", array.toString());
+	}
+}
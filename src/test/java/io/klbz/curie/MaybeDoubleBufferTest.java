@@ -0,0 +1,89 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maybe Double Buffer")
+class MaybeDoubleBufferTest {
+	@Test
+	@DisplayName("Appends and replaces present and absent values")
+	void access(){
+		try(MaybeDoubleBuffer buffer = MaybeDoubleBuffer.allocate(4)){
+			buffer.add(1).addNone().add(MaybeDouble.just(-0.0)).add(MaybeDouble.none());
+			assertEquals(4, buffer.size());
+			assertEquals(MaybeDouble.just(1), buffer.get(0));
+			assertEquals(MaybeDouble.none(), buffer.get(1));
+			assertEquals(MaybeDouble.just(-0.0), buffer.get(2));
+			assertEquals(2, buffer.count());
+
+			buffer.set(1, 0).setNone(0);
+			assertEquals(MaybeDouble.none(), buffer.get(0));
+			assertEquals(MaybeDouble.just(0), buffer.get(1));
+			assertFalse(buffer.isPresent(3));
+			assertThrows(IllegalStateException.class, () -> buffer.add(5));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.setNone(-1));
+		}
+	}
+
+	@Test
+	@DisplayName("Stores, updates and filters present doubles")
+	void operations(){
+		try(MaybeDoubleBuffer buffer = MaybeDoubleBuffer.allocate(3)){
+			buffer.add(0.5).addNone().add(MaybeDouble.just(Double.NaN));
+			buffer.update(x -> x * 4).preserveIf(x -> x > 1);
+			assertEquals(MaybeDouble.just(2), buffer.get(0));
+			assertEquals(MaybeDouble.none(), buffer.get(2));
+			assertArrayEquals(new int[]{ 0 }, buffer.satisfies(x -> true).indexes());
+		}
+	}
+
+	@Test
+	@DisplayName("Bulk operations visit only present values, as those of each Maybe would")
+	void bulkOperations(){
+		try(MaybeDoubleBuffer buffer = MaybeDoubleBuffer.allocate(200)){
+			List<MaybeDouble> expected = new ArrayList<>();
+			for(int i = 0; i < 200; i++){
+				MaybeDouble maybe = i % 3 == 0 ? MaybeDouble.none() : MaybeDouble.just(i * 0.5);
+				buffer.add(maybe);
+				expected.add(maybe);
+			}
+
+			buffer.update(x -> x * 2).rejectIf(x -> x % 2 == 0).preserveIf(x -> x > 50);
+			Selection present = buffer.present();
+			for(int i = 0; i < 200; i++){
+				MaybeDouble maybe = expected.get(i).map(x -> x * 2).rejectIf(x -> x % 2 == 0).preserveIf(x -> x > 50);
+				assertEquals(maybe, buffer.get(i));
+				assertEquals(maybe instanceof MaybeDouble.Just, present.isSelected(i));
+			}
+
+			assertEquals(present.count(), buffer.count());
+			Selection large = buffer.satisfies(x -> x > 150);
+			assertEquals(present.andNot(buffer.satisfies(x -> x <= 150)), large);
+
+			List<Double> visited = new ArrayList<>();
+			buffer.whenPresentDo(visited::add);
+			assertEquals(Arrays.asList(53.0, 55.0, 59.0), visited.subList(0, 3));
+		}
+	}
+
+	@Test
+	@DisplayName("Refuses any use once closed")
+	void lifecycle(){
+		MaybeDoubleBuffer buffer = MaybeDoubleBuffer.allocate(10);
+		assertEquals(10 * Double.BYTES + Long.BYTES, buffer.directBytes());
+		buffer.add(1);
+		buffer.close();
+		assertEquals("MaybeDoubleBuffer{closed}", buffer.toString());
+		assertThrows(IllegalStateException.class, () -> buffer.get(0));
+		assertThrows(IllegalStateException.class, () -> buffer.set(5, 1));
+		assertThrows(IllegalStateException.class, () -> buffer.addNone());
+		assertThrows(IllegalStateException.class, buffer::count);
+	}
+}
@@ -0,0 +1,105 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Box.boxed;
+import static io.klbz.curie.MaybeDouble.just;
+import static io.klbz.curie.MaybeDouble.none;
+import static io.klbz.curie.Toggle.off;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaybeDouble")
+class MaybeDoubleTest {
+	//region Equality and Hashcode
+
+	@Test
+	@DisplayName("Just: Equality follows Double.equals")
+	void justEquality(){
+		assertEquals(just(0.5), just(0.5));
+		assertEquals(just(Double.NaN), just(Double.NaN));
+		assertNotEquals(just(0.0), just(-0.0));
+		assertNotEquals(just(0.5), none());
+	}
+
+	@Test
+	@DisplayName("Just: Hashes as the equivalent boxed Maybe does")
+	void justHashMatchesBoxed(){ assertEquals(Maybe.just(0.5).hashCode(), just(0.5).hashCode()); }
+
+	@Test
+	@DisplayName("None: Is a single shared instance")
+	void noneIsShared(){ assertSame(none(), none()); }
+
+	//endregion
+
+	//region Operations
+
+	@Test
+	@DisplayName("Map and flat-map transform present values and preserve none")
+	void mapAndFlatMap(){
+		assertEquals(just(1.5), just(0.5).map(x -> x + 1));
+		assertEquals(Maybe.just("0.5"), just(0.5).mapToObj(Double::toString));
+		assertEquals(just(0.25), just(0.5).flatMap(x -> just(x * x)));
+		assertSame(none(), none().map(x -> x + 1));
+		assertSame(none(), none().flatMap(MaybeDouble::just));
+	}
+
+	@Test
+	@DisplayName("Assume and collapse yield the value, or the fallback when none")
+	void assumeAndCollapse(){
+		assertEquals(0.5, just(0.5).assume());
+		assertEquals(0.5, just(0.5).collapse(1.5));
+		assertEquals(1.5, none().collapse(1.5));
+		assertEquals(1.5, none().collapse(() -> 1.5));
+		assertThrows(Maybe.ValueNotPresentException.class, () -> none().assume());
+	}
+
+	@Test
+	@DisplayName("Satisfaction, preservation and rejection test the present value")
+	void satisfaction(){
+		assertTrue(just(0.5).satisfies(x -> x < 1));
+		assertFalse(none().satisfies(x -> true));
+		assertEquals(just(0.5), just(0.5).preserveIf(x -> x < 1));
+		assertSame(none(), just(0.5).rejectIf(x -> x < 1));
+	}
+
+	@Test
+	@DisplayName("Side effects run for the matching case only")
+	void sideEffects(){
+		Box<Double> box = boxed(0.0);
+		Toggle toggle = off();
+		just(0.5).whenPresentDo(box::setValue).whenMissingDo(toggle::turnOn);
+		assertTrue(box.contains(0.5));
+		assertFalse(toggle.isOn());
+
+		none().whenPresentDo(box::setValue).whenMissingDo(toggle::turnOn);
+		assertTrue(toggle.isOn());
+	}
+
+	@Test
+	@DisplayName("Boxes to and unboxes from Maybe")
+	void conversion(){
+		assertEquals(Maybe.just(0.5), just(0.5).boxed());
+		assertEquals(just(0.5), MaybeDouble.from(Maybe.just(0.5)));
+		assertSame(none(), MaybeDouble.from(Maybe.none()));
+	}
+
+	//endregion
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Inspection never boxes, and mapping allocates only the new Just")
+	void operationsBudget(){
+		MaybeDouble x = just(0.5);
+
+		assertAllocatesAtMost(objects(1), () -> x.map(v -> v * 2));
+		assertAllocationFree(() -> x.preserveIf(v -> v > 1));
+		assertAllocationFree(() -> x.satisfies(v -> v < 1));
+		assertAllocationFree(() -> x.whenPresentDo(v -> {}));
+		assertAllocationFree(() -> none().map(v -> v * 2));
+	}
+
+	//endregion
+}
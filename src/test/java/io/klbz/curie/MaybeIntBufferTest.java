@@ -0,0 +1,90 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maybe Int Buffer")
+class MaybeIntBufferTest {
+	@Test
+	@DisplayName("Appends and replaces present and absent values")
+	void access(){
+		try(MaybeIntBuffer buffer = MaybeIntBuffer.allocate(4)){
+			buffer.add(1).addNone().add(MaybeInt.just(3)).add(MaybeInt.none());
+			assertEquals(4, buffer.size());
+			assertEquals(MaybeInt.just(1), buffer.get(0));
+			assertEquals(MaybeInt.none(), buffer.get(1));
+			assertEquals(2, buffer.count());
+
+			buffer.set(1, 0).setNone(0);
+			assertEquals(MaybeInt.none(), buffer.get(0));
+			assertEquals(MaybeInt.just(0), buffer.get(1));
+			assertFalse(buffer.isPresent(3));
+			assertThrows(IllegalStateException.class, () -> buffer.add(5));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+		}
+	}
+
+	@Test
+	@DisplayName("Bulk operations visit only present values, as those of each Maybe would")
+	void bulkOperations(){
+		try(MaybeIntBuffer buffer = MaybeIntBuffer.allocate(200)){
+			List<MaybeInt> expected = new ArrayList<>();
+			for(int i = 0; i < 200; i++){
+				MaybeInt maybe = i % 3 == 0 ? MaybeInt.none() : MaybeInt.just(i);
+				buffer.add(maybe);
+				expected.add(maybe);
+			}
+
+			buffer.update(x -> x * 2).rejectIf(x -> x % 4 == 0).preserveIf(x -> x > 100);
+			Selection present = buffer.present();
+			for(int i = 0; i < 200; i++){
+				MaybeInt maybe = expected.get(i).map(x -> x * 2).rejectIf(x -> x % 4 == 0).preserveIf(x -> x > 100);
+				assertEquals(maybe, buffer.get(i));
+				assertEquals(maybe instanceof MaybeInt.Just, present.isSelected(i));
+			}
+
+			assertEquals(present.count(), buffer.count());
+			Selection large = buffer.satisfies(x -> x > 300);
+			assertEquals(present.andNot(buffer.satisfies(x -> x <= 300)), large);
+
+			List<Integer> visited = new ArrayList<>();
+			buffer.whenPresentDo(visited::add);
+			assertEquals(Arrays.asList(106, 110, 118), visited.subList(0, 3));
+		}
+	}
+
+	@Test
+	@DisplayName("Keeps its memory until a bulk operation closing it returns")
+	void closedDuringBulkOperation(){
+		MaybeIntBuffer buffer = MaybeIntBuffer.allocate(100);
+		for(int i = 0; i < 100; i++) buffer.add(i);
+
+		List<Integer> visited = new ArrayList<>();
+		buffer.whenPresentDo(x -> {
+			if(x == 70) buffer.close();
+			visited.add(x);
+		});
+		assertEquals(100, visited.size());
+		assertTrue(buffer.isClosed());
+		assertThrows(IllegalStateException.class, () -> buffer.rejectIf(x -> true));
+		assertThrows(IllegalStateException.class, buffer::present);
+	}
+
+	@Test
+	@DisplayName("Refuses any use once closed")
+	void lifecycle(){
+		MaybeIntBuffer buffer = MaybeIntBuffer.allocate(10);
+		assertEquals(10 * Integer.BYTES + Long.BYTES, buffer.directBytes());
+		buffer.add(1);
+		buffer.close();
+		assertThrows(IllegalStateException.class, () -> buffer.get(0));
+		assertThrows(IllegalStateException.class, () -> buffer.set(5, 1));
+		assertThrows(IllegalStateException.class, buffer::count);
+	}
+}
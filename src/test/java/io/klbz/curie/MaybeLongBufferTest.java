@@ -0,0 +1,91 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Maybe Long Buffer")
+class MaybeLongBufferTest {
+	@Test
+	@DisplayName("Appends and replaces present and absent values")
+	void access(){
+		try(MaybeLongBuffer buffer = MaybeLongBuffer.allocate(4)){
+			buffer.add(1).addNone().add(MaybeLong.just(Long.MIN_VALUE)).add(MaybeLong.none());
+			assertEquals(4, buffer.size());
+			assertEquals(MaybeLong.just(1), buffer.get(0));
+			assertEquals(MaybeLong.none(), buffer.get(1));
+			assertEquals(MaybeLong.just(Long.MIN_VALUE), buffer.get(2));
+			assertEquals(2, buffer.count());
+
+			buffer.set(1, 0).setNone(0);
+			assertEquals(MaybeLong.none(), buffer.get(0));
+			assertEquals(MaybeLong.just(0), buffer.get(1));
+			assertFalse(buffer.isPresent(3));
+			assertThrows(IllegalStateException.class, () -> buffer.add(5));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(4));
+			assertThrows(IndexOutOfBoundsException.class, () -> buffer.setNone(-1));
+		}
+	}
+
+	@Test
+	@DisplayName("Stores, updates and filters present longs")
+	void operations(){
+		try(MaybeLongBuffer buffer = MaybeLongBuffer.allocate(3)){
+			buffer.add(1L << 40).addNone().add(MaybeLong.just(-5));
+			buffer.update(x -> x + 1).rejectIf(x -> x < 0);
+			assertEquals(MaybeLong.just((1L << 40) + 1), buffer.get(0));
+			assertEquals(MaybeLong.none(), buffer.get(1));
+			assertEquals(MaybeLong.none(), buffer.get(2));
+			assertEquals(1, buffer.count());
+		}
+	}
+
+	@Test
+	@DisplayName("Bulk operations visit only present values, as those of each Maybe would")
+	void bulkOperations(){
+		try(MaybeLongBuffer buffer = MaybeLongBuffer.allocate(200)){
+			List<MaybeLong> expected = new ArrayList<>();
+			for(int i = 0; i < 200; i++){
+				MaybeLong maybe = i % 3 == 0 ? MaybeLong.none() : MaybeLong.just((long) i << 32);
+				buffer.add(maybe);
+				expected.add(maybe);
+			}
+
+			buffer.update(x -> x * 2).rejectIf(x -> (x >>> 33) % 2 == 0).preserveIf(x -> x > 50L << 33);
+			Selection present = buffer.present();
+			for(int i = 0; i < 200; i++){
+				MaybeLong maybe = expected.get(i).map(x -> x * 2).rejectIf(x -> (x >>> 33) % 2 == 0)
+				                          .preserveIf(x -> x > 50L << 33);
+				assertEquals(maybe, buffer.get(i));
+				assertEquals(maybe instanceof MaybeLong.Just, present.isSelected(i));
+			}
+
+			assertEquals(present.count(), buffer.count());
+			Selection large = buffer.satisfies(x -> x > 150L << 33);
+			assertEquals(present.andNot(buffer.satisfies(x -> x <= 150L << 33)), large);
+
+			List<Long> visited = new ArrayList<>();
+			buffer.whenPresentDo(visited::add);
+			assertEquals(Arrays.asList(106L << 32, 110L << 32, 118L << 32), visited.subList(0, 3));
+		}
+	}
+
+	@Test
+	@DisplayName("Refuses any use once closed")
+	void lifecycle(){
+		MaybeLongBuffer buffer = MaybeLongBuffer.allocate(10);
+		assertEquals(10 * Long.BYTES + Long.BYTES, buffer.directBytes());
+		buffer.add(1);
+		buffer.close();
+		assertEquals("MaybeLongBuffer{closed}", buffer.toString());
+		assertThrows(IllegalStateException.class, () -> buffer.get(0));
+		assertThrows(IllegalStateException.class, () -> buffer.set(5, 1));
+		assertThrows(IllegalStateException.class, () -> buffer.addNone());
+		assertThrows(IllegalStateException.class, buffer::count);
+	}
+}
@@ -0,0 +1,198 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.LongFunction;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Box.boxed;
+import static io.klbz.curie.MaybeLong.just;
+import static io.klbz.curie.MaybeLong.none;
+import static io.klbz.curie.Toggle.off;
+import static io.klbz.curie.Toggle.on;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MaybeLong")
+class MaybeLongTest {
+	//region Equality and Hashcode
+
+	@Test
+	@DisplayName("Just: Equal to same, inside and outside the cached range")
+	void justSameEquality(){
+		assertEquals(just(5), just(5));
+		assertEquals(just(5_000_000_000L), just(5_000_000_000L));
+	}
+
+	@Test
+	@DisplayName("Just: Unequal to different value, none, null and boxed Maybe")
+	void justInequality(){
+		assertNotEquals(just(5), just(6));
+		assertNotEquals(just(5), none());
+		assertNotEquals(just(5), null);
+		assertNotEquals(just(5), Maybe.just(5L));
+	}
+
+	@Test
+	@DisplayName("Just: Hashes as the equivalent boxed Maybe does")
+	void justHashMatchesBoxed(){
+		assertEquals(Maybe.just(5_000L).hashCode(), just(5_000).hashCode());
+		assertEquals(Maybe.just(-7L).hashCode(), just(-7).hashCode());
+	}
+
+	@Test
+	@DisplayName("None: Is a single shared instance")
+	void noneIsShared(){ assertSame(none(), none()); }
+
+	//endregion
+
+	//region Map and Flat-Map
+
+	@Test
+	@DisplayName("Just: Map applies the operator")
+	void mapJust(){ assertEquals(just(5), just(4).map(x -> x + 1)); }
+
+	@Test
+	@DisplayName("None: Map remains none")
+	void mapNone(){ assertSame(none(), none().map(x -> x + 1)); }
+
+	@Test
+	@DisplayName("Just: Map to object wraps the result in a Maybe")
+	void mapToObjJust(){ assertEquals(Maybe.just("4"), just(4).mapToObj(Long::toString)); }
+
+	@Test
+	@DisplayName("None: Map to object is none")
+	void mapToObjNone(){ assertEquals(Maybe.none(), none().mapToObj(Long::toString)); }
+
+	@Test
+	@DisplayName("Just: Flat-map returns the transform's result")
+	void flatMapJust(){
+		assertEquals(just(5), just(4).flatMap(x -> just(x + 1)));
+		assertEquals(none(), just(4).flatMap(x -> none()));
+	}
+
+	@Test
+	@DisplayName("None: Flat-map remains none")
+	void flatMapNone(){ assertSame(none(), none().flatMap(x -> just(x + 1))); }
+
+	//endregion
+
+	//region Assume and Collapse
+
+	@Test
+	@DisplayName("Just: Assumption returns the value")
+	void justAssume(){
+		assertEquals(5L, just(5).assume());
+		assertEquals(5L, just(5).assume(IllegalStateException::new));
+	}
+
+	@Test
+	@DisplayName("None: Assumption throws")
+	void noneAssume(){
+		assertThrows(Maybe.ValueNotPresentException.class, () -> none().assume());
+		assertThrows(IllegalStateException.class, () -> none().assume(IllegalStateException::new));
+	}
+
+	@Test
+	@DisplayName("Collapse to own value, or to the default when none")
+	void collapse(){
+		assertEquals(5L, just(5).collapse(7));
+		assertEquals(5L, just(5).collapse(() -> 7));
+		assertEquals(7L, none().collapse(7));
+		assertEquals(7L, none().collapse(() -> 7));
+	}
+
+	//endregion
+
+	//region Satisfaction, Preservation and Rejection
+
+	@Test
+	@DisplayName("Just: Satisfies tests the value; none never satisfies")
+	void satisfies(){
+		assertTrue(just(5).satisfies(x -> x == 5));
+		assertFalse(just(5).satisfies(x -> x == 6));
+		assertFalse(none().satisfies(x -> true));
+	}
+
+	@Test
+	@DisplayName("Just: Preserves and rejects by the predicate; none remains none")
+	void preserveAndReject(){
+		assertEquals(just(5), just(5).preserveIf(x -> x == 5));
+		assertSame(none(), just(5).preserveIf(x -> x == 6));
+		assertSame(none(), just(5).rejectIf(x -> x == 5));
+		assertEquals(just(5), just(5).rejectIf(x -> x == 6));
+		assertSame(none(), none().preserveIf(x -> true));
+		assertSame(none(), none().rejectIf(x -> false));
+	}
+
+	//endregion
+
+	//region Side Effects
+
+	@Test
+	@DisplayName("Just: Runs present side effects only")
+	void justSideEffects(){
+		Box<Long> box = boxed(7L);
+		Toggle toggle = on();
+		just(5).whenPresentDo(box::setValue).whenMissingDo(toggle::turnOff);
+		assertTrue(box.contains(5L));
+		assertTrue(toggle.isOn());
+	}
+
+	@Test
+	@DisplayName("None: Runs missing side effects only")
+	void noneSideEffects(){
+		Box<Long> box = boxed(7L);
+		Toggle toggle = off();
+		none().whenPresentDo(box::setValue).whenMissingDo(toggle::turnOn);
+		assertTrue(box.contains(7L));
+		assertTrue(toggle.isOn());
+	}
+
+	//endregion
+
+	//region Conversion
+
+	@Test
+	@DisplayName("Boxes to and unboxes from Maybe")
+	void conversion(){
+		assertEquals(Maybe.just(5L), just(5).boxed());
+		assertEquals(Maybe.none(), none().boxed());
+		assertEquals(just(5), MaybeLong.from(Maybe.just(5L)));
+		assertSame(none(), MaybeLong.from(Maybe.none()));
+	}
+
+	//endregion
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Operations on cached values and none allocate nothing")
+	void cachedOperationsAllocateNothing(){
+		MaybeLong x = just(5);
+		MaybeLong y = none();
+		LongFunction<MaybeLong> toY = v -> y;
+
+		assertAllocationFree(() -> just(100));
+		assertAllocationFree(() -> x.map(v -> v + 1));
+		assertAllocationFree(() -> x.flatMap(toY));
+		assertAllocationFree(() -> (int) x.collapse(7));
+		assertAllocationFree(() -> x.preserveIf(v -> v == 6));
+		assertAllocationFree(() -> y.map(v -> v + 1));
+		assertAllocationFree(x::hashCode);
+	}
+
+	@Test
+	@DisplayName("Operations on uncached values allocate only the new Just, never a box")
+	void uncachedOperationsBudget(){
+		MaybeLong x = just(5_000);
+
+		assertAllocatesAtMost(objects(1), () -> just(5_000));
+		assertAllocatesAtMost(objects(1), () -> x.map(v -> v + 1));
+		assertAllocationFree(() -> (int) x.collapse(7));
+		assertAllocationFree(() -> x.satisfies(v -> v > 1_000));
+		assertAllocationFree(() -> x.whenPresentDo(v -> {}));
+	}
+
+	//endregion
+}
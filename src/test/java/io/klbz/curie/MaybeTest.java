@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
+import static io.klbz.curie.Allocations.*;
 import static io.klbz.curie.Box.boxed;
 import static io.klbz.curie.Maybe.just;
 import static io.klbz.curie.Maybe.none;
@@ -324,4 +325,104 @@ class MaybeTest {
 	void noneWhenMissingDoReturn(){ assertEquals(none(), none().whenMissingDo(() -> {})); }
 
 	//endregion
-}
\ No newline at end of file
+
+	//region Shared None
+
+	@Test
+	@DisplayName("None: Every none is the same instance")
+	void noneIsShared(){ assertSame(Maybe.<String>none(), Maybe.<Integer>none()); }
+
+	@Test
+	@DisplayName("None: Mapping, flat-mapping, preserving and rejecting return the shared none")
+	void noneOperationsReturnSharedNone(){
+		Maybe<Integer> x = none();
+
+		assertSame(x, x.map(y -> y + 1));
+		assertSame(x, x.flatMap(Maybe::just));
+		assertSame(x, x.preserveIf(y -> true));
+		assertSame(x, x.rejectIf(y -> false));
+	}
+
+	@Test
+	@DisplayName("Just: Failed preservation and successful rejection return the shared none")
+	void justMissesReturnSharedNone(){
+		assertSame(none(), just(5).preserveIf(x -> x == 6));
+		assertSame(none(), just(5).rejectIf(x -> x == 5));
+	}
+
+	@Test
+	@DisplayName("None: Producing and transforming none allocates nothing")
+	void noneOperationsAllocateNothing(){
+		Maybe<Integer> x = none();
+
+		assertAllocationFree(() -> Maybe.<Integer>none());
+		assertAllocationFree(() -> x.map(y -> y + 1));
+		assertAllocationFree(() -> x.flatMap(Maybe::just));
+		assertAllocationFree(() -> x.preserveIf(y -> y == 5));
+		assertAllocationFree(() -> x.rejectIf(y -> y == 5));
+	}
+
+	@Test
+	@DisplayName("Just: Failed preservation and successful rejection allocate nothing")
+	void justMissesAllocateNothing(){
+		Maybe<Integer> x = just(5);
+
+		assertAllocationFree(() -> x.preserveIf(y -> y == 6));
+		assertAllocationFree(() -> x.rejectIf(y -> y == 5));
+	}
+
+	//endregion
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Just: Construction and mapping allocate only the new Just")
+	void justConstructionAndMapBudget(){
+		Maybe<Integer> x = just(5);
+
+		assertAllocatesAtMost(objects(1), () -> just("five"));
+		assertAllocatesAtMost(objects(1), () -> x.map(y -> y + 1));
+	}
+
+	@Test
+	@DisplayName("Just: Inspection, flat-mapping to an existing Maybe and side effects allocate nothing")
+	void justInspectionAllocatesNothing(){
+		Maybe<Integer> x = just(5);
+		Maybe<Integer> y = just(6);
+		Function<Integer, Maybe<Integer>> toY = v -> y;
+
+		assertAllocationFree(() -> x.flatMap(toY));
+		assertAllocationFree(() -> x.collapse(7));
+		assertAllocationFree(() -> x.collapse(() -> 7));
+		assertAllocationFree(() -> x.satisfies(v -> v == 5));
+		assertAllocationFree(() -> x.preserveIf(v -> v == 5));
+		assertAllocationFree(() -> x.rejectIf(v -> v == 6));
+		assertAllocationFree(() -> x.whenPresentDo(v -> {}));
+		assertAllocationFree(() -> x.whenMissingDo(() -> {}));
+		assertAllocationFree(() -> x.assume());
+	}
+
+	@Test
+	@DisplayName("Just: Equality and hashing allocate nothing")
+	void justEqualityAllocatesNothing(){
+		Maybe<String> x = just("five");
+		Maybe<String> y = just("five");
+
+		assertAllocationFree(() -> x.equals(y));
+		assertAllocationFree(x::hashCode);
+	}
+
+	@Test
+	@DisplayName("None: Inspection and side effects allocate nothing")
+	void noneInspectionAllocatesNothing(){
+		Maybe<Integer> x = none();
+
+		assertAllocationFree(() -> x.collapse(7));
+		assertAllocationFree(() -> x.satisfies(v -> v == 5));
+		assertAllocationFree(() -> x.whenPresentDo(v -> {}));
+		assertAllocationFree(() -> x.whenMissingDo(() -> {}));
+		assertAllocationFree(x::hashCode);
+	}
+
+	//endregion
+}
@@ -0,0 +1,157 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.klbz.curie.MemoizedPredicate.Eviction.LRU;
+import static io.klbz.curie.MemoizedPredicate.Eviction.TINY_LFU;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Memoized Predicate")
+class MemoizedPredicateTest {
+	private final AtomicInteger      calls = new AtomicInteger();
+	private final Predicate<Integer> even  = x -> {
+		calls.incrementAndGet();
+		return x != null && x % 2 == 0;
+	};
+
+	private MemoizedPredicate<Integer> singleSegment(int maximumSize, MemoizedPredicate.Eviction eviction){
+		return new MemoizedPredicate<>(even, maximumSize, eviction, null, 1, System::nanoTime);
+	}
+
+	@Test
+	@DisplayName("Repeated inputs are answered from memory, including null")
+	void remembersAnswers(){
+		MemoizedPredicate<Integer> memoized = even.memoize(100);
+
+		for(int round = 0; round < 3; round++){
+			for(int x = 0; x < 10; x++) assertEquals(x % 2 == 0, memoized.test(x));
+			assertFalse(memoized.test(null));
+		}
+
+		assertEquals(11, calls.get());
+		assertEquals(22, memoized.stats().hits());
+		assertEquals(11, memoized.stats().misses());
+		assertEquals(2.0 / 3, memoized.stats().hitRate(), 1e-9);
+		assertEquals(11, memoized.size());
+	}
+
+	@Test
+	@DisplayName("LRU eviction forgets the least recently used input")
+	void lruEviction(){
+		MemoizedPredicate<Integer> memoized = singleSegment(3, LRU);
+		memoized.test(1);
+		memoized.test(2);
+		memoized.test(3);
+		memoized.test(1);
+		memoized.test(4);
+		calls.set(0);
+
+		memoized.test(1);
+		memoized.test(3);
+		memoized.test(4);
+		assertEquals(0, calls.get());
+		memoized.test(2);
+		assertEquals(1, calls.get());
+		assertEquals(2, memoized.stats().evictions());
+	}
+
+	@Test
+	@DisplayName("TinyLFU admission keeps frequently repeated inputs through a scan of one-off inputs")
+	void tinyLfuResistsScans(){
+		MemoizedPredicate<Integer> tinyLfu = singleSegment(200, TINY_LFU);
+		MemoizedPredicate<Integer> lru = singleSegment(200, LRU);
+
+		for(MemoizedPredicate<Integer> memoized : Arrays.asList(tinyLfu, lru)){
+			for(int round = 0; round < 5; round++){
+				for(int hot = 0; hot < 100; hot++) memoized.test(hot);
+			}
+			for(int cold = 1_000; cold < 10_000; cold++) memoized.test(cold);
+		}
+
+		calls.set(0);
+		for(int hot = 0; hot < 100; hot++) tinyLfu.test(hot);
+		assertTrue(calls.get() < 10, calls.get() + " hot inputs forgotten by TinyLFU");
+
+		calls.set(0);
+		for(int hot = 0; hot < 100; hot++) lru.test(hot);
+		assertEquals(100, calls.get());
+	}
+
+	@Test
+	@DisplayName("The cache never holds more than its maximum size")
+	void bounded(){
+		for(MemoizedPredicate.Eviction eviction : MemoizedPredicate.Eviction.values()){
+			for(int maximumSize : new int[]{ 1, 2, 7, 1_000 }){
+				MemoizedPredicate<Integer> memoized = even.memoize(maximumSize, eviction);
+				for(int x = 0; x < 5_000; x++){
+					assertEquals(x % 2 == 0, memoized.test(x % 3_000));
+					assertTrue(memoized.size() <= maximumSize, eviction + " over " + maximumSize);
+				}
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Answers expire the given time after they were computed")
+	void expiry(){
+		AtomicLong now = new AtomicLong();
+		MemoizedPredicate<Integer> memoized =
+				new MemoizedPredicate<>(even, 10, LRU, Duration.ofSeconds(5), 1, now::get);
+
+		memoized.test(1);
+		now.addAndGet(Duration.ofSeconds(4).toNanos());
+		memoized.test(1);
+		assertEquals(1, calls.get());
+
+		now.addAndGet(Duration.ofSeconds(1).toNanos());
+		memoized.test(1);
+		assertEquals(2, calls.get());
+		assertEquals(0, memoized.stats().evictions());
+	}
+
+	@Test
+	@DisplayName("Concurrent tests agree with the base predicate")
+	void concurrentUse() throws Exception{
+		MemoizedPredicate<Integer> memoized = even.memoize(500, TINY_LFU);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try{
+			List<Future<Boolean>> results = new ArrayList<>();
+			for(int thread = 0; thread < 4; thread++){
+				int seed = thread;
+				results.add(executor.submit(() -> {
+					boolean agreed = true;
+					for(int i = 0; i < 20_000; i++){
+						int x = (i * 31 + seed) % 2_000;
+						agreed &= memoized.test(x) == (x % 2 == 0);
+					}
+					return agreed;
+				}));
+			}
+			for(Future<Boolean> result : results) assertTrue(result.get());
+		}
+		finally{
+			executor.shutdownNow();
+		}
+		assertTrue(memoized.size() <= 500);
+		assertEquals(80_000, memoized.stats().requests());
+	}
+
+	@Test
+	@DisplayName("Sizes and expiries must be positive")
+	void invalidArguments(){
+		assertThrows(IllegalArgumentException.class, () -> even.memoize(0));
+		assertThrows(IllegalArgumentException.class, () -> even.memoize(10, LRU, Duration.ZERO));
+		assertThrows(NullPointerException.class, () -> even.memoize(10, null));
+	}
+}
@@ -0,0 +1,62 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.Allocations.*;
+import static io.klbz.curie.Box.boxed;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ObjIntPair")
+class ObjIntPairTest {
+	private static final ObjIntPair<String> pair = ObjIntPair.of("seven", 7);
+
+	@Test
+	@DisplayName("Equal to same and hashes as the equivalent boxed pair does")
+	void equalityAndHash(){
+		assertEquals(pair, ObjIntPair.of("seven", 7));
+		assertNotEquals(pair, ObjIntPair.of("seven", 8));
+		assertNotEquals(pair, ObjIntPair.of("eight", 7));
+		assertEquals(Pair.of("seven", 7).hashCode(), pair.hashCode());
+	}
+
+	@Test
+	@DisplayName("Maps each element, including across specializations")
+	void map(){
+		assertEquals(ObjIntPair.of(5, 7), pair.mapFirst(String::length));
+		assertEquals(ObjIntPair.of("seven", 8), pair.mapSecond(x -> x + 1));
+		assertEquals(IntPair.of(5, 7), pair.mapFirstToInt(String::length));
+		assertEquals(Pair.of("seven", "7"), pair.mapSecondToObj(Integer::toString));
+	}
+
+	@Test
+	@DisplayName("Collapses, tests and boxes both elements")
+	void collapseSatisfyAndBox(){
+		assertEquals("seven=7", pair.collapse((f, s) -> f + "=" + s));
+		assertTrue(pair.satisfies((f, s) -> f.length() < s));
+		assertEquals(Pair.of("seven", 7), pair.boxed());
+	}
+
+	@Test
+	@DisplayName("Focuses on either element and back")
+	void focus(){
+		assertEquals("seven", pair.focusFirst().isolate());
+		assertEquals(ObjIntPair.of("seven", 14), pair.focusSecond().map(x -> x * 2).unfocus());
+		assertEquals(pair, pair.focusFirst());
+	}
+
+	@Test
+	@DisplayName("Runs side effects on both elements")
+	void sideEffects(){
+		Box<String> box = boxed("");
+		pair.withBothDo((f, s) -> box.setValue(f + s));
+		assertTrue(box.contains("seven7"));
+	}
+
+	@Test
+	@DisplayName("Inspection allocates nothing")
+	void budgets(){
+		assertAllocationFree(() -> pair.satisfies((f, s) -> s > 0));
+		assertAllocationFree(pair::hashCode);
+	}
+}
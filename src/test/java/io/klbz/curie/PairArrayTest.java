@@ -0,0 +1,164 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Pair Array")
+class PairArrayTest {
+	private static final List<Pair<String, Integer>> pairs = Arrays.asList(
+			Pair.of("a", 1),
+			Pair.of("bb", 2),
+			Pair.of(null, 3),
+			Pair.of("dddd", null));
+
+	private static final PairArray<String, Integer> array = PairArray.of(pairs);
+
+	//region Construction
+
+	@Test
+	@DisplayName("Holds the pairs it was built from, in order")
+	void holdsPairs(){
+		assertEquals(4, array.size());
+		assertEquals(pairs, array.asList());
+		assertEquals(Pair.of(null, 3), array.get(2));
+		assertEquals("bb", array.first(1));
+		assertNull(array.second(3));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.get(4));
+		assertThrows(IndexOutOfBoundsException.class, () -> array.first(-1));
+	}
+
+	@Test
+	@DisplayName("Builders, zips and primitive columns build equal arrays")
+	void constructions(){
+		PairArray.Builder<String, Integer> builder = PairArray.builder();
+		for(Pair<String, Integer> pair : pairs) builder.add(pair);
+		assertEquals(array, builder.build());
+		assertEquals(array, PairArray.zip(Arrays.asList("a", "bb", null, "dddd"), Arrays.asList(1, 2, 3, null)));
+
+		PairArray<Integer, Integer> ints = PairArray.ofInts(new int[]{ 1, 2 }, new int[]{ 3, 4 });
+		assertEquals(PairArray.of(Arrays.asList(Pair.of(1, 3), Pair.of(2, 4))), ints);
+		assertEquals(Pair.of(2L, 4L), PairArray.ofLongs(new long[]{ 1, 2 }, new long[]{ 3, 4 }).get(1));
+		PairArray<Double, Double> doubles = PairArray.ofDoubles(new double[]{ -0.0 }, new double[]{ Double.NaN });
+		assertEquals(Pair.of(-0.0, Double.NaN), doubles.get(0));
+
+		assertThrows(IllegalArgumentException.class, () -> PairArray.ofInts(new int[1], new int[2]));
+		assertTrue(PairArray.empty().isEmpty());
+	}
+
+	@Test
+	@DisplayName("A builder keeps adding after building without changing what it built")
+	void builderReuse(){
+		PairArray.Builder<String, String> builder = PairArray.builder();
+		for(int i = 0; i < 16; i++) builder.add("first" + i, "second" + i);
+		PairArray<String, String> built = builder.build();
+		builder.add("more", "more");
+
+		assertEquals(16, built.size());
+		assertEquals(17, builder.build().size());
+		assertEquals(Pair.of("first15", "second15"), built.get(15));
+	}
+
+	@Test
+	@DisplayName("Columns of mixed types are kept as references")
+	void mixedColumns(){
+		PairArray<Object, Number> mixed = PairArray.zip(Arrays.asList(1, 1L, 1.0), Arrays.<Number>asList(1, 2, 3.0));
+		assertEquals(Arrays.asList(1, 1L, 1.0), mixed.firsts());
+		assertEquals(Double.class, mixed.second(2).getClass());
+		assertEquals(Integer.class, mixed.second(0).getClass());
+	}
+
+	//endregion
+
+	//region Bulk operations
+
+	@Test
+	@DisplayName("Mapping a column maps each of its components and keeps the other column")
+	void mapsColumns(){
+		PairArray<Integer, Integer> lengths = array.mapFirst(s -> s == null ? 0 : s.length());
+		assertEquals(Arrays.asList(1, 2, 0, 4), lengths.firsts());
+		assertEquals(array.seconds(), lengths.seconds());
+
+		PairArray<String, String> strings = array.mapSecond(String::valueOf);
+		assertEquals(Arrays.asList("1", "2", "3", "null"), strings.seconds());
+		assertEquals(array.firsts(), strings.firsts());
+	}
+
+	@Test
+	@DisplayName("Bulk operations agree with those of each pair")
+	void agreesWithPairs(){
+		assertEquals(pairs.stream().map(p -> p.collapse((f, s) -> f + s)).collect(Collectors.toList()),
+		             array.collapse((f, s) -> f + s));
+
+		Selection selection = array.satisfies((f, s) -> f != null && s != null);
+		assertArrayEquals(new int[]{ 0, 1 }, selection.indexes());
+		assertEquals(4, selection.size());
+
+		List<String> visited = new ArrayList<>();
+		assertSame(array, array.withBothDo((f, s) -> visited.add(f + "=" + s)));
+		assertEquals(Arrays.asList("a=1", "bb=2", "null=3", "dddd=null"), visited);
+	}
+
+	@Test
+	@DisplayName("Selections span several words")
+	void largeSelections(){
+		int[] values = IntStream.range(0, 200).toArray();
+		PairArray<Integer, Integer> squares = PairArray.ofInts(values, values).mapSecond(x -> x * x);
+		Selection selection = squares.satisfies((x, square) -> square % 3 == 0);
+		assertEquals(67, selection.count());
+		assertTrue(selection.isSelected(198));
+	}
+
+	//endregion
+
+	//region Iteration
+
+	@Test
+	@DisplayName("Iterates and streams its pairs in order")
+	void iterates(){
+		List<Pair<String, Integer>> iterated = new ArrayList<>();
+		for(Pair<String, Integer> pair : array) iterated.add(pair);
+		assertEquals(pairs, iterated);
+		assertEquals(pairs, array.stream().collect(Collectors.toList()));
+	}
+
+	@Test
+	@DisplayName("Splits for parallel streams without losing or reordering pairs")
+	void splits(){
+		int[] values = IntStream.range(0, 10_000).toArray();
+		PairArray<Integer, Integer> large = PairArray.ofInts(values, values);
+
+		Spliterator<Pair<Integer, Integer>> whole = large.spliterator();
+		Spliterator<Pair<Integer, Integer>> prefix = whole.trySplit();
+		assertEquals(5_000, prefix.estimateSize());
+		assertEquals(5_000, whole.estimateSize());
+		assertTrue(whole.hasCharacteristics(Spliterator.SUBSIZED));
+
+		assertEquals(large.asList(), large.parallelStream().collect(Collectors.toList()));
+		long sum = large.parallelStream().mapToLong(p -> p.isolateFirst() + p.isolateSecond()).sum();
+		assertEquals(10_000L * 9_999, sum);
+	}
+
+	//endregion
+
+	//region Equality
+
+	@Test
+	@DisplayName("Equal arrays have the hash of the list of their pairs")
+	void equality(){
+		assertEquals(PairArray.of(pairs), array);
+		assertEquals(pairs.hashCode(), array.hashCode());
+		assertNotEquals(array.mapSecond(x -> x), array.mapFirst(x -> x + "!"));
+		assertEquals("PairArray[Pair{a,1}, Pair{bb,2}, Pair{null,3}, Pair{dddd,null}]", array.toString());
+	}
+
+	//endregion
+}
@@ -3,6 +3,7 @@ package io.klbz.curie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static io.klbz.curie.Allocations.*;
 import static io.klbz.curie.Box.boxed;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -204,4 +205,35 @@ class PairTest {
 	void bothSideEffectMutatesNothing(){ assertEquals(pair, pair.withBothDo((f, s) -> {})); }
 
 	//endregion
-}
\ No newline at end of file
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Construction, replacement and mapping allocate only the new pair")
+	void constructionAndMapBudget(){
+		assertAllocatesAtMost(objects(1), () -> Pair.of(first, second));
+		assertAllocatesAtMost(objects(1), () -> pair.replaceFirst(second));
+		assertAllocatesAtMost(objects(1), () -> pair.mapFirst(String::trim));
+		assertAllocatesAtMost(objects(1), () -> pair.mapSecond(x -> x + 1));
+	}
+
+	@Test
+	@DisplayName("Isolation, collapse, satisfaction and side effects allocate nothing")
+	void inspectionAllocatesNothing(){
+		assertAllocationFree(pair::isolateFirst);
+		assertAllocationFree(() -> pair.collapse((f, s) -> f));
+		assertAllocationFree(() -> pair.satisfies((f, s) -> s == 5));
+		assertAllocationFree(() -> pair.withFirstDo(f -> {}).withSecondDo(s -> {}).withBothDo((f, s) -> {}));
+	}
+
+	@Test
+	@DisplayName("Equality and hashing allocate nothing")
+	void equalityAllocatesNothing(){
+		Pair<String, Integer> same = Pair.of(first, second);
+
+		assertAllocationFree(() -> pair.equals(same));
+		assertAllocationFree(pair::hashCode);
+	}
+
+	//endregion
+}
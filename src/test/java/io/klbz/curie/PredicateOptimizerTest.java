@@ -0,0 +1,144 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.klbz.curie.Predicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Predicate Optimizer")
+class PredicateOptimizerTest {
+	private static final Predicate<Integer> positive = x -> x > 0;
+	private static final Predicate<Integer> even     = x -> x % 2 == 0;
+	private static final Predicate<Integer> small    = x -> x < 100;
+
+	private static void assertEquivalent(Predicate<Integer> expected, Predicate<Integer> actual){
+		for(int x = -200; x <= 200; x++) assertEquals(expected.test(x), actual.test(x), "at " + x);
+	}
+
+	//region Constant Folding
+
+	@Test
+	@DisplayName("A false clause folds a conjunction to false, a true clause a disjunction to true")
+	void decidingConstantsFold(){
+		assertSame(everFalse(), positive.and(everFalse()).optimize());
+		assertSame(everTrue(), positive.or(everTrue()).optimize());
+	}
+
+	@Test
+	@DisplayName("Neutral constants are dropped")
+	void neutralConstantsDrop(){
+		assertSame(positive, allOf(everTrue(), positive, everTrue()).optimize());
+		assertSame(positive, anyOf(everFalse(), positive).optimize());
+		assertSame(everTrue(), Predicate.<Integer>allOf().optimize());
+		assertSame(everFalse(), Predicate.<Integer>anyOf(everFalse()).optimize());
+	}
+
+	@Test
+	@DisplayName("Constants fold through negation and xor")
+	void constantsFoldThroughNegationAndXor(){
+		assertSame(everFalse(), positive.and(everTrue().negate()).optimize());
+		assertSame(positive, positive.xor(everFalse()).optimize());
+		assertEquivalent(positive.negate(), positive.xor(everTrue()).optimize());
+	}
+
+	//endregion
+
+	//region Negation
+
+	@Test
+	@DisplayName("Double negation cancels on construction and on optimization")
+	void doubleNegationCancels(){
+		assertSame(positive, positive.negate().negate());
+		assertSame(positive, isNot(isNot(positive)));
+		assertSame(positive, noneOf(positive.negate()).optimize());
+	}
+
+	@Test
+	@DisplayName("Complementary clauses decide their junction")
+	void complementaryClauses(){
+		assertSame(everFalse(), allOf(positive, even, positive.negate()).optimize());
+		assertSame(everTrue(), anyOf(even.negate(), small, even).optimize());
+		assertSame(everFalse(), even.xor(even).optimize());
+		assertSame(everTrue(), even.xor(even.negate()).optimize());
+	}
+
+	//endregion
+
+	//region Deduplication and Flattening
+
+	@Test
+	@DisplayName("Repeated clauses are evaluated once")
+	void repeatedClausesDeduplicated(){
+		AtomicInteger evaluations = new AtomicInteger();
+		Predicate<Integer> counted = x -> evaluations.incrementAndGet() > 0;
+
+		Predicate<Integer> optimized = allOf(counted, positive, counted).and(counted).optimize();
+		optimized.test(1);
+
+		assertEquals(1, evaluations.get());
+	}
+
+	@Test
+	@DisplayName("Structurally equal clauses are recognized as repeats")
+	void structuralDeduplication(){
+		Predicate<Integer> optimized = anyOf(isEqual(3), even.negate(), isEqual(3), even.negate()).optimize();
+
+		assertEquals(anyOf(isEqual(3), even.negate()), optimized);
+	}
+
+	@Test
+	@DisplayName("Junctions nested inside negations and xors are flattened")
+	void nestedJunctionsFlatten(){
+		Predicate<Integer> nested = allOf(positive, anyOf(even, anyOf(small, isNot(isNot(even)))).negate().negate());
+
+		assertEquals(allOf(positive, anyOf(even, small)), nested.optimize());
+	}
+
+	//endregion
+
+	//region Equivalence
+
+	@Test
+	@DisplayName("Optimized predicates agree with the originals")
+	void optimizedAgrees(){
+		Predicate<Integer> rule = allOf(everTrue(), positive, anyOf(even, everFalse(), small.negate().negate()))
+				.or(isNot(small).xor(even).xor(everFalse()))
+				.and(allOf(positive, positive).negate().negate())
+				.or(noneOf(everTrue(), even));
+
+		assertEquivalent(rule, rule.optimize());
+	}
+
+	@Test
+	@DisplayName("Large generated rule sets perform fewer checks once optimized")
+	void generatedRulesPerformFewerChecks(){
+		AtomicInteger checks = new AtomicInteger();
+		@SuppressWarnings("unchecked")
+		Predicate<Integer>[] leaves = (Predicate<Integer>[]) new Predicate<?>[8];
+		for(int i = 0; i < leaves.length; i++){
+			int modulus = i + 2;
+			leaves[i] = x -> {
+				checks.incrementAndGet();
+				return x % modulus != 0;
+			};
+		}
+
+		Predicate<Integer> rule = everTrue();
+		for(int i = 0; i < 200; i++){
+			rule = rule.and(anyOf(leaves[i % leaves.length], everFalse()).negate().negate());
+		}
+		Predicate<Integer> optimized = rule.optimize();
+
+		for(int x = 0; x < 1_000; x++) rule.test(x);
+		int unoptimizedChecks = checks.getAndSet(0);
+		for(int x = 0; x < 1_000; x++) optimized.test(x);
+
+		assertTrue(checks.get() < unoptimizedChecks, checks.get() + " vs " + unoptimizedChecks);
+		assertEquivalent(rule, optimized);
+	}
+
+	//endregion
+}
@@ -3,10 +3,13 @@ package io.klbz.curie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
+import static io.klbz.curie.Allocations.*;
 import static io.klbz.curie.Predicate.*;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertSame;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static io.klbz.curie.Toggle.off;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
 
 @DisplayName("Predicate")
 class PredicateTest {
@@ -217,6 +220,176 @@ class PredicateTest {
 
 	//endregion
 
+	//region Membership
+
+	@Test
+	@DisplayName("isIn matches exactly the given values")
+	void isInMatchesValues(){
+		Predicate<String> isIn = isIn(asList("a", "b", "c"));
+
+		assertTrue(isIn.test("b"));
+		assertTrue(isIn.test(new String("c")));
+		assertFalse(isIn.test("d"));
+		assertFalse(isIn.test(null));
+		assertTrue(isIn("a", null).test(null));
+		assertFalse(isIn().test("a"));
+	}
+
+	@Test
+	@DisplayName("isIn indexes enum constants and identity-equal values")
+	void isInIndexes(){
+		Predicate<Object> units = isIn(TimeUnit.SECONDS, TimeUnit.MINUTES);
+		assertTrue(units.test(TimeUnit.SECONDS));
+		assertFalse(units.test(TimeUnit.HOURS));
+		assertFalse(units.test("SECONDS"));
+
+		Object token = new Object();
+		Predicate<Object> tokens = isIn(token, new Object());
+		assertTrue(tokens.test(token));
+		assertFalse(tokens.test(new Object()));
+	}
+
+	@Test
+	@DisplayName("anyOf indexes runs of isEqual clauses as a single isIn")
+	void anyOfIndexesEqualities(){
+		Predicate<String> allowed = anyOf(isEqual("a"), isEqual("b"), isEqual("c"), isEqual("d"), isEqual(null));
+
+		assertEquals(1, ((Predicate.AnyOf<String>) allowed).clauses().length);
+		assertTrue(((Predicate.AnyOf<String>) allowed).clauses()[0] instanceof Predicate.IsIn);
+		assertTrue(allowed.test("c"));
+		assertTrue(allowed.test(null));
+		assertFalse(allowed.test("e"));
+		assertTrue(noneOf(isEqual("a"), isEqual("b"), isEqual("c"), isEqual("d")).test("e"));
+	}
+
+	@Test
+	@DisplayName("Chained or extends an existing index")
+	void chainedOrExtendsIndex(){
+		Predicate<String> allowed = Predicate.<String>isIn("a", "b").or(isEqual("c")).or(isEqual("d"));
+
+		assertEquals(1, ((Predicate.AnyOf<String>) allowed).clauses().length);
+		assertTrue(allowed.test("d"));
+	}
+
+	@Test
+	@DisplayName("anyOf only merges adjacent equalities, keeping other clauses in place")
+	void anyOfKeepsClauseOrder(){
+		Predicate<Integer> between = x -> x > 100;
+		Predicate<Integer> mixed = anyOf(
+				isEqual(1), isEqual(2), isEqual(3), isEqual(4),
+				between,
+				isEqual(5), isEqual(6));
+
+		java.util.function.Predicate<? super Integer>[] clauses = ((Predicate.AnyOf<Integer>) mixed).clauses();
+		assertEquals(4, clauses.length);
+		assertTrue(clauses[0] instanceof Predicate.IsIn);
+		assertSame(between, clauses[1]);
+		assertTrue(mixed.test(6));
+		assertFalse(mixed.test(7));
+	}
+
+	@Test
+	@DisplayName("optimize gathers every equality of a disjunction into one index")
+	void optimizeGathersEqualities(){
+		Predicate<Integer> between = x -> x > 100;
+		Predicate<Integer> optimized = anyOf(isEqual(1), between, isEqual(2), isEqual(3), isEqual(4)).optimize();
+
+		java.util.function.Predicate<? super Integer>[] clauses = ((Predicate.AnyOf<Integer>) optimized).clauses();
+		assertEquals(2, clauses.length);
+		assertTrue(clauses[0] instanceof Predicate.IsIn);
+		assertSame(between, clauses[1]);
+	}
+
+	//endregion
+
+	//region Composites
+
+	@Test
+	@DisplayName("allOf and anyOf build flat composites")
+	void aggregatesAreFlat(){
+		assertTrue(allOf((String x) -> x.isEmpty(), (String x) -> x.length() < 3) instanceof Predicate.AllOf);
+		assertTrue(anyOf((String x) -> x.isEmpty(), (String x) -> x.length() < 3) instanceof Predicate.AnyOf);
+	}
+
+	@Test
+	@DisplayName("Chained and/or calls extend a composite rather than nesting it")
+	void chainsExtendComposites(){
+		Predicate<String> chainedAnd = is((String x) -> x.contains("x")).and(x -> x.length() == 2).and(x -> true);
+		Predicate<String> chainedOr = Predicate.<String>anyOf("x"::equals).or("y"::equals).or(anyOf("z"::equals));
+
+		assertTrue(chainedAnd instanceof Predicate.AllOf);
+		assertTrue(chainedOr instanceof Predicate.AnyOf);
+		assertTrue(chainedAnd.test("xy"));
+		assertFalse(chainedAnd.test("xyz"));
+		assertTrue(chainedOr.test("z"));
+		assertFalse(chainedOr.test("w"));
+	}
+
+	@Test
+	@DisplayName("Composites short-circuit on the first deciding clause")
+	void compositesShortCircuit(){
+		Toggle reachedAll = off();
+		Toggle reachedAny = off();
+
+		assertFalse(allOf(everFalse(), x -> {
+			reachedAll.turnOn();
+			return true;
+		}).test("x"));
+		assertTrue(anyOf(everTrue(), x -> {
+			reachedAny.turnOn();
+			return false;
+		}).test("x"));
+
+		assertFalse(reachedAll.isOn());
+		assertFalse(reachedAny.isOn());
+	}
+
+	@Test
+	@DisplayName("Very large rules evaluate without deep recursion")
+	@SuppressWarnings("unchecked")
+	void largeRulesDoNotRecurse(){
+		java.util.function.Predicate<Integer>[] atLeast =
+				(java.util.function.Predicate<Integer>[]) new java.util.function.Predicate<?>[100_000];
+		java.util.function.Predicate<Integer>[] equalTo =
+				(java.util.function.Predicate<Integer>[]) new java.util.function.Predicate<?>[100_000];
+		for(int i = 0; i < atLeast.length; i++){
+			int bound = i;
+			atLeast[i] = x -> x >= bound;
+			equalTo[i] = x -> x == bound;
+		}
+
+		assertTrue(allOf(atLeast).test(100_000));
+		assertFalse(allOf(atLeast).test(99_998));
+		assertTrue(anyOf(equalTo).test(99_999));
+		assertFalse(anyOf(equalTo).test(-1));
+	}
+
+	@Test
+	@DisplayName("Long chains of and/or evaluate without deep recursion")
+	void longChainsDoNotRecurse(){
+		Predicate<Integer> all = everTrue();
+		Predicate<Integer> any = everFalse();
+		for(int i = 0; i < 2_000; i++){
+			int bound = i;
+			all = all.and(x -> x >= bound);
+			any = any.or(x -> x == bound);
+		}
+
+		assertTrue(all.test(2_000));
+		assertFalse(all.test(1_998));
+		assertTrue(any.test(1_999));
+		assertFalse(any.test(-1));
+	}
+
+	@Test
+	@DisplayName("Composites reject null clauses up front")
+	void compositesRejectNulls(){
+		assertThrows(NullPointerException.class, () -> allOf(everTrue(), null));
+		assertThrows(NullPointerException.class, () -> everTrue().or(null));
+	}
+
+	//endregion
+
 	//region Adaptation
 
 	@Test
@@ -237,4 +410,28 @@ class PredicateTest {
 	}
 
 	//endregion
-}
\ No newline at end of file
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Testing composed predicates allocates nothing")
+	void composedTestAllocatesNothing(){
+		Predicate<String> composed = allOf((String x) -> x.contains("x"), (String x) -> x.length() == 2)
+				.or(isEqual("y"))
+				.xor(everFalse())
+				.negate();
+
+		assertAllocationFree(() -> composed.test("xy"));
+		assertAllocationFree(() -> composed.test(""));
+	}
+
+	@Test
+	@DisplayName("Satisfying allocates only the satisfaction")
+	void satisfyBudget(){
+		Predicate<String> p = isEqual("x");
+
+		assertAllocatesAtMost(objects(1), () -> p.satisfy("x"));
+	}
+
+	//endregion
+}
@@ -0,0 +1,145 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Profiled Predicate")
+class ProfiledPredicateTest {
+	private final Predicate<Integer> positive = x -> x > 0;
+	private final Predicate<Integer> even     = x -> x % 2 == 0;
+	private final Predicate<Integer> small    = x -> x < 10;
+
+	@Test
+	@DisplayName("A leaf counts its tests and passes")
+	void countsLeaf(){
+		ProfiledPredicate<Integer> profiled = even.profile("even");
+		for(int x = 0; x < 10; x++) assertEquals(x % 2 == 0, profiled.test(x));
+
+		ProfiledPredicate.Snapshot snapshot = profiled.snapshot();
+		assertEquals("even", snapshot.name());
+		assertEquals("lambda", snapshot.kind());
+		assertEquals(10, snapshot.invocations());
+		assertEquals(5, snapshot.passes());
+		assertEquals(5, snapshot.failures());
+		assertEquals(0.5, snapshot.passRatio(), 1e-9);
+		assertTrue(snapshot.children().isEmpty());
+	}
+
+	@Test
+	@DisplayName("Clauses are named after their position and counted as they are short-circuited")
+	void clauseTree(){
+		ProfiledPredicate<Integer> profiled = positive.and(even.or(small)).profile("rule");
+		for(int x = -5; x < 15; x++) assertEquals(x > 0 && (x % 2 == 0 || x < 10), profiled.test(x));
+
+		ProfiledPredicate.Snapshot rule = profiled.snapshot();
+		assertEquals("allOf", rule.kind());
+		assertEquals(20, rule.invocations());
+		assertEquals(12, rule.passes());
+
+		List<ProfiledPredicate.Snapshot> clauses = rule.children();
+		assertEquals(2, clauses.size());
+		assertEquals("rule.0", clauses.get(0).name());
+		assertEquals(20, clauses.get(0).invocations());
+		assertEquals(14, clauses.get(0).passes());
+
+		ProfiledPredicate.Snapshot either = clauses.get(1);
+		assertEquals("rule.1", either.name());
+		assertEquals("anyOf", either.kind());
+		assertEquals(14, either.invocations());
+		assertEquals("rule.1.0", either.children().get(0).name());
+		assertEquals(14, either.children().get(0).invocations());
+		assertEquals(7, either.children().get(0).passes());
+		assertEquals("rule.1.1", either.children().get(1).name());
+		assertEquals(7, either.children().get(1).invocations());
+		assertEquals(5, either.children().get(1).passes());
+	}
+
+	@Test
+	@DisplayName("Negations and xors are probed through")
+	void negationAndXor(){
+		ProfiledPredicate<Integer> profiled = even.negate().xor(small).profile("rule");
+		for(int x = 0; x < 20; x++) assertEquals((x % 2 != 0) ^ (x < 10), profiled.test(x));
+
+		ProfiledPredicate.Snapshot rule = profiled.snapshot();
+		assertEquals("xor", rule.kind());
+		assertEquals("not", rule.children().get(0).kind());
+		assertEquals(20, rule.children().get(0).children().get(0).invocations());
+		assertEquals("rule.0.0", rule.children().get(0).children().get(0).name());
+		assertEquals(20, rule.children().get(1).invocations());
+		assertEquals(10, rule.children().get(1).passes());
+	}
+
+	@Test
+	@DisplayName("A clause profiled already keeps its own probe and name")
+	void keepsExistingProbes(){
+		ProfiledPredicate<Integer> inner = even.profile("even");
+		ProfiledPredicate<Integer> outer = positive.and(inner).profile("rule");
+		outer.test(2);
+		outer.test(-2);
+
+		assertEquals("even", outer.snapshot().children().get(1).name());
+		assertEquals(1, inner.snapshot().invocations());
+		assertSame(inner, ProfiledPredicate.instrument("other", inner));
+	}
+
+	@Test
+	@DisplayName("Tests are only timed when sampling is on")
+	void sampling(){
+		ProfiledPredicate<Integer> unsampled = even.profile("even");
+		ProfiledPredicate<Integer> everyTest = even.profile("even", 1);
+		ProfiledPredicate<Integer> someTests = even.profile("even", 4);
+		for(int x = 0; x < 64; x++){
+			unsampled.test(x);
+			everyTest.test(x);
+			someTests.test(x);
+		}
+
+		assertEquals(0, unsampled.snapshot().samples());
+		assertEquals(0, unsampled.snapshot().meanNanos());
+		assertEquals(64, everyTest.snapshot().samples());
+		assertTrue(everyTest.snapshot().maxNanos() >= everyTest.snapshot().meanNanos());
+		assertEquals(16, someTests.snapshot().samples());
+		assertThrows(IllegalArgumentException.class, () -> even.profile("even", -1));
+	}
+
+	@Test
+	@DisplayName("Resetting discards the statistics of every clause")
+	void reset(){
+		ProfiledPredicate<Integer> profiled = positive.and(even).profile("rule", 1);
+		for(int x = 0; x < 10; x++) profiled.test(x);
+		profiled.reset();
+
+		ProfiledPredicate.Snapshot rule = profiled.snapshot();
+		assertEquals(0, rule.invocations());
+		assertEquals(0, rule.samples());
+		assertEquals(0, rule.maxNanos());
+		assertEquals(0, rule.children().get(1).invocations());
+	}
+
+	@Test
+	@DisplayName("Snapshots render as nested maps and as an indented tree")
+	void rendering(){
+		ProfiledPredicate<Integer> profiled = positive.and(even).profile("rule");
+		profiled.test(2);
+		profiled.test(3);
+
+		Map<String, Object> map = profiled.snapshot().toMap();
+		assertEquals("rule", map.get("name"));
+		assertEquals(2L, map.get("invocations"));
+		assertEquals(0.5, map.get("passRatio"));
+		@SuppressWarnings("unchecked")
+		List<Map<String, Object>> children = (List<Map<String, Object>>) map.get("children");
+		assertEquals("rule.1", children.get(1).get("name"));
+		assertEquals(1L, children.get(1).get("passes"));
+
+		String[] lines = profiled.snapshot().toString().split("\n");
+		assertEquals(3, lines.length);
+		assertTrue(lines[0].startsWith("rule (allOf): 2 tests"));
+		assertTrue(lines[2].startsWith("  rule.1 (lambda): 2 tests"));
+	}
+}
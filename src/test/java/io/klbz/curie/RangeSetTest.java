@@ -0,0 +1,102 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static io.klbz.curie.Predicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Range Set")
+class RangeSetTest {
+	private static final List<String> SAMPLES =
+			Arrays.asList("", "a", "aa", "b", "c", "ca", "d", "e", "m", "n", "na", "z", "zz");
+
+	private static void assertAgrees(java.util.function.Predicate<String> expected, Predicate<String> actual){
+		for(String sample : SAMPLES) assertEquals(expected.test(sample), actual.test(sample), "at \"" + sample + '"');
+		assertEquals(expected.test(null), actual.test(null), "at null");
+	}
+
+	@Test
+	@DisplayName("Comparison constructors honour their bounds")
+	void construction(){
+		assertAgrees(x -> x != null && x.compareTo("c") > 0, isGreaterThan("c"));
+		assertAgrees(x -> x != null && x.compareTo("c") >= 0, isAtLeast("c"));
+		assertAgrees(x -> x != null && x.compareTo("c") < 0, isLessThan("c"));
+		assertAgrees(x -> x != null && x.compareTo("c") <= 0, isAtMost("c"));
+		assertAgrees(x -> x != null && x.compareTo("b") >= 0 && x.compareTo("m") <= 0, isBetween("b", "m"));
+		assertAgrees(x -> false, isBetween("m", "b"));
+	}
+
+	@Test
+	@DisplayName("Comparison constructors reject null bounds")
+	void nullBounds(){
+		assertThrows(NullPointerException.class, () -> isGreaterThan((String) null));
+		assertThrows(NullPointerException.class, () -> isBetween("a", (String) null));
+	}
+
+	@Test
+	@DisplayName("Combinators agree with the equivalent lambdas, including at null")
+	void combinatorsAgree(){
+		Predicate<String> low = isLessThan("c");
+		Predicate<String> middle = isBetween("b", "n");
+		Predicate<String> high = isGreaterThan("m");
+
+		assertAgrees(x -> x != null && x.compareTo("b") >= 0 && x.compareTo("c") < 0, low.and(middle));
+		assertAgrees(x -> x != null && (x.compareTo("c") < 0 || x.compareTo("m") > 0), low.or(high));
+		assertAgrees(x -> x != null && (x.compareTo("b") < 0 || x.compareTo("c") >= 0) && x.compareTo("m") <= 0
+		                  || x != null && x.compareTo("n") > 0,
+		             low.xor(middle).xor(high));
+		assertAgrees(x -> x == null || (x.compareTo("b") < 0 || x.compareTo("n") > 0), middle.negate());
+		assertAgrees(x -> x != null, low.or(high).or(middle));
+		assertAgrees(x -> x == null, low.or(middle).or(high).negate());
+	}
+
+	@Test
+	@DisplayName("Combining range sets yields a single, canonical set of intervals")
+	void combinationStaysIndexed(){
+		Predicate<String> united = isLessThan("c").or(isAtLeast("c"));
+
+		assertTrue(united instanceof RangeSet);
+		assertEquals(isBetween("b", "e"), isBetween("b", "c").or(isBetween("c", "e")));
+		assertEquals(isBetween("b", "c"), isBetween("a", "c").and(isAtLeast("b")));
+		assertEquals(isLessThan("c").negate().negate(), isLessThan("c"));
+		assertEquals(isGreaterThan("c").or(isAtMost("c")), isLessThan("m").or(isAtLeast("m")));
+	}
+
+	@Test
+	@DisplayName("Adjacent range clauses of a junction are merged, and the rest kept in order")
+	void junctionsMergeRuns(){
+		Predicate<String> notEmpty = x -> !x.isEmpty();
+		Predicate<String> conjunction = allOf(isAtLeast("b"), isAtMost("m"), notEmpty);
+		Predicate<String> disjunction = anyOf(isLessThan("b"), isGreaterThan("m"), notEmpty);
+
+		assertEquals(allOf(isBetween("b", "m"), notEmpty), conjunction);
+		assertEquals(anyOf(isLessThan("b").or(isGreaterThan("m")), notEmpty), disjunction);
+		assertNotEquals(anyOf(isBetween("b", "m").negate(), notEmpty), disjunction);
+		assertEquals(anyOf(isBetween("b", "m")), anyOf(isBetween("b", "d"), isBetween("c", "m")));
+	}
+
+	@Test
+	@DisplayName("Ranges over different classes are not combined")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	void mixedDomains(){
+		Predicate<Object> strings = (Predicate) isAtLeast("a");
+		Predicate<Object> integers = (Predicate) isAtLeast(5);
+		Predicate<Object> either = strings.or(integers);
+
+		assertFalse(either instanceof RangeSet);
+		assertTrue(either.test("b"));
+	}
+
+	@Test
+	@DisplayName("Ranges are gathered together by the optimizer")
+	void optimizerGathersRanges(){
+		Predicate<String> notEmpty = x -> !x.isEmpty();
+		Predicate<String> rule = isAtLeast("b").and(notEmpty).and(isAtMost("m"));
+
+		assertEquals(allOf(isBetween("b", "m"), notEmpty), rule.optimize());
+	}
+}
@@ -0,0 +1,102 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.klbz.curie.Predicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Rule Set")
+class RuleSetTest {
+	private static Predicate<Integer> counted(AtomicInteger calls, java.util.function.Predicate<Integer> p){
+		return x -> {
+			calls.incrementAndGet();
+			return p.test(x);
+		};
+	}
+
+	@Test
+	@DisplayName("Each rule matches exactly when its predicate does")
+	void matchesAgree(){
+		Predicate<Integer> even = x -> x % 2 == 0;
+		Predicate<Integer> small = isLessThan(10);
+		Predicate<Integer> special = isIn(3, 4, 5, 6, 7);
+
+		RuleSet<Integer> rules = RuleSet.<Integer>builder()
+				.rule("small even", even.and(small))
+				.rule("large or special", small.negate().or(special))
+				.rule("exactly one", even.xor(special))
+				.rule("never", everFalse())
+				.build();
+
+		for(int x = -5; x < 20; x++){
+			assertEquals(even.and(small).test(x), rules.evaluate(x).isSelected(0), "at " + x);
+			assertEquals(small.negate().or(special).test(x), rules.evaluate(x).isSelected(1), "at " + x);
+			assertEquals(even.xor(special).test(x), rules.evaluate(x).isSelected(2), "at " + x);
+			assertFalse(rules.evaluate(x).isSelected(3));
+		}
+		assertEquals(Arrays.asList("small even", "exactly one"), rules.matching(2));
+		assertEquals(Collections.singletonList("large or special"), rules.matching(11));
+	}
+
+	@Test
+	@DisplayName("A check shared between rules runs at most once per input")
+	void sharedChecksRunOnce(){
+		AtomicInteger calls = new AtomicInteger();
+		Predicate<Integer> expensive = counted(calls, x -> x > 0);
+
+		RuleSet<Integer> rules = RuleSet.<Integer>builder()
+				.rule("a", expensive.and(isLessThan(10)))
+				.rule("b", anyOf(isEqual(-1), expensive))
+				.rule("c", expensive.negate())
+				.rule("d", expensive.xor(isIn(1, 2, 3, 4)))
+				.build();
+
+		rules.evaluate(5);
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	@DisplayName("Identical sub-predicates built separately share a node")
+	void identicalSubPredicatesShared(){
+		Predicate<String> hasA = x -> x.contains("a");
+
+		RuleSet<String> rules = RuleSet.<String>builder()
+				.rule("one", allOf(isIn("x", "y"), hasA))
+				.rule("two", allOf(isIn("y", "x"), hasA))
+				.rule("three", anyOf(isEqual("z"), allOf(isIn("x", "y"), hasA)))
+				.build();
+
+		// isIn, hasA, their conjunction, isEqual and the disjunction
+		assertEquals(5, rules.nodeCount());
+		assertEquals(3, rules.size());
+	}
+
+	@Test
+	@DisplayName("Composites stop as soon as they are decided, as they do when tested alone")
+	void shortCircuits(){
+		AtomicInteger calls = new AtomicInteger();
+		Predicate<Integer> guarded = counted(calls, x -> 10 / x > 1);
+
+		RuleSet<Integer> rules = RuleSet.<Integer>builder()
+				.rule("nonzero", Predicate.<Integer>isEqual(0).negate().and(guarded))
+				.rule("zero or", anyOf(isEqual(0), guarded))
+				.build();
+
+		assertEquals(Collections.singletonList("zero or"), rules.matching(0));
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	@DisplayName("Rule names must be unique")
+	void duplicateNames(){
+		RuleSet.Builder<Integer> builder = RuleSet.<Integer>builder().rule("a", everTrue());
+
+		assertThrows(IllegalArgumentException.class, () -> builder.rule("a", everFalse()));
+		assertThrows(NullPointerException.class, () -> builder.rule(null, everFalse()));
+	}
+}
@@ -3,6 +3,7 @@ package io.klbz.curie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static io.klbz.curie.Allocations.*;
 import static io.klbz.curie.Box.boxed;
 import static io.klbz.curie.Satisfaction.dissatisfies;
 import static io.klbz.curie.Satisfaction.satisfies;
@@ -52,6 +53,16 @@ class SatisfactionTest {
 		assertTrue(dissatisfies("x").reject().satisfies("x"::equals));
 	}
 
+	@Test
+	@DisplayName("Producing an empty Maybe allocates nothing")
+	void emptyMaybeAllocatesNothing(){
+		Satisfaction<String> satisfied = satisfies("x");
+		Satisfaction<String> dissatisfied = dissatisfies("x");
+
+		assertAllocationFree(satisfied::reject);
+		assertAllocationFree(dissatisfied::preserve);
+	}
+
 	//endregion
 
 	//region Collapse
@@ -129,4 +140,30 @@ class SatisfactionTest {
 	}
 
 	//endregion
-}
\ No newline at end of file
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Construction and preserving the carried value allocate only the new object")
+	void constructionBudget(){
+		Satisfaction<String> satisfied = satisfies("x");
+		Satisfaction<String> dissatisfied = dissatisfies("x");
+
+		assertAllocatesAtMost(objects(1), () -> satisfies("x"));
+		assertAllocatesAtMost(objects(1), satisfied::preserve);
+		assertAllocatesAtMost(objects(1), dissatisfied::reject);
+	}
+
+	@Test
+	@DisplayName("Collapsing and side effects allocate nothing")
+	void collapseAllocatesNothing(){
+		Satisfaction<String> satisfied = satisfies("x");
+
+		assertAllocationFree(() -> satisfied.collapse("yes", "no"));
+		assertAllocationFree(() -> satisfied.lazyCollapse(() -> "yes", () -> "no"));
+		assertAllocationFree(() -> satisfied.pipeCollapse(String::trim, String::trim));
+		assertAllocationFree(() -> satisfied.whenSatisfiedDo(x -> {}).whenDissatisfiedDo(x -> {}));
+	}
+
+	//endregion
+}
@@ -3,6 +3,7 @@ package io.klbz.curie;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import static io.klbz.curie.Allocations.*;
 import static io.klbz.curie.Box.boxed;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -112,4 +113,24 @@ class SecondFocusTest {
 	void sideEffectMutatesNothing(){ assertEquals(focus, focus.withDo(f -> {})); }
 
 	//endregion
-}
\ No newline at end of file
+
+	//region Allocation Budgets
+
+	@Test
+	@DisplayName("Focusing allocates only the focus, and mapping only the new pair and focus")
+	void focusAndMapBudget(){
+		assertAllocatesAtMost(objects(1), pair::focusSecond);
+		assertAllocatesAtMost(objects(2), () -> focus.map(s -> s + 1));
+	}
+
+	@Test
+	@DisplayName("Isolation, unfocusing, side effects and hashing allocate nothing")
+	void inspectionAllocatesNothing(){
+		assertAllocationFree(focus::isolate);
+		assertAllocationFree(focus::unfocus);
+		assertAllocationFree(() -> focus.withDo(x -> {}));
+		assertAllocationFree(focus::hashCode);
+	}
+
+	//endregion
+}
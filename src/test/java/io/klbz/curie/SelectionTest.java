@@ -0,0 +1,171 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.klbz.curie.Predicate.*;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Selection")
+class SelectionTest {
+	private static final Predicate<Integer> positive = x -> x > 0;
+	private static final Predicate<Integer> even     = x -> x % 2 == 0;
+	private static final Predicate<Integer> small    = x -> x < 100;
+
+	private static Integer[] range(int from, int to){
+		Integer[] values = new Integer[to - from];
+		for(int i = 0; i < values.length; i++) values[i] = from + i;
+		return values;
+	}
+
+	private static <T> void assertAgrees(java.util.function.Predicate<T> p, T[] values, Selection selection){
+		assertEquals(values.length, selection.size());
+		for(int i = 0; i < values.length; i++) assertEquals(p.test(values[i]), selection.isSelected(i), "at " + i);
+	}
+
+	//region Evaluation
+
+	@Test
+	@DisplayName("testAll agrees with testing each element in turn")
+	void testAllAgrees(){
+		Integer[] values = range(-150, 150);
+		Predicate<Integer> rule = allOf(positive, anyOf(even, small.negate()))
+				.or(isNot(small).xor(even))
+				.and(positive.xor(even).negate());
+
+		assertAgrees(rule, values, rule.testAll(values));
+		assertAgrees(even, values, even.testAll(values));
+	}
+
+	@Test
+	@DisplayName("testAll accepts random-access and sequential lists")
+	void testAllOverLists(){
+		Integer[] values = range(-70, 70);
+		Predicate<Integer> rule = allOf(positive, even);
+
+		assertAgrees(rule, values, rule.testAll(new ArrayList<>(asList(values))));
+		assertAgrees(rule, values, rule.testAll(new LinkedList<>(asList(values))));
+	}
+
+	@Test
+	@DisplayName("testRange tests the elements at each index of the range")
+	void testRange(){
+		Integer[] values = range(0, 200);
+		Selection selection = even.testRange(10, 75, i -> values[i]);
+
+		assertAgrees(even, range(10, 75), selection);
+	}
+
+	@Test
+	@DisplayName("Batch evaluation invokes each clause exactly as often as per-element evaluation")
+	void preservesShortCircuiting(){
+		AtomicInteger batchCalls = new AtomicInteger();
+		AtomicInteger elementCalls = new AtomicInteger();
+		Predicate<Integer> batchRule = anyOf(even, countedBy(batchCalls)).and(allOf(positive, countedBy(batchCalls)));
+		Predicate<Integer> elementRule = anyOf(even, countedBy(elementCalls))
+				.and(allOf(positive, countedBy(elementCalls)));
+		Integer[] values = range(-100, 100);
+
+		batchRule.testAll(values);
+		for(Integer value : values) elementRule.test(value);
+
+		assertEquals(elementCalls.get(), batchCalls.get());
+	}
+
+	private static Predicate<Integer> countedBy(AtomicInteger calls){
+		return x -> {
+			calls.incrementAndGet();
+			return x % 3 == 0;
+		};
+	}
+
+	@Test
+	@DisplayName("testAllParallel agrees with testAll on large batches")
+	void parallelAgrees(){
+		Integer[] values = range(-50_000, 50_000);
+		Predicate<Integer> rule = anyOf(allOf(positive, even), small.negate());
+
+		Selection sequential = rule.testAll(values);
+		assertEquals(sequential, rule.testAllParallel(values));
+		assertEquals(sequential, rule.testAllParallel(asList(values)));
+	}
+
+	@Test
+	@DisplayName("Empty batches produce empty selections")
+	void emptyBatches(){
+		Selection selection = everTrue().testAll(new Object[0]);
+
+		assertEquals(0, selection.size());
+		assertTrue(selection.isEmpty());
+		assertEquals(0, selection.not().count());
+	}
+
+	//endregion
+
+	//region Queries
+
+	@Test
+	@DisplayName("count, indexes and selectFrom report the selected elements")
+	void queries(){
+		List<Integer> values = asList(range(0, 130));
+		Selection selection = Predicate.<Integer>is(x -> x % 64 == 0).testAll(values);
+
+		assertEquals(3, selection.count());
+		assertArrayEquals(new int[]{ 0, 64, 128 }, selection.indexes());
+		assertEquals(asList(0, 64, 128), selection.selectFrom(values));
+		assertFalse(selection.isEmpty());
+	}
+
+	@Test
+	@DisplayName("isSelected rejects indexes outside the batch")
+	void isSelectedBounds(){
+		Selection selection = even.testAll(range(0, 10));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> selection.isSelected(10));
+		assertThrows(IndexOutOfBoundsException.class, () -> selection.isSelected(-1));
+	}
+
+	//endregion
+
+	//region Combination
+
+	@Test
+	@DisplayName("Combining selections agrees with combining their predicates")
+	void combination(){
+		Integer[] values = range(-100, 100);
+		Selection evens = even.testAll(values);
+		Selection positives = positive.testAll(values);
+
+		assertEquals(even.and(positive).testAll(values), evens.and(positives));
+		assertEquals(even.or(positive).testAll(values), evens.or(positives));
+		assertEquals(even.xor(positive).testAll(values), evens.xor(positives));
+		assertEquals(even.and(positive.negate()).testAll(values), evens.andNot(positives));
+		assertEquals(even.negate().testAll(values), evens.not());
+	}
+
+	@Test
+	@DisplayName("not never selects past the end of the batch")
+	void notStaysInBounds(){
+		Selection selection = everFalse().testAll(new Object[70]);
+
+		assertEquals(70, selection.not().count());
+	}
+
+	@Test
+	@DisplayName("Selections over batches of different sizes do not combine")
+	void sizeMismatch(){
+		Selection small = even.testAll(range(0, 10));
+		Selection large = even.testAll(range(0, 11));
+
+		assertThrows(IllegalArgumentException.class, () -> small.and(large));
+		assertThrows(IllegalArgumentException.class, () -> small.selectFrom(asList(range(0, 11))));
+	}
+
+	//endregion
+}
@@ -0,0 +1,75 @@
+package io.klbz.curie;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static io.klbz.curie.SmallIntPredicate.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Small Int Predicate")
+class SmallIntPredicateTest {
+	private static void assertAgrees(java.util.function.IntPredicate expected, java.util.function.IntPredicate actual){
+		for(int x = -200; x <= 1_000; x++) assertEquals(expected.test(x), actual.test(x), "at " + x);
+		assertEquals(expected.test(Integer.MIN_VALUE), actual.test(Integer.MIN_VALUE));
+		assertEquals(expected.test(Integer.MAX_VALUE), actual.test(Integer.MAX_VALUE));
+	}
+
+	@Test
+	@DisplayName("Constructors accept exactly the given values")
+	void construction(){
+		assertAgrees(IntPredicate.isIn(3, 64, 700), isIn(3, 64, 700));
+		assertAgrees(IntPredicate.isEqual(5), isEqual(5));
+		assertAgrees(IntPredicate.isBetween(60, 130), isBetween(60, 130));
+		assertAgrees(IntPredicate.everTrue(), everTrue());
+		assertAgrees(IntPredicate.everFalse(), everFalse());
+	}
+
+	@Test
+	@DisplayName("Constructors reject values outside the domain")
+	void domainBounds(){
+		assertThrows(IllegalArgumentException.class, () -> isIn(-1));
+		assertThrows(IllegalArgumentException.class, () -> isEqual(MAX_DOMAIN));
+		assertThrows(IllegalArgumentException.class, () -> isBetween(-5, 5));
+	}
+
+	@Test
+	@DisplayName("Combinators agree with the equivalent ordinary composites, inside and outside the domain")
+	void combinatorsAgree(){
+		SmallIntPredicate low = isBetween(0, 70);
+		SmallIntPredicate picks = isIn(5, 65, 500);
+		IntPredicate ordinaryLow = IntPredicate.isBetween(0, 70);
+		IntPredicate ordinaryPicks = IntPredicate.isIn(5, 65, 500);
+
+		assertAgrees(ordinaryLow.and(ordinaryPicks.negate()), low.and(picks.negate()));
+		assertAgrees(ordinaryLow.negate().or(ordinaryPicks), low.negate().or(picks));
+		assertAgrees(ordinaryLow.xor(ordinaryPicks.negate()), low.xor(picks.negate()));
+	}
+
+	@Test
+	@DisplayName("Combining small-int predicates yields a single, canonical mask")
+	void combinationStaysMasked(){
+		IntPredicate viaInterface = isIn(1).or((java.util.function.IntPredicate) isIn(2));
+
+		assertEquals(isIn(1, 2), viaInterface);
+		assertEquals(everTrue(), isIn(900).or(isIn(900).negate()));
+		assertEquals(isIn(3), isIn(3, 900).and(isBetween(0, 10)));
+	}
+
+	@Test
+	@DisplayName("Combining with other predicates falls back to ordinary composites")
+	void mixedCombination(){
+		IntPredicate mixed = isIn(1, 2, 3).and(x -> x % 2 == 1);
+
+		assertFalse(mixed instanceof SmallIntPredicate);
+		assertTrue(mixed.test(3));
+		assertFalse(mixed.test(2));
+	}
+
+	@Test
+	@DisplayName("Testing allocates nothing")
+	void testAllocatesNothing(){
+		SmallIntPredicate p = isBetween(10, 20).and(isEqual(15).negate()).or(isIn(100));
+
+		Allocations.assertAllocationFree(() -> p.test(100) ? 1 : 0);
+	}
+}